@@ -67,6 +67,40 @@ public class Configuration {
     private Integer connectionLivenessCheckTimeout;
     private Boolean verifyConnection;
     private Boolean useNativeTypes;
+    /**
+     * Maximum number of rows a single statement of a save request may carry. Larger statements are split.
+     */
+    private int saveBatchSize;
+    /**
+     * Number of statements after which a save opening its own transaction commits and continues in a new one.
+     */
+    private int saveBatchCommitInterval;
+    /**
+     * Flag whether the session remembers a hash per property to only send changed properties of existing entities.
+     */
+    private boolean trackPropertyChanges;
+    private MappingContextPolicy mappingContextPolicy;
+    /**
+     * Maximum number of node entities and of relationship entities kept by a session with the
+     * {@link MappingContextPolicy#LRU} policy.
+     */
+    private int mappingContextMaxEntities;
+    /**
+     * Flag whether the session factory keeps loaded entities of classes annotated with {@code @Cacheable} across sessions.
+     */
+    private boolean secondLevelCache;
+    /**
+     * Default number of seconds entries of the second-level cache are kept, 0 means until they are invalidated.
+     */
+    private int secondLevelCacheTimeToLive;
+    /**
+     * Default maximum number of entries of the second-level cache per class.
+     */
+    private int secondLevelCacheMaxEntries;
+    /**
+     * Minimum number of new nodes in a result from which entities are instantiated in parallel, 0 means never.
+     */
+    private int parallelHydrationThreshold;
     private Map<String, Object> customProperties;
     /**
      * Base packages to scan for annotated components. They will be merged into a unique list
@@ -96,6 +130,31 @@ public class Configuration {
         this.neo4jConfLocation = builder.neo4jConfLocation;
         this.customProperties = builder.customProperties;
         this.useNativeTypes = builder.useNativeTypes;
+        this.saveBatchSize = builder.saveBatchSize != null ? builder.saveBatchSize : 0;
+        this.saveBatchCommitInterval = builder.saveBatchCommitInterval != null ? builder.saveBatchCommitInterval : 0;
+        this.trackPropertyChanges = builder.trackPropertyChanges != null ? builder.trackPropertyChanges : false;
+        this.mappingContextPolicy = builder.mappingContextPolicy != null ?
+            MappingContextPolicy.fromString(builder.mappingContextPolicy) :
+            MappingContextPolicy.UNBOUNDED;
+        this.mappingContextMaxEntities =
+            builder.mappingContextMaxEntities != null ? builder.mappingContextMaxEntities : 0;
+        if (this.mappingContextPolicy == null) {
+            throw new IllegalArgumentException("Unknown mapping context policy: " + builder.mappingContextPolicy);
+        }
+        if (this.mappingContextPolicy == MappingContextPolicy.LRU && this.mappingContextMaxEntities < 1) {
+            throw new IllegalArgumentException(
+                "The LRU mapping context policy requires a positive number of maximum entities");
+        }
+        this.secondLevelCache = builder.secondLevelCache != null ? builder.secondLevelCache : false;
+        this.secondLevelCacheTimeToLive =
+            builder.secondLevelCacheTimeToLive != null ? builder.secondLevelCacheTimeToLive : 0;
+        this.secondLevelCacheMaxEntries =
+            builder.secondLevelCacheMaxEntries != null ? builder.secondLevelCacheMaxEntries : 1000;
+        this.parallelHydrationThreshold =
+            builder.parallelHydrationThreshold != null ? builder.parallelHydrationThreshold : 0;
+        if (this.parallelHydrationThreshold < 0) {
+            throw new IllegalArgumentException("The parallel hydration threshold must not be negative");
+        }
         this.basePackages = builder.basePackages;
 
         URI parsedUri = getSingleURI();
@@ -227,6 +286,42 @@ public class Configuration {
         return useNativeTypes;
     }
 
+    public int getSaveBatchSize() {
+        return saveBatchSize;
+    }
+
+    public int getSaveBatchCommitInterval() {
+        return saveBatchCommitInterval;
+    }
+
+    public boolean getTrackPropertyChanges() {
+        return trackPropertyChanges;
+    }
+
+    public MappingContextPolicy getMappingContextPolicy() {
+        return mappingContextPolicy;
+    }
+
+    public int getMappingContextMaxEntities() {
+        return mappingContextMaxEntities;
+    }
+
+    public boolean getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    public int getSecondLevelCacheTimeToLive() {
+        return secondLevelCacheTimeToLive;
+    }
+
+    public int getSecondLevelCacheMaxEntries() {
+        return secondLevelCacheMaxEntries;
+    }
+
+    public int getParallelHydrationThreshold() {
+        return parallelHydrationThreshold;
+    }
+
     public String[] getBasePackages() {
         return basePackages;
     }
@@ -251,6 +346,15 @@ public class Configuration {
         }
         Configuration that = (Configuration) o;
         return connectionPoolSize == that.connectionPoolSize &&
+            saveBatchSize == that.saveBatchSize &&
+            saveBatchCommitInterval == that.saveBatchCommitInterval &&
+            trackPropertyChanges == that.trackPropertyChanges &&
+            mappingContextMaxEntities == that.mappingContextMaxEntities &&
+            mappingContextPolicy == that.mappingContextPolicy &&
+            secondLevelCache == that.secondLevelCache &&
+            secondLevelCacheTimeToLive == that.secondLevelCacheTimeToLive &&
+            secondLevelCacheMaxEntries == that.secondLevelCacheMaxEntries &&
+            parallelHydrationThreshold == that.parallelHydrationThreshold &&
             Objects.equals(uri, that.uri) &&
             Arrays.equals(uris, that.uris) &&
             Objects.equals(encryptionLevel, that.encryptionLevel) &&
@@ -272,7 +376,9 @@ public class Configuration {
     public int hashCode() {
         int result = Objects.hash(uri, connectionPoolSize, encryptionLevel, trustStrategy, trustCertFile, autoIndex,
             generatedIndexesOutputDir, generatedIndexesOutputFilename, neo4jConfLocation, driverName, credentials,
-            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes);
+            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes, saveBatchSize, saveBatchCommitInterval,
+            trackPropertyChanges, mappingContextPolicy, mappingContextMaxEntities, secondLevelCache,
+            secondLevelCacheTimeToLive, secondLevelCacheMaxEntries, parallelHydrationThreshold);
         result = 31 * result + Arrays.hashCode(uris);
         result = 31 * result + Arrays.hashCode(basePackages);
         return result;
@@ -301,6 +407,15 @@ public class Configuration {
         private static final String NEO4J_CONF_LOCATION = "neo4j.conf.location";
         private static final String USE_NATIVE_TYPES = "use-native-types";
         private static final String BASE_PACKAGES = "base-packages";
+        private static final String SAVE_BATCH_SIZE = "save.batch.size";
+        private static final String SAVE_BATCH_COMMIT_INTERVAL = "save.batch.commit.interval";
+        private static final String TRACK_PROPERTY_CHANGES = "track.property.changes";
+        private static final String MAPPING_CONTEXT_POLICY = "mapping.context.policy";
+        private static final String MAPPING_CONTEXT_MAX_ENTITIES = "mapping.context.max.entities";
+        private static final String SECOND_LEVEL_CACHE = "second.level.cache";
+        private static final String SECOND_LEVEL_CACHE_TIME_TO_LIVE = "second.level.cache.time.to.live";
+        private static final String SECOND_LEVEL_CACHE_MAX_ENTRIES = "second.level.cache.max.entries";
+        private static final String PARALLEL_HYDRATION_THRESHOLD = "hydration.parallel.threshold";
         private String uri;
         private String[] uris;
         private Integer connectionPoolSize;
@@ -316,6 +431,15 @@ public class Configuration {
         private String username;
         private String password;
         private boolean useNativeTypes;
+        private Integer saveBatchSize;
+        private Integer saveBatchCommitInterval;
+        private Boolean trackPropertyChanges;
+        private String mappingContextPolicy;
+        private Integer mappingContextMaxEntities;
+        private Boolean secondLevelCache;
+        private Integer secondLevelCacheTimeToLive;
+        private Integer secondLevelCacheMaxEntries;
+        private Integer parallelHydrationThreshold;
         private Map<String, Object> customProperties = new HashMap<>();
         private String[] basePackages;
         /**
@@ -381,6 +505,33 @@ public class Configuration {
                     case BASE_PACKAGES:
                         this.basePackages = splitValue(entry.getValue());
                         break;
+                    case SAVE_BATCH_SIZE:
+                        this.saveBatchSize = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case SAVE_BATCH_COMMIT_INTERVAL:
+                        this.saveBatchCommitInterval = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case TRACK_PROPERTY_CHANGES:
+                        this.trackPropertyChanges = Boolean.valueOf((String) entry.getValue());
+                        break;
+                    case MAPPING_CONTEXT_POLICY:
+                        this.mappingContextPolicy = (String) entry.getValue();
+                        break;
+                    case MAPPING_CONTEXT_MAX_ENTITIES:
+                        this.mappingContextMaxEntities = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case SECOND_LEVEL_CACHE:
+                        this.secondLevelCache = Boolean.valueOf((String) entry.getValue());
+                        break;
+                    case SECOND_LEVEL_CACHE_TIME_TO_LIVE:
+                        this.secondLevelCacheTimeToLive = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case SECOND_LEVEL_CACHE_MAX_ENTRIES:
+                        this.secondLevelCacheMaxEntries = Integer.valueOf((String) entry.getValue());
+                        break;
+                    case PARALLEL_HYDRATION_THRESHOLD:
+                        this.parallelHydrationThreshold = Integer.valueOf((String) entry.getValue());
+                        break;
                     default:
                         LOGGER.warn("Could not process property with key: {}", entry.getKey());
                 }
@@ -400,6 +551,15 @@ public class Configuration {
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
                 .generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
                 .neo4jConfLocation(builder.neo4jConfLocation)
+                .saveBatchSize(builder.saveBatchSize)
+                .saveBatchCommitInterval(builder.saveBatchCommitInterval)
+                .trackPropertyChanges(builder.trackPropertyChanges)
+                .mappingContextPolicy(builder.mappingContextPolicy)
+                .mappingContextMaxEntities(builder.mappingContextMaxEntities)
+                .secondLevelCache(builder.secondLevelCache)
+                .secondLevelCacheTimeToLive(builder.secondLevelCacheTimeToLive)
+                .secondLevelCacheMaxEntries(builder.secondLevelCacheMaxEntries)
+                .parallelHydrationThreshold(builder.parallelHydrationThreshold)
                 .credentials(builder.username, builder.password)
                 .customProperties(new HashMap<>(builder.customProperties));
         }
@@ -557,6 +717,137 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Limits the number of rows a single statement of a save request may carry. A save of many entities is
+         * compiled into a few statements, each unwinding one row per entity or relationship. When set, those statements
+         * are split into chunks of at most the given number of rows, which are executed one after another in the same
+         * transaction. This bounds the size of a single request and the parameters the database has to hold at once.
+         *
+         * @param saveBatchSize maximum number of rows per statement, chunking is disabled for values less than one
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder saveBatchSize(Integer saveBatchSize) {
+            this.saveBatchSize = saveBatchSize;
+            return this;
+        }
+
+        /**
+         * Turns on bulk saving: A save that is not part of an ongoing transaction commits after the given number of
+         * statements (or chunks, see {@link #saveBatchSize(Integer)}) and continues in a new transaction. The save as a
+         * whole is therefore no longer atomic. Entities saved in committed transactions keep their ids and are no
+         * longer dirty, even when a subsequent transaction fails. Entities whose changes have been rolled back stay
+         * dirty and are saved again by the next save.
+         *
+         * @param saveBatchCommitInterval number of statements per transaction, disabled for values less than one
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder saveBatchCommitInterval(Integer saveBatchCommitInterval) {
+            this.saveBatchCommitInterval = saveBatchCommitInterval;
+            return this;
+        }
+
+        /**
+         * Turns on property level dirty tracking: The session remembers a hash for each property of a loaded or saved
+         * entity in addition to the hash for the whole entity. Saving an existing entity then only sends the properties
+         * that have changed since, instead of all of them. Changes made to the same node or relationship by others are
+         * therefore not overwritten with stale values of unchanged properties.
+         * <p>
+         * The hashes are kept in an array per entity, so the mapping context needs about 16 bytes plus 8 bytes per
+         * property more memory for each entity.
+         *
+         * @param trackPropertyChanges whether to track changes per property
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder trackPropertyChanges(Boolean trackPropertyChanges) {
+            this.trackPropertyChanges = trackPropertyChanges;
+            return this;
+        }
+
+        /**
+         * Mapping context policy, for possible values see {@link org.neo4j.ogm.config.MappingContextPolicy}. Evicted
+         * entities are treated like entities loaded by another session: Saving them again sends all their properties.
+         *
+         * @param mappingContextPolicy how long sessions keep entities
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder mappingContextPolicy(String mappingContextPolicy) {
+            this.mappingContextPolicy = mappingContextPolicy;
+            return this;
+        }
+
+        /**
+         * Maximum number of node entities and of relationship entities a session keeps with the
+         * {@link MappingContextPolicy#LRU} policy.
+         *
+         * @param mappingContextMaxEntities maximum number of entities of each kind
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder mappingContextMaxEntities(Integer mappingContextMaxEntities) {
+            this.mappingContextMaxEntities = mappingContextMaxEntities;
+            return this;
+        }
+
+        /**
+         * Turns on the second-level cache of the session factory. Entities of classes annotated with
+         * {@code @Cacheable} that are loaded by their id are then read from the cache, which is shared by all sessions
+         * of the factory. Each session still maps its own instances. Entries are invalidated when a session saves or
+         * deletes entities they contain, but not by changes made through custom Cypher queries.
+         *
+         * @param secondLevelCache whether to cache entities across sessions
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder secondLevelCache(Boolean secondLevelCache) {
+            this.secondLevelCache = secondLevelCache;
+            return this;
+        }
+
+        /**
+         * Number of seconds entries are kept in the second-level cache, unless configured differently through
+         * {@code @Cacheable}. Defaults to 0, which keeps entries until they are invalidated or evicted.
+         *
+         * @param secondLevelCacheTimeToLive time to live of cache entries in seconds
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder secondLevelCacheTimeToLive(Integer secondLevelCacheTimeToLive) {
+            this.secondLevelCacheTimeToLive = secondLevelCacheTimeToLive;
+            return this;
+        }
+
+        /**
+         * Maximum number of entries kept per class in the second-level cache, unless configured differently through
+         * {@code @Cacheable}. Defaults to 1000, the least recently used entries are evicted first.
+         *
+         * @param secondLevelCacheMaxEntries maximum number of cache entries per class
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder secondLevelCacheMaxEntries(Integer secondLevelCacheMaxEntries) {
+            this.secondLevelCacheMaxEntries = secondLevelCacheMaxEntries;
+            return this;
+        }
+
+        /**
+         * Minimum number of nodes not yet known to the session a query result must contain for their entities to be
+         * instantiated and populated in parallel on the common {@link java.util.concurrent.ForkJoinPool}. Entities are
+         * still registered with the session, wired with their relationships and returned in the same order as by
+         * sequential mapping. Defaults to 0, which always maps sequentially.
+         *
+         * @param parallelHydrationThreshold minimum number of new nodes to hydrate in parallel, 0 to turn it off
+         * @return the changed builder
+         * @since 3.2.2
+         */
+        public Builder parallelHydrationThreshold(Integer parallelHydrationThreshold) {
+            this.parallelHydrationThreshold = parallelHydrationThreshold;
+            return this;
+        }
+
         /**
          * Creates a new builder with a list of base packages to scan.
          *
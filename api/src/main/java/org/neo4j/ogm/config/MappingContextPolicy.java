@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.config;
+
+/**
+ * Policies deciding how long a session keeps the entities it has loaded or saved in its mapping context.
+ *
+ * @since 3.2.2
+ */
+public enum MappingContextPolicy {
+
+    /**
+     * Entities are kept until the session is cleared.
+     */
+    UNBOUNDED("unbounded"),
+
+    /**
+     * At most a configured number of node entities and of relationship entities are kept. The least recently used
+     * entities are evicted first.
+     */
+    LRU("lru"),
+
+    /**
+     * Entities are only weakly referenced and evicted as soon as they are no longer used by the application.
+     */
+    WEAK("weak"),
+
+    /**
+     * Entities are softly referenced and evicted when they are no longer used by the application and memory runs low.
+     */
+    SOFT("soft");
+
+    /**
+     * Parses an option name into the Enumeration type it represents.
+     *
+     * @param name The lowercase name to parse.
+     * @return The <code>MappingContextPolicy</code> this name represents.
+     */
+    public static MappingContextPolicy fromString(String name) {
+        if (name != null) {
+            for (MappingContextPolicy policy : MappingContextPolicy.values()) {
+                if (name.equalsIgnoreCase(policy.name)) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    private final String name;
+
+    MappingContextPolicy(String name) {
+
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.function.Function;
 
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.TypeSystem.NoNativeTypes;
+import org.neo4j.ogm.request.AsyncRequest;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
@@ -49,6 +50,20 @@ public interface Driver extends AutoCloseable {
      */
     Request request(Transaction transaction);
 
+    /**
+     * Creates a handler for non-blocking requests. Drivers that are not able to execute statements without blocking
+     * the calling thread don't support this.
+     *
+     * @param type      The type of the auto-commit transactions the statements are executed in
+     * @param bookmarks Bookmarks the statements should wait for, may be empty
+     * @return A new non-blocking request handler
+     * @throws UnsupportedOperationException if this driver does not support non-blocking requests
+     * @since 3.2.2
+     */
+    default AsyncRequest asyncRequest(Transaction.Type type, Iterable<String> bookmarks) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support non-blocking requests");
+    }
+
     Configuration getConfiguration();
 
     default Function<String, String> getCypherModification() {
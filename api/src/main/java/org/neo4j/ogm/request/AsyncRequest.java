@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.request;
+
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.AsyncResponse;
+
+/**
+ * Non-blocking counterpart of {@link Request}. Each statement is executed in its own auto-commit transaction, the
+ * returned stages complete as soon as the server has accepted the statement, records are pulled through
+ * {@link AsyncResponse#next()}.
+ *
+ * @since 3.2.2
+ */
+public interface AsyncRequest {
+
+    CompletionStage<AsyncResponse<GraphModel>> execute(GraphModelRequest query);
+
+    CompletionStage<AsyncResponse<RowModel>> execute(RowModelRequest query);
+
+    CompletionStage<AsyncResponse<GraphRowListModel>> execute(GraphRowListModelRequest query);
+
+    CompletionStage<AsyncResponse<RestModel>> execute(RestModelRequest query);
+}
@@ -39,4 +39,15 @@ public interface Request {
     Response<GraphRowListModel> execute(GraphRowListModelRequest query);
 
     Response<RestModel> execute(RestModelRequest query);
+
+    /**
+     * Returns whether the statements of a {@link DefaultRequest} are pipelined, that is, sent back-to-back without
+     * waiting for the result of the previous statement. Callers may then combine independent statements into one
+     * request instead of executing them one by one.
+     *
+     * @return true if {@link #execute(DefaultRequest)} pipelines the statements of the request
+     */
+    default boolean isPipelining() {
+        return false;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.response;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.ogm.model.QueryStatistics;
+
+/**
+ * Non-blocking counterpart of {@link Response}. At most one call to {@link #next()} may be outstanding at any time,
+ * the driver only fetches more records from the server when they are asked for.
+ *
+ * @param <T> The type of the models in this response
+ * @since 3.2.2
+ */
+public interface AsyncResponse<T> {
+
+    /**
+     * @return A stage completing with the next model or with {@literal null} when the response is exhausted
+     */
+    CompletionStage<T> next();
+
+    /**
+     * Discards all remaining records and releases the underlying resources. Closing an exhausted response is a no-op.
+     *
+     * @return A stage completing when all resources have been released
+     */
+    CompletionStage<Void> close();
+
+    /**
+     * Responses that contain statistics can hook into here to return them. Statistics are only available after the
+     * response has been exhausted.
+     *
+     * @return A stage completing with an empty optional containing no statistics.
+     */
+    default CompletionStage<Optional<QueryStatistics>> getStatistics() {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    /**
+     * Responses of drivers that support bookmarks can hook into here to return the bookmark of the auto-commit
+     * transaction the statement has been executed in. The bookmark is only available after the response has been
+     * closed or exhausted.
+     *
+     * @return A stage completing with an empty optional containing no bookmark.
+     */
+    default CompletionStage<Optional<String>> getBookmark() {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+}
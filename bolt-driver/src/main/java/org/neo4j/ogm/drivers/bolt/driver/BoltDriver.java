@@ -47,6 +47,7 @@ import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.util.BookmarkUtil;
@@ -55,9 +56,11 @@ import org.neo4j.ogm.config.Credentials;
 import org.neo4j.ogm.config.UsernamePasswordCredentials;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
 import org.neo4j.ogm.driver.ExceptionTranslator;
+import org.neo4j.ogm.drivers.bolt.request.BoltAsyncRequest;
 import org.neo4j.ogm.drivers.bolt.request.BoltRequest;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.request.AsyncRequest;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
@@ -255,6 +258,13 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return new BoltRequest(transaction, this.parameterConversion, new BoltEntityAdapter(typeSystem), getCypherModification());
     }
 
+    @Override
+    public AsyncRequest asyncRequest(Transaction.Type type, Iterable<String> bookmarks) {
+        checkDriverInitialized();
+        return new BoltAsyncRequest(() -> newAsyncSession(type, bookmarks), this.parameterConversion,
+            new BoltEntityAdapter(typeSystem), getCypherModification());
+    }
+
     public <T> T unwrap(Class<T> clazz) {
 
         if (clazz == Driver.class) {
@@ -268,10 +278,7 @@ public class BoltDriver extends AbstractConfigurableDriver {
     private Session newSession(Transaction.Type type, Iterable<String> bookmarks) {
         Session boltSession;
         try {
-            AccessMode accessMode = type.equals(Transaction.Type.READ_ONLY) ? AccessMode.READ : AccessMode.WRITE;
-            boltSession = boltDriver.session(
-                SessionConfig.builder().withDefaultAccessMode(accessMode)
-                    .withBookmarks(bookmarksFromStrings(bookmarks)).build());
+            boltSession = boltDriver.session(newSessionConfig(type, bookmarks));
         } catch (ClientException ce) {
             throw new ConnectionException(
                 "Error connecting to graph database using Bolt: " + ce.code() + ", " + ce.getMessage(), ce);
@@ -281,6 +288,23 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return boltSession;
     }
 
+    private AsyncSession newAsyncSession(Transaction.Type type, Iterable<String> bookmarks) {
+        try {
+            return boltDriver.asyncSession(newSessionConfig(type, bookmarks));
+        } catch (ClientException ce) {
+            throw new ConnectionException(
+                "Error connecting to graph database using Bolt: " + ce.code() + ", " + ce.getMessage(), ce);
+        } catch (Exception e) {
+            throw new ConnectionException("Error connecting to graph database using Bolt", e);
+        }
+    }
+
+    private static SessionConfig newSessionConfig(Transaction.Type type, Iterable<String> bookmarks) {
+        AccessMode accessMode = type.equals(Transaction.Type.READ_ONLY) ? AccessMode.READ : AccessMode.WRITE;
+        return SessionConfig.builder().withDefaultAccessMode(accessMode)
+            .withBookmarks(bookmarksFromStrings(bookmarks)).build();
+    }
+
     private Optional<Logging> getBoltLogging() {
 
         Object possibleLogging = customPropertiesSupplier.get().get(CONFIG_PARAMETER_BOLT_LOGGING);
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.request;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.drivers.bolt.driver.BoltEntityAdapter;
+import org.neo4j.ogm.drivers.bolt.response.BoltAsyncResponse;
+import org.neo4j.ogm.drivers.bolt.response.BoltGraphModelAdapter;
+import org.neo4j.ogm.drivers.bolt.response.BoltRestModelAdapter;
+import org.neo4j.ogm.drivers.bolt.response.BoltRowModelAdapter;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.AsyncRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.AsyncResponse;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultRestModel;
+import org.neo4j.ogm.result.adapter.GraphRowModelAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes requests through the asynchronous API of the Java driver. Every statement gets its own asynchronous
+ * session, as a session can only run one statement at a time.
+ *
+ * @since 3.2.2
+ */
+public class BoltAsyncRequest implements AsyncRequest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoltAsyncRequest.class);
+
+    private final Supplier<AsyncSession> sessionSupplier;
+
+    private final ParameterConversion parameterConversion;
+
+    private final BoltEntityAdapter entityAdapter;
+
+    private final Function<String, String> cypherModification;
+
+    public BoltAsyncRequest(Supplier<AsyncSession> sessionSupplier, ParameterConversion parameterConversion,
+        BoltEntityAdapter entityAdapter, Function<String, String> cypherModification) {
+        this.sessionSupplier = sessionSupplier;
+        this.parameterConversion = parameterConversion;
+        this.entityAdapter = entityAdapter;
+        this.cypherModification = cypherModification;
+    }
+
+    @Override
+    public CompletionStage<AsyncResponse<GraphModel>> execute(GraphModelRequest request) {
+        BoltGraphModelAdapter adapter = new BoltGraphModelAdapter(entityAdapter);
+        return executeRequest(request, record -> adapter.adapt(record.asMap()));
+    }
+
+    @Override
+    public CompletionStage<AsyncResponse<RowModel>> execute(RowModelRequest request) {
+        BoltRowModelAdapter adapter = new BoltRowModelAdapter(entityAdapter);
+        return executeRequest(request, record -> {
+            adapter.setColumns(record.keys());
+            return adapter.adapt(record.asMap());
+        });
+    }
+
+    @Override
+    public CompletionStage<AsyncResponse<GraphRowListModel>> execute(GraphRowListModelRequest request) {
+        GraphRowModelAdapter adapter = new GraphRowModelAdapter(new BoltGraphModelAdapter(entityAdapter));
+        return executeRequest(request, record -> {
+            adapter.setColumns(record.keys());
+            DefaultGraphRowListModel model = new DefaultGraphRowListModel();
+            model.add(adapter.adapt(record.asMap()));
+            return model;
+        });
+    }
+
+    @Override
+    public CompletionStage<AsyncResponse<RestModel>> execute(RestModelRequest request) {
+        BoltRestModelAdapter adapter = new BoltRestModelAdapter(entityAdapter);
+        return executeRequest(request, record -> DefaultRestModel.basedOn(adapter.adapt(record.asMap())).orElse(null));
+    }
+
+    private <T> CompletionStage<AsyncResponse<T>> executeRequest(Statement request, Function<Record, T> adapter) {
+        if (request.getStatement().length() == 0) {
+            return CompletableFuture.completedFuture(new EmptyAsyncResponse<>());
+        }
+
+        Map<String, Object> parameterMap = this.parameterConversion.convertParameters(request.getParameters());
+        String cypher = cypherModification.apply(request.getStatement());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Async request: {} with params {}", cypher, parameterMap);
+        }
+
+        return BoltAsyncResponse.run(sessionSupplier.get(), cypher, parameterMap, adapter);
+    }
+
+    private static class EmptyAsyncResponse<T> implements AsyncResponse<T> {
+
+        @Override
+        public CompletionStage<T> next() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> close() {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -94,34 +94,50 @@ public class BoltRequest implements Request {
         return new RowModelResponse(executeRequest(request), entityAdapter);
     }
 
+    /**
+     * Executes all statements of the request in the current transaction. The statements are pipelined: all of them
+     * are sent before the result of the first one is read, so that the request costs one network round trip instead
+     * of one per statement. The server still executes them in order, so a statement may depend on the effects of
+     * the statements before it, but not on their results.
+     *
+     * @param query the request containing the statements
+     * @return the rows of all statements, in the order of the statements
+     */
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
-        final List<RowModel> rowModels = new ArrayList<>();
-        String[] columns = null;
+        final List<StatementResult> results = new ArrayList<>();
         for (Statement statement : query.getStatements()) {
+            results.add(executeRequest(statement));
+        }
 
-            StatementResult result = executeRequest(statement);
-
-            if (columns == null) {
-                try {
+        final List<RowModel> rowModels = new ArrayList<>();
+        String[] columns = null;
+        try {
+            for (StatementResult result : results) {
+                if (columns == null) {
                     List<String> columnSet = result.keys();
                     columns = columnSet.toArray(new String[columnSet.size()]);
-                } catch (ClientException e) {
-                    throw new CypherException(e.code(), e.getMessage(), e);
                 }
-            }
-            try (RowModelResponse rowModelResponse = new RowModelResponse(result, entityAdapter)) {
-                RowModel model;
-                while ((model = rowModelResponse.next()) != null) {
-                    rowModels.add(model);
+                try (RowModelResponse rowModelResponse = new RowModelResponse(result, entityAdapter)) {
+                    RowModel model;
+                    while ((model = rowModelResponse.next()) != null) {
+                        rowModels.add(model);
+                    }
+                    result.consume();
                 }
-                result.consume();
             }
+        } catch (ClientException | DatabaseException | TransientException ce) {
+            throw new CypherException(ce.code(), ce.getMessage(), ce);
         }
 
         return new MultiStatementBasedResponse(columns, rowModels);
     }
 
+    @Override
+    public boolean isPipelining() {
+        return true;
+    }
+
     private static class MultiStatementBasedResponse implements  Response<RowModel> {
         // This implementation is not good, but it preserved the current behaviour while fixing another bug.
         // While the statements executed in org.neo4j.ogm.drivers.bolt.request.BoltRequest.execute(org.neo4j.ogm.request.DefaultRequest)
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.StatementResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.DatabaseException;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.TransientException;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.response.AsyncResponse;
+
+/**
+ * An {@link AsyncResponse} reading one record at a time from the cursor of a transaction. The driver stops reading from
+ * the network when its record buffer is full, so a slow consumer of {@link #next()} throttles the server.
+ * The transaction is committed and the session owning it is closed together with the response. An explicit transaction
+ * is used instead of an auto-commit one, as servers before 3.5 don't return bookmarks for auto-commit transactions.
+ *
+ * @param <T> The type of the models in this response
+ * @since 3.2.2
+ */
+public class BoltAsyncResponse<T> implements AsyncResponse<T> {
+
+    private final AsyncSession session;
+
+    private final AsyncTransaction transaction;
+
+    private final StatementResultCursor cursor;
+
+    private final Function<Record, T> adapter;
+
+    private final AtomicBoolean closing = new AtomicBoolean();
+
+    private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+    private BoltAsyncResponse(AsyncSession session, AsyncTransaction transaction, StatementResultCursor cursor,
+        Function<Record, T> adapter) {
+        this.session = session;
+        this.transaction = transaction;
+        this.cursor = cursor;
+        this.adapter = adapter;
+    }
+
+    /**
+     * Runs the given statement in a new transaction of the given session. The session will be closed if the statement
+     * fails or when the response is closed.
+     *
+     * @param session    The session to run the statement in
+     * @param cypher     The statement
+     * @param parameters Parameters of the statement, already converted for the driver
+     * @param adapter    Turns records into models
+     * @param <T>        The type of the models in the response
+     * @return A stage completing with the response once the server has accepted the statement
+     */
+    public static <T> CompletionStage<AsyncResponse<T>> run(AsyncSession session, String cypher,
+        Map<String, Object> parameters, Function<Record, T> adapter) {
+
+        return session.beginTransactionAsync()
+            .thenCompose(transaction -> transaction.runAsync(cypher, parameters)
+                .<AsyncResponse<T>>thenApply(cursor -> new BoltAsyncResponse<>(session, transaction, cursor, adapter)))
+            .handle((response, error) -> {
+                if (error != null) {
+                    // Closing the session rolls back the transaction, if there is one
+                    session.closeAsync();
+                    throw translate(error);
+                }
+                return response;
+            });
+    }
+
+    @Override
+    public CompletionStage<T> next() {
+        return cursor.nextAsync().thenCompose(record -> {
+            if (record == null) {
+                return close().<T>thenApply(ignored -> null);
+            }
+            return CompletableFuture.completedFuture(adapter.apply(record));
+        }).handle((model, error) -> {
+            if (error != null) {
+                close();
+                throw translate(error);
+            }
+            return model;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> close() {
+        if (closing.compareAndSet(false, true)) {
+            // Like an auto-commit transaction, the transaction is committed unless its statement failed. Closing the
+            // session rolls back the transaction if it hasn't been committed.
+            cursor.consumeAsync()
+                .thenCompose(summary -> transaction.commitAsync())
+                .handle((ignored, error) -> error)
+                .thenCompose(error -> session.closeAsync()
+                    .handle((ignored, closeError) -> error != null ? error : closeError))
+                .thenAccept(error -> {
+                    if (error != null) {
+                        closed.completeExceptionally(translate(error));
+                    } else {
+                        closed.complete(null);
+                    }
+                });
+        }
+        return closed;
+    }
+
+    @Override
+    public CompletionStage<Optional<QueryStatistics>> getStatistics() {
+        return cursor.summaryAsync().handle((summary, error) -> {
+            if (error != null) {
+                throw translate(error);
+            }
+            return Optional.of(new StatisticsModelAdapter().adapt(summary.counters()));
+        });
+    }
+
+    @Override
+    public CompletionStage<Optional<String>> getBookmark() {
+        // The bookmark of the session is final once the session has been closed
+        return closed.handle((ignored, error) -> {
+            InternalBookmark bookmark = (InternalBookmark) session.lastBookmark();
+            return bookmark == null || bookmark.isEmpty() ? Optional.<String>empty() :
+                Optional.of(String.join(BoltTransaction.BOOKMARK_SEPARATOR, bookmark.values()));
+        });
+    }
+
+    private static RuntimeException translate(Throwable error) {
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ClientException || cause instanceof DatabaseException
+            || cause instanceof TransientException) {
+            Neo4jException neo4jException = (Neo4jException) cause;
+            return new CypherException(neo4jException.code(), neo4jException.getMessage(), neo4jException);
+        }
+        if (cause instanceof ServiceUnavailableException) {
+            return new ConnectionException(cause.getMessage(), cause);
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new RuntimeException(cause);
+    }
+}
@@ -45,12 +45,9 @@ public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
     @Override
     public GraphRowListModel fetchNext() {
         if (result.hasNext()) {
+            // One record at a time, so that the result can be consumed without holding all rows in memory
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
             model.add(adapter.adapt(result.next().asMap()));
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next().asMap()));
-            }
             return model;
         }
         return null;
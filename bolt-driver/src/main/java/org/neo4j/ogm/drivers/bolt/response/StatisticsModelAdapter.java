@@ -36,8 +36,11 @@ public class StatisticsModelAdapter implements ResultAdapter<StatementResult, Qu
 
     @Override
     public QueryStatisticsModel adapt(StatementResult result) {
+        return adapt(result.consume().counters());
+    }
+
+    public QueryStatisticsModel adapt(SummaryCounters stats) {
         QueryStatisticsModel queryStatisticsModel = new QueryStatisticsModel();
-        SummaryCounters stats = result.consume().counters();
         queryStatisticsModel.setContains_updates(stats.containsUpdates());
         queryStatisticsModel.setNodes_created(stats.nodesCreated());
         queryStatisticsModel.setNodes_deleted(stats.nodesDeleted());
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a node or relationship entity class to be kept in the second-level cache of the session factory, if the cache
+ * is turned on in the configuration. Suited best for reference data that is read often and rarely changed.
+ *
+ * @since 3.2.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface Cacheable {
+
+    /**
+     * @return number of seconds entries are kept, 0 keeps them until they are invalidated, a negative value uses the
+     * configured default
+     */
+    int timeToLive() default -1;
+
+    /**
+     * @return maximum number of entries kept for the class, a negative value uses the configured default
+     */
+    int maxEntries() default -1;
+}
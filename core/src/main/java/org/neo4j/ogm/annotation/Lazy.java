@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a relationship field to be loaded lazily. Instead of being populated up to the requested depth, the field of a
+ * loaded entity holds a proxy collection. The first access to any such proxy loads the relationships of all entities
+ * in the session whose field is still pending, with one query per field.
+ * <p>
+ * Lazy loading is supported on fields declared as {@link java.util.Collection}, {@link java.util.List},
+ * {@link java.util.Set} or {@link Iterable}. Proxies can only be initialised while the session that loaded the owning
+ * entity is open and still holds it. Saving an entity whose lazy field has never been accessed leaves the
+ * relationships of that field untouched, and so does replacing the proxy without accessing it first.
+ *
+ * @since 3.2.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Inherited
+public @interface Lazy {
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a fetch plan on a node or relationship entity class. A fetch plan names the relationship fields to follow
+ * when loading entities of the class, as paths of field names separated by dots, for example {@code "lines.product"}
+ * follows the field {@code lines} and from each of its entities the field {@code product}. Relationships not named
+ * by any path are not loaded.
+ * <p>
+ * A plan is used by passing {@link org.neo4j.ogm.cypher.query.FetchPlan#named(String)} to a load method of the
+ * session. A plan named {@value #DEFAULT} is used by all load methods that are called without a depth.
+ *
+ * @since 3.2.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(NamedFetchPlans.class)
+@Inherited
+public @interface NamedFetchPlan {
+
+    /**
+     * Name of the plan used when no depth is given.
+     */
+    String DEFAULT = "default";
+
+    /**
+     * @return the name of the plan, unique per class
+     */
+    String name() default DEFAULT;
+
+    /**
+     * @return the paths of relationship field names to follow
+     */
+    String[] value();
+}
@@ -159,7 +159,7 @@ public class AutoIndexManager {
         // make sure drop and create happen in separate transactions
         // neo does not support that
         session.doInTransaction(() -> {
-            session.requestHandler().execute(dropIndexesRequest);
+            session.requestHandler().execute(dropIndexesRequest).close();
         }, READ_WRITE);
 
         create();
@@ -371,6 +371,12 @@ public class EntityGraphMapper implements EntityMapper {
 
             CompileContext context = compiler.context();
 
+            if (reader.isLazy() && LazyCollection.isUninitialised(reader.read(entity))) {
+                LOGGER.debug("lazy relationship has not been loaded, leaving it untouched: {}-{}-{}-()", entity,
+                    relationshipType, relationshipDirection);
+                continue;
+            }
+
             if (srcIdentity >= 0) {
                 boolean cleared = clearContextRelationships(context, srcIdentity, endNodeType, directedRelationship);
                 if (!cleared) {
@@ -692,13 +698,17 @@ public class EntityGraphMapper implements EntityMapper {
     }
 
     private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo) {
+        // Composite properties are always written, as properties missing from them are removed
+        Predicate<FieldInfo> isChanged = mappingContext.getChangedPropertyFields(entity)
+            .<Predicate<FieldInfo>>map(changedFields -> changedFields::contains)
+            .orElse(fieldInfo -> true);
         for (FieldInfo fieldInfo : classInfo.propertyFields()) {
             if (fieldInfo.isComposite()) {
                 Map<String, ?> properties = fieldInfo.readComposite(entity);
                 builder.addCompositeProperties(properties);
             } else if (fieldInfo.isVersionField()) {
                 updateVersionField(entity, builder, fieldInfo);
-            } else {
+            } else if (isChanged.test(fieldInfo)) {
                 builder.addProperty(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
             }
         }
@@ -980,7 +990,8 @@ public class EntityGraphMapper implements EntityMapper {
                 if (relationshipDirection.equals(tgtRelationshipDirection)) {
 
                     Object target = tgtRelReader.read(tgtObject);
-                    mapBothWays = targetEqualsSource(target, srcObject);
+                    // an uninitialised lazy relationship is not loaded just to compare it
+                    mapBothWays = !LazyCollection.isUninitialised(target) && targetEqualsSource(target, srcObject);
                 }
             }
 
@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.config.MappingContextPolicy;
+
+/**
+ * Holds the entities of one kind (nodes or relationship entities) known to a {@link MappingContext}, keyed by their
+ * native id. Depending on the {@link MappingContextPolicy}, entities are held until they are removed, or evicted when
+ * the register grows too large or when they are garbage collected.
+ */
+abstract class EntityRegister {
+
+    /**
+     * Notified about entities evicted by the policy of a register, but not about entities removed explicitly.
+     */
+    @FunctionalInterface
+    interface EvictionListener {
+
+        /**
+         * @param id        native id of the evicted entity
+         * @param primaryId primary id the entity has been registered with, may be null
+         */
+        void evicted(long id, LabelPrimaryId primaryId);
+    }
+
+    static EntityRegister create(MappingContextPolicy policy, int maxEntities, EvictionListener listener) {
+        switch (policy) {
+            case LRU:
+                return new LruEntityRegister(maxEntities, listener);
+            case WEAK:
+                return new ReferencingEntityRegister(listener, WeakEntityReference::new);
+            case SOFT:
+                return new ReferencingEntityRegister(listener, SoftEntityReference::new);
+            default:
+                return new StrongEntityRegister();
+        }
+    }
+
+    // Entities registered or looked up while pinning, kept strongly so that they are not evicted
+    private List<Object> pinnedEntities;
+    private int pinningDepth;
+
+    /**
+     * Starts to pin all entities registered or looked up until {@link #stopPinning()} is called, so that an entity
+     * graph being mapped stays complete. Calls may be nested.
+     */
+    void startPinning() {
+        if (pinningDepth++ == 0) {
+            pinnedEntities = new ArrayList<>();
+        }
+    }
+
+    void stopPinning() {
+        if (pinningDepth > 0 && --pinningDepth == 0) {
+            pinnedEntities = null;
+            evictExcessEntities();
+        }
+    }
+
+    boolean isPinning() {
+        return pinningDepth > 0;
+    }
+
+    Object pin(Object entity) {
+        if (entity != null && pinnedEntities != null) {
+            pinnedEntities.add(entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Evicts the entities that have been kept beyond the limits of the register while pinning.
+     */
+    void evictExcessEntities() {
+    }
+
+    /**
+     * Evicts the entities that have been garbage collected, if the register references its entities weakly or softly.
+     */
+    void evictCollectedEntities() {
+    }
+
+    /**
+     * Evicts all entities that have been garbage collected, including those whose references have not been enqueued
+     * by the garbage collector yet. Unlike {@link #evictCollectedEntities()}, this visits every registered entity.
+     */
+    void sweepCollectedEntities() {
+    }
+
+    abstract Object get(long id);
+
+    boolean containsKey(long id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Checks whether an entity is registered like {@link #containsKey(long)}, but without evicting collected entities
+     * and without pinning or touching the entity, so that it is safe to call while handling an eviction.
+     */
+    abstract boolean isRegistered(long id);
+
+    /**
+     * @param primaryId the primary id of the entity, if any, which is passed back when the entity is evicted
+     * @return the entity registered with the id before or null if the given entity has been added
+     */
+    abstract Object putIfAbsent(long id, Object entity, LabelPrimaryId primaryId);
+
+    abstract Object remove(long id);
+
+    abstract void removeIf(Predicate<Object> predicate);
+
+    /**
+     * @return a copy of the registered entities
+     */
+    abstract Collection<Object> values();
+
+    abstract void forEach(ObjLongConsumer<Object> action);
+
+    abstract int size();
+
+    abstract void clear();
+
+    /**
+     * Keeps all entities until they are removed.
+     */
+    private static class StrongEntityRegister extends EntityRegister {
+
+        private final LongObjectHashMap<Object> entities = new LongObjectHashMap<>();
+
+        @Override
+        Object get(long id) {
+            return entities.get(id);
+        }
+
+        @Override
+        boolean isRegistered(long id) {
+            return entities.containsKey(id);
+        }
+
+        @Override
+        Object putIfAbsent(long id, Object entity, LabelPrimaryId primaryId) {
+            return entities.putIfAbsent(id, entity);
+        }
+
+        @Override
+        Object remove(long id) {
+            return entities.remove(id);
+        }
+
+        @Override
+        void removeIf(Predicate<Object> predicate) {
+            entities.removeIf(predicate);
+        }
+
+        @Override
+        Collection<Object> values() {
+            return entities.values();
+        }
+
+        @Override
+        void forEach(ObjLongConsumer<Object> action) {
+            entities.forEach(action);
+        }
+
+        @Override
+        int size() {
+            return entities.size();
+        }
+
+        @Override
+        void clear() {
+            entities.clear();
+        }
+    }
+
+    /**
+     * Keeps at most a fixed number of entities and evicts the least recently used ones.
+     */
+    private static class LruEntityRegister extends EntityRegister {
+
+        private final Map<Long, LruEntry> entries;
+        private final int maxEntities;
+        private final EvictionListener listener;
+
+        LruEntityRegister(int maxEntities, EvictionListener listener) {
+            this.maxEntities = maxEntities;
+            this.listener = listener;
+            this.entries = new LinkedHashMap<Long, LruEntry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, LruEntry> eldest) {
+                    if (size() > maxEntities && !isPinning()) {
+                        listener.evicted(eldest.getKey(), eldest.getValue().primaryId);
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        void evictExcessEntities() {
+            Iterator<Map.Entry<Long, LruEntry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntities && iterator.hasNext()) {
+                Map.Entry<Long, LruEntry> eldest = iterator.next();
+                iterator.remove();
+                listener.evicted(eldest.getKey(), eldest.getValue().primaryId);
+            }
+        }
+
+        @Override
+        Object get(long id) {
+            LruEntry entry = entries.get(id);
+            return entry == null ? null : pin(entry.entity);
+        }
+
+        @Override
+        boolean isRegistered(long id) {
+            return entries.containsKey(id);
+        }
+
+        @Override
+        Object putIfAbsent(long id, Object entity, LabelPrimaryId primaryId) {
+            LruEntry existing = entries.get(id);
+            if (existing != null) {
+                return pin(existing.entity);
+            }
+            entries.put(id, new LruEntry(pin(entity), primaryId));
+            return null;
+        }
+
+        @Override
+        Object remove(long id) {
+            LruEntry entry = entries.remove(id);
+            return entry == null ? null : entry.entity;
+        }
+
+        @Override
+        void removeIf(Predicate<Object> predicate) {
+            entries.values().removeIf(entry -> predicate.test(entry.entity));
+        }
+
+        @Override
+        Collection<Object> values() {
+            List<Object> values = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> values.add(entry.entity));
+            return values;
+        }
+
+        @Override
+        void forEach(ObjLongConsumer<Object> action) {
+            entries.forEach((id, entry) -> action.accept(entry.entity, id));
+        }
+
+        @Override
+        int size() {
+            return entries.size();
+        }
+
+        @Override
+        void clear() {
+            entries.clear();
+        }
+
+        private static class LruEntry {
+
+            private final Object entity;
+            private final LabelPrimaryId primaryId;
+
+            LruEntry(Object entity, LabelPrimaryId primaryId) {
+                this.entity = entity;
+                this.primaryId = primaryId;
+            }
+        }
+    }
+
+    /**
+     * Keeps entities through weak or soft references and evicts them once they have been garbage collected.
+     */
+    private static class ReferencingEntityRegister extends EntityRegister {
+
+        @FunctionalInterface
+        private interface ReferenceFactory {
+
+            Reference<Object> create(long id, Object entity, LabelPrimaryId primaryId, ReferenceQueue<Object> queue);
+        }
+
+        private final LongObjectHashMap<Reference<Object>> references = new LongObjectHashMap<>();
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final EvictionListener listener;
+        private final ReferenceFactory referenceFactory;
+
+        ReferencingEntityRegister(EvictionListener listener, ReferenceFactory referenceFactory) {
+            this.listener = listener;
+            this.referenceFactory = referenceFactory;
+        }
+
+        @Override
+        Object get(long id) {
+            expungeCollectedEntities();
+            Reference<Object> reference = references.get(id);
+            if (reference == null) {
+                return null;
+            }
+            Object entity = reference.get();
+            if (entity == null) {
+                // Collected, but not yet enqueued
+                references.remove(id);
+                listener.evicted(id, ((EntityReference) reference).primaryId());
+            }
+            return pin(entity);
+        }
+
+        @Override
+        boolean isRegistered(long id) {
+            Reference<Object> reference = references.get(id);
+            return reference != null && reference.get() != null;
+        }
+
+        @Override
+        void evictCollectedEntities() {
+            expungeCollectedEntities();
+        }
+
+        @Override
+        void sweepCollectedEntities() {
+            expungeCollectedEntities();
+            List<Reference<Object>> collected = new ArrayList<>();
+            references.forEach((reference, id) -> {
+                if (reference.get() == null) {
+                    collected.add(reference);
+                }
+            });
+            for (Reference<Object> reference : collected) {
+                EntityReference entityReference = (EntityReference) reference;
+                long id = entityReference.id();
+                // Evicting an entity might already have swept the remaining ones
+                if (references.get(id) == reference) {
+                    references.remove(id);
+                    listener.evicted(id, entityReference.primaryId());
+                }
+            }
+        }
+
+        @Override
+        Object putIfAbsent(long id, Object entity, LabelPrimaryId primaryId) {
+            Object existing = get(id);
+            if (existing != null) {
+                return existing;
+            }
+            references.put(id, referenceFactory.create(id, pin(entity), primaryId, queue));
+            return null;
+        }
+
+        @Override
+        Object remove(long id) {
+            expungeCollectedEntities();
+            Reference<Object> reference = references.remove(id);
+            return reference == null ? null : reference.get();
+        }
+
+        @Override
+        void removeIf(Predicate<Object> predicate) {
+            expungeCollectedEntities();
+            references.removeIf(reference -> {
+                Object entity = reference.get();
+                return entity != null && predicate.test(entity);
+            });
+        }
+
+        @Override
+        Collection<Object> values() {
+            expungeCollectedEntities();
+            List<Object> values = new ArrayList<>(references.size());
+            references.forEach((reference, id) -> {
+                Object entity = reference.get();
+                if (entity != null) {
+                    values.add(entity);
+                }
+            });
+            return values;
+        }
+
+        @Override
+        void forEach(ObjLongConsumer<Object> action) {
+            expungeCollectedEntities();
+            references.forEach((reference, id) -> {
+                Object entity = reference.get();
+                if (entity != null) {
+                    action.accept(entity, id);
+                }
+            });
+        }
+
+        @Override
+        int size() {
+            expungeCollectedEntities();
+            return references.size();
+        }
+
+        @Override
+        void clear() {
+            references.clear();
+            while (queue.poll() != null) {
+                // Discard references collected before the register has been cleared
+            }
+        }
+
+        private void expungeCollectedEntities() {
+            Reference<?> reference;
+            while ((reference = queue.poll()) != null) {
+                EntityReference entityReference = (EntityReference) reference;
+                long id = entityReference.id();
+                // The entity might have been removed or registered again in the meantime
+                if (references.get(id) == reference) {
+                    references.remove(id);
+                    listener.evicted(id, entityReference.primaryId());
+                }
+            }
+        }
+    }
+
+    private interface EntityReference {
+
+        long id();
+
+        LabelPrimaryId primaryId();
+    }
+
+    private static class WeakEntityReference extends WeakReference<Object> implements EntityReference {
+
+        private final long id;
+        private final LabelPrimaryId primaryId;
+
+        WeakEntityReference(long id, Object entity, LabelPrimaryId primaryId, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.id = id;
+            this.primaryId = primaryId;
+        }
+
+        @Override
+        public long id() {
+            return id;
+        }
+
+        @Override
+        public LabelPrimaryId primaryId() {
+            return primaryId;
+        }
+    }
+
+    private static class SoftEntityReference extends SoftReference<Object> implements EntityReference {
+
+        private final long id;
+        private final LabelPrimaryId primaryId;
+
+        SoftEntityReference(long id, Object entity, LabelPrimaryId primaryId, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.id = id;
+            this.primaryId = primaryId;
+        }
+
+        @Override
+        public long id() {
+            return id;
+        }
+
+        @Override
+        public LabelPrimaryId primaryId() {
+            return primaryId;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.response.Response;
@@ -66,6 +67,37 @@ public class EntityRowModelMapper implements ResponseMapper<RowModel> {
         return result;
     }
 
+    /**
+     * Lazily extracts the column values of the given response. The response is read one row at a time while the
+     * returned stream is consumed, and it is closed together with the stream.
+     *
+     * @param type     The type of the values to return
+     * @param response The response to read from
+     * @param <T>      The type of the values to return
+     * @return A stream of the values contained in the response
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<RowModel> response) {
+
+        if (VOID_TYPES.contains(type)) {
+            response.close();
+            return Stream.empty();
+        }
+
+        return ResponseSpliterator.stream(response, model -> Collections.singletonList(extractColumnValue(type, model)));
+    }
+
+    /**
+     * Extracts the column value of a single row, for responses that are read one row at a time.
+     *
+     * @param type  The type of the value to return
+     * @param model The row
+     * @param <T>   The type of the value to return
+     * @return The value of the only column of the row
+     */
+    public <T> T mapRow(Class<T> type, RowModel model) {
+        return extractColumnValue(type, model);
+    }
+
     private static <T> T extractColumnValue(Class<T> type, RowModel model) {
 
         if (model.variables().length > 1) {
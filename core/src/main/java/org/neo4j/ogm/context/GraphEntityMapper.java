@@ -25,6 +25,8 @@ import static org.neo4j.ogm.metadata.reflect.EntityAccessManager.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -59,6 +61,11 @@ public class GraphEntityMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(GraphEntityMapper.class);
 
+    /**
+     * Minimum number of nodes hydrated by one task of the parallel hydration phase.
+     */
+    private static final int MIN_HYDRATION_CHUNK_SIZE = 64;
+
     private static Map<String, ?> toMap(List<Property<String, Object>> propertyList) {
 
         Map<String, Object> map = new HashMap<>();
@@ -96,6 +103,17 @@ public class GraphEntityMapper {
     <T> List<T> map(Class<T> type, List<GraphModel> listOfGraphModels,
         BiFunction<GraphModel, Long, Boolean> additionalNodeFilter, Map<Long, Long> order) {
 
+        mappingContext.startPinning();
+        try {
+            return mapPinned(type, listOfGraphModels, additionalNodeFilter, order);
+        } finally {
+            mappingContext.stopPinning();
+        }
+    }
+
+    private <T> List<T> mapPinned(Class<T> type, List<GraphModel> listOfGraphModels,
+        BiFunction<GraphModel, Long, Boolean> additionalNodeFilter, Map<Long, Long> order) {
+
         // Those are the ids of all mapped nodes.
         Set<Long> mappedNodeIds = new LinkedHashSet<>();
 
@@ -111,7 +129,10 @@ public class GraphEntityMapper {
         Set<Long> mappedRelationshipIds = new LinkedHashSet<>();
         Set<Long> returnedRelationshipIds = new LinkedHashSet<>();
 
-        // Execute mapping for each individual model
+        // Instantiate and populate the entities of all new nodes upfront if there are enough of them
+        hydrateInParallel(listOfGraphModels);
+
+        // Execute mapping for each individual model, this finds the entities hydrated above in the mapping context
         Consumer<GraphModel> mapContentOfIndividualModel =
             graphModel -> mapContentOf(graphModel, additionalNodeFilter, returnedNodeIds, mappedRelationshipIds,
                 returnedRelationshipIds, mappedNodeIds);
@@ -142,6 +163,81 @@ public class GraphEntityMapper {
         return results;
     }
 
+    /**
+     * Creates a stateful function that maps one graph model at a time. This is the incremental counterpart to
+     * {@link #map(Class, List, BiFunction, Map)}: Each invocation returns only the entities that haven't been returned
+     * by an earlier invocation, in the order they appear in the given model. {@code @PostLoad} methods are executed
+     * once per entity, directly after the model in which the entity appeared first has been mapped.
+     *
+     * @param type the type of the entities to return
+     * @param <T>  The type of the class of the entities to return
+     * @return A function mapping a graph model and a filter for result entities onto the newly returned entities
+     */
+    <T> BiFunction<GraphModel, Predicate<Long>, List<T>> incrementalMapper(Class<T> type) {
+
+        Set<Long> mappedNodeIds = new HashSet<>();
+        Set<Long> mappedRelationshipIds = new HashSet<>();
+        Set<Long> returnedNodeIds = new HashSet<>();
+        Set<Long> returnedRelationshipIds = new HashSet<>();
+
+        Predicate<Object> entityPresentAndCompatible = entity -> entity != null && type
+            .isAssignableFrom(entity.getClass());
+
+        return (graphModel, includeInResult) -> {
+
+            mappingContext.startPinning();
+            try {
+                return mapIncrementally(graphModel, includeInResult, mappedNodeIds, mappedRelationshipIds,
+                    returnedNodeIds, returnedRelationshipIds, entityPresentAndCompatible, type);
+            } finally {
+                mappingContext.stopPinning();
+            }
+        };
+    }
+
+    private <T> List<T> mapIncrementally(GraphModel graphModel, Predicate<Long> includeInResult,
+        Set<Long> mappedNodeIds, Set<Long> mappedRelationshipIds,
+        Set<Long> returnedNodeIds, Set<Long> returnedRelationshipIds,
+        Predicate<Object> entityPresentAndCompatible, Class<T> type) {
+
+        Set<Long> nodeIds;
+        Set<Long> relationshipIds;
+        try {
+            nodeIds = mapNodes(graphModel);
+            relationshipIds = mapRelationships(graphModel);
+        } catch (MappingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MappingException("Error mapping GraphModel", e);
+        }
+
+        executePostLoad(
+            nodeIds.stream().filter(mappedNodeIds::add).collect(toCollection(LinkedHashSet::new)),
+            relationshipIds.stream().filter(mappedRelationshipIds::add).collect(toCollection(LinkedHashSet::new))
+        );
+
+        List<T> results = nodeIds.stream()
+            .filter(includeInResult)
+            .filter(returnedNodeIds::add)
+            .map(mappingContext::getNodeEntity)
+            .filter(entityPresentAndCompatible)
+            .map(type::cast)
+            .collect(toList());
+
+        // only look for REs if no node entities were found
+        if (results.isEmpty()) {
+            results = relationshipIds.stream()
+                .filter(includeInResult)
+                .filter(returnedRelationshipIds::add)
+                .map(mappingContext::getRelationshipEntity)
+                .filter(entityPresentAndCompatible)
+                .map(type::cast)
+                .collect(toList());
+        }
+
+        return results;
+    }
+
     private void mapContentOf(
         GraphModel graphModel,
         BiFunction<GraphModel, Long, Boolean> additionalNodeFilter,
@@ -221,16 +317,9 @@ public class GraphEntityMapper {
                     logger.debug("Could not find a class to map for labels " + Arrays.toString(node.getLabels()));
                     continue;
                 }
-                Map<String, Object> allProps = new HashMap<>(toMap(node.getPropertyList()));
-                getCompositeProperties(node.getPropertyList(), clsi).forEach((k, v) -> {
-                    allProps.put(k.getName(), v);
-                });
-
-                entity = entityFactory.newObject(clsi.getUnderlyingClass(), allProps);
-                EntityUtils.setIdentity(entity, node.getId(), metadata);
-                setProperties(node.getPropertyList(), entity);
-                setLabels(node, entity);
+                entity = hydrate(node, clsi);
                 mappingContext.addNodeEntity(entity, node.getId());
+                installLazyProxies(entity, node.getId(), clsi);
             }
             mappedNodeIds.add(node.getId());
         }
@@ -238,6 +327,131 @@ public class GraphEntityMapper {
         return mappedNodeIds;
     }
 
+    /**
+     * Instantiates the entity of a node and populates its identity, properties and labels. This neither registers
+     * the entity with the mapping context nor reads from it, so it may run concurrently for different nodes.
+     *
+     * @param node      the node to hydrate
+     * @param classInfo the class the node is mapped to
+     * @return the new entity
+     */
+    private Object hydrate(Node node, ClassInfo classInfo) {
+        Map<String, Object> allProps = new HashMap<>(toMap(node.getPropertyList()));
+        getCompositeProperties(node.getPropertyList(), classInfo).forEach((k, v) -> {
+            allProps.put(k.getName(), v);
+        });
+
+        Object entity = entityFactory.newObject(classInfo.getUnderlyingClass(), allProps);
+        EntityUtils.setIdentity(entity, node.getId(), metadata);
+        setProperties(node.getPropertyList(), entity);
+        setLabels(node, entity);
+        return entity;
+    }
+
+    /**
+     * Hydrates the entities of all nodes of the given models that are not yet in the mapping context in chunks on the
+     * common {@link ForkJoinPool}, if their number reaches the configured threshold. The entities are then registered
+     * one after another in the order in which {@link #mapNodes(GraphModel)} would have registered them, so that
+     * mapping the models afterwards wires relationships and collects results exactly as without this phase.
+     *
+     * @param graphModels the models to map
+     */
+    private void hydrateInParallel(List<GraphModel> graphModels) {
+
+        int threshold = mappingContext.getParallelHydrationThreshold();
+        if (threshold <= 0) {
+            return;
+        }
+
+        Map<Long, Node> newNodes = new LinkedHashMap<>();
+        Map<Long, ClassInfo> classInfos = new HashMap<>();
+        for (GraphModel graphModel : graphModels) {
+            for (Node node : graphModel.getNodes()) {
+                Long id = node.getId();
+                if (newNodes.containsKey(id) || mappingContext.containsNodeEntity(id)) {
+                    continue;
+                }
+                ClassInfo classInfo = metadata.resolve(node.getLabels());
+                if (classInfo != null) {
+                    newNodes.put(id, node);
+                    classInfos.put(id, classInfo);
+                }
+            }
+        }
+        if (newNodes.size() < threshold) {
+            return;
+        }
+
+        // Initialise the lazily computed metadata on this thread instead of racing for it in the workers
+        new HashSet<>(classInfos.values()).forEach(GraphEntityMapper::prepareForHydration);
+
+        List<Node> nodes = new ArrayList<>(newNodes.values());
+        Object[] entities = new Object[nodes.size()];
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunkSize = Math.max(MIN_HYDRATION_CHUNK_SIZE, (nodes.size() + parallelism - 1) / parallelism);
+
+        List<ForkJoinTask<?>> chunks = new ArrayList<>();
+        for (int start = 0; start < nodes.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(nodes.size(), start + chunkSize);
+            chunks.add(ForkJoinPool.commonPool().submit(() -> {
+                for (int i = from; i < to; i++) {
+                    Node node = nodes.get(i);
+                    entities[i] = hydrate(node, classInfos.get(node.getId()));
+                }
+            }));
+        }
+        try {
+            chunks.forEach(ForkJoinTask::join);
+        } catch (MappingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MappingException("Error mapping GraphModel", e);
+        }
+
+        for (int i = 0; i < entities.length; i++) {
+            Long id = nodes.get(i).getId();
+            mappingContext.addNodeEntity(entities[i], id);
+            installLazyProxies(entities[i], id, classInfos.get(id));
+        }
+    }
+
+    private static void prepareForHydration(ClassInfo classInfo) {
+        classInfo.propertyFields();
+        classInfo.labelFieldOrNull();
+        classInfo.staticLabels();
+        if (classInfo.hasIdentityField()) {
+            classInfo.identityField();
+        }
+    }
+
+    private void installLazyProxies(Object entity, Long id, ClassInfo classInfo) {
+        LazyRelationshipLoader loader = mappingContext.getLazyRelationshipLoader();
+        if (loader == null) {
+            return;
+        }
+        for (FieldInfo field : classInfo.relationshipFields()) {
+            if (field.isLazy()) {
+                field.writeDirect(entity, loader.proxyFor(entity, id, field));
+            }
+        }
+    }
+
+    /**
+     * A lazy relationship field is left alone as long as it holds a proxy that has not been initialised. Its
+     * relationships are neither written nor registered, as the proxy loads all of them on first access.
+     *
+     * @param writer   the field to write to, may be null
+     * @param instance the instance declaring the field
+     * @return the writer or null if the field must not be written
+     */
+    private static FieldInfo unlessPendingLazy(FieldInfo writer, Object instance) {
+        if (writer != null && writer.isLazy() && LazyCollection.isUninitialised(writer.read(instance))) {
+            return null;
+        }
+        return writer;
+    }
+
     /**
      * Finds the composite properties of an entity type and build their values using a property list.
      *
@@ -454,7 +668,8 @@ public class GraphEntityMapper {
             Object relationshipEntity = mappingContext.getRelationshipEntity(edge.getId());
             if (relationshipEntity != null) {
                 // establish a relationship between
-                FieldInfo outgoingWriter = findIterableWriter(instance, relationshipEntity, edge.getType(), OUTGOING);
+                FieldInfo outgoingWriter = unlessPendingLazy(
+                    findIterableWriter(instance, relationshipEntity, edge.getType(), OUTGOING), instance);
                 if (outgoingWriter != null) {
                     entityCollector.collectRelationship(edge.getStartNode(),
                         DescriptorMappings.getType(outgoingWriter.typeParameterDescriptor()), edge.getType(), OUTGOING,
@@ -463,7 +678,8 @@ public class GraphEntityMapper {
                         new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(),
                             instance.getClass(), DescriptorMappings.getType(outgoingWriter.typeParameterDescriptor())));
                 }
-                FieldInfo incomingWriter = findIterableWriter(parameter, relationshipEntity, edge.getType(), INCOMING);
+                FieldInfo incomingWriter = unlessPendingLazy(
+                    findIterableWriter(parameter, relationshipEntity, edge.getType(), INCOMING), parameter);
                 if (incomingWriter != null) {
                     entityCollector.collectRelationship(edge.getEndNode(),
                         DescriptorMappings.getType(incomingWriter.typeParameterDescriptor()), edge.getType(), INCOMING,
@@ -476,8 +692,8 @@ public class GraphEntityMapper {
 
                 // Use getRelationalWriter instead of findIterableWriter
                 // findIterableWriter will return matching iterable even when there is better matching single field
-                FieldInfo outgoingWriter = getRelationalWriter(metadata.classInfo(instance), edge.getType(), OUTGOING,
-                    parameter);
+                FieldInfo outgoingWriter = unlessPendingLazy(
+                    getRelationalWriter(metadata.classInfo(instance), edge.getType(), OUTGOING, parameter), instance);
                 if (outgoingWriter != null) {
                     if (!outgoingWriter.forScalar()) {
                         entityCollector.collectRelationship(edge.getStartNode(),
@@ -492,8 +708,8 @@ public class GraphEntityMapper {
                         DescriptorMappings.getType(outgoingWriter.typeParameterDescriptor()));
                     relationshipsToRegister.add(mappedRelationship);
                 }
-                FieldInfo incomingWriter = getRelationalWriter(metadata.classInfo(parameter), edge.getType(), INCOMING,
-                    instance);
+                FieldInfo incomingWriter = unlessPendingLazy(
+                    getRelationalWriter(metadata.classInfo(parameter), edge.getType(), INCOMING, instance), parameter);
                 if (incomingWriter != null) {
                     if (!incomingWriter.forScalar()) {
                         entityCollector.collectRelationship(edge.getEndNode(),
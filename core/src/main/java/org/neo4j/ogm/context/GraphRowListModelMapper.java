@@ -30,6 +30,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.GraphModel;
@@ -70,11 +73,7 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
 
         listOfRowModels.forEach(graphRowModel -> {
 
-            Set<Long> idsInCurrentRow = Arrays.stream(graphRowModel.getRow())
-                .filter(Number.class::isInstance)
-                .map(Number.class::cast)
-                .map(Number::longValue)
-                .collect(toSet());
+            Set<Long> idsInCurrentRow = idsIn(graphRowModel);
 
             listOfGraphModels.add(graphRowModel.getGraph());
             idsOfResultEntities.addAll(idsInCurrentRow);
@@ -90,4 +89,48 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
             (graphModel, nativeId) -> idsOfResultEntities.contains(nativeId);
         return delegate.map(type, listOfGraphModels, includeModelObject, Collections.unmodifiableMap(order));
     }
+
+    /**
+     * Lazily maps the rows of the given response. The response is read one model at a time while the returned stream
+     * is consumed, and it is closed together with the stream. The result entities of each row are identified by the
+     * ids returned in that row.
+     *
+     * @param type     The type of the entities to return
+     * @param response The response to read from
+     * @param <T>      The type of the entities to return
+     * @return A stream of the entities contained in the response
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphRowListModel> response) {
+
+        return ResponseSpliterator.stream(response, incrementalMapper(type));
+    }
+
+    /**
+     * Creates a stateful function that maps one model at a time, returning only the entities not returned for an
+     * earlier model.
+     *
+     * @param type The type of the entities to return
+     * @param <T>  The type of the entities to return
+     * @return A function mapping the rows of a model onto the newly returned entities
+     */
+    public <T> Function<GraphRowListModel, List<T>> incrementalMapper(Class<T> type) {
+
+        BiFunction<GraphModel, Predicate<Long>, List<T>> incrementalMapper = delegate.incrementalMapper(type);
+        return rowsModel -> {
+            List<T> entities = new ArrayList<>();
+            for (GraphRowModel graphRowModel : rowsModel.model()) {
+                Set<Long> idsInCurrentRow = idsIn(graphRowModel);
+                entities.addAll(incrementalMapper.apply(graphRowModel.getGraph(), idsInCurrentRow::contains));
+            }
+            return entities;
+        };
+    }
+
+    private static Set<Long> idsIn(GraphRowModel graphRowModel) {
+        return Arrays.stream(graphRowModel.getRow())
+            .filter(Number.class::isInstance)
+            .map(Number.class::cast)
+            .map(Number::longValue)
+            .collect(toSet());
+    }
 }
@@ -22,6 +22,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.GraphModel;
@@ -36,6 +39,14 @@ import org.neo4j.ogm.session.EntityInstantiator;
  */
 public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
 
+    private static final BiFunction<GraphModel, Long, Boolean> IS_NOT_GENERATED_NODE = (graphModel, nativeId) -> {
+        Optional<Node> node = ((DefaultGraphModel) graphModel).findNode(nativeId);
+        if (!node.isPresent()) {
+            return true; // Native id describes a relationship
+        }
+        return node.map(n -> !((NodeModel) n).isGeneratedNode()).get();
+    };
+
     private final GraphEntityMapper delegate;
 
     public GraphRowModelMapper(MetaData metaData, MappingContext mappingContext,
@@ -50,13 +61,35 @@ public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
         List<GraphModel> listOfGraphModels = model.toList();
         model.close();
 
-        BiFunction<GraphModel, Long, Boolean> isNotGeneratedNode = (graphModel, nativeId) -> {
-            Optional<Node> node = ((DefaultGraphModel) graphModel).findNode(nativeId);
-            if (!node.isPresent()) {
-                return true; // Native id describes a relationship
-            }
-            return node.map(n -> !((NodeModel) n).isGeneratedNode()).get();
-        };
-        return delegate.map(type, listOfGraphModels, isNotGeneratedNode, Collections.emptyMap());
+        return delegate.map(type, listOfGraphModels, IS_NOT_GENERATED_NODE, Collections.emptyMap());
+    }
+
+    /**
+     * Lazily maps the graph models of the given response. The response is read one model at a time while the returned
+     * stream is consumed, and it is closed together with the stream.
+     *
+     * @param type     The type of the entities to return
+     * @param response The response to read from
+     * @param <T>      The type of the entities to return
+     * @return A stream of the entities contained in the response
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response) {
+
+        return ResponseSpliterator.stream(response, incrementalMapper(type));
+    }
+
+    /**
+     * Creates a stateful function that maps one graph model at a time, returning only the entities not returned for
+     * an earlier model.
+     *
+     * @param type The type of the entities to return
+     * @param <T>  The type of the entities to return
+     * @return A function mapping a graph model onto the newly returned entities
+     */
+    public <T> Function<GraphModel, List<T>> incrementalMapper(Class<T> type) {
+
+        BiFunction<GraphModel, Predicate<Long>, List<T>> incrementalMapper = delegate.incrementalMapper(type);
+        return graphModel ->
+            incrementalMapper.apply(graphModel, nativeId -> IS_NOT_GENERATED_NODE.apply(graphModel, nativeId));
     }
 }
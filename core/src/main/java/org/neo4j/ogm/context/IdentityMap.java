@@ -18,12 +18,12 @@
  */
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -42,22 +42,31 @@ class IdentityMap {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHashes;
+    private final LongObjectHashMap<Footprint> footprintsOfNodeEntities;
 
-    private final Map<Long, Long> relEntityHashes;
+    private final LongObjectHashMap<Footprint> footprintsOfRelationshipEntities;
 
-    private final Map<Long, EntitySnapshot> snapshotsOfNodeEntities;
-
-    private final Map<Long, EntitySnapshot> snapshotsOfRelationshipEntities;
+    private final Map<ClassInfo, FieldInfo[]> hashFieldsByClass;
 
     private final MetaData metaData;
 
+    private final boolean trackPropertyChanges;
+
     IdentityMap(MetaData metaData) {
-        this.nodeHashes = new HashMap<>();
-        this.relEntityHashes = new HashMap<>();
-        this.snapshotsOfNodeEntities = new HashMap<>();
-        this.snapshotsOfRelationshipEntities = new HashMap<>();
+        this(metaData, false);
+    }
+
+    /**
+     * @param metaData             the mapping metadata
+     * @param trackPropertyChanges whether to remember a hash for each property, so that the changed properties of an
+     *                             entity can be determined and not only whether it has changed at all
+     */
+    IdentityMap(MetaData metaData, boolean trackPropertyChanges) {
+        this.footprintsOfNodeEntities = new LongObjectHashMap<>();
+        this.footprintsOfRelationshipEntities = new LongObjectHashMap<>();
+        this.hashFieldsByClass = new HashMap<>();
         this.metaData = metaData;
+        this.trackPropertyChanges = trackPropertyChanges;
     }
 
     /**
@@ -69,13 +78,11 @@ class IdentityMap {
      */
     void remember(Object object, Long entityId) {
         ClassInfo classInfo = metaData.classInfo(object);
-        if (metaData.isRelationshipEntity(classInfo.name())) {
-            this.relEntityHashes.put(entityId, hash(object, classInfo));
-            this.snapshotsOfRelationshipEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
-        } else {
-            this.nodeHashes.put(entityId, hash(object, classInfo));
-            this.snapshotsOfNodeEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
-        }
+        FieldInfo[] hashFields = hashFields(classInfo);
+        Footprint footprint = new Footprint(hash(object, hashFields),
+            trackPropertyChanges ? propertyHashes(object, hashFields) : null,
+            EntitySnapshot.basedOn(metaData).take(object));
+        footprints(classInfo).put(entityId, footprint);
     }
 
     /**
@@ -90,18 +97,61 @@ class IdentityMap {
      */
     boolean remembered(Object object, Long entityId) {
 
-        // Bail out early if the native id is null or neither the hashes of nodes nor relationships contain the entity id.
-        if (entityId == null || !(nodeHashes.containsKey(entityId) || relEntityHashes.containsKey(entityId))) {
+        // Bail out early if the native id is null or the entity has not been remembered.
+        if (entityId == null) {
             return false;
         }
 
         ClassInfo classInfo = metaData.classInfo(object);
-        boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
+        Footprint footprint = footprints(classInfo).get(entityId);
+
+        return footprint != null && footprint.hash == hash(object, hashFields(classInfo));
+    }
+
+    /**
+     * Determines the property fields of the given entity whose values have changed since it was remembered. This is
+     * only possible if the identity map tracks property changes and the entity has been remembered before.
+     *
+     * @param object   the object whose property fields should be checked
+     * @param entityId the native id of the entity
+     * @return The changed property fields or an empty optional if the changes are unknown.
+     */
+    Optional<Set<FieldInfo>> getChangedPropertyFields(Object object, Long entityId) {
 
-        long actual = hash(object, classInfo);
-        long expected = isRelEntity ? relEntityHashes.get(entityId) : nodeHashes.get(entityId);
+        if (!trackPropertyChanges || entityId == null) {
+            return Optional.empty();
+        }
 
-        return actual == expected;
+        ClassInfo classInfo = metaData.classInfo(object);
+        Footprint footprint = footprints(classInfo).get(entityId);
+        if (footprint == null) {
+            return Optional.empty();
+        }
+
+        long[] expected = footprint.propertyHashes;
+        FieldInfo[] hashFields = hashFields(classInfo);
+        Set<FieldInfo> changedFields = new HashSet<>();
+        for (int i = 0; i < hashFields.length; i++) {
+            if (hash(hashFields[i].read(object)) != expected[i]) {
+                changedFields.add(hashFields[i]);
+            }
+        }
+        return Optional.of(changedFields);
+    }
+
+    /**
+     * Forgets everything remembered about the entity with the given id.
+     *
+     * @param entityId           the native id of the entity
+     * @param relationshipEntity whether the id is the id of a relationship entity
+     */
+    void forget(long entityId, boolean relationshipEntity) {
+
+        if (relationshipEntity) {
+            footprintsOfRelationshipEntities.remove(entityId);
+        } else {
+            footprintsOfNodeEntities.remove(entityId);
+        }
     }
 
     /**
@@ -114,61 +164,117 @@ class IdentityMap {
      */
     Optional<EntitySnapshot> getSnapshotOf(Object entity, Long entityId) {
 
-        EntitySnapshot entitySnapshot;
-
-        ClassInfo classInfo = metaData.classInfo(entity);
-        if (metaData.isRelationshipEntity(classInfo.name())) {
-            entitySnapshot = this.snapshotsOfRelationshipEntities.get(entityId);
-        } else {
-            entitySnapshot = this.snapshotsOfNodeEntities.get(entityId);
+        if (entityId == null) {
+            return Optional.empty();
         }
 
-        return Optional.ofNullable(entitySnapshot);
+        Footprint footprint = footprints(metaData.classInfo(entity)).get(entityId);
+        return Optional.ofNullable(footprint).map(f -> f.snapshot);
     }
 
     void clear() {
 
-        this.nodeHashes.clear();
-        this.relEntityHashes.clear();
-        this.snapshotsOfNodeEntities.clear();
-        this.snapshotsOfRelationshipEntities.clear();
+        this.footprintsOfNodeEntities.clear();
+        this.footprintsOfRelationshipEntities.clear();
     }
 
-    private static long hash(Object object, ClassInfo classInfo) {
+    private LongObjectHashMap<Footprint> footprints(ClassInfo classInfo) {
 
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
-        }
+        return metaData.isRelationshipEntity(classInfo.name()) ?
+            footprintsOfRelationshipEntities :
+            footprintsOfNodeEntities;
+    }
+
+    /**
+     * The fields contributing to the hash of an entity: Its property fields and the label field, if any. Computed once
+     * per class.
+     */
+    private FieldInfo[] hashFields(ClassInfo classInfo) {
+
+        return hashFieldsByClass.computeIfAbsent(classInfo, key -> {
+            FieldInfo labelField = key.labelFieldOrNull();
+            FieldInfo[] hashFields = key.propertyFields().toArray(new FieldInfo[0]);
+            if (labelField != null) {
+                hashFields = Arrays.copyOf(hashFields, hashFields.length + 1);
+                hashFields[hashFields.length - 1] = labelField;
+            }
+            return hashFields;
+        });
+    }
+
+    private static long hash(Object object, FieldInfo[] hashFields) {
 
         long hash = SEED;
         for (FieldInfo fieldInfo : hashFields) {
 
             Object value = fieldInfo.read(object);
             if (value != null) {
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + hashArray(value);
-                } else {
-                    hash = hash * 31L + value.hashCode();
-                }
+                hash = hash * 31L + hash(value);
             }
         }
         return hash;
     }
 
+    private static long[] propertyHashes(Object object, FieldInfo[] hashFields) {
+
+        long[] hashes = new long[hashFields.length];
+        for (int i = 0; i < hashFields.length; i++) {
+            hashes[i] = hash(hashFields[i].read(object));
+        }
+        return hashes;
+    }
+
     /**
-     * hashes an array of objects or primitives
+     * hashes a single property value. Arrays are hashed by their elements, without boxing primitive elements.
      *
-     * @param array array of unknown type
-     * @return the hash of the array
+     * @param value the value of a property, may be null
+     * @return the hash of the value
      */
-    private static long hashArray(Object array) {
-        long result = 1;
-        int len = Array.getLength(array);
-        for (int i = 0; i < len; i++) {
-            Object element = Array.get(array, i);
-            result = 31L * result + (element == null ? 0 : element.hashCode());
+    private static long hash(Object value) {
+
+        if (value == null) {
+            return SEED;
+        } else if (!value.getClass().isArray()) {
+            return value.hashCode();
+        } else if (value instanceof Object[]) {
+            return Arrays.hashCode((Object[]) value);
+        } else if (value instanceof long[]) {
+            return Arrays.hashCode((long[]) value);
+        } else if (value instanceof int[]) {
+            return Arrays.hashCode((int[]) value);
+        } else if (value instanceof double[]) {
+            return Arrays.hashCode((double[]) value);
+        } else if (value instanceof float[]) {
+            return Arrays.hashCode((float[]) value);
+        } else if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        } else if (value instanceof short[]) {
+            return Arrays.hashCode((short[]) value);
+        } else if (value instanceof char[]) {
+            return Arrays.hashCode((char[]) value);
+        } else {
+            return Arrays.hashCode((boolean[]) value);
+        }
+    }
+
+    /**
+     * Everything remembered about a single entity.
+     */
+    private static final class Footprint {
+
+        private final long hash;
+
+        /**
+         * The hash of each hash field, only present when property changes are tracked.
+         */
+        private final long[] propertyHashes;
+
+        private final EntitySnapshot snapshot;
+
+        Footprint(long hash, long[] propertyHashes, EntitySnapshot snapshot) {
+            this.hash = hash;
+            this.propertyHashes = propertyHashes;
+            this.snapshot = snapshot;
         }
-        return result;
     }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * A proxy for the value of a {@link org.neo4j.ogm.annotation.Lazy} relationship field. The related entities are
+ * loaded by a {@link LazyRelationshipLoader} when the proxy is accessed for the first time, all other access is
+ * delegated to the loaded collection.
+ *
+ * @param <E> the type of the related entities
+ * @since 3.2.2
+ */
+public abstract class LazyCollection<E> implements Collection<E> {
+
+    private final LazyRelationshipLoader loader;
+    private final Object owner;
+    private final Long ownerId;
+    private final FieldInfo field;
+
+    private Collection<E> delegate;
+    private boolean detached;
+
+    LazyCollection(LazyRelationshipLoader loader, Object owner, Long ownerId, FieldInfo field) {
+        this.loader = loader;
+        this.owner = owner;
+        this.ownerId = ownerId;
+        this.field = field;
+    }
+
+    /**
+     * @param value the value of a relationship field, may be null
+     * @return true if the value is a proxy whose related entities have not been loaded yet
+     */
+    public static boolean isUninitialised(Object value) {
+        return value instanceof LazyCollection && !((LazyCollection<?>) value).isInitialised();
+    }
+
+    /**
+     * @return true if the related entities have been loaded
+     */
+    public boolean isInitialised() {
+        return delegate != null;
+    }
+
+    Object getOwner() {
+        return owner;
+    }
+
+    Long getOwnerId() {
+        return ownerId;
+    }
+
+    FieldInfo getField() {
+        return field;
+    }
+
+    boolean isDetached() {
+        return detached;
+    }
+
+    void detach() {
+        this.detached = true;
+    }
+
+    /**
+     * Sets the loaded related entities and returns the collection that has to be written to the field of the owner.
+     *
+     * @param values the related entities as written by the mapper, may be null
+     * @return the collection backing this proxy
+     */
+    Collection<E> initialise(Collection<E> values) {
+        this.delegate = wrap(values);
+        return this.delegate;
+    }
+
+    /**
+     * @param values the loaded related entities, may be null
+     * @return a collection of the type this proxy represents containing the values
+     */
+    abstract Collection<E> wrap(Collection<E> values);
+
+    Collection<E> delegate() {
+        if (delegate == null) {
+            loader.initialise(this);
+        }
+        return delegate;
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate().contains(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return delegate().toArray(a);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return delegate().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return delegate().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return delegate().addAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return delegate().removeAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return delegate().removeIf(filter);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return delegate().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || delegate().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (!isInitialised()) {
+            return getClass().getSimpleName() + "{" + field.getName() + " of " + ownerId + ", not initialised}";
+        }
+        return delegate.toString();
+    }
+}
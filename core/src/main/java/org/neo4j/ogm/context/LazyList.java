@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * A lazily loaded relationship field declared as {@link List}, {@link Collection} or {@link Iterable}.
+ *
+ * @param <E> the type of the related entities
+ * @since 3.2.2
+ */
+public class LazyList<E> extends LazyCollection<E> implements List<E> {
+
+    LazyList(LazyRelationshipLoader loader, Object owner, Long ownerId, FieldInfo field) {
+        super(loader, owner, ownerId, field);
+    }
+
+    @Override
+    Collection<E> wrap(Collection<E> values) {
+        if (values instanceof List) {
+            return values;
+        }
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    @Override
+    List<E> delegate() {
+        return (List<E>) super.delegate();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        return delegate().addAll(index, c);
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate().get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return delegate().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return delegate().remove(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return delegate().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return delegate().lastIndexOf(o);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return delegate().listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return delegate().listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return delegate().subList(fromIndex, toIndex);
+    }
+}
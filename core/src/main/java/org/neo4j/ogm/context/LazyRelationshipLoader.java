@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the proxies for {@link org.neo4j.ogm.annotation.Lazy} relationship fields of the entities mapped into a
+ * {@link MappingContext} and loads them on first access.
+ * <p>
+ * Proxies are kept pending per field. Initialising one proxy loads the related entities of all owners pending for the
+ * same field with a single query, so that iterating the lazy field of many entities does not result in one query per
+ * entity. Proxies become unusable when their owner is no longer part of the mapping context, for example after the
+ * session has been cleared.
+ *
+ * @since 3.2.2
+ */
+public class LazyRelationshipLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyRelationshipLoader.class);
+
+    private final MappingContext mappingContext;
+    private final BiConsumer<FieldInfo, Set<Long>> relationshipLoader;
+
+    private final Map<FieldInfo, Map<Long, LazyCollection<?>>> pending = new HashMap<>();
+
+    /**
+     * @param mappingContext     the mapping context holding the owners of the proxies
+     * @param relationshipLoader loads the relationships of a field for the given native ids of owners and maps them
+     *                           into the mapping context
+     */
+    public LazyRelationshipLoader(MappingContext mappingContext, BiConsumer<FieldInfo, Set<Long>> relationshipLoader) {
+        this.mappingContext = mappingContext;
+        this.relationshipLoader = relationshipLoader;
+    }
+
+    /**
+     * Creates an uninitialised proxy for a lazy field and registers it as pending.
+     *
+     * @param owner   the entity declaring the field
+     * @param ownerId the native id of the owner
+     * @param field   the lazy relationship field
+     * @return the proxy to be written to the field
+     */
+    synchronized LazyCollection<?> proxyFor(Object owner, Long ownerId, FieldInfo field) {
+        LazyCollection<?> proxy = Set.class.isAssignableFrom(field.type()) ?
+            new LazySet<>(this, owner, ownerId, field) :
+            new LazyList<>(this, owner, ownerId, field);
+        pending.computeIfAbsent(field, key -> new LinkedHashMap<>()).put(ownerId, proxy);
+        return proxy;
+    }
+
+    /**
+     * @return the number of proxies that have not been initialised yet
+     */
+    public synchronized int pendingCount() {
+        return pending.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Detaches all pending proxies. Accessing them afterwards fails.
+     */
+    public synchronized void clear() {
+        pending.values().forEach(proxies -> proxies.values().forEach(LazyCollection::detach));
+        pending.clear();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    synchronized void initialise(LazyCollection<?> proxy) {
+
+        if (proxy.isInitialised()) {
+            return;
+        }
+        if (proxy.isDetached() || !isAttached(proxy)) {
+            proxy.detach();
+            Map<Long, LazyCollection<?>> proxies = pending.get(proxy.getField());
+            if (proxies != null) {
+                proxies.remove(proxy.getOwnerId(), proxy);
+            }
+            throw new MappingException("Cannot load the lazy relationship " + proxy.getField().getName() + " of "
+                + proxy.getOwner().getClass().getName() + " with id " + proxy.getOwnerId()
+                + ", the entity is no longer part of the session it has been loaded by");
+        }
+
+        FieldInfo field = proxy.getField();
+        Map<Long, LazyCollection<?>> proxies = pending.remove(field);
+        if (proxies == null) {
+            proxies = Collections.singletonMap(proxy.getOwnerId(), proxy);
+        }
+        List<LazyCollection<?>> batch = new ArrayList<>();
+        for (LazyCollection<?> candidate : proxies.values()) {
+            if (isAttached(candidate)) {
+                batch.add(candidate);
+            } else {
+                candidate.detach();
+            }
+        }
+
+        Map<Long, LazyCollection<?>> ids = new LinkedHashMap<>();
+        batch.forEach(candidate -> ids.put(candidate.getOwnerId(), candidate));
+        LOGGER.debug("Loading lazy relationship {} for {} entities", field.getName(), ids.size());
+
+        // The mapper leaves fields holding uninitialised proxies alone, so they are cleared before mapping
+        batch.forEach(candidate -> field.writeDirect(candidate.getOwner(), null));
+        try {
+            relationshipLoader.accept(field, ids.keySet());
+        } catch (RuntimeException e) {
+            batch.forEach(candidate -> field.writeDirect(candidate.getOwner(), candidate));
+            pending.computeIfAbsent(field, key -> new LinkedHashMap<>()).putAll(ids);
+            throw e;
+        }
+
+        for (LazyCollection candidate : batch) {
+            Object owner = candidate.getOwner();
+            field.writeDirect(owner, candidate.initialise((Collection) field.read(owner)));
+        }
+    }
+
+    private boolean isAttached(LazyCollection<?> proxy) {
+        return mappingContext.getNodeEntity(proxy.getOwnerId()) == proxy.getOwner();
+    }
+}
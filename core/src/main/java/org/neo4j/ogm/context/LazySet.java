@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * A lazily loaded relationship field declared as {@link Set}.
+ *
+ * @param <E> the type of the related entities
+ * @since 3.2.2
+ */
+public class LazySet<E> extends LazyCollection<E> implements Set<E> {
+
+    LazySet(LazyRelationshipLoader loader, Object owner, Long ownerId, FieldInfo field) {
+        super(loader, owner, ownerId, field);
+    }
+
+    @Override
+    Collection<E> wrap(Collection<E> values) {
+        if (values instanceof Set) {
+            return values;
+        }
+        return values == null ? new HashSet<>() : new HashSet<>(values);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A hash map from primitive {@code long} keys to object values, used for the registers of the mapping context that are
+ * keyed by native ids. It uses open addressing with linear probing in two parallel arrays, so that an entry costs
+ * neither a boxed key nor an entry object. {@literal null} values are not supported, an empty slot is marked by a
+ * {@literal null} value.
+ *
+ * @param <V> type of the values
+ */
+final class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongObjectHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return values[indexOf(key)] != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * @return the previous value or {@literal null} if there was none
+     */
+    V put(long key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * @return the current value or {@literal null} if there was none and the given value has been added
+     */
+    V putIfAbsent(long key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * @return the removed value or {@literal null} if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous != null) {
+            values[index] = null;
+            size--;
+            shiftEntriesAfter(index);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes all entries whose value matches the given predicate.
+     */
+    void removeIf(Predicate<? super V> predicate) {
+        long[] keysToRemove = new long[size];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            @SuppressWarnings("unchecked")
+            V value = (V) values[i];
+            if (value != null && predicate.test(value)) {
+                keysToRemove[count++] = keys[i];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            remove(keysToRemove[i]);
+        }
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * @return a copy of all values
+     */
+    @SuppressWarnings("unchecked")
+    Collection<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(ObjLongConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept((V) values[i], keys[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(long key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous == null) {
+            keys[index] = key;
+            values[index] = value;
+            if (++size > resizeThreshold) {
+                rehash(values.length * 2);
+            }
+        } else if (!onlyIfAbsent) {
+            values[index] = value;
+        }
+        return previous;
+    }
+
+    /**
+     * @return the slot holding the key or the empty slot where it would be inserted
+     */
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Moves entries following a removed slot back, so that no entry is separated from its ideal slot by an empty one.
+     */
+    private void shiftEntriesAfter(int emptied) {
+        int gap = emptied;
+        int index = (gap + 1) & mask;
+        while (values[index] != null) {
+            int ideal = hash(keys[index]) & mask;
+            // Move the entry if the gap lies cyclically between its ideal slot and its current slot
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                values[index] = null;
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        // Native ids are mostly consecutive, spread them over the table (Fibonacci hashing)
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
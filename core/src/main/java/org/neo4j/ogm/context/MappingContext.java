@@ -22,6 +22,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.MappingContextPolicy;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.id.InternalIdStrategy;
@@ -42,18 +44,22 @@ import org.neo4j.ogm.utils.EntityUtils;
  */
 public class MappingContext {
 
+    // Evicted node ids are collected and their mapped relationships purged in one pass once there are this many
+    private static final int RELATIONSHIP_PURGE_THRESHOLD = 1024;
+
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final EntityRegister nodeEntityRegister;
 
-    // map primary index value -> entity
-    private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
+    // map primary index value -> native id of the node entity
+    private final Map<LabelPrimaryId, Long> primaryIndexNodeRegister;
 
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final EntityRegister relationshipEntityRegister;
 
-    private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
+    // map primary index value -> native id of the relationship entity
+    private final Map<LabelPrimaryId, Long> primaryIdToRelationship;
 
     private final Set<MappedRelationship> relationshipRegister;
 
@@ -61,15 +67,57 @@ public class MappingContext {
 
     private final MetaData metaData;
 
+    // ids of evicted node entities whose mapped relationships have not been purged yet
+    private final Set<Long> evictedNodeIds;
+    private boolean purgingRelationships;
+
+    // creates and loads the proxies of lazy relationship fields, null if lazy fields are loaded eagerly
+    private LazyRelationshipLoader lazyRelationshipLoader;
+
+    // minimum number of new nodes in a result to instantiate their entities in parallel, 0 if never
+    private final int parallelHydrationThreshold;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private long dirtyCheckCount;
+
+    private long dirtyCheckHitCount;
+
     public MappingContext(MetaData metaData) {
+        this(metaData, null);
+    }
+
+    /**
+     * @param metaData      the mapping metadata
+     * @param configuration configures whether changes are tracked per property, which
+     *                      {@link MappingContextPolicy} is used and when entities are hydrated in parallel, may be null
+     */
+    public MappingContext(MetaData metaData, Configuration configuration) {
+        MappingContextPolicy policy = MappingContextPolicy.UNBOUNDED;
+        int maxEntities = 0;
+        boolean trackPropertyChanges = false;
+        int hydrationThreshold = 0;
+        if (configuration != null) {
+            policy = configuration.getMappingContextPolicy();
+            maxEntities = configuration.getMappingContextMaxEntities();
+            trackPropertyChanges = configuration.getTrackPropertyChanges();
+            hydrationThreshold = configuration.getParallelHydrationThreshold();
+        }
+
         this.metaData = metaData;
-        this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
+        this.identityMap = new IdentityMap(metaData, trackPropertyChanges);
+        this.nodeEntityRegister = EntityRegister.create(policy, maxEntities, this::nodeEntityEvicted);
         this.primaryIndexNodeRegister = new HashMap<>();
         this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
+        this.relationshipEntityRegister = EntityRegister.create(policy, maxEntities, this::relationshipEntityEvicted);
         this.primaryIdToRelationship = new HashMap<>();
         this.relationshipRegister = new HashSet<>();
+        this.evictedNodeIds = new HashSet<>();
+        this.parallelHydrationThreshold = hydrationThreshold;
     }
 
     /**
@@ -81,7 +129,22 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return countLookup(nodeEntity(graphId));
+    }
+
+    // Looks up a node entity without counting the lookup as hit or miss, for lookups made by the context itself
+    private Object nodeEntity(Long graphId) {
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
+    }
+
+    /**
+     * Checks whether an entity is registered for a node without counting the lookup as hit or miss.
+     *
+     * @param graphId The graph id to look for.
+     * @return true if an entity is registered for the node
+     */
+    boolean containsNodeEntity(long graphId) {
+        return nodeEntityRegister.containsKey(graphId);
     }
 
     /**
@@ -100,9 +163,9 @@ public class MappingContext {
         }
 
         // direct match
-        Object node = primaryIndexNodeRegister.get(new LabelPrimaryId(classInfo, id));
+        Object node = nodeEntity(primaryIndexNodeRegister.get(new LabelPrimaryId(classInfo, id)));
         if (node != null) {
-            return node;
+            return countLookup(node);
         }
 
         // the retrieved node is an implementation/extension of the abstract type / interface queried for.
@@ -111,16 +174,16 @@ public class MappingContext {
 
             ClassInfo subClassInfo = queue.poll();
 
-            node = primaryIndexNodeRegister.get(new LabelPrimaryId(subClassInfo, id));
+            node = nodeEntity(primaryIndexNodeRegister.get(new LabelPrimaryId(subClassInfo, id)));
             if (node != null) {
-                return node;
+                return countLookup(node);
             }
 
             List<ClassInfo> deepSubClassInfos = subClassInfo.directSubclasses();
             queue.addAll(deepSubClassInfos);
         }
 
-        return null;
+        return countLookup(null);
     }
 
     /**
@@ -144,12 +207,11 @@ public class MappingContext {
 
         ClassInfo classInfo = metaData.classInfo(entity);
 
-        if (!nodeEntityRegister.containsKey(id)) {
-            nodeEntityRegister.put(id, entity);
-            final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(entity);
-            if (primaryIndexValue != null) {
-                LabelPrimaryId key = new LabelPrimaryId(classInfo, primaryIndexValue);
-                primaryIndexNodeRegister.putIfAbsent(key, entity);
+        final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(entity);
+        LabelPrimaryId key = primaryIndexValue == null ? null : new LabelPrimaryId(classInfo, primaryIndexValue);
+        if (nodeEntityRegister.putIfAbsent(id, entity, key) == null) {
+            if (key != null) {
+                primaryIndexNodeRegister.putIfAbsent(key, id);
                 primaryIdToNativeId.put(key, id);
             }
             remember(entity, id);
@@ -239,6 +301,17 @@ public class MappingContext {
         return identityMap.getSnapshotOf(entity, nativeId(entity));
     }
 
+    /**
+     * Gets the property fields of the entity that have changed since it was loaded or saved.
+     *
+     * @param entity The entity to check
+     * @return The changed property fields or an empty optional if changes are not tracked per property or the entity
+     * is not known to this context.
+     */
+    Optional<Set<FieldInfo>> getChangedPropertyFields(Object entity) {
+        return identityMap.getChangedPropertyFields(entity, nativeId(entity));
+    }
+
     /**
      * Check if the entity has been modified by comparing its current state to the state it had when registered.
      * TBD : describe how the hash is computed. Not sure if it is a real deep hash.
@@ -248,7 +321,12 @@ public class MappingContext {
      */
     public boolean isDirty(Object entity) {
         Long graphId = nativeId(entity);
-        return !identityMap.remembered(entity, graphId);
+        dirtyCheckCount++;
+        if (identityMap.remembered(entity, graphId)) {
+            dirtyCheckHitCount++;
+            return false;
+        }
+        return true;
     }
 
     public boolean containsRelationship(MappedRelationship relationship) {
@@ -256,6 +334,7 @@ public class MappingContext {
     }
 
     public Set<MappedRelationship> getRelationships() {
+        purgeRelationshipsOfEvictedNodes();
         return relationshipRegister;
     }
 
@@ -274,14 +353,92 @@ public class MappingContext {
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
+        evictedNodeIds.clear();
+        if (lazyRelationshipLoader != null) {
+            lazyRelationshipLoader.clear();
+        }
+    }
+
+    /**
+     * @return the loader for {@link org.neo4j.ogm.annotation.Lazy} relationship fields, may be null
+     */
+    public LazyRelationshipLoader getLazyRelationshipLoader() {
+        return lazyRelationshipLoader;
+    }
+
+    /**
+     * Sets the loader used to populate {@link org.neo4j.ogm.annotation.Lazy} relationship fields of entities mapped
+     * into this context. Without a loader, lazy fields are populated like any other relationship field.
+     *
+     * @param lazyRelationshipLoader the loader, may be null
+     */
+    public void setLazyRelationshipLoader(LazyRelationshipLoader lazyRelationshipLoader) {
+        this.lazyRelationshipLoader = lazyRelationshipLoader;
+    }
+
+    /**
+     * @return the minimum number of new nodes in a result from which their entities are hydrated in parallel, 0 if
+     * entities are always hydrated sequentially
+     */
+    public int getParallelHydrationThreshold() {
+        return parallelHydrationThreshold;
+    }
+
+    /**
+     * @return the number of lookups of entities by native or primary id that found an entity, not counting the
+     * lookups made by this context itself
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups of entities by native or primary id that found no entity, not counting the
+     * lookups made by this context itself
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entities evicted according to the {@link MappingContextPolicy}, including all entities
+     * garbage collected so far
+     */
+    public long getEvictionCount() {
+        sweepCollectedEntities();
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of checks whether an entity has been modified
+     */
+    public long getDirtyCheckCount() {
+        return dirtyCheckCount;
+    }
+
+    /**
+     * @return the number of checks whether an entity has been modified that found the entity unchanged
+     */
+    public long getDirtyCheckHitCount() {
+        return dirtyCheckHitCount;
+    }
+
+    /**
+     * @return the number of node and relationship entities registered with this context
+     */
+    public int getEntityCount() {
+        sweepCollectedEntities();
+        return nodeEntityRegister.size() + relationshipEntityRegister.size();
     }
 
     public Map<Long, Object> getSnapshotOfRelationshipEntityRegister() {
-        return new HashMap<>(this.relationshipEntityRegister);
+        Map<Long, Object> snapshot = new HashMap<>(relationshipEntityRegister.size() * 4 / 3 + 1);
+        relationshipEntityRegister.forEach((relationshipEntity, id) -> snapshot.put(id, relationshipEntity));
+        return snapshot;
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return countLookup(relationshipId == null ? null : relationshipEntityRegister.get(relationshipId));
     }
 
     /**
@@ -293,20 +450,21 @@ public class MappingContext {
      * @return relationship entity
      */
     public Object getRelationshipEntityById(ClassInfo classInfo, Object id) {
-        return primaryIdToRelationship.get(new LabelPrimaryId(classInfo, id));
+        return getRelationshipEntity(primaryIdToRelationship.get(new LabelPrimaryId(classInfo, id)));
     }
 
     public Object addRelationshipEntity(Object relationshipEntity, Long id) {
 
-        if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity) == null) {
-            relationshipEntity = relationshipEntityRegister.get(id);
+        ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+        LabelPrimaryId key = classInfo.hasPrimaryIndexField() ?
+            new LabelPrimaryId(classInfo, classInfo.readPrimaryIndexValueOf(relationshipEntity)) :
+            null;
+        if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity, key) == null) {
             remember(relationshipEntity, id);
 
-            ClassInfo classInfo = metaData.classInfo(relationshipEntity);
-            if (classInfo.hasPrimaryIndexField()) {
-                final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(relationshipEntity);
-                primaryIdToRelationship.put(new LabelPrimaryId(classInfo, primaryIndexValue), relationshipEntity);
-                primaryIdToNativeId.put(new LabelPrimaryId(classInfo, primaryIndexValue), id);
+            if (key != null) {
+                primaryIdToRelationship.put(key, id);
+                primaryIdToNativeId.put(key, id);
             }
         }
         return relationshipEntity;
@@ -343,7 +501,7 @@ public class MappingContext {
      * purges all information about a node entity with this id
      */
     public boolean detachNodeEntity(Long id) {
-        Object objectToDetach = getNodeEntity(id);
+        Object objectToDetach = nodeEntity(id);
         if (objectToDetach != null) {
             removeEntity(objectToDetach);
             return true;
@@ -355,7 +513,7 @@ public class MappingContext {
      * purges all information about a relationship entity with this id
      */
     public boolean detachRelationshipEntity(Long id) {
-        Object objectToDetach = relationshipEntityRegister.get(id);
+        Object objectToDetach = id == null ? null : relationshipEntityRegister.get(id);
         if (objectToDetach != null) {
             removeEntity(objectToDetach);
             return true;
@@ -402,14 +560,14 @@ public class MappingContext {
         Set<Object> neighbours = new HashSet<>();
         Class<?> type = entity.getClass();
         if (!metaData.isRelationshipEntity(type.getName())) {
-            if (getNodeEntity(id) != null) {
+            if (nodeEntity(id) != null) {
                 // todo: this will be very slow for many objects
                 // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
                 for (MappedRelationship mappedRelationship : relationshipRegister) {
                     if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
                         Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                            getNodeEntity(mappedRelationship.getStartNodeId()) :
-                            getNodeEntity(mappedRelationship.getEndNodeId());
+                            nodeEntity(mappedRelationship.getStartNodeId()) :
+                            nodeEntity(mappedRelationship.getEndNodeId());
                         if (affectedObject != null) {
                             neighbours.add(affectedObject);
                         }
@@ -433,18 +591,13 @@ public class MappingContext {
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
-            Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+        relationshipEntityRegister.removeIf(relationshipEntity -> {
             final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
-            if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
-                .read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
-            }
-        }
+            return startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
+                .read(relationshipEntity);
+        });
     }
 
     private void purge(Object entity, Class type) {
@@ -457,7 +610,7 @@ public class MappingContext {
         boolean isNotARelationshipEntity = !metaData.isRelationshipEntity(type.getName());
 
         if (isNotARelationshipEntity) {
-            boolean isInMappingContext = getNodeEntity(id) != null;
+            boolean isInMappingContext = nodeEntity(id) != null;
             if (isInMappingContext) {
                 // remove the object from the node register
                 removeNodeEntity(entity, false);
@@ -508,6 +661,83 @@ public class MappingContext {
         identityMap.remember(entity, id);
     }
 
+    /**
+     * Keeps all entities registered or looked up from now on in this context until {@link #stopPinning()} is called,
+     * regardless of the {@link MappingContextPolicy}. Used to prevent entities of a graph from being evicted while the
+     * graph is mapped.
+     */
+    void startPinning() {
+        nodeEntityRegister.startPinning();
+        relationshipEntityRegister.startPinning();
+    }
+
+    void stopPinning() {
+        nodeEntityRegister.stopPinning();
+        relationshipEntityRegister.stopPinning();
+    }
+
+    private void sweepCollectedEntities() {
+        nodeEntityRegister.sweepCollectedEntities();
+        relationshipEntityRegister.sweepCollectedEntities();
+    }
+
+    private Object countLookup(Object entity) {
+        if (entity == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return entity;
+    }
+
+    private void nodeEntityEvicted(long id, LabelPrimaryId primaryId) {
+        evictionCount++;
+        identityMap.forget(id, false);
+        if (primaryId != null) {
+            primaryIndexNodeRegister.remove(primaryId, id);
+            primaryIdToNativeId.remove(primaryId, id);
+        }
+        evictedNodeIds.add(id);
+        if (evictedNodeIds.size() >= RELATIONSHIP_PURGE_THRESHOLD) {
+            purgeRelationshipsOfEvictedNodes();
+        }
+    }
+
+    private void relationshipEntityEvicted(long id, LabelPrimaryId primaryId) {
+        evictionCount++;
+        identityMap.forget(id, true);
+        if (primaryId != null) {
+            primaryIdToRelationship.remove(primaryId, id);
+            primaryIdToNativeId.remove(primaryId, id);
+        }
+    }
+
+    /**
+     * Removes the mapped relationships between evicted node entities. Relationships with one end still in the context
+     * are kept, as they are needed to detect that the remaining entity no longer references the evicted one.
+     */
+    private void purgeRelationshipsOfEvictedNodes() {
+        // Evicting collected entities below reaches the purge threshold again
+        if (purgingRelationships) {
+            return;
+        }
+        purgingRelationships = true;
+        try {
+            nodeEntityRegister.evictCollectedEntities();
+            if (evictedNodeIds.isEmpty()) {
+                return;
+            }
+            relationshipRegister.removeIf(relationship ->
+                (evictedNodeIds.contains(relationship.getStartNodeId())
+                    || evictedNodeIds.contains(relationship.getEndNodeId()))
+                    && !nodeEntityRegister.isRegistered(relationship.getStartNodeId())
+                    && !nodeEntityRegister.isRegistered(relationship.getEndNodeId()));
+            evictedNodeIds.clear();
+        } finally {
+            purgingRelationships = false;
+        }
+    }
+
     public Long nativeId(Object entity) {
         ClassInfo classInfo = metaData.classInfo(entity);
 
@@ -535,7 +765,13 @@ public class MappingContext {
         }
     }
 
-    private static void generateIdIfNecessary(Object entity, ClassInfo classInfo) {
+    /**
+     * Generates the primary id of the entity with the id strategy of its class, unless the entity already has one.
+     *
+     * @param entity    the entity
+     * @param classInfo the class info of the entity
+     */
+    public static void generateIdIfNecessary(Object entity, ClassInfo classInfo) {
         if (classInfo.idStrategyClass() == null || InternalIdStrategy.class.equals(classInfo.idStrategyClass())) {
             return;
         }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A spliterator that pulls models from a {@link Response} only when the next element is requested and maps them through
+ * a function into zero or more elements of the resulting stream. Used to provide streaming variants of the
+ * {@link ResponseMapper response mappers}.
+ *
+ * @param <M> The response model
+ * @param <T> The type of the elements of the resulting stream
+ */
+final class ResponseSpliterator<M, T> extends Spliterators.AbstractSpliterator<T> {
+
+    /**
+     * Creates a sequential stream over the mapped content of the {@code response}. The response is closed when the
+     * stream is closed.
+     *
+     * @param response    The response to read from
+     * @param modelMapper Mapping function applied to every model read from the response
+     * @param <M>         The response model
+     * @param <T>         The type of the elements of the resulting stream
+     * @return A lazy stream of mapped elements
+     */
+    static <M, T> Stream<T> stream(Response<M> response, Function<M, ? extends Iterable<T>> modelMapper) {
+        return StreamSupport.stream(new ResponseSpliterator<>(response, modelMapper), false)
+            .onClose(response::close);
+    }
+
+    private final Response<M> response;
+    private final Function<M, ? extends Iterable<T>> modelMapper;
+
+    private Iterator<T> currentElements = Collections.emptyIterator();
+
+    private ResponseSpliterator(Response<M> response, Function<M, ? extends Iterable<T>> modelMapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.response = response;
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        while (!currentElements.hasNext()) {
+            M model = response.next();
+            if (model == null) {
+                return false;
+            }
+            currentElements = modelMapper.apply(model).iterator();
+        }
+
+        action.accept(currentElements.next());
+        return true;
+    }
+}
@@ -22,6 +22,7 @@ import static java.util.stream.Collectors.*;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -90,6 +91,26 @@ public class RestModelMapper {
         return restStatisticsModel;
     }
 
+    /**
+     * Maps a single row of a response and recreates its original structure. Use this instead of
+     * {@link #map(Response)} when the rows of a response are read one at a time.
+     *
+     * @param model The row to map
+     * @return The row with all nodes and relationships replaced by their entities, where possible
+     */
+    public Map<String, Object> mapRow(RestModel model) {
+
+        ResultRowBuilder resultRowBuilder = new ResultRowBuilder(
+            this::getEntityOrNodeModel,
+            mappingContext::getRelationshipEntity
+        );
+        model.getRow().forEach(resultRowBuilder::handle);
+
+        delegate.map(Object.class, Collections.singletonList(resultRowBuilder.buildGraphModel()));
+
+        return resultRowBuilder.finish();
+    }
+
     /**
      * Retrieves a mapped entity from this sessions mapping context after a call to {@link GraphEntityMapper#map(Class, List)}.
      * If there's no mapped entity, this method tries to find the {@link NodeModel} with the same id in the {@link GraphModel} which
@@ -77,4 +77,14 @@ public interface CompileContext {
     Object getVisitedObject(Long reference);
 
     Collection<Object> getTransientRelationships(SrcTargetKey key);
+
+    /**
+     * @return the native ids of all visited node entities that existed before, whether they have changed or not
+     */
+    Collection<Long> visitedNodeIds();
+
+    /**
+     * @return the native ids of all visited relationship entities that existed before
+     */
+    Collection<Long> visitedRelationshipEntityIds();
 }
@@ -19,6 +19,7 @@
 package org.neo4j.ogm.cypher.compiler;
 
 import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
 
 import java.util.*;
 import java.util.function.Function;
@@ -248,6 +249,21 @@ public class CypherContext implements CompileContext {
         compiler.unmap(nodeBuilder);
     }
 
+    @Override
+    public Collection<Long> visitedNodeIds() {
+        return visitedObjects.keySet().stream()
+            .filter(Long.class::isInstance)
+            .map(Long.class::cast)
+            .collect(toList());
+    }
+
+    @Override
+    public Collection<Long> visitedRelationshipEntityIds() {
+        return visitedRelationshipEntities.stream()
+            .filter(id -> id >= 0)
+            .collect(toList());
+    }
+
     @Override
     public Collection<Mappable> getDeletedRelationships() {
         return deletedRelationships;
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementFactory;
+
+/**
+ * Builds the statement creating a batch of new nodes sharing the same labels in one go, see
+ * {@link org.neo4j.ogm.session.Session#bulkInsert(Iterable, int, boolean)}. Each row holds the properties of a node
+ * under {@code props} and, if the ids of the created nodes are returned, a reference under {@code ref}. Nodes with a
+ * primary index are merged on it, like {@link NewNodeStatementBuilder} does.
+ *
+ * @since 3.2.2
+ */
+public class BulkInsertStatementBuilder implements CypherStatementBuilder {
+
+    private final StatementFactory statementFactory;
+
+    private final Collection<String> labels;
+    private final String primaryIndex;
+    private final List<Map<String, Object>> rows;
+    private final boolean returnIds;
+
+    public BulkInsertStatementBuilder(Collection<String> labels, String primaryIndex, List<Map<String, Object>> rows,
+        boolean returnIds, StatementFactory statementFactory) {
+        this.labels = labels;
+        this.primaryIndex = primaryIndex;
+        this.rows = rows;
+        this.returnIds = returnIds;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final StringBuilder queryBuilder = new StringBuilder("UNWIND {rows} as row ");
+
+        queryBuilder.append(primaryIndex != null ? "MERGE (n" : "CREATE (n");
+        for (String label : labels) {
+            queryBuilder.append(":`").append(label).append("`");
+        }
+        if (primaryIndex != null) {
+            queryBuilder.append("{`").append(primaryIndex).append("`: row.props.`").append(primaryIndex).append("`}");
+        }
+        queryBuilder.append(") SET n=row.props");
+
+        if (returnIds) {
+            queryBuilder.append(" RETURN row.ref as ref, ID(n) as id");
+        }
+
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+        return statementFactory.statement(queryBuilder.toString(), parameters);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import static java.util.Objects.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes which relationship fields to follow when loading entities, as an alternative to a depth that applies to
+ * all relationships alike. A plan consists of paths of field names separated by dots, for example
+ * {@code FetchPlan.of("lines.product")} loads the lines of an order and the product of each line, but neither the
+ * customer of the order nor any other relationship of the lines. The depth of a plan is the length of its longest
+ * path.
+ * <p>
+ * Fields of relationship entities are not part of a path: A path naming a field that holds relationship entities
+ * continues with the fields of the node entity on the other end. Fields annotated with
+ * {@link org.neo4j.ogm.annotation.Lazy} cannot be part of a plan.
+ *
+ * @since 3.2.2
+ */
+public class FetchPlan {
+
+    private final String name;
+
+    private final Map<String, FetchPlan> fields;
+
+    private FetchPlan(String name, Map<String, FetchPlan> fields) {
+        this.name = name;
+        this.fields = fields;
+    }
+
+    /**
+     * @param paths paths of relationship field names separated by dots
+     * @return a plan following the given paths
+     */
+    public static FetchPlan of(String... paths) {
+        Map<String, FetchPlan> fields = new LinkedHashMap<>();
+        for (String path : requireNonNull(paths)) {
+            add(fields, path, requireNonNull(path, "Paths of a fetch plan must not be null").split("\\.", -1), 0);
+        }
+        return new FetchPlan(null, fields);
+    }
+
+    /**
+     * @param name the name of a plan declared with {@link org.neo4j.ogm.annotation.NamedFetchPlan} on the loaded class
+     * @return a reference to the plan, resolved when loading
+     */
+    public static FetchPlan named(String name) {
+        return new FetchPlan(requireNonNull(name), Collections.emptyMap());
+    }
+
+    private static void add(Map<String, FetchPlan> fields, String path, String[] segments, int index) {
+        String field = segments[index].trim();
+        if (field.isEmpty()) {
+            throw new IllegalArgumentException("Invalid path of a fetch plan: '" + path + "'");
+        }
+        FetchPlan next = fields.computeIfAbsent(field, key -> new FetchPlan(null, new LinkedHashMap<>()));
+        if (index + 1 < segments.length) {
+            add(next.fields, path, segments, index + 1);
+        }
+    }
+
+    /**
+     * @return true if this is a reference to a plan declared on the loaded class
+     */
+    public boolean isNamed() {
+        return name != null;
+    }
+
+    /**
+     * @return the name of the referenced plan, null if the plan is not a reference
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param field name of a relationship field
+     * @return true if the plan follows the given field
+     */
+    public boolean includes(String field) {
+        return fields.containsKey(field);
+    }
+
+    /**
+     * @param field name of a relationship field
+     * @return the plan for the entities reached through the given field, null if the field is not followed
+     */
+    public FetchPlan planFor(String field) {
+        return fields.get(field);
+    }
+
+    /**
+     * @return the names of the relationship fields followed from the loaded entities
+     */
+    public Set<String> getFields() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * @return the length of the longest path of this plan
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (FetchPlan next : fields.values()) {
+            depth = Math.max(depth, next.getDepth() + 1);
+        }
+        return depth;
+    }
+
+    /**
+     * @return the paths of this plan, without paths that are a prefix of another path
+     */
+    public Set<String> getPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        fields.forEach((field, next) -> {
+            if (next.fields.isEmpty()) {
+                paths.add(field);
+            } else {
+                next.getPaths().forEach(path -> paths.add(field + "." + path));
+            }
+        });
+        return paths;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FetchPlan)) {
+            return false;
+        }
+        FetchPlan that = (FetchPlan) o;
+        return Objects.equals(name, that.name) && fields.equals(that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, fields);
+    }
+
+    @Override
+    public String toString() {
+        return isNamed() ? "FetchPlan{name=" + name + "}" : "FetchPlan" + getPaths();
+    }
+}
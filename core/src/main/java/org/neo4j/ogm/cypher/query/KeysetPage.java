@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.util.List;
+
+/**
+ * A page of entities loaded with {@link KeysetPagination}.
+ *
+ * @param <T> the type of the entities
+ * @since 3.2.2
+ */
+public class KeysetPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public KeysetPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return the entities of this page, in the requested order
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return the cursor to pass to {@link KeysetPagination#after(String, int)} to load the next page, {@literal null}
+     * if this page wasn't full. As the next page isn't looked at in advance, the page following a full page may be
+     * empty.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * @param pageSize the maximum number of entities on the next page
+     * @return the pagination of the next page, {@literal null} if there is none
+     */
+    public KeysetPagination next(int pageSize) {
+        return hasNext() ? KeysetPagination.after(nextCursor, pageSize) : null;
+    }
+}
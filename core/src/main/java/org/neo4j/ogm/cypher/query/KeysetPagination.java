@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Keyset (or seek) pagination. Other than {@link Pagination}, which skips over all entities of the previous pages,
+ * a keyset page starts right after the last entity of the previous page: The values of the sort properties and the
+ * native id of that entity are encoded into an opaque cursor, from which a predicate like
+ * {@code n.name > $name OR (n.name = $name AND ID(n) > $id)} is derived. The cost of loading a page therefore doesn't
+ * grow with the number of the page.
+ * <p>
+ * The native id is always used as the last sort key, so that the order is total. A cursor is only valid with the
+ * sort order and filters it has been created with. Entities having a {@literal null} value for one of the sort
+ * properties can't be paged past and must be excluded by a filter.
+ *
+ * @since 3.2.2
+ */
+public class KeysetPagination {
+
+    private static final TypeReference<List<Object>> KEYS_TYPE = new TypeReference<List<Object>>() {
+    };
+
+    private final int size;
+    private final List<Object> keys;
+
+    private KeysetPagination(int size, List<Object> keys) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must greater then zero");
+        }
+        this.size = size;
+        this.keys = keys;
+    }
+
+    /**
+     * @param pageSize the maximum number of entities on the page
+     * @return the pagination of the first page
+     */
+    public static KeysetPagination first(int pageSize) {
+        return new KeysetPagination(pageSize, Collections.emptyList());
+    }
+
+    /**
+     * @param cursor   the cursor returned along with the previous page, see {@link KeysetPage#getNextCursor()}
+     * @param pageSize the maximum number of entities on the page
+     * @return the pagination of the page following the cursor
+     */
+    public static KeysetPagination after(String cursor, int pageSize) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("A cursor is required, use KeysetPagination.first for the first page");
+        }
+        List<Object> keys;
+        try {
+            keys = ObjectMapperFactory.objectMapper().readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+        if (keys == null || keys.isEmpty() || !(keys.get(keys.size() - 1) instanceof Number)) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor);
+        }
+        return new KeysetPagination(pageSize, Collections.unmodifiableList(keys));
+    }
+
+    /**
+     * Encodes the values of the sort properties and the native id of the last entity of a page into a cursor.
+     *
+     * @param sortKeys the values of the sort properties, in the order of the sort clauses
+     * @param nativeId the native id of the entity
+     * @return an opaque cursor
+     */
+    public static String cursorOf(List<?> sortKeys, Long nativeId) {
+        List<Object> keys = new ArrayList<>(sortKeys);
+        keys.add(nativeId);
+        try {
+            byte[] json = ObjectMapperFactory.objectMapper().writeValueAsString(keys).getBytes(UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not encode cursor from " + keys, e);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * @return the values of the sort properties of the last entity of the previous page followed by its native id,
+     * empty for the first page
+     */
+    public List<Object> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return the maximum number of entities to return
+     */
+    public int getLimit() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return " LIMIT " + size + (isFirstPage() ? "" : " AFTER " + keys);
+    }
+}
@@ -54,10 +54,23 @@ public class Pagination {
         this.offset = offset;
     }
 
+    /**
+     * @return the number of records to skip
+     * @since 3.2.2
+     */
+    public int getSkip() {
+        return offset != null ? offset : index * size;
+    }
+
+    /**
+     * @return the maximum number of records to return
+     * @since 3.2.2
+     */
+    public int getLimit() {
+        return size;
+    }
+
     public String toString() {
-        if (offset != null) {
-            return " SKIP " + offset + " LIMIT " + size;
-        }
-        return " SKIP " + (index * size) + " LIMIT " + size;
+        return " SKIP " + getSkip() + " LIMIT " + getLimit();
     }
 }
@@ -18,18 +18,29 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Extends {@link CypherQuery} with additional functionality for Paging and Sorting.
  * Only used by queries that return actual nodes and/or relationships from the graph. Other queries
  * just use {@link CypherQuery}
+ * <p>
+ * The offset and the limit of the pagination are passed as parameters, so that all pages of a query share the same
+ * statement and thus the same query plan on the server. The same applies to the keys of a {@link KeysetPagination}.
  *
  * @author Vince Bickers
  */
 public class PagingAndSortingQuery implements PagingAndSorting {
 
+    static final String SKIP_PARAMETER = "skip";
+    static final String LIMIT_PARAMETER = "limit";
+    static final String KEYSET_PARAMETER = "keyset_";
+
     private Pagination pagination;
+    private KeysetPagination keysetPagination;
     private SortOrder sortOrder = new SortOrder();
 
     private String matchClause;
@@ -66,11 +77,15 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         StringBuilder sb = new StringBuilder();
         sb.append(matchClause);
 
-        if (!sorting.isEmpty()) {
-            sb.append(sorting.replace("$", variable));
-        }
-        if (pagination != null) {
-            sb.append(pagination.toString());
+        if (keysetPagination != null) {
+            appendKeyset(sb);
+        } else {
+            if (!sorting.isEmpty()) {
+                sb.append(sorting.replace("$", variable));
+            }
+            if (pagination != null) {
+                sb.append(" SKIP { ").append(SKIP_PARAMETER).append(" } LIMIT { ").append(LIMIT_PARAMETER).append(" }");
+            }
         }
         sb.append(this.returnClause);
         if (needsRowResult()) {
@@ -79,8 +94,51 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         return sb.toString();
     }
 
+    /**
+     * Filters the matched entities down to the ones following the keys of the pagination in the sort order, orders them
+     * by the sort properties and the native id and limits them to the page size. The match clause ends with a
+     * {@code WITH}, so the predicate can be attached to it.
+     */
+    private void appendKeyset(StringBuilder sb) {
+        List<String> keys = new ArrayList<>();
+        List<Boolean> descending = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                keys.add(variable + "." + property);
+                descending.add(sortClause.getDirection() == SortOrder.Direction.DESC);
+            }
+        }
+        keys.add("ID(" + variable + ")");
+        descending.add(false);
+
+        if (!keysetPagination.isFirstPage()) {
+            // Tuple comparisons aren't available in Cypher, so the lexicographic order is spelled out
+            sb.append(" WHERE ");
+            for (int i = 0; i < keys.size(); i++) {
+                if (i > 0) {
+                    sb.append(" OR ");
+                }
+                sb.append("(");
+                for (int j = 0; j < i; j++) {
+                    sb.append(keys.get(j)).append(" = { ").append(KEYSET_PARAMETER).append(j).append(" } AND ");
+                }
+                sb.append(keys.get(i)).append(descending.get(i) ? " < { " : " > { ")
+                    .append(KEYSET_PARAMETER).append(i).append(" })");
+            }
+            sb.append(" WITH *");
+        }
+
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            sb.append(keys.get(i)).append(descending.get(i) ? " DESC," : ",");
+        }
+        sb.deleteCharAt(sb.length() - 1);
+        sb.append(" LIMIT { ").append(LIMIT_PARAMETER).append(" }");
+    }
+
     public boolean needsRowResult() {
-        return (sortOrder.hasSortClauses() || (pagination != null) || hasPredicate) && returnsPath;
+        return (sortOrder.hasSortClauses() || (pagination != null) || (keysetPagination != null) || hasPredicate)
+            && returnsPath;
     }
 
     @Override
@@ -89,6 +147,19 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         return this;
     }
 
+    /**
+     * Pages by the keys of the last entity of the previous page instead of an offset. Replaces any {@link Pagination}.
+     * The keys must match the sort order.
+     *
+     * @param keysetPagination the keyset pagination
+     * @return this query
+     * @since 3.2.2
+     */
+    public PagingAndSortingQuery setKeysetPagination(KeysetPagination keysetPagination) {
+        this.keysetPagination = keysetPagination;
+        return this;
+    }
+
     @Override
     public PagingAndSortingQuery setSortOrder(SortOrder sortOrder) {
         this.sortOrder = sortOrder;
@@ -104,6 +175,21 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public Map<String, Object> getParameters() {
-        return parameters;
+        if (keysetPagination != null) {
+            Map<String, Object> parametersWithKeyset = new HashMap<>(parameters);
+            List<Object> keys = keysetPagination.getKeys();
+            for (int i = 0; i < keys.size(); i++) {
+                parametersWithKeyset.put(KEYSET_PARAMETER + i, keys.get(i));
+            }
+            parametersWithKeyset.put(LIMIT_PARAMETER, keysetPagination.getLimit());
+            return parametersWithKeyset;
+        }
+        if (pagination == null) {
+            return parameters;
+        }
+        Map<String, Object> parametersWithPagination = new HashMap<>(parameters);
+        parametersWithPagination.put(SKIP_PARAMETER, pagination.getSkip());
+        parametersWithPagination.put(LIMIT_PARAMETER, pagination.getLimit());
+        return parametersWithPagination;
     }
 }
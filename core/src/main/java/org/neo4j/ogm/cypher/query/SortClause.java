@@ -35,6 +35,10 @@ public class SortClause {
         return properties;
     }
 
+    SortOrder.Direction getDirection() {
+        return direction;
+    }
+
     public SortClause fromResolvedProperties(String... resolvedProperties) {
         if (resolvedProperties.length != properties.length) {
             throw new IllegalArgumentException("Resolved properties count must match existing properties count.");
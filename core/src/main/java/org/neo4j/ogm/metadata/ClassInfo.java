@@ -30,6 +30,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.*;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.driver.TypeSystem;
 import org.neo4j.ogm.exception.core.InvalidPropertyFieldException;
 import org.neo4j.ogm.exception.core.MappingException;
@@ -85,6 +86,7 @@ public class ClassInfo {
     private volatile Map<String, FieldInfo> indexFields;
     private volatile Collection<FieldInfo> requiredFields;
     private volatile Collection<CompositeIndex> compositeIndexes;
+    private volatile Map<String, FetchPlan> fetchPlans;
     private volatile Optional<FieldInfo> identityField;
     private volatile Optional<FieldInfo> versionField;
     private volatile FieldInfo primaryIndexField = null;
@@ -893,6 +895,35 @@ public class ClassInfo {
         return result;
     }
 
+    /**
+     * @param name the name of a plan declared with {@link NamedFetchPlan} on this class or one of its superclasses
+     * @return the plan, null if there is no plan with the given name
+     */
+    public FetchPlan getFetchPlan(String name) {
+        if (fetchPlans == null) {
+            fetchPlans = initFetchPlans();
+        }
+        return fetchPlans.get(name);
+    }
+
+    private synchronized Map<String, FetchPlan> initFetchPlans() {
+        if (cls == null) {
+            try {
+                cls = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("Could not get annotation info for class " + className, e);
+            }
+        }
+        Map<String, FetchPlan> result = new HashMap<>();
+        for (NamedFetchPlan annotation : cls.getAnnotationsByType(NamedFetchPlan.class)) {
+            if (result.put(annotation.name(), FetchPlan.of(annotation.value())) != null) {
+                throw new MetadataException("Incorrect NamedFetchPlan definition on " + className + ". Plan " +
+                    annotation.name() + " is declared more than once.");
+            }
+        }
+        return result;
+    }
+
     public FieldInfo primaryIndexField() {
         if (!primaryIndexFieldChecked && primaryIndexField == null) {
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the domain classes from the indexes written by the {@code neo4j-ogm-domain-indexer} annotation processor.
+ * An index lists all classes of one module, the classes of the configured packages are taken from the indexes on
+ * the class path instead of scanning the class path.
+ * <p>
+ * The indexes are only used when each configured package or class is covered by at least one indexed class, and
+ * when every class path root containing the package has an index. A package spread over indexed and not indexed
+ * modules is scanned, so that no classes are lost. Setting the system property {@value #IGNORE_INDEX_PROPERTY} to
+ * {@code true} always scans the class path.
+ *
+ * @since 3.2.2
+ */
+final class DomainIndex {
+
+    static final String INDEX_LOCATION = "META-INF/neo4j-ogm/domain.index";
+
+    static final String IGNORE_INDEX_PROPERTY = "org.neo4j.ogm.ignoreDomainIndex";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainIndex.class);
+
+    /**
+     * @param classLoader       the class loader to find the indexes with
+     * @param packagesOrClasses the packages or classes to load the domain from
+     * @return the names of the indexed classes in the given packages, or an empty optional if the class path must be
+     * scanned
+     */
+    static Optional<List<String>> classesIn(ClassLoader classLoader, String... packagesOrClasses) {
+        if (packagesOrClasses.length == 0 || Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return Optional.empty();
+        }
+
+        Set<String> indexedRoots = new HashSet<>();
+        Set<String> indexedClasses = readIndexes(classLoader, indexedRoots);
+        if (indexedClasses.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> classes = new ArrayList<>();
+        for (String packageOrClass : packagesOrClasses) {
+            String packagePrefix = packageOrClass + ".";
+            boolean covered = false;
+            for (String indexedClass : indexedClasses) {
+                if (indexedClass.equals(packageOrClass) || indexedClass.startsWith(packagePrefix)) {
+                    classes.add(indexedClass);
+                    covered = true;
+                }
+            }
+            if (!covered) {
+                return Optional.empty();
+            }
+            Optional<String> rootWithoutIndex = findRootWithoutIndex(classLoader, packageOrClass, indexedRoots);
+            if (rootWithoutIndex.isPresent()) {
+                LOGGER.warn("{} is only partly indexed, {} contains classes of it but no domain index. "
+                    + "Scanning the class path instead.", packageOrClass, rootWithoutIndex.get());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    private static Optional<String> findRootWithoutIndex(ClassLoader classLoader, String packageOrClass,
+        Set<String> indexedRoots) {
+
+        String path = packageOrClass.replace('.', '/');
+        try {
+            List<URL> locations = Collections.list(classLoader.getResources(path));
+            if (locations.isEmpty()) {
+                path = path + ".class";
+                locations = Collections.list(classLoader.getResources(path));
+            }
+            for (URL location : locations) {
+                String root = rootOf(location, path);
+                if (!indexedRoots.contains(root)) {
+                    return Optional.of(root);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not find the locations of " + packageOrClass, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the class path root, that is, the directory or jar, the given resource has been found in
+     */
+    private static String rootOf(URL location, String resource) {
+        String url = location.toExternalForm();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(resource) ? url.substring(0, url.length() - resource.length()) : url;
+    }
+
+    private static Set<String> readIndexes(ClassLoader classLoader, Set<String> indexedRoots) {
+        Set<String> indexedClasses = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                indexedRoots.add(rootOf(index, INDEX_LOCATION));
+                try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            indexedClasses.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the domain index", e);
+        }
+        return indexedClasses;
+    }
+
+    private DomainIndex() {
+    }
+}
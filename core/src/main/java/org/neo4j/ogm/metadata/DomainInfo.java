@@ -69,11 +69,7 @@ public class DomainInfo {
 
     public static DomainInfo create(TypeSystem typeSystem, String... packages) {
 
-        ScanResult scanResult = findClasses(packages);
-
-        List<String> allClasses = scanResult.getAllClasses().stream()
-            .map(io.github.classgraph.ClassInfo::getName)
-            .collect(Collectors.toList());
+        List<String> allClasses = findClasses(packages);
 
         DomainInfo domainInfo = new DomainInfo(typeSystem);
 
@@ -92,18 +88,37 @@ public class DomainInfo {
             .forEach(clazz -> prepareClass(domainInfo, mappableClasses, typeSystem, clazz));
 
         domainInfo.finish();
-        scanResult.close();
 
         return domainInfo;
     }
 
-    private static ScanResult findClasses(String[] packagesOrClasses) {
+    /**
+     * Finds the names of the classes in the given packages. The classes are read from the domain indexes on the class
+     * path if they cover all packages, otherwise the class path is scanned.
+     *
+     * @param packagesOrClasses the packages or classes to load the domain from
+     * @return the names of all classes found
+     */
+    private static List<String> findClasses(String[] packagesOrClasses) {
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Optional<List<String>> indexedClasses = DomainIndex
+            .classesIn(classLoader == null ? DomainInfo.class.getClassLoader() : classLoader, packagesOrClasses);
+        if (indexedClasses.isPresent()) {
+            LOGGER.debug("Using the domain index for {}", Arrays.toString(packagesOrClasses));
+            return indexedClasses.get();
+        }
 
-        return new ClassGraph()
+        try (ScanResult scanResult = new ClassGraph()
             .enableAllInfo()
             .whitelistPackages(packagesOrClasses)
             .whitelistClasses(packagesOrClasses)
-            .scan();
+            .scan()) {
+
+            return scanResult.getAllClasses().stream()
+                .map(io.github.classgraph.ClassInfo::getName)
+                .collect(Collectors.toList());
+        }
     }
 
     /**
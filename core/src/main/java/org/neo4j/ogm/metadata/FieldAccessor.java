@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes the value of a single field. An accessor is created once per {@link FieldInfo} and uses method
+ * handles, so that the access checks are done when the metadata is built and not on every read or write.
+ * <p>
+ * If the method handles cannot be created (for example under a security manager that denies
+ * {@link Field#setAccessible(boolean)}, or for fields of JDK classes that are not open to OGM on JDK 16 and later), or
+ * if the system property {@value #REFLECTIVE_ACCESS_PROPERTY} is set to {@literal true}, the accessor falls back to
+ * plain reflection.
+ * <p>
+ * Method handles neither unbox nor widen values as {@link Field#set(Object, Object)} does, and fail with other
+ * exceptions on values of the wrong type. So the handles are adapted once to check and convert the instance and the
+ * value like reflection.
+ */
+abstract class FieldAccessor {
+
+    static final String REFLECTIVE_ACCESS_PROPERTY = "org.neo4j.ogm.reflectiveFieldAccess";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldAccessor.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandle CHECK_INSTANCE;
+    private static final MethodHandle CHECK_VALUE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CHECK_INSTANCE = lookup.findStatic(FieldAccessor.class, "checkInstance",
+                MethodType.methodType(Object.class, Field.class, Object.class));
+            CHECK_VALUE = lookup.findStatic(FieldAccessor.class, "checkValue",
+                MethodType.methodType(Object.class, Field.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static FieldAccessor of(Field field) {
+
+        if (Boolean.getBoolean(REFLECTIVE_ACCESS_PROPERTY)) {
+            return new ReflectiveFieldAccessor(field);
+        }
+
+        try {
+            return AccessController.doPrivileged((PrivilegedAction<FieldAccessor>) () -> {
+                field.setAccessible(true);
+                try {
+                    MethodHandles.Lookup lookup = MethodHandles.lookup();
+                    MethodHandle instanceCheck = MethodHandles.insertArguments(CHECK_INSTANCE, 0, field)
+                        .asType(MethodType.methodType(field.getDeclaringClass(), Object.class));
+                    MethodHandle getter = MethodHandles
+                        .filterArguments(lookup.unreflectGetter(field), 0, instanceCheck)
+                        .asType(GETTER_TYPE);
+                    MethodHandle setter = MethodHandles
+                        .filterArguments(lookup.unreflectSetter(field), 0, instanceCheck, valueConversion(field))
+                        .asType(SETTER_TYPE);
+                    return new MethodHandleFieldAccessor(getter, setter);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    throw new SecurityException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Includes the InaccessibleObjectException of JDK 9+, accessing the field fails only when it is used
+            LOGGER.debug("Could not create method handles for field {}, using reflection instead", field, e);
+            return new ReflectiveFieldAccessor(field);
+        }
+    }
+
+    /**
+     * @return a method handle converting a value to the type of the field like {@link Field#set(Object, Object)}
+     */
+    private static MethodHandle valueConversion(Field field) throws NoSuchMethodException, IllegalAccessException {
+        Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            return MethodHandles.insertArguments(CHECK_VALUE, 0, field)
+                .asType(MethodType.methodType(type, Object.class));
+        }
+        String name = "to" + Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+        return MethodHandles.insertArguments(MethodHandles.lookup()
+            .findStatic(FieldAccessor.class, name, MethodType.methodType(type, Field.class, Object.class)), 0, field);
+    }
+
+    private static Object checkInstance(Field field, Object instance) {
+        if (instance != null && !field.getDeclaringClass().isInstance(instance)) {
+            throw new IllegalArgumentException("Can not access field " + field.getDeclaringClass().getName() + "."
+                + field.getName() + " on " + instance.getClass().getName());
+        }
+        return instance;
+    }
+
+    private static Object checkValue(Field field, Object value) {
+        if (value != null && !field.getType().isInstance(value)) {
+            throw cannotSet(field, value);
+        }
+        return value;
+    }
+
+    // Unboxing followed by the widening primitive conversions, as done by Field#set
+
+    private static boolean toBoolean(Field field, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw cannotSet(field, value);
+    }
+
+    private static byte toByte(Field field, Object value) {
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw cannotSet(field, value);
+    }
+
+    private static short toShort(Field field, Object value) {
+        if (value instanceof Short) {
+            return (Short) value;
+        }
+        return toByte(field, value);
+    }
+
+    private static char toChar(Field field, Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw cannotSet(field, value);
+    }
+
+    private static int toInt(Field field, Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        return toShort(field, value);
+    }
+
+    private static long toLong(Field field, Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return toInt(field, value);
+    }
+
+    private static float toFloat(Field field, Object value) {
+        if (value instanceof Float) {
+            return (Float) value;
+        }
+        return toLong(field, value);
+    }
+
+    private static double toDouble(Field field, Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        return toFloat(field, value);
+    }
+
+    private static IllegalArgumentException cannotSet(Field field, Object value) {
+        return new IllegalArgumentException("Can not set " + field.getType().getName() + " field "
+            + field.getDeclaringClass().getName() + "." + field.getName() + " to "
+            + (value == null ? "null value" : value.getClass().getName()));
+    }
+
+    abstract Object read(Object instance);
+
+    abstract void write(Object instance, Object value);
+
+    private static class ReflectiveFieldAccessor extends FieldAccessor {
+
+        private final Field field;
+
+        ReflectiveFieldAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        Object read(Object instance) {
+            return FieldInfo.read(field, instance);
+        }
+
+        @Override
+        void write(Object instance, Object value) {
+            FieldInfo.write(field, instance, value);
+        }
+    }
+
+    private static class MethodHandleFieldAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        MethodHandleFieldAccessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        Object read(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        void write(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
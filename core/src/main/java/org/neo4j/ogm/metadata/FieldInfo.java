@@ -26,8 +26,11 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +38,7 @@ import org.neo4j.ogm.annotation.GeneratedValue;
 import org.neo4j.ogm.annotation.Id;
 import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.Labels;
+import org.neo4j.ogm.annotation.Lazy;
 import org.neo4j.ogm.annotation.Properties;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
@@ -63,6 +67,7 @@ public class FieldInfo {
     private final boolean isSupportedNativeType;
     private final ClassInfo containingClassInfo;
     private final Field field;
+    private final FieldAccessor fieldAccessor;
     private final Class<?> fieldType;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
@@ -85,6 +90,7 @@ public class FieldInfo {
         Predicate<Class<?>> isSupportedNativeType) {
         this.containingClassInfo = classInfo;
         this.field = field;
+        this.fieldAccessor = FieldAccessor.of(field);
         this.fieldType = isGenericField(field) ? findFieldType(field, classInfo.getUnderlyingClass()) : field.getType();
         this.isArray = fieldType.isArray();
         this.name = field.getName();
@@ -121,6 +127,11 @@ public class FieldInfo {
                     throw new MappingException("@Properties annotation is allowed only on fields of type java.util.Map");
                 }
             }
+            if (hasAnnotation(Lazy.class) && !isLazyLoadable(this.fieldType)) {
+                throw new MappingException(
+                    "@Lazy annotation is allowed only on fields of type java.util.Collection, java.util.List, java.util.Set or java.lang.Iterable, but "
+                        + classInfo.name() + "#" + this.name + " is of type " + this.fieldType.getName());
+            }
         }
     }
 
@@ -273,6 +284,17 @@ public class FieldInfo {
         return isArray;
     }
 
+    /**
+     * @return true if the field is annotated with {@link Lazy} and is populated with a proxy collection on load
+     */
+    public boolean isLazy() {
+        return this.getAnnotations().get(Lazy.class) != null;
+    }
+
+    private static boolean isLazyLoadable(Class<?> type) {
+        return type == Collection.class || type == List.class || type == Set.class || type == Iterable.class;
+    }
+
     public boolean hasAnnotation(String annotationName) {
         return getAnnotations().get(annotationName) != null;
     }
@@ -359,13 +381,13 @@ public class FieldInfo {
 
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
+            fieldAccessor.write(instance, value);
         } else {
             if (isScalar()) {
                 String actualTypeDescriptor = getTypeDescriptor();
                 value = Utils.coerceTypes(DescriptorMappings.getType(actualTypeDescriptor), value);
             }
-            write(field, instance, value);
+            fieldAccessor.write(instance, value);
         }
     }
 
@@ -376,7 +398,7 @@ public class FieldInfo {
      * @param value    field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        fieldAccessor.write(instance, value);
     }
 
     public Class<?> type() {
@@ -400,7 +422,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), instance);
+        return fieldAccessor.read(instance);
     }
 
     public Object readProperty(Object instance) {
@@ -408,7 +430,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = fieldAccessor.read(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -420,7 +442,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = fieldAccessor.read(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
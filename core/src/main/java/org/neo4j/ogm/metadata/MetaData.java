@@ -20,11 +20,12 @@ package org.neo4j.ogm.metadata;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -38,6 +39,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The mapping metadata of a domain. One instance is shared by all sessions of a session factory, so the lookups are
+ * memoised in structures that can be read concurrently without locking once they are populated.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  */
@@ -45,9 +49,23 @@ public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
+    /**
+     * Upper bound of memoised label sets. Dynamic labels may produce arbitrarily many combinations, the ones beyond
+     * the bound are resolved again each time.
+     */
+    private static final int MAX_RESOLVED_TAXA = 4096;
+
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+    // Values are optional, as unknown names are memoised as well
+    private final ConcurrentMap<String, Optional<ClassInfo>> classInfos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<List<String>, Optional<ClassInfo>> resolvedTaxa = new ConcurrentHashMap<>();
+    private final ClassValue<Optional<ClassInfo>> classInfosByClass = new ClassValue<Optional<ClassInfo>>() {
+        @Override
+        protected Optional<ClassInfo> computeValue(Class<?> type) {
+            return Optional.ofNullable(classInfo(type.getName()));
+        }
+    };
 
     public MetaData(String... packages) {
         this(NoNativeTypes.INSTANCE, packages);
@@ -70,31 +88,28 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
+        if (name == null) {
+            return null;
+        }
+        Optional<ClassInfo> classInfo = classInfos.get(name);
+        if (classInfo == null) {
+            classInfo = classInfos.computeIfAbsent(name, key -> Optional.ofNullable(lookUpClassInfo(key)));
         }
+        return classInfo.orElse(null);
+    }
 
+    private ClassInfo lookUpClassInfo(String name) {
         ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), NodeEntity.LABEL);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
         classInfo = _classInfo(name, RelationshipEntity.class.getName(), RelationshipEntity.TYPE);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        // not found
-        classInfos.put(name, null);
-        return null;
+        return domainInfo.getClassSimpleName(name);
     }
 
     /**
@@ -104,7 +119,7 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Class<?> clazz) {
-        return classInfo(clazz.getName());
+        return classInfosByClass.get(clazz).orElse(null);
     }
 
     /**
@@ -114,7 +129,7 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
+        return classInfo(object.getClass());
     }
 
     private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
@@ -156,6 +171,19 @@ public class MetaData {
      */
     public ClassInfo resolve(String... taxa) {
 
+        Optional<ClassInfo> resolved = resolvedTaxa.get(Arrays.asList(taxa));
+        if (resolved == null) {
+            resolved = Optional.ofNullable(resolveUncached(taxa));
+            if (resolvedTaxa.size() < MAX_RESOLVED_TAXA) {
+                // copied, as the caller may reuse the array
+                resolvedTaxa.putIfAbsent(Arrays.asList(taxa.clone()), resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    private ClassInfo resolveUncached(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * An {@link EntityInstantiator} that looks up the constructor of each class only once and invokes it through a cached
+ * {@link MethodHandle}.
+ * <p>
+ * The default (no-args) constructor is used if the class has one. Otherwise the constructor with the most parameters
+ * that all match fields of the entity is used, and its arguments are taken from the property values of the node or
+ * relationship. This requires the parameter names to be present in the class files, i.e. the domain classes must be
+ * compiled with {@code -parameters}. Arguments without a matching property value are passed as {@literal null} or as the
+ * default value of a primitive type.
+ * <p>
+ * To use it, register it with {@link org.neo4j.ogm.session.SessionFactory#setEntityInstantiator(EntityInstantiator)}.
+ */
+public class MethodHandleEntityInstantiator implements EntityInstantiator {
+
+    private final MetaData metadata;
+
+    private final Map<Class<?>, ObjectCreator> creators = new ConcurrentHashMap<>();
+
+    public MethodHandleEntityInstantiator(MetaData metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T createInstance(Class<T> clazz, Map<String, Object> propertyValues) {
+        ObjectCreator creator = creators.computeIfAbsent(clazz, this::creatorFor);
+        try {
+            return clazz.cast(creator.create(propertyValues));
+        } catch (MappingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MappingException("Unable to instantiate " + clazz, e);
+        } catch (Throwable e) {
+            throw new MappingException("Unable to instantiate " + clazz, new InvocationTargetException(e));
+        }
+    }
+
+    private ObjectCreator creatorFor(Class<?> clazz) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        Constructor<?> defaultConstructor = findDefaultConstructor(clazz);
+        if (defaultConstructor != null) {
+            MethodHandle handle = unreflect(lookup, defaultConstructor).asType(MethodType.methodType(Object.class));
+            return propertyValues -> (Object) handle.invokeExact();
+        }
+
+        ClassInfo classInfo = metadata.classInfo(clazz);
+        Constructor<?> persistenceConstructor = classInfo == null ? null : findPersistenceConstructor(classInfo, clazz);
+        if (persistenceConstructor == null) {
+            throw new MappingException("Unable to find default constructor or a constructor with parameters "
+                + "matching the fields to instantiate " + clazz);
+        }
+
+        Parameter[] parameters = persistenceConstructor.getParameters();
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = new ArgumentResolver(parameters[i].getType(), field(classInfo, parameters[i]));
+        }
+        MethodHandle handle = unreflect(lookup, persistenceConstructor)
+            .asSpreader(Object[].class, parameters.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return propertyValues -> {
+            Object[] arguments = new Object[resolvers.length];
+            for (int i = 0; i < resolvers.length; i++) {
+                arguments[i] = resolvers[i].resolve(propertyValues);
+            }
+            return (Object) handle.invokeExact(arguments);
+        };
+    }
+
+    private static Constructor<?> findDefaultConstructor(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the constructor with the most parameters, where every parameter has a name that matches a field of the
+     * entity.
+     */
+    private static Constructor<?> findPersistenceConstructor(ClassInfo classInfo, Class<?> clazz) {
+        Constructor<?> candidate = null;
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            boolean parametersMatchFields = true;
+            for (Parameter parameter : constructor.getParameters()) {
+                if (field(classInfo, parameter) == null) {
+                    parametersMatchFields = false;
+                    break;
+                }
+            }
+            if (parametersMatchFields
+                && (candidate == null || constructor.getParameterCount() > candidate.getParameterCount())) {
+                candidate = constructor;
+            }
+        }
+        return candidate;
+    }
+
+    private static FieldInfo field(ClassInfo classInfo, Parameter parameter) {
+        if (parameter.isNamePresent()) {
+            for (FieldInfo fieldInfo : classInfo.fieldsInfo().fields()) {
+                if (fieldInfo.getName().equals(parameter.getName())) {
+                    return fieldInfo;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Constructor<?> constructor) {
+        return AccessController.doPrivileged((PrivilegedAction<MethodHandle>) () -> {
+            try {
+                constructor.setAccessible(true);
+                return lookup.unreflectConstructor(constructor);
+            } catch (SecurityException | IllegalAccessException e) {
+                throw new MappingException("Unable to access constructor " + constructor, e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ObjectCreator {
+
+        Object create(Map<String, Object> propertyValues) throws Throwable;
+    }
+
+    /**
+     * Converts the property value for one constructor parameter the same way {@link FieldInfo#write(Object, Object)}
+     * would convert it for the field.
+     */
+    private static class ArgumentResolver {
+
+        private final Class<?> parameterType;
+        private final FieldInfo fieldInfo;
+        private final String key;
+
+        ArgumentResolver(Class<?> parameterType, FieldInfo fieldInfo) {
+            this.parameterType = parameterType;
+            this.fieldInfo = fieldInfo;
+            // Composite properties are passed in with the name of their field
+            this.key = fieldInfo.isComposite() ? fieldInfo.getName() : fieldInfo.property();
+        }
+
+        Object resolve(Map<String, Object> propertyValues) {
+            Object value = key == null ? null : propertyValues.get(key);
+            if (fieldInfo.hasPropertyConverter()) {
+                value = fieldInfo.getPropertyConverter().toEntityAttribute(value);
+            } else if (!fieldInfo.isComposite()) {
+                value = Utils.coerceTypes(parameterType, value);
+            }
+            if (value != null && !ClassUtils.isAssignable(value.getClass(), parameterType, true)) {
+                // Collections and arrays are merged into the right type when the fields are populated
+                value = null;
+            }
+            if (value == null && parameterType.isPrimitive()) {
+                value = Utils.coerceTypes(parameterType, null);
+            }
+            return value;
+        }
+    }
+}
@@ -51,4 +51,14 @@ public interface Relationship {
      * @return the other node
      */
     Node other(Node node);
+
+    /**
+     * Whether the relationship is declared by a {@link org.neo4j.ogm.annotation.Lazy} field and is therefore not
+     * fetched together with its start node
+     *
+     * @return true if the relationship is loaded lazily
+     */
+    default boolean isLazy() {
+        return false;
+    }
 }
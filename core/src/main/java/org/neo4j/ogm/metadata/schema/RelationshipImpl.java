@@ -35,11 +35,18 @@ class RelationshipImpl implements Relationship {
     private final NodeImpl start;
     private final NodeImpl end;
 
+    private final boolean lazy;
+
     RelationshipImpl(String type, String direction, NodeImpl start, NodeImpl end) {
+        this(type, direction, start, end, false);
+    }
+
+    RelationshipImpl(String type, String direction, NodeImpl start, NodeImpl end, boolean lazy) {
         this.type = requireNonNull(type);
         this.direction = requireNonNull(direction);
         this.start = requireNonNull(start);
         this.end = requireNonNull(end);
+        this.lazy = lazy;
     }
 
     @Override
@@ -96,6 +103,11 @@ class RelationshipImpl implements Relationship {
         }
     }
 
+    @Override
+    public boolean isLazy() {
+        return lazy;
+    }
+
     @Override
     public String toString() {
         return "RelationshipImpl{" +
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Records the statements executed by a {@link Request}, the results received and the time spent in the driver in an
+ * {@link OperationRecorder}.
+ */
+class MeasuringRequest implements Request {
+
+    private final Request delegate;
+
+    private final OperationRecorder recorder;
+
+    MeasuringRequest(Request delegate, OperationRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return measure(1, () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return measure(1, () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return measure(query.getStatements().size(), () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return measure(1, () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return measure(1, () -> delegate.execute(query));
+    }
+
+    @Override
+    public boolean isPipelining() {
+        return delegate.isPipelining();
+    }
+
+    private <T> Response<T> measure(int statementCount, Supplier<Response<T>> execution) {
+        recorder.recordStatements(statementCount);
+        long start = System.nanoTime();
+        try {
+            return new MeasuringResponse<>(execution.get(), recorder);
+        } finally {
+            recorder.recordDriverNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static class MeasuringResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+
+        private final OperationRecorder recorder;
+
+        MeasuringResponse(Response<T> delegate, OperationRecorder recorder) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public T next() {
+            long start = System.nanoTime();
+            try {
+                T model = delegate.next();
+                if (model != null) {
+                    recorder.recordResult();
+                }
+                return model;
+            } finally {
+                recorder.recordDriverNanos(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void close() {
+            long start = System.nanoTime();
+            try {
+                delegate.close();
+            } finally {
+                recorder.recordDriverNanos(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
+}
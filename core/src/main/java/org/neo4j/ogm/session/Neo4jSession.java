@@ -19,18 +19,30 @@
 package org.neo4j.ogm.session;
 
 import static java.util.Collections.*;
+import static java.util.Objects.*;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.LazyRelationshipLoader;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.WriteProtectionTarget;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
@@ -39,10 +51,15 @@ import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.request.AsyncRequest;
 import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.session.cache.SecondLevelCache;
+import org.neo4j.ogm.session.delegates.AsyncDelegate;
+import org.neo4j.ogm.session.delegates.BulkInsertDelegate;
 import org.neo4j.ogm.session.delegates.DeleteDelegate;
 import org.neo4j.ogm.session.delegates.ExecuteQueriesDelegate;
 import org.neo4j.ogm.session.delegates.GraphIdDelegate;
+import org.neo4j.ogm.session.delegates.LazyLoadDelegate;
 import org.neo4j.ogm.session.delegates.LoadByIdsDelegate;
 import org.neo4j.ogm.session.delegates.LoadByInstancesDelegate;
 import org.neo4j.ogm.session.delegates.LoadByTypeDelegate;
@@ -50,9 +67,12 @@ import org.neo4j.ogm.session.delegates.LoadOneDelegate;
 import org.neo4j.ogm.session.delegates.SaveDelegate;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.metrics.Operation;
 import org.neo4j.ogm.session.request.OptimisticLockingChecker;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.QueryTemplateCache;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.PathNodeLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBuilder;
@@ -86,20 +106,35 @@ public class Neo4jSession implements Session {
     private final LoadByIdsDelegate loadByIdsHandler = new LoadByIdsDelegate(this);
     private final LoadByInstancesDelegate loadByInstancesDelegate = new LoadByInstancesDelegate(this);
     private final SaveDelegate saveDelegate = new SaveDelegate(this);
+    private final BulkInsertDelegate bulkInsertDelegate = new BulkInsertDelegate(this);
     private final DeleteDelegate deleteDelegate = new DeleteDelegate(this);
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
+    private final AsyncDelegate asyncDelegate = new AsyncDelegate(this);
+    private final LazyLoadDelegate lazyLoadDelegate = new LazyLoadDelegate(this);
 
     private LoadStrategy loadStrategy;
     private EntityInstantiator entityInstantiator;
+    private Executor asyncExecutor;
+    private StatementShapeCounter statementShapeCounter;
+    private QueryTemplateCache queryTemplateCache = new QueryTemplateCache();
+    private OgmMetrics metrics;
+    // The outermost operation measured on each thread, asynchronous saves run on other threads than the caller
+    private final ThreadLocal<OperationRecorder> currentOperation = new ThreadLocal<>();
+
+    private SecondLevelCache secondLevelCache;
+    // Invalidations of the second-level cache to be repeated once the current transaction commits
+    private final Set<Long> pendingNodeInvalidations = new HashSet<>();
+    private final Set<Long> pendingRelationshipInvalidations = new HashSet<>();
+    private boolean pendingCacheClear;
 
     private Driver driver;
     /**
      * This is the last bookmark returned from the server. The bookmark may consisted of several bookmarks that together
      * made the whole bookmark. That is a new feature in the 4.0 Bolt driver. To not break API, we store those values
-     * separated by a constant string.
+     * separated by a constant string. Asynchronous operations update it on the executor of the session.
      */
-    private String bookmark;
+    private volatile String bookmark;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
@@ -108,7 +143,9 @@ public class Neo4jSession implements Session {
         this.metaData = metaData;
         this.driver = driver;
 
-        this.mappingContext = new MappingContext(metaData);
+        this.mappingContext = new MappingContext(metaData, driver.getConfiguration());
+        this.mappingContext.setLazyRelationshipLoader(
+            new LazyRelationshipLoader(mappingContext, lazyLoadDelegate::loadRelationships));
         this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier());
         this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
@@ -123,6 +160,13 @@ public class Neo4jSession implements Session {
         this.entityInstantiator = entityInstantiator;
     }
 
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
+        LoadStrategy loadStrategy, EntityInstantiator entityInstantiator, SecondLevelCache secondLevelCache) {
+        this(metaData, driver, eventListeners, loadStrategy, entityInstantiator);
+
+        this.secondLevelCache = secondLevelCache;
+    }
+
     @Override
     public EventListener register(EventListener eventListener) {
         registeredEventListeners.add(eventListener);
@@ -175,12 +219,17 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T, ID extends Serializable> T load(Class<T> type, ID id) {
-        return loadOneHandler.load(type, id);
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id));
     }
 
     @Override
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
-        return loadOneHandler.load(type, id, depth);
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id, depth));
+    }
+
+    @Override
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD, () -> loadOneHandler.load(type, id, fetchPlan));
     }
 
     /*
@@ -190,124 +239,151 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T> Collection<T> loadAll(Class<T> type) {
-        return loadByTypeHandler.loadAll(type);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, int depth) {
-        return loadByTypeHandler.loadAll(type, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging) {
-        return loadByTypeHandler.loadAll(type, paging);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, paging));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging, int depth) {
-        return loadByTypeHandler.loadAll(type, paging, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, paging, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, sortOrder, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter) {
-        return loadByTypeHandler.loadAll(type, filter);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filter, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, filter, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination,
         int depth) {
-        return loadByTypeHandler.loadAll(type, filter, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filter, sortOrder, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters) {
-        return loadByTypeHandler.loadAll(type, filters);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filters, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination, int depth) {
-        return loadByTypeHandler.loadAll(type, filters, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
-        return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth));
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadAll(type, new Filters(), new SortOrder(), null, fetchPlan));
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, fetchPlan));
+    }
+
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination) {
+        return measure(Operation.LOAD_ALL, () -> loadByTypeHandler.loadPage(type, filters, sortOrder, pagination));
+    }
+
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination, int depth) {
+        return measure(Operation.LOAD_ALL,
+            () -> loadByTypeHandler.loadPage(type, filters, sortOrder, pagination, depth));
     }
 
     /*
@@ -317,46 +393,51 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids) {
-        return loadByIdsHandler.loadAll(type, ids);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, int depth) {
-        return loadByIdsHandler.loadAll(type, ids, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         int depth) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging) {
-        return loadByIdsHandler.loadAll(type, ids, paging);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, paging));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging,
         int depth) {
-        return loadByIdsHandler.loadAll(type, ids, paging, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, paging, depth));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, pagination));
     }
 
     @Override
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination, int depth) {
-        return loadByIdsHandler.loadAll(type, ids, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, sortOrder, pagination, depth));
+    }
+
+    @Override
+    public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD_ALL, () -> loadByIdsHandler.loadAll(type, ids, new SortOrder(), null, fetchPlan));
     }
 
     /*
@@ -366,42 +447,58 @@ public class Neo4jSession implements Session {
      */
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects) {
-        return loadByInstancesDelegate.loadAll(objects, 1);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, 1));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, Pagination pagination) {
-        return loadByInstancesDelegate.loadAll(objects, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, Pagination pagination, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, pagination, depth);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, pagination, depth));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, Pagination pagination) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, pagination);
+        return measure(Operation.LOAD_ALL, () -> loadByInstancesDelegate.loadAll(objects, sortOrder, pagination));
     }
 
     @Override
     public <T> Collection<T> loadAll(Collection<T> objects, SortOrder sortOrder, Pagination pagination, int depth) {
-        return loadByInstancesDelegate.loadAll(objects, sortOrder, pagination, depth);
+        return measure(Operation.LOAD_ALL,
+            () -> loadByInstancesDelegate.loadAll(objects, sortOrder, pagination, depth));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters) {
+        return measureStream(Operation.LOAD_ALL, () -> loadByTypeHandler.stream(type, filters, new SortOrder(), 1));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return measureStream(Operation.LOAD_ALL, () -> loadByTypeHandler.stream(type, filters, new SortOrder(), depth));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return measureStream(Operation.LOAD_ALL, () -> loadByTypeHandler.stream(type, filters, sortOrder, depth));
     }
 
     /*
@@ -411,12 +508,17 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> T queryForObject(Class<T> type, String cypher, Map<String, ?> parameters) {
-        return executeQueriesDelegate.queryForObject(type, cypher, parameters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.queryForObject(type, cypher, parameters));
     }
 
     @Override
     public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
-        return executeQueriesDelegate.query(type, cypher, parameters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.query(type, cypher, parameters));
+    }
+
+    @Override
+    public <T> Stream<T> queryStream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return measureStream(Operation.QUERY, () -> executeQueriesDelegate.queryStream(type, cypher, parameters));
     }
 
     @Override
@@ -426,17 +528,52 @@ public class Neo4jSession implements Session {
 
     @Override
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
-        return executeQueriesDelegate.query(cypher, parameters, readOnly);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.query(cypher, parameters, readOnly));
     }
 
     @Override
     public long countEntitiesOfType(Class<?> entity) {
-        return executeQueriesDelegate.countEntitiesOfType(entity);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.countEntitiesOfType(entity));
     }
 
     @Override
     public long count(Class<?> clazz, Iterable<Filter> filters) {
-        return executeQueriesDelegate.count(clazz, filters);
+        return measure(Operation.QUERY, () -> executeQueriesDelegate.count(clazz, filters));
+    }
+
+    /*
+    *----------------------------------------------------------------------------------------------------------
+    * AsyncDelegate
+    *----------------------------------------------------------------------------------------------------------
+    */
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id) {
+        return asyncDelegate.load(type, id, 1);
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth) {
+        return asyncDelegate.load(type, id, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> saveAsync(T object) {
+        return asyncDelegate.save(object, -1);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> saveAsync(T object, int depth) {
+        return asyncDelegate.save(object, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> queryAsync(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return asyncDelegate.query(type, cypher, parameters);
+    }
+
+    @Override
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return asyncDelegate.query(cypher, parameters, readOnly);
     }
 
     /*
@@ -446,22 +583,22 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
-        deleteDelegate.purgeDatabase();
+        measureVoid(Operation.DELETE, () -> deleteDelegate.purgeDatabase());
     }
 
     @Override
     public <T> void delete(T object) {
-        deleteDelegate.delete(object);
+        measureVoid(Operation.DELETE, () -> deleteDelegate.delete(object));
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
-        deleteDelegate.deleteAll(type);
+        measureVoid(Operation.DELETE, () -> deleteDelegate.deleteAll(type));
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
-        return deleteDelegate.delete(type, filters, listResults);
+        return measure(Operation.DELETE, () -> deleteDelegate.delete(type, filters, listResults));
     }
 
     /*
@@ -471,12 +608,23 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
-        saveDelegate.save(object);
+        measureVoid(Operation.SAVE, () -> saveDelegate.save(object));
     }
 
     @Override
     public <T> void save(T object, int depth) {
-        saveDelegate.save(object, depth);
+        measureVoid(Operation.SAVE, () -> saveDelegate.save(object, depth));
+    }
+
+    @Override
+    public long bulkInsert(Iterable<?> entities) {
+        return measure(Operation.SAVE,
+            () -> bulkInsertDelegate.bulkInsert(entities, BulkInsertDelegate.DEFAULT_BATCH_SIZE, false));
+    }
+
+    @Override
+    public long bulkInsert(Iterable<?> entities, int batchSize, boolean writeBackIds) {
+        return measure(Operation.SAVE, () -> bulkInsertDelegate.bulkInsert(entities, batchSize, writeBackIds));
     }
 
     // Not part of {@link Session} interface on purpose for the time being
@@ -606,6 +754,59 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * For internal use only. Runs a function returning a lazily evaluated {@link Stream}. Other than
+     * {@link #doInTransaction(TransactionalUnitOfWork, boolean, Transaction.Type)}, a transaction opened here is not
+     * committed when the function returns but when the returned stream is closed, so that the stream can keep on reading
+     * from the open result. The transaction is bound to this session until then.
+     *
+     * @param function The callback to execute.
+     * @param <T>      The element type of the resulting stream.
+     * @param txType   Transaction type, readonly or not.
+     * @return The stream returned by the transaction function.
+     */
+    public <T> Stream<T> doInStreamingTransaction(TransactionalUnitOfWork<Stream<T>> function,
+        Transaction.Type txType) {
+
+        if (!driver.requiresTransaction() || txManager.getCurrentTransaction() != null) {
+            return doInTransaction(function, txType);
+        }
+
+        Transaction transaction = beginTransaction(txType);
+        try {
+            return function.doInTransaction().onClose(() -> {
+                try {
+                    if (txManager.canCommit()) {
+                        transaction.commit();
+                    }
+                } finally {
+                    closeIfNecessary(transaction);
+                }
+            });
+        } catch (CypherException e) {
+            if (txManager.canRollback()) {
+                logger.warn("Error executing query : {} - {}. Rolling back transaction.", e.getCode(),
+                    e.getDescription());
+                transaction.rollback();
+            }
+            closeIfNecessary(transaction);
+            throw e;
+        } catch (Throwable e) {
+            if (txManager.canRollback()) {
+                logger.warn("Error executing query : {}. Rolling back transaction.", e.getMessage());
+                transaction.rollback();
+            }
+            closeIfNecessary(transaction);
+            throw driver.getExceptionTranslator().translateExceptionIfPossible(e);
+        }
+    }
+
+    private static void closeIfNecessary(Transaction transaction) {
+        if (!transaction.status().equals(Transaction.Status.CLOSED)) {
+            transaction.close();
+        }
+    }
+
     @Override
     public Transaction getTransaction() {
         return txManager.getCurrentTransaction();
@@ -635,15 +836,61 @@ public class Neo4jSession implements Session {
     // These helper methods for the delegates are deliberately NOT defined on the Session interface
     //
     public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth) {
+        return queryStatementsFor(type, depth, loadStrategy);
+    }
+
+    public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth,
+        LoadStrategy loadStrategyToUse) {
+        final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
+        String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
+        if (metaData.isRelationshipEntity(type.getName())) {
+            return new RelationshipQueryStatements<>(primaryIdName,
+                queryTemplateCache.cached(loadRelationshipClauseBuilder(depth, loadStrategyToUse)));
+        } else {
+            return new NodeQueryStatements<>(primaryIdName,
+                queryTemplateCache.cached(loadNodeClauseBuilder(depth, loadStrategyToUse)));
+        }
+    }
+
+    /**
+     * Builds the statements loading entities of the given type along a fetch plan. Fetch plans are always expanded
+     * based on the schema of the domain, regardless of the load strategy.
+     *
+     * @param type      the type of the entities to load
+     * @param fetchPlan a plan resolved with {@link #resolveFetchPlan(Class, FetchPlan)}
+     * @since 3.2.2
+     */
+    public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, FetchPlan fetchPlan) {
         final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
         String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
+        // Not going through the query template cache, as its clauses are not keyed by fetch plan
         if (metaData.isRelationshipEntity(type.getName())) {
-            return new RelationshipQueryStatements<>(primaryIdName, loadRelationshipClauseBuilder(depth));
+            return new RelationshipQueryStatements<>(primaryIdName,
+                new SchemaRelationshipLoadClauseBuilder(metaData.getSchema(), fetchPlan));
         } else {
-            return new NodeQueryStatements<>(primaryIdName, loadNodeClauseBuilder(depth));
+            return new NodeQueryStatements<>(primaryIdName,
+                new SchemaNodeLoadClauseBuilder(metaData.getSchema(), fetchPlan));
         }
     }
 
+    /**
+     * @param type      the type of the entities to load
+     * @param fetchPlan a plan or a reference to a plan declared on the type
+     * @return the plan to load the entities with
+     * @throws IllegalArgumentException if the type declares no plan with the referenced name
+     * @since 3.2.2
+     */
+    public FetchPlan resolveFetchPlan(Class<?> type, FetchPlan fetchPlan) {
+        if (!requireNonNull(fetchPlan).isNamed()) {
+            return fetchPlan;
+        }
+        FetchPlan declaredPlan = metaData.classInfo(type.getName()).getFetchPlan(fetchPlan.getName());
+        if (declaredPlan == null) {
+            throw new IllegalArgumentException(type.getName() + " declares no fetch plan named " + fetchPlan.getName());
+        }
+        return declaredPlan;
+    }
+
     public String entityType(String name) {
         return metaData.entityType(name);
     }
@@ -665,8 +912,222 @@ public class Neo4jSession implements Session {
         mappingContext.clear();
     }
 
+    /**
+     * For internal use only. The second-level cache is not used by a session while its current transaction contains
+     * saves or deletes, as entities loaded then might not have been committed.
+     *
+     * @return the second-level cache of the session factory, null if there is none or it must not be used
+     */
+    public SecondLevelCache secondLevelCache() {
+        if (pendingCacheClear || !pendingNodeInvalidations.isEmpty() || !pendingRelationshipInvalidations.isEmpty()) {
+            return null;
+        }
+        return secondLevelCache;
+    }
+
+    /**
+     * For internal use only. Invalidates the cached loads containing the given nodes or relationships, now and again
+     * when the current transaction commits.
+     *
+     * @param nodeIds         native ids of saved or deleted nodes
+     * @param relationshipIds native ids of saved or deleted relationships
+     */
+    public void invalidateSecondLevelCache(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        if (secondLevelCache == null) {
+            return;
+        }
+        secondLevelCache.invalidate(nodeIds, relationshipIds);
+        if (txManager.getCurrentTransaction() != null) {
+            pendingNodeInvalidations.addAll(nodeIds);
+            pendingRelationshipInvalidations.addAll(relationshipIds);
+        }
+    }
+
+    /**
+     * For internal use only. Clears the second-level cache, now and again when the current transaction commits.
+     */
+    public void clearSecondLevelCache() {
+        if (secondLevelCache == null) {
+            return;
+        }
+        secondLevelCache.clear();
+        if (txManager.getCurrentTransaction() != null) {
+            pendingCacheClear = true;
+        }
+    }
+
+    /**
+     * For internal use only. Called when the current transaction has been committed or rolled back.
+     *
+     * @param committed whether the transaction has been committed
+     */
+    public void transactionCompleted(boolean committed) {
+        if (secondLevelCache != null && committed) {
+            if (pendingCacheClear) {
+                secondLevelCache.clear();
+            } else {
+                secondLevelCache.invalidate(pendingNodeInvalidations, pendingRelationshipInvalidations);
+            }
+        }
+        pendingNodeInvalidations.clear();
+        pendingRelationshipInvalidations.clear();
+        pendingCacheClear = false;
+    }
+
     public Request requestHandler() {
-        return driver.request(this.txManager.getCurrentTransaction());
+        Request request = driver.request(this.txManager.getCurrentTransaction());
+        if (statementShapeCounter != null) {
+            request = new ShapeRecordingRequest(request, statementShapeCounter);
+        }
+        OperationRecorder operation = currentOperation.get();
+        if (operation != null && operation != OperationRecorder.UNMEASURED) {
+            request = new MeasuringRequest(request, operation);
+        }
+        return request;
+    }
+
+    private <T> T measure(Operation operation, Supplier<T> function) {
+        if (metrics == null || currentOperation.get() != null) {
+            return function.get();
+        }
+        OperationRecorder recorder = new OperationRecorder(operation, mappingContext);
+        currentOperation.set(recorder);
+        boolean failed = true;
+        try {
+            T result = function.get();
+            failed = false;
+            return result;
+        } finally {
+            currentOperation.remove();
+            metrics.record(recorder.finish(failed));
+        }
+    }
+
+    /**
+     * Measures an operation returning a stream. The results are read while the stream is consumed, so the operation is
+     * recorded when the stream is closed.
+     */
+    private <T> Stream<T> measureStream(Operation operation, Supplier<Stream<T>> function) {
+        OgmMetrics operationMetrics = metrics;
+        if (operationMetrics == null || currentOperation.get() != null) {
+            return function.get();
+        }
+        OperationRecorder recorder = new OperationRecorder(operation, mappingContext);
+        currentOperation.set(recorder);
+        boolean failed = true;
+        try {
+            Stream<T> result = function.get().onClose(() -> operationMetrics.record(recorder.finish(false)));
+            failed = false;
+            return result;
+        } finally {
+            currentOperation.remove();
+            if (failed) {
+                operationMetrics.record(recorder.finish(true));
+            }
+        }
+    }
+
+    /**
+     * Runs the given operations of this session without reporting them to the metrics of this session. Used by
+     * asynchronous and reactive sessions, which are not measured.
+     *
+     * @param operations The operations to run
+     * @since 3.2.2
+     */
+    public void unmeasured(Runnable operations) {
+        if (metrics == null || currentOperation.get() != null) {
+            operations.run();
+            return;
+        }
+        currentOperation.set(OperationRecorder.UNMEASURED);
+        try {
+            operations.run();
+        } finally {
+            currentOperation.remove();
+        }
+    }
+
+    private void measureVoid(Operation operation, Runnable function) {
+        measure(operation, () -> {
+            function.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param type The type of the auto-commit transactions the requests are executed in
+     * @return A handler for non-blocking requests, waiting for the last bookmark of this session
+     * @throws UnsupportedOperationException if the driver doesn't support non-blocking requests
+     * @since 3.2.2
+     */
+    public AsyncRequest asyncRequestHandler(Transaction.Type type) {
+        String lastBookmark = bookmark;
+        AsyncRequest request = driver.asyncRequest(type,
+            lastBookmark == null ? emptyList() : singletonList(lastBookmark));
+        return statementShapeCounter == null ?
+            request : new ShapeRecordingAsyncRequest(request, statementShapeCounter);
+    }
+
+    /**
+     * @return The executor running the mapping of asynchronous requests and asynchronous saves, one task at a time
+     * @throws IllegalStateException if no executor has been set
+     * @since 3.2.2
+     */
+    public Executor asyncExecutor() {
+        if (asyncExecutor == null) {
+            throw new IllegalStateException("No executor for asynchronous operations has been set, "
+                + "see SessionFactory#setAsyncExecutor");
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor running the mapping of asynchronous requests and asynchronous saves. Tasks of this session are
+     * submitted one at a time, so that they never run concurrently.
+     *
+     * @param asyncExecutor The executor to use, must not be a thread of the driver
+     * @since 3.2.2
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = new SerialExecutor(asyncExecutor);
+    }
+
+    /**
+     * Sets the counter recording the statements sent by this session.
+     *
+     * @param statementShapeCounter The counter, may be null to not record statements
+     * @since 3.2.2
+     */
+    public void setStatementShapeCounter(StatementShapeCounter statementShapeCounter) {
+        this.statementShapeCounter = statementShapeCounter;
+    }
+
+    /**
+     * Sets the receiver of the metrics of the operations run by this session.
+     *
+     * @param metrics The receiver, may be null to not measure operations
+     * @since 3.2.2
+     */
+    public void setMetrics(OgmMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the cache of the load clauses used by this session, usually shared with the other sessions of the same
+     * session factory.
+     *
+     * @param queryTemplateCache The cache to use
+     * @since 3.2.2
+     */
+    public void setQueryTemplateCache(QueryTemplateCache queryTemplateCache) {
+        this.queryTemplateCache = requireNonNull(queryTemplateCache);
+    }
+
+    /**
+     * @return the configuration of the driver backing this session, {@literal null} if the driver has not been configured
+     */
+    public Configuration configuration() {
+        return driver.getConfiguration();
     }
 
     public void warn(String msg) {
@@ -698,12 +1159,12 @@ public class Neo4jSession implements Session {
         this.loadStrategy = loadStrategy;
     }
 
-    private LoadClauseBuilder loadNodeClauseBuilder(int depth) {
+    private LoadClauseBuilder loadNodeClauseBuilder(int depth, LoadStrategy loadStrategyToUse) {
         if (depth < 0) {
             return new PathNodeLoadClauseBuilder();
         }
 
-        switch (loadStrategy) {
+        switch (loadStrategyToUse) {
             case PATH_LOAD_STRATEGY:
                 return new PathNodeLoadClauseBuilder();
 
@@ -711,16 +1172,16 @@ public class Neo4jSession implements Session {
                 return new SchemaNodeLoadClauseBuilder(metaData.getSchema());
 
             default:
-                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
+                throw new IllegalStateException("Unknown loadStrategy " + loadStrategyToUse);
         }
     }
 
-    private LoadClauseBuilder loadRelationshipClauseBuilder(int depth) {
+    private LoadClauseBuilder loadRelationshipClauseBuilder(int depth, LoadStrategy loadStrategyToUse) {
         if (depth < 0) {
             throw new IllegalArgumentException("Can't load unlimited depth for relationships");
         }
 
-        switch (loadStrategy) {
+        switch (loadStrategyToUse) {
             case PATH_LOAD_STRATEGY:
                 return new PathRelationshipLoadClauseBuilder();
 
@@ -728,7 +1189,7 @@ public class Neo4jSession implements Session {
                 return new SchemaRelationshipLoadClauseBuilder(metaData.getSchema());
 
             default:
-                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
+                throw new IllegalStateException("Unknown loadStrategy " + loadStrategyToUse);
         }
     }
 }
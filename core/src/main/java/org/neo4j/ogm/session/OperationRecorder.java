@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.session.metrics.Operation;
+import org.neo4j.ogm.session.metrics.OperationMetrics;
+
+/**
+ * Collects the metrics of one running session operation.
+ */
+class OperationRecorder {
+
+    /**
+     * Marks operations that run without being measured, including the operations nested in them.
+     */
+    static final OperationRecorder UNMEASURED = new OperationRecorder();
+
+    private final Operation operation;
+
+    private final MappingContext mappingContext;
+
+    private final long startNanos;
+
+    private final long dirtyCheckCountAtStart;
+
+    private final long dirtyCheckHitCountAtStart;
+
+    private long driverNanos;
+
+    private long statementCount;
+
+    private long resultCount;
+
+    OperationRecorder(Operation operation, MappingContext mappingContext) {
+        this.operation = operation;
+        this.mappingContext = mappingContext;
+        this.dirtyCheckCountAtStart = mappingContext.getDirtyCheckCount();
+        this.dirtyCheckHitCountAtStart = mappingContext.getDirtyCheckHitCount();
+        this.startNanos = System.nanoTime();
+    }
+
+    private OperationRecorder() {
+        this.operation = null;
+        this.mappingContext = null;
+        this.dirtyCheckCountAtStart = 0L;
+        this.dirtyCheckHitCountAtStart = 0L;
+        this.startNanos = 0L;
+    }
+
+    void recordDriverNanos(long nanos) {
+        driverNanos += nanos;
+    }
+
+    void recordStatements(int count) {
+        statementCount += count;
+    }
+
+    void recordResult() {
+        resultCount++;
+    }
+
+    OperationMetrics finish(boolean failed) {
+        long durationNanos = System.nanoTime() - startNanos;
+        return new OperationMetrics(operation, durationNanos, driverNanos, statementCount, resultCount,
+            mappingContext.getDirtyCheckCount() - dirtyCheckCountAtStart,
+            mappingContext.getDirtyCheckHitCount() - dirtyCheckHitCountAtStart,
+            mappingContext.getEntityCount(), failed);
+    }
+}
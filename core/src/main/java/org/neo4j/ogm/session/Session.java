@@ -21,9 +21,14 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.QueryStatistics;
@@ -61,6 +66,14 @@ import org.neo4j.ogm.transaction.Transaction;
  * </ul>
  * If new state of the entity is required when reloading, use {@link Session#clear()} to clear current session before
  * reload.
+ * <h2>Asynchronous methods</h2>
+ * Methods ending in {@code Async} return a {@link CompletionStage} instead of blocking the calling thread. Loads and
+ * queries use the non-blocking API of the driver and run in their own auto-commit transactions, independent of the
+ * current transaction of the session. They wait for the last bookmark of the session and update it once they are
+ * done. Their results are mapped one after another on an executor confined to this session, which must be set with
+ * {@link SessionFactory#setAsyncExecutor(java.util.concurrent.Executor)}. Saves are executed by the blocking save
+ * methods on that executor. Asynchronous loads and queries fail with an {@link UnsupportedOperationException} if
+ * the driver doesn't support non-blocking requests. The session must not be used otherwise until all stages have completed.
  *
  * @author Vince Bickers
  * @author Luanne Misquitta
@@ -158,6 +171,17 @@ public interface Session {
     <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination, int depth);
 
+    /**
+     * Load entities of type by their ids, following the relationships named by a fetch plan.
+     *
+     * @param type      type of entities
+     * @param ids       ids of entities to load
+     * @param fetchPlan the relationships to load, or a reference to a plan declared on the type
+     * @return collection of entities
+     * @since 3.2.2
+     */
+    <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, FetchPlan fetchPlan);
+
     /**
      * Load entities by themselves - uses id of the entity to load it again, with default depth = 1.
      * Note that standard session behaviour regarding entity loading an reloading applies.
@@ -486,6 +510,103 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load all entities of type, following the relationships named by a fetch plan.
+     *
+     * @param type      type of entities
+     * @param fetchPlan the relationships to load, or a reference to a plan declared on the type
+     * @return collection of entities
+     * @since 3.2.2
+     */
+    <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan);
+
+    /**
+     * Load all entities of type, filtered by filters, following the relationships named by a fetch plan.
+     *
+     * @param type       type of entities
+     * @param filters    filters
+     * @param sortOrder  sort order
+     * @param pagination pagination, may be null
+     * @param fetchPlan  the relationships to load, or a reference to a plan declared on the type
+     * @return collection of entities
+     * @since 3.2.2
+     */
+    <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan);
+
+    /**
+     * Load a page of entities of type, filtered by filters, with keyset pagination and default depth = 1. If the type
+     * declares a default fetch plan, that plan is used instead of depth 1.
+     *
+     * @param type       type of entities
+     * @param filters    filters
+     * @param sortOrder  sort order, may only refer to properties of the type
+     * @param pagination the page to load
+     * @return the page of entities and a cursor for the next page
+     * @see #loadPage(Class, Filters, SortOrder, KeysetPagination, int)
+     * @since 3.2.2
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder, KeysetPagination pagination);
+
+    /**
+     * Load a page of entities of type, filtered by filters, with keyset pagination. Other than with
+     * {@link Pagination}, the previous pages aren't skipped on the server, the page starts right after the entity the
+     * cursor of the pagination has been created from. The entities are ordered by the sort order and then by their
+     * native ids.
+     *
+     * @param type       type of entities
+     * @param filters    filters
+     * @param sortOrder  sort order, may only refer to properties of the type
+     * @param pagination the page to load
+     * @param depth      depth
+     * @return the page of entities and a cursor for the next page
+     * @since 3.2.2
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder, KeysetPagination pagination,
+        int depth);
+
+    /**
+     * Streams all entities of type, filtered by filters, with default depth = 1.
+     *
+     * @param type    type of entities
+     * @param filters filters
+     * @return a stream of entities
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters);
+
+    /**
+     * Streams all entities of type, filtered by filters.
+     *
+     * @param type    type of entities
+     * @param filters filters
+     * @param depth   depth
+     * @return a stream of entities
+     * @see #stream(Class, Filters, SortOrder, int)
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Streams all entities of type, filtered by filters. Other than the {@code loadAll} methods, this method doesn't
+     * materialize the whole result: Records are read from the database one at a time while the stream is consumed and
+     * are mapped to entities incrementally. Each entity is emitted once and fully hydrated up to the given depth.
+     * <br>
+     * The stream is bound to the current transaction. If there is none, a new transaction is opened that stays
+     * open until the stream is closed, so the stream must be closed after use, preferably with try-with-resources.
+     * <br>
+     * Streamed entities are registered with the session like all loaded entities. Use {@link #clear()} or
+     * {@link #detachNodeEntity(Long)} for entities that have been processed when streaming very large results.
+     * Streams are always loaded with {@link LoadStrategy#SCHEMA_LOAD_STRATEGY}, because it returns exactly one record
+     * per entity. Unlimited depth is therefore not supported.
+     *
+     * @param type      type of entities
+     * @param filters   filters, may be null or empty
+     * @param sortOrder sort order
+     * @param depth     depth, must not be negative
+     * @return a stream of entities
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -500,6 +621,15 @@ public interface Session {
      */
     <T, ID extends Serializable> T load(Class<T> type, ID id, int depth);
 
+    /**
+     * Load single entity instance of type, following the relationships named by a fetch plan.
+     *
+     * @param fetchPlan the relationships to load, or a reference to a plan declared on the type
+     * @return entity instance, null if not found
+     * @since 3.2.2
+     */
+    <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan);
+
     /**
      * Save entity(or entities) into the database, up to specified depth
      * The entities are either created or updated.
@@ -520,6 +650,34 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Inserts new node entities in batches of 10000, see {@link #bulkInsert(Iterable, int, boolean)}. The native ids of
+     * the created nodes are not written back.
+     *
+     * @param entities new node entities
+     * @return the number of inserted entities
+     * @since 3.2.2
+     */
+    long bulkInsert(Iterable<?> entities);
+
+    /**
+     * Inserts new node entities, bypassing the mapping context: Their properties and labels are written in batches,
+     * but no relationships are followed, no save events are fired and no snapshots are kept. The session doesn't know
+     * about the entities afterwards, so they are neither returned by loads from its cache nor can they be updated
+     * with {@link #save(Object)} without loading them first. Entities with a primary index are merged on it, without
+     * version checks.
+     * <br>
+     * The entities are read while iterating, only one batch is held in memory at a time. Each batch is written in a
+     * transaction of its own, unless a transaction is open.
+     *
+     * @param entities     new node entities
+     * @param batchSize    the maximum number of entities written by one statement
+     * @param writeBackIds whether to set the native ids of the created nodes on the entities
+     * @return the number of inserted entities
+     * @since 3.2.2
+     */
+    long bulkInsert(Iterable<?> entities, int batchSize, boolean writeBackIds);
+
     /**
      * Delete entity (or entities)
      *
@@ -624,6 +782,20 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * a cypher statement this method will return a lazily evaluated stream of domain objects or scalars, like
+     * {@link #query(Class, String, Map)} does as a collection. Records are read one at a time while the stream is
+     * consumed. The same transaction rules as for {@link #stream(Class, Filters, SortOrder, int)} apply, so the stream
+     * must be closed after use.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parameterizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return A stream of domain objects or scalars as prescribed by the parametrized type.
+     */
+    <T> Stream<T> queryStream(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -649,6 +821,69 @@ public interface Session {
      */
     Result query(String cypher, Map<String, ?> parameters, boolean readOnly);
 
+    /**
+     * Load entity of type by id, with default depth = 1, without blocking the calling thread.
+     *
+     * @param type type of entity
+     * @param id   id of the entity to load
+     * @return a stage completing with the entity or null if not found
+     * @see #loadAsync(Class, Serializable, int)
+     */
+    <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id);
+
+    /**
+     * Load entity of type by id without blocking the calling thread. The entity is loaded in its own auto-commit
+     * transaction, see "Asynchronous methods" above.
+     *
+     * @param type  type of entity
+     * @param id    id of the entity to load
+     * @param depth depth
+     * @return a stage completing with the entity or null if not found
+     */
+    <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth);
+
+    /**
+     * Save entity(or entities) into the database with default depth -1, without blocking the calling thread.
+     *
+     * @param object object to save, may be single entity, array of entities or {@link Iterable}
+     * @return a stage completing when the object has been saved
+     * @see #saveAsync(Object, int)
+     */
+    <T> CompletionStage<Void> saveAsync(T object);
+
+    /**
+     * Save entity(or entities) into the database, up to specified depth, without blocking the calling thread. The save
+     * itself is executed by {@link #save(Object, int)}, see "Asynchronous methods" above.
+     *
+     * @param object object to save, may be single entity, array of entities or {@link Iterable}
+     * @param depth  depth
+     * @return a stage completing when the object has been saved
+     */
+    <T> CompletionStage<Void> saveAsync(T object, int depth);
+
+    /**
+     * Asynchronous variant of {@link #query(Class, String, Map)}. The query runs in its own auto-commit transaction,
+     * see "Asynchronous methods" above.
+     *
+     * @param type       the type of the returned entities or scalars
+     * @param cypher     The parameterisable cypher to execute.
+     * @param parameters Any scalar parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return a stage completing with the query result
+     */
+    <T> CompletionStage<Iterable<T>> queryAsync(Class<T> type, String cypher, Map<String, ?> parameters);
+
+    /**
+     * Asynchronous variant of {@link #query(String, Map, boolean)}. The query runs in its own auto-commit transaction,
+     * see "Asynchronous methods" above.
+     *
+     * @param cypher     The parameterisable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param readOnly   true if the query is readOnly, false otherwise
+     * @return a stage completing with the query result
+     */
+    CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly);
+
     /**
      * Counts all the <em>node</em> entities of the specified type.
      *
@@ -23,6 +23,7 @@ import static org.neo4j.ogm.config.AutoIndexMode.*;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
@@ -32,7 +33,13 @@ import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.session.cache.SecondLevelCache;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.reactive.Neo4jReactiveSession;
+import org.neo4j.ogm.session.reactive.ReactiveSession;
+import org.neo4j.ogm.session.request.strategy.QueryTemplateCache;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * This is the main initialization point of OGM. Used to create {@link Session} instances for interacting with Neo4j.
@@ -49,9 +56,14 @@ public class SessionFactory {
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final SecondLevelCache secondLevelCache;
+    private final StatementShapeCounter statementShapeCounter = new StatementShapeCounter();
+    private final QueryTemplateCache queryTemplateCache = new QueryTemplateCache();
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private Executor asyncExecutor;
+    private OgmMetrics metrics;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -104,6 +116,7 @@ public class SessionFactory {
         this.driver = driver;
         this.eventListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+        this.secondLevelCache = SecondLevelCache.of(driver.getConfiguration());
     }
 
     /**
@@ -137,7 +150,33 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy, entityInstantiator);
+        Neo4jSession session = new Neo4jSession(metaData, driver, eventListeners, loadStrategy, entityInstantiator,
+            secondLevelCache);
+        session.setStatementShapeCounter(statementShapeCounter);
+        session.setQueryTemplateCache(queryTemplateCache);
+        if (asyncExecutor != null) {
+            session.setAsyncExecutor(asyncExecutor);
+        }
+        session.setMetrics(metrics);
+        return session;
+    }
+
+    /**
+     * Opens a new {@link ReactiveSession} on top of a new {@link Session}. Loads and queries of the reactive session
+     * don't block, saves and deletes are run by the blocking session on the given executor. The given executor
+     * replaces the one set by {@link #setAsyncExecutor(Executor)} for the new session. The driver specified in the OGM
+     * baseConfiguration must support non-blocking requests.
+     *
+     * @param executor Maps results and runs saves and deletes, must not be a thread of the driver
+     * @return A new {@link ReactiveSession}
+     * @throws UnsupportedOperationException if the driver doesn't support non-blocking requests
+     * @since 3.2.2
+     */
+    public ReactiveSession openReactiveSession(Executor executor) {
+        Neo4jSession session = (Neo4jSession) openSession();
+        // Fail early instead of on the first subscription
+        session.asyncRequestHandler(Transaction.Type.READ_ONLY);
+        return new Neo4jReactiveSession(session, executor);
     }
 
     /**
@@ -185,11 +224,71 @@ public class SessionFactory {
         this.entityInstantiator = entityInstantiator;
     }
 
+    /**
+     * Sets the executor running the mapping of asynchronous loads and queries and asynchronous saves, see
+     * {@link Session#loadAsync(Class, java.io.Serializable, int)}. Each session submits its tasks one at a time.
+     * There is no default, asynchronous operations fail until an executor has been set. The executor should be
+     * dedicated to Neo4j-OGM: Blocking saves on the common fork join pool starve the parallel hydration of results.
+     * Only Session instances created after this call are affected.
+     *
+     * @param asyncExecutor The executor to use, must not be a thread of the driver
+     * @since 3.2.2
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Sets the receiver of the metrics of the load, query, save and delete operations of the sessions of this factory,
+     * for example an adapter to a metrics library. Operations are not measured by default.
+     * Only Session instances created after this call are affected.
+     *
+     * @param metrics The receiver of the metrics, may be null to not measure operations
+     * @since 3.2.2
+     */
+    public void setMetrics(OgmMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the cache shared by all sessions of this factory, if turned on in the configuration.
+     *
+     * @return the second-level cache or null, if it is not turned on
+     * @since 3.2.2
+     */
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Returns the counter of the distinct statements sent by the sessions of this factory. Every distinct statement
+     * needs its own query plan on the server, so this number should stop growing once the application has warmed up.
+     *
+     * @return the statement shape counter of this factory
+     * @since 3.2.2
+     */
+    public StatementShapeCounter getStatementShapeCounter() {
+        return statementShapeCounter;
+    }
+
+    /**
+     * Returns the cache of the load clauses shared by the sessions of this factory.
+     *
+     * @return the query template cache of this factory
+     * @since 3.2.2
+     */
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
     /**
      * Closes this session factory
      * Also closes any underlying resources, like driver etc.
      */
     public void close() {
+        if (secondLevelCache != null) {
+            secondLevelCache.clear();
+        }
         driver.close();
     }
 
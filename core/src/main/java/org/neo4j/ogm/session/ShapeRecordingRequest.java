@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Records the statements executed by a {@link Request} in a {@link StatementShapeCounter}.
+ */
+class ShapeRecordingRequest implements Request {
+
+    private final Request delegate;
+
+    private final StatementShapeCounter counter;
+
+    ShapeRecordingRequest(Request delegate, StatementShapeCounter counter) {
+        this.delegate = delegate;
+        this.counter = counter;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        counter.record(query.getStatement());
+        return delegate.execute(query);
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        counter.record(query.getStatement());
+        return delegate.execute(query);
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        for (Statement statement : query.getStatements()) {
+            counter.record(statement.getStatement());
+        }
+        return delegate.execute(query);
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        counter.record(query.getStatement());
+        return delegate.execute(query);
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        counter.record(query.getStatement());
+        return delegate.execute(query);
+    }
+
+    @Override
+    public boolean isPipelining() {
+        return delegate.isPipelining();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the distinct statements, that is, statement shapes, sent by the sessions of a {@link SessionFactory}. Values
+ * that are passed as parameters don't change the shape of a statement, literals inlined into the statement text do.
+ * Each shape has its own entry in the query plan cache of the server, so the number of shapes should stay small and
+ * stop growing once an application has warmed up.
+ * <p>
+ * At most {@code maximumShapes} shapes are tracked. Once that many shapes have been seen, new shapes are no longer
+ * remembered and the counter is {@link #isSaturated() saturated}.
+ *
+ * @since 3.2.2
+ */
+public class StatementShapeCounter {
+
+    static final int DEFAULT_MAXIMUM_SHAPES = 10_000;
+
+    private final int maximumShapes;
+
+    private final Set<String> shapes = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder statementCount = new LongAdder();
+
+    private volatile boolean saturated;
+
+    public StatementShapeCounter() {
+        this(DEFAULT_MAXIMUM_SHAPES);
+    }
+
+    public StatementShapeCounter(int maximumShapes) {
+        if (maximumShapes < 1) {
+            throw new IllegalArgumentException("The maximum number of shapes must be greater than zero");
+        }
+        this.maximumShapes = maximumShapes;
+    }
+
+    /**
+     * Records a statement about to be sent.
+     *
+     * @param statement the statement text, without parameter values
+     */
+    public void record(String statement) {
+        if (statement == null || statement.isEmpty()) {
+            return;
+        }
+        statementCount.increment();
+        if (shapes.size() < maximumShapes) {
+            shapes.add(statement);
+        } else if (!saturated && !shapes.contains(statement)) {
+            saturated = true;
+        }
+    }
+
+    /**
+     * @return the number of distinct statements recorded since the last reset
+     */
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    /**
+     * @return the number of statements recorded since the last reset
+     */
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    /**
+     * @return true if more distinct statements have been recorded than are tracked, {@link #getShapeCount()} is then
+     * a lower bound
+     */
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    /**
+     * Forgets all statements recorded so far.
+     */
+    public void reset() {
+        shapes.clear();
+        statementCount.reset();
+        saturated = false;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.annotation.Cacheable;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A cache shared by all sessions of a session factory, holding the graph models loaded for entities of classes
+ * annotated with {@link Cacheable}. Entries are keyed by the load statement and its parameters, so by the native or
+ * primary id and depth of the loaded entities. As graph models and not entities are cached, every session maps its own
+ * instances. Loads that didn't find all of the requested entities are not cached.
+ * <p>
+ * Entries are invalidated when a node or relationship they contain is saved or deleted. Loads that started before an
+ * invalidation are not cached, as they might have read stale data. Changes made through custom Cypher queries or by
+ * other applications are only picked up once entries expire.
+ *
+ * @since 3.2.2
+ */
+public class SecondLevelCache {
+
+    private final int defaultTimeToLive;
+    private final int defaultMaxEntries;
+    private final ConcurrentMap<ClassInfo, Region> regions = new ConcurrentHashMap<>();
+
+    // Incremented on each invalidation, so that loads that overlap with an invalidation are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * @param defaultTimeToLive default number of seconds entries are kept, 0 keeps them until they are invalidated
+     * @param defaultMaxEntries default maximum number of entries per class
+     */
+    public SecondLevelCache(int defaultTimeToLive, int defaultMaxEntries) {
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.defaultMaxEntries = defaultMaxEntries;
+    }
+
+    /**
+     * @param configuration the configuration of a session factory, may be null
+     * @return a new cache if the second-level cache is turned on in the given configuration, otherwise null
+     */
+    public static SecondLevelCache of(Configuration configuration) {
+        if (configuration == null || !configuration.getSecondLevelCache()) {
+            return null;
+        }
+        return new SecondLevelCache(configuration.getSecondLevelCacheTimeToLive(),
+            configuration.getSecondLevelCacheMaxEntries());
+    }
+
+    public boolean isCacheable(ClassInfo classInfo) {
+        return classInfo != null && classInfo.getUnderlyingClass().isAnnotationPresent(Cacheable.class);
+    }
+
+    /**
+     * @return a value to pass to {@link #put(ClassInfo, Statement, Response, long, Function, Predicate)} when the load
+     *     is done
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * @param classInfo the class of the entities to load
+     * @param statement the load statement
+     * @return a response replaying the cached graph models of the given load, or null if there are none
+     */
+    public Response<GraphModel> get(ClassInfo classInfo, Statement statement) {
+
+        Region region = regions.get(classInfo);
+        List<GraphModel> graphModels = region == null ? null : region.get(new Key(statement));
+        if (graphModels == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return new CachedGraphModelResponse(graphModels);
+    }
+
+    /**
+     * Reads the remaining graph models from the given response, maps them and caches them, unless the cache has been
+     * invalidated since the given generation. Loads that found nothing or not all of the requested entities are not
+     * cached, as creating the missing entities later on doesn't invalidate any entry.
+     *
+     * @param classInfo  the class of the loaded entities
+     * @param statement  the load statement
+     * @param response   the response of the statement
+     * @param generationBeforeLoad the {@link #generation()} before the statement has been executed
+     * @param mapper     maps the graph models read from the given response
+     * @param complete   whether the mapped result contains all of the requested entities
+     * @param <T>        the type of the mapped result
+     * @return the mapped result
+     */
+    public <T> T put(ClassInfo classInfo, Statement statement, Response<GraphModel> response,
+        long generationBeforeLoad, Function<Response<GraphModel>, T> mapper, Predicate<T> complete) {
+
+        List<GraphModel> graphModels = response.toList();
+        T result = mapper.apply(new CachedGraphModelResponse(graphModels));
+        if (!graphModels.isEmpty() && complete.test(result) && generation.get() == generationBeforeLoad) {
+            regions.computeIfAbsent(classInfo, this::newRegion).put(new Key(statement), new Entry(graphModels));
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates all entries containing any of the given nodes or relationships.
+     *
+     * @param nodeIds         native ids of saved or deleted nodes
+     * @param relationshipIds native ids of saved or deleted relationships
+     */
+    public void invalidate(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+
+        if (nodeIds.isEmpty() && relationshipIds.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        long[] sortedNodeIds = sortedIds(nodeIds);
+        long[] sortedRelationshipIds = sortedIds(relationshipIds);
+        regions.values().forEach(region -> invalidationCount.addAndGet(
+            region.removeIf(entry -> entry.containsAny(sortedNodeIds, sortedRelationshipIds))));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        regions.clear();
+    }
+
+    /**
+     * @return the number of loads answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of loads of cacheable classes not answered from the cache
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of entries removed because they contained saved or deleted nodes or relationships
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    private Region newRegion(ClassInfo classInfo) {
+
+        Cacheable cacheable = classInfo.getUnderlyingClass().getAnnotation(Cacheable.class);
+        int timeToLive = cacheable != null && cacheable.timeToLive() >= 0 ? cacheable.timeToLive() : defaultTimeToLive;
+        int maxEntries = cacheable != null && cacheable.maxEntries() >= 0 ? cacheable.maxEntries() : defaultMaxEntries;
+        return new Region(TimeUnit.SECONDS.toNanos(timeToLive), maxEntries);
+    }
+
+    private static long[] sortedIds(Collection<Long> ids) {
+        long[] sortedIds = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            sortedIds[i++] = id;
+        }
+        Arrays.sort(sortedIds);
+        return sortedIds;
+    }
+
+    /**
+     * The entries of one class, evicting the least recently used ones and the expired ones.
+     */
+    private static class Region {
+
+        private final long timeToLive;
+        private final Map<Key, Entry> entries;
+
+        Region(long timeToLive, int maxEntries) {
+            this.timeToLive = timeToLive;
+            this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized List<GraphModel> get(Key key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (timeToLive > 0 && System.nanoTime() - entry.created > timeToLive) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.graphModels;
+        }
+
+        synchronized void put(Key key, Entry entry) {
+            entries.put(key, entry);
+        }
+
+        synchronized int removeIf(Predicate<Entry> predicate) {
+            int removed = 0;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (predicate.test(iterator.next())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+
+    private static class Entry {
+
+        private final List<GraphModel> graphModels;
+        private final long[] nodeIds;
+        private final long[] relationshipIds;
+        private final long created = System.nanoTime();
+
+        Entry(List<GraphModel> graphModels) {
+            this.graphModels = graphModels;
+            this.nodeIds = graphModels.stream()
+                .flatMap(graphModel -> graphModel.getNodes().stream())
+                .mapToLong(Node::getId)
+                .sorted().distinct().toArray();
+            this.relationshipIds = graphModels.stream()
+                .flatMap(graphModel -> graphModel.getRelationships().stream())
+                .mapToLong(Edge::getId)
+                .sorted().distinct().toArray();
+        }
+
+        boolean containsAny(long[] sortedNodeIds, long[] sortedRelationshipIds) {
+            return intersect(nodeIds, sortedNodeIds) || intersect(relationshipIds, sortedRelationshipIds);
+        }
+
+        private static boolean intersect(long[] sorted, long[] otherSorted) {
+            int i = 0;
+            int j = 0;
+            while (i < sorted.length && j < otherSorted.length) {
+                if (sorted[i] == otherSorted[j]) {
+                    return true;
+                } else if (sorted[i] < otherSorted[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Key {
+
+        private final String statement;
+        private final Map<String, Object> parameters;
+
+        Key(Statement statement) {
+            this.statement = statement.getStatement();
+            this.parameters = statement.getParameters();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return statement.equals(key.statement) && Objects.equals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statement, parameters);
+        }
+    }
+}
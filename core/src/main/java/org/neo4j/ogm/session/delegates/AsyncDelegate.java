@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import static org.neo4j.ogm.metadata.ClassInfo.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.neo4j.ogm.context.EntityRowModelMapper;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.RestModelMapper;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultRestModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.AsyncResponse;
+import org.neo4j.ogm.response.model.QueryResultModel;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Runs loads, saves and queries without blocking the calling thread. Requests are sent through the non-blocking API of
+ * the driver, everything touching the mapping context runs on the session confined executor.
+ *
+ * @since 3.2.2
+ */
+public class AsyncDelegate extends SessionDelegate {
+
+    private final LoadOneDelegate loadOneDelegate;
+
+    private final ExecuteQueriesDelegate executeQueriesDelegate;
+
+    public AsyncDelegate(Neo4jSession session) {
+        super(session);
+        this.loadOneDelegate = new LoadOneDelegate(session);
+        this.executeQueriesDelegate = new ExecuteQueriesDelegate(session);
+    }
+
+    public <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id, int depth) {
+
+        Executor executor = session.asyncExecutor();
+        return CompletableFuture.supplyAsync(() -> loadOneDelegate.requestFor(type, id, depth), executor)
+            .thenCompose(request -> {
+                Function<GraphModel, List<T>> mapper = graphRowModelMapper().incrementalMapper(type);
+                return forEachModel(session.asyncRequestHandler(Transaction.Type.READ_ONLY).execute(request),
+                    mapper::apply);
+            })
+            .thenApplyAsync(response -> loadOneDelegate.lookup(type, id), executor);
+    }
+
+    public <T> CompletionStage<Void> save(T object, int depth) {
+        return CompletableFuture.runAsync(() -> session.unmeasured(() -> session.save(object, depth)),
+            session.asyncExecutor());
+    }
+
+    public <T> CompletionStage<Iterable<T>> query(Class<T> type, String cypher, Map<String, ?> parameters) {
+
+        executeQueriesDelegate.validateQuery(cypher, parameters, false);
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        Executor executor = session.asyncExecutor();
+        List<T> result = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> session.metaData().classInfo(deriveSimpleName(type)) != null,
+            executor)
+            .thenCompose(isEntity -> {
+                if (isEntity) {
+                    // Things that can be mapped to entities
+                    GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+                    Function<GraphModel, List<T>> mapper = graphRowModelMapper().incrementalMapper(type);
+                    return forEachModel(session.asyncRequestHandler(Transaction.Type.READ_WRITE).execute(request),
+                        model -> result.addAll(mapper.apply(model))).<Iterable<T>>thenApply(response -> result);
+                } else {
+                    // Scalar mappings
+                    DefaultRowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+                    EntityRowModelMapper mapper = new EntityRowModelMapper();
+                    return forEachModel(session.asyncRequestHandler(Transaction.Type.READ_WRITE).execute(request),
+                        model -> result.add(mapper.mapRow(type, model))).<Iterable<T>>thenApply(response -> result);
+                }
+            });
+    }
+
+    public CompletionStage<Result> query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+
+        executeQueriesDelegate.validateQuery(cypher, parameters, readOnly);
+
+        DefaultRestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
+        Transaction.Type type = readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> new RestModelMapper(session.metaData(), session.context(),
+            session.getEntityInstantiator()), session.asyncExecutor())
+            .thenCompose(mapper -> forEachModel(session.asyncRequestHandler(type).execute(request),
+                model -> rows.add(mapper.mapRow(model))))
+            .<Result>thenCompose(response -> readOnly ?
+                CompletableFuture.completedFuture(new QueryResultModel(rows, null)) :
+                response.getStatistics().thenApply(statistics -> new QueryResultModel(rows, statistics.orElse(null))));
+    }
+
+    /**
+     * Reads all models of a response and hands them one at a time to the given consumer, on the session confined
+     * executor. Once the response is exhausted, its bookmark becomes the last bookmark of the session.
+     *
+     * @return A stage completing with the exhausted response
+     */
+    private <M> CompletionStage<AsyncResponse<M>> forEachModel(CompletionStage<AsyncResponse<M>> pendingResponse,
+        Consumer<M> consumer) {
+
+        CompletableFuture<AsyncResponse<M>> exhausted = new CompletableFuture<>();
+        pendingResponse.whenComplete((response, error) -> {
+            if (error != null) {
+                exhausted.completeExceptionally(unwrap(error));
+            } else {
+                readNext(response, consumer, exhausted);
+            }
+        });
+        return exhausted;
+    }
+
+    private <M> void readNext(AsyncResponse<M> response, Consumer<M> consumer,
+        CompletableFuture<AsyncResponse<M>> exhausted) {
+
+        response.next().whenCompleteAsync((model, error) -> {
+            if (error != null) {
+                exhausted.completeExceptionally(unwrap(error));
+                return;
+            }
+            if (model == null) {
+                // Without a bookmark, the last bookmark of the session stays as it is
+                response.getBookmark().whenCompleteAsync((bookmark, bookmarkError) -> {
+                    if (bookmark != null) {
+                        bookmark.ifPresent(session::withBookmark);
+                    }
+                    exhausted.complete(response);
+                }, session.asyncExecutor());
+                return;
+            }
+            try {
+                consumer.accept(model);
+            } catch (RuntimeException e) {
+                response.close();
+                exhausted.completeExceptionally(e);
+                return;
+            }
+            readNext(response, consumer, exhausted);
+        }, session.asyncExecutor());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private GraphRowModelMapper graphRowModelMapper() {
+        return new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator());
+    }
+}
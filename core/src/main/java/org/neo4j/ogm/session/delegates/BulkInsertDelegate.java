@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.builders.statement.BulkInsertStatementBuilder;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.utils.EntityUtils;
+
+/**
+ * Inserts new node entities without going through the {@link org.neo4j.ogm.context.EntityGraphMapper}: The properties
+ * and labels of each entity are read from its {@link ClassInfo} into a row, and rows of entities sharing the same
+ * labels are created with one {@code UNWIND} statement. Neither the mapping context nor the save events are involved,
+ * so no state is kept for the inserted entities once their batch has been written.
+ *
+ * @since 3.2.2
+ */
+public class BulkInsertDelegate extends SessionDelegate {
+
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    private final RowStatementFactory statementFactory = new RowStatementFactory();
+
+    public BulkInsertDelegate(Neo4jSession session) {
+        super(session);
+    }
+
+    public long bulkInsert(Iterable<?> entities, int batchSize, boolean writeBackIds) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must greater then zero");
+        }
+
+        Map<BatchKey, Batch> batches = new LinkedHashMap<>();
+        int pending = 0;
+        long inserted = 0;
+        for (Object entity : entities) {
+            ClassInfo classInfo = classInfoOf(entity);
+            MappingContext.generateIdIfNecessary(entity, classInfo);
+
+            FieldInfo primaryIndexField = classInfo.primaryIndexField();
+            BatchKey key = new BatchKey(new ArrayList<>(EntityUtils.labels(entity, session.metaData())),
+                primaryIndexField != null ? primaryIndexField.property() : null);
+            batches.computeIfAbsent(key, k -> new Batch()).add(entity, propertiesOf(entity, classInfo), writeBackIds);
+
+            if (++pending == batchSize) {
+                inserted += flush(batches, writeBackIds);
+                pending = 0;
+            }
+        }
+        return inserted + flush(batches, writeBackIds);
+    }
+
+    private ClassInfo classInfoOf(Object entity) {
+
+        ClassInfo classInfo = session.metaData().classInfo(entity);
+        if (classInfo == null) {
+            throw new IllegalArgumentException("Class " + entity.getClass() + " is not a valid entity class. "
+                + "Please check the entity mapping.");
+        }
+        if (classInfo.isRelationshipEntity()) {
+            throw new IllegalArgumentException("Bulk insert only supports node entities, got " + entity.getClass());
+        }
+        if (classInfo.hasIdentityField()) {
+            Long id = (Long) classInfo.identityField().readProperty(entity);
+            if (id != null && id >= 0) {
+                throw new IllegalArgumentException("Bulk insert only supports new entities, but " + entity
+                    + " has already been saved with id " + id);
+            }
+        }
+        return classInfo;
+    }
+
+    /**
+     * The same properties as written by a save, without looking at previously saved values.
+     */
+    private static Map<String, Object> propertiesOf(Object entity, ClassInfo classInfo) {
+
+        Map<String, Object> properties = new HashMap<>();
+        for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+            if (fieldInfo.isComposite()) {
+                properties.putAll(fieldInfo.readComposite(entity));
+            } else if (fieldInfo.isVersionField()) {
+                Long version = (Long) fieldInfo.readProperty(entity);
+                version = version == null ? 0L : version + 1;
+                fieldInfo.writeDirect(entity, version);
+                properties.put(fieldInfo.propertyName(), version);
+            } else {
+                properties.put(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
+            }
+        }
+        return properties;
+    }
+
+    private long flush(Map<BatchKey, Batch> batches, boolean writeBackIds) {
+
+        long flushed = 0;
+        for (Map.Entry<BatchKey, Batch> entry : batches.entrySet()) {
+            flushed += flush(entry.getKey(), entry.getValue(), writeBackIds);
+        }
+        batches.clear();
+        return flushed;
+    }
+
+    private int flush(BatchKey key, Batch batch, boolean writeBackIds) {
+
+        Statement statement = new BulkInsertStatementBuilder(key.labels, key.primaryIndex, batch.rows, writeBackIds,
+            statementFactory).build();
+        DefaultRowModelRequest request = new DefaultRowModelRequest(statement.getStatement(),
+            statement.getParameters());
+
+        session.doInTransaction(() -> {
+            try (Response<RowModel> response = session.requestHandler().execute(request)) {
+                if (!writeBackIds) {
+                    return;
+                }
+                for (RowModel row = response.next(); row != null; row = response.next()) {
+                    Object entity = batch.entities.get(((Number) row.getValues()[0]).intValue());
+                    EntityUtils.setIdentity(entity, ((Number) row.getValues()[1]).longValue(), session.metaData());
+                }
+            }
+        }, Transaction.Type.READ_WRITE);
+
+        if (key.primaryIndex != null) {
+            // Merging on the primary index may have changed existing nodes
+            session.clearSecondLevelCache();
+        }
+        return batch.rows.size();
+    }
+
+    private static class BatchKey {
+
+        private final List<String> labels;
+        private final String primaryIndex;
+
+        BatchKey(List<String> labels, String primaryIndex) {
+            this.labels = labels;
+            this.primaryIndex = primaryIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey batchKey = (BatchKey) o;
+            return labels.equals(batchKey.labels) && Objects.equals(primaryIndex, batchKey.primaryIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(labels, primaryIndex);
+        }
+    }
+
+    private static class Batch {
+
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        private final List<Object> entities = new ArrayList<>();
+
+        void add(Object entity, Map<String, Object> properties, boolean keepEntity) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("props", properties);
+            if (keepEntity) {
+                row.put("ref", entities.size());
+                entities.add(entity);
+            }
+            rows.add(row);
+        }
+    }
+}
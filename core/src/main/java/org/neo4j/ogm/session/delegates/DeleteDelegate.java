@@ -21,8 +21,10 @@ package org.neo4j.ogm.session.delegates;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -84,6 +86,7 @@ public class DeleteDelegate extends SessionDelegate {
             session.doInTransaction(() -> {
                 try (Response<RowModel> response = session.requestHandler().execute(query)) {
                     session.context().removeType(type);
+                    session.clearSecondLevelCache();
                     if (session.eventsEnabled()) {
                         session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
                     }
@@ -126,6 +129,7 @@ public class DeleteDelegate extends SessionDelegate {
             session.requestHandler().execute(query).close();
         }, Transaction.Type.READ_WRITE);
         session.context().clear();
+        session.clearSecondLevelCache();
     }
 
     public void clear() {
@@ -158,7 +162,14 @@ public class DeleteDelegate extends SessionDelegate {
         deleteOneOrMoreObjects(objectsForDeletion, allNeighbours);
     }
 
-    // TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
+    /**
+     * Deletes the given objects in as few requests as possible: Objects are grouped by their class and each group is
+     * deleted with a single statement. Relationship entities are deleted before nodes, so that their version can still
+     * be checked before they are removed together with their start or end node.
+     *
+     * @param objects    the objects to delete
+     * @param neighbours the objects affected by the delete
+     */
     private void deleteOneOrMoreObjects(List<?> objects, Set<Object> neighbours) {
 
         Set<Object> notified = new HashSet<>();
@@ -172,6 +183,7 @@ public class DeleteDelegate extends SessionDelegate {
             }
         }
 
+        Map<ClassInfo, Map<Long, Object>> objectsByClass = new LinkedHashMap<>();
         for (Object object : objects) {
 
             ClassInfo classInfo = session.metaData().classInfo(object);
@@ -194,38 +206,32 @@ public class DeleteDelegate extends SessionDelegate {
                             .orElse(-1L);
                     });
                 if (id >= 0) {
-                    Statement request = getDeleteStatement(object, id, classInfo);
+                    objectsByClass.computeIfAbsent(classInfo, k -> new LinkedHashMap<>()).put(id, object);
                     if (session.eventsEnabled()) {
                         if (!notified.contains(object)) {
                             session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
                             notified.add(object);
                         }
                     }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    session.doInTransaction(() -> {
-                        try (Response<RowModel> response = session.requestHandler().execute(query)) {
-
-                            if (request.optimisticLockingConfig().isPresent()) {
-                                List<RowModel> rowModels = response.toList();
-                                session.optimisticLockingChecker().checkResultsCount(rowModels, request);
-                            }
-
-                            if (session.metaData().isRelationshipEntity(classInfo.name())) {
-                                session.detachRelationshipEntity(id);
-                            } else {
-                                session.detachNodeEntity(id);
-                            }
-                            if (session.eventsEnabled()) {
-                                if (notified.contains(object)) {
-                                    session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                                }
-                            }
-                        }
-                    }, Transaction.Type.READ_WRITE);
                 }
             }
         }
 
+        if (!objectsByClass.isEmpty()) {
+            session.doInTransaction(() -> {
+                objectsByClass.forEach((classInfo, objectsById) -> {
+                    if (classInfo.isRelationshipEntity()) {
+                        deleteObjectsOfSameClass(classInfo, objectsById, notified);
+                    }
+                });
+                objectsByClass.forEach((classInfo, objectsById) -> {
+                    if (!classInfo.isRelationshipEntity()) {
+                        deleteObjectsOfSameClass(classInfo, objectsById, notified);
+                    }
+                });
+            }, Transaction.Type.READ_WRITE);
+        }
+
         if (session.eventsEnabled()) {
             for (Object affectedObject : neighbours) {
                 if (notified.contains(affectedObject)) {
@@ -235,6 +241,42 @@ public class DeleteDelegate extends SessionDelegate {
         }
     }
 
+    private void deleteObjectsOfSameClass(ClassInfo classInfo, Map<Long, Object> objectsById, Set<Object> notified) {
+
+        Statement request = getDeleteStatement(classInfo, objectsById);
+        RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+        try (Response<RowModel> response = session.requestHandler().execute(query)) {
+
+            if (request.optimisticLockingConfig().isPresent()) {
+                List<RowModel> rowModels = response.toList();
+                session.optimisticLockingChecker().checkResultsCount(rowModels, request);
+            }
+
+            boolean isRelationshipEntity = session.metaData().isRelationshipEntity(classInfo.name());
+            invalidateSecondLevelCache(objectsById.keySet(), isRelationshipEntity);
+            objectsById.forEach((id, object) -> {
+                if (isRelationshipEntity) {
+                    session.detachRelationshipEntity(id);
+                } else {
+                    session.detachNodeEntity(id);
+                }
+                if (session.eventsEnabled()) {
+                    if (notified.contains(object)) {
+                        session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+                    }
+                }
+            });
+        }
+    }
+
+    private void invalidateSecondLevelCache(Collection<Long> ids, boolean isRelationshipEntity) {
+        if (isRelationshipEntity) {
+            session.invalidateSecondLevelCache(Collections.emptySet(), ids);
+        } else {
+            session.invalidateSecondLevelCache(ids, Collections.emptySet());
+        }
+    }
+
     private DeleteStatements getDeleteStatementsBasedOnType(Class type) {
         if (session.metaData().isRelationshipEntity(type.getName())) {
             return new RelationshipDeleteStatements();
@@ -242,14 +284,14 @@ public class DeleteDelegate extends SessionDelegate {
         return new NodeDeleteStatements();
     }
 
-    private Statement getDeleteStatement(Object object, Long identity, ClassInfo classInfo) {
-        DeleteStatements deleteStatements = getDeleteStatementsBasedOnType(object.getClass());
+    private Statement getDeleteStatement(ClassInfo classInfo, Map<Long, Object> objectsById) {
+        DeleteStatements deleteStatements = getDeleteStatementsBasedOnType(classInfo.getUnderlyingClass());
 
         Statement request;
         if (classInfo.hasVersionField()) {
-            request = deleteStatements.delete(identity, object, classInfo);
+            request = deleteStatements.delete(objectsById, classInfo);
         } else {
-            request = deleteStatements.delete(identity);
+            request = deleteStatements.delete(objectsById.keySet());
         }
         return request;
     }
@@ -310,6 +352,8 @@ public class DeleteDelegate extends SessionDelegate {
      */
     private void postDelete(Long identity, boolean isRelationshipEntity) {
 
+        invalidateSecondLevelCache(Collections.singleton(identity), isRelationshipEntity);
+
         Object object;
 
         if (isRelationshipEntity) {
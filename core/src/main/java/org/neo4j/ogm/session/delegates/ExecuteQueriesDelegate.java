@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
@@ -108,6 +109,29 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return executeAndMap(type, cypher, parameters);
     }
 
+    public <T> Stream<T> queryStream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        return session.doInStreamingTransaction(() -> {
+            if (session.metaData().classInfo(deriveSimpleName(type)) != null) {
+                // Things that can be mapped to entities
+                GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+                Response<GraphModel> response = session.requestHandler().execute(request);
+                return new GraphRowModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator())
+                    .stream(type, response);
+            } else {
+                // Scalar mappings
+                RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+                Response<RowModel> response = session.requestHandler().execute(request);
+                return new EntityRowModelMapper().stream(type, response);
+            }
+        }, Transaction.Type.READ_WRITE);
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
@@ -237,7 +261,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return matcher.find();
     }
 
-    private void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
+    void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         if (readOnly && mayBeReadWrite(cypher)) {
             session.warn(
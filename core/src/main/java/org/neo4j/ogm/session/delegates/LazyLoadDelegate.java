@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import static org.neo4j.ogm.annotation.Relationship.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Loads the relationships of a {@link org.neo4j.ogm.annotation.Lazy} field for a batch of owning entities.
+ *
+ * @since 3.2.2
+ */
+public class LazyLoadDelegate extends SessionDelegate {
+
+    public LazyLoadDelegate(Neo4jSession session) {
+        super(session);
+    }
+
+    /**
+     * Loads the relationships declared by the given field for all given owners and maps them, together with the
+     * related entities, into the mapping context of the session.
+     *
+     * @param field    the lazy relationship field
+     * @param ownerIds native ids of the owners
+     */
+    public void loadRelationships(FieldInfo field, Set<Long> ownerIds) {
+
+        GraphModelRequest request = new DefaultGraphModelRequest(statement(field),
+            Collections.singletonMap("ids", ownerIds));
+
+        session.doInTransaction(() -> {
+            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+                    .map(Object.class, response);
+            }
+        }, Transaction.Type.READ_ONLY);
+    }
+
+    static String statement(FieldInfo field) {
+
+        String relationship = "-[:`" + field.relationshipType() + "`]-";
+        switch (field.relationshipDirection()) {
+            case OUTGOING:
+                relationship = relationship + ">";
+                break;
+            case INCOMING:
+                relationship = "<" + relationship;
+                break;
+            default:
+                break;
+        }
+        return "MATCH (n) WHERE ID(n) IN { ids } MATCH p=(n)" + relationship + "() RETURN p";
+    }
+}
@@ -29,16 +29,14 @@ import java.util.function.Function;
 
 import org.neo4j.ogm.context.GraphRowModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.ClassInfo;
-import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
-import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
-import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +56,27 @@ public class LoadByIdsDelegate extends SessionDelegate {
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination, int depth) {
+        return loadAll(type, ids, sortOrder, pagination, depth, session.queryStatementsFor(type, depth));
+    }
+
+    public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
+        Pagination pagination, FetchPlan fetchPlan) {
+        FetchPlan resolvedPlan = session.resolveFetchPlan(type, fetchPlan);
+        return loadAll(type, ids, sortOrder, pagination, depthOf(type, resolvedPlan),
+            session.queryStatementsFor(type, resolvedPlan));
+    }
+
+    private <T, ID extends Serializable> Collection<T> loadAllWithDefaultFetchPlan(Class<T> type, Collection<ID> ids,
+        SortOrder sortOrder, Pagination pagination) {
+        FetchPlan defaultFetchPlan = defaultFetchPlan(type);
+        if (defaultFetchPlan == null) {
+            return loadAll(type, ids, sortOrder, pagination, 1);
+        }
+        return loadAll(type, ids, sortOrder, pagination, defaultFetchPlan);
+    }
+
+    private <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
+        Pagination pagination, int depth, QueryStatements<ID> queryStatements) {
 
         String entityLabel = session.entityType(type.getName());
         if (entityLabel == null) {
@@ -65,29 +84,27 @@ public class LoadByIdsDelegate extends SessionDelegate {
                 + " : no results will be returned. Make sure the class is registered, "
                 + "and not abstract without @NodeEntity annotation");
         }
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
         PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, ids, depth)
             .setSortOrder(sortOrder)
             .setPagination(pagination);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
-        return session.doInTransaction(() -> {
-            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator()).map(type, response);
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        return loadThroughSecondLevelCache(classInfo, request, response -> {
+            Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator()).map(type, response);
 
-                if (sortOrder.sortClauses().isEmpty()) {
-                    return sortResultsByIds(type, ids, mapped);
-                }
-                Set<T> results = new LinkedHashSet<>();
-                for (T entity : mapped) {
-                    if (includeMappedEntity(ids, entity)) {
-                        results.add(entity);
-                    }
+            if (sortOrder.sortClauses().isEmpty()) {
+                return sortResultsByIds(type, ids, mapped);
+            }
+            Set<T> results = new LinkedHashSet<>();
+            for (T entity : mapped) {
+                if (includeMappedEntity(ids, entity)) {
+                    results.add(entity);
                 }
-                return results;
             }
-        }, Transaction.Type.READ_ONLY);
+            return results;
+        }, results -> results.size() == ids.stream().distinct().count());
     }
 
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids,
@@ -114,7 +131,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids) {
-        return loadAll(type, ids, new SortOrder(), null, 1);
+        return loadAllWithDefaultFetchPlan(type, ids, new SortOrder(), null);
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, int depth) {
@@ -122,7 +139,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder) {
-        return loadAll(type, ids, sortOrder, null, 1);
+        return loadAllWithDefaultFetchPlan(type, ids, sortOrder, null);
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
@@ -131,7 +148,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging) {
-        return loadAll(type, ids, new SortOrder(), paging, 1);
+        return loadAllWithDefaultFetchPlan(type, ids, new SortOrder(), paging);
     }
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, Pagination paging,
@@ -141,7 +158,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination) {
-        return loadAll(type, ids, sortOrder, pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, ids, sortOrder, pagination);
     }
 
     private <T, ID extends Serializable> boolean includeMappedEntity(Collection<ID> ids, T mapped) {
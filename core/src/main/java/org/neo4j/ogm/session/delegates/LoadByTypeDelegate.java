@@ -18,8 +18,11 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.context.GraphRowModelMapper;
@@ -27,13 +30,20 @@ import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
@@ -69,27 +79,58 @@ public class LoadByTypeDelegate extends SessionDelegate {
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
 
-        String entityLabel = session.entityType(type.getName());
+        String entityLabel = entityLabelOrNull(type);
         if (entityLabel == null) {
-            LOG.warn("Unable to find database label for entity " + type.getName()
-                + " : no results will be returned. Make sure the class is registered, "
-                + "and not abstract without @NodeEntity annotation");
             return Collections.emptyList();
         }
         QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        return loadAll(type, entityLabel, queryStatements, filters, sortOrder, pagination, depth);
+    }
 
-        SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
+    /**
+     * Loads all objects of a given {@code type} along a fetch plan. The same rules regarding unknown labels as for
+     * {@link #loadAll(Class, Filters, SortOrder, Pagination, int)} apply.
+     *
+     * @param type       The type of objects to load.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder  Sort order to be passed on to the database
+     * @param pagination Pagination if required
+     * @param fetchPlan  The relationships to load
+     * @param <T>        Returned type
+     * @return A list of objects with the requested type
+     */
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
 
-        PagingAndSortingQuery query;
-        if (filters == null || filters.isEmpty()) {
-            query = queryStatements.findByType(entityLabel, depth);
-        } else {
-            resolvePropertyAnnotations(type, filters);
-            query = queryStatements.findByType(entityLabel, filters, depth);
+        String entityLabel = entityLabelOrNull(type);
+        if (entityLabel == null) {
+            return Collections.emptyList();
         }
+        FetchPlan resolvedPlan = session.resolveFetchPlan(type, fetchPlan);
+        QueryStatements queryStatements = session.queryStatementsFor(type, resolvedPlan);
+        return loadAll(type, entityLabel, queryStatements, filters, sortOrder, pagination,
+            depthOf(type, resolvedPlan));
+    }
 
-        query.setSortOrder(sortOrderWithResolvedProperties)
-            .setPagination(pagination);
+    private <T> Collection<T> loadAllWithDefaultFetchPlan(Class<T> type, Filters filters, SortOrder sortOrder,
+        Pagination pagination) {
+        FetchPlan defaultFetchPlan = defaultFetchPlan(type);
+        if (defaultFetchPlan == null) {
+            return loadAll(type, filters, sortOrder, pagination, 1);
+        }
+        return loadAll(type, filters, sortOrder, pagination, defaultFetchPlan);
+    }
+
+    private <T> Collection<T> loadAll(Class<T> type, String entityLabel, QueryStatements queryStatements,
+        Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+
+        PagingAndSortingQuery query = findByType(type, entityLabel, queryStatements, filters, sortOrder, depth);
+        query.setPagination(pagination);
+
+        return execute(type, query);
+    }
+
+    private <T> Collection<T> execute(Class<T> type, PagingAndSortingQuery query) {
 
         return session.doInTransaction(() -> {
             if (query.needsRowResult()) {
@@ -110,8 +151,195 @@ public class LoadByTypeDelegate extends SessionDelegate {
         }, Transaction.Type.READ_WRITE);
     }
 
+    /**
+     * Loads a page of objects of a given {@code type} with keyset pagination. The same rules regarding unknown labels
+     * as for {@link #loadAll(Class, Filters, SortOrder, Pagination, int)} apply.
+     *
+     * @param type       The type of objects to load.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder  Sort order to be passed on to the database, may only refer to properties of the type
+     * @param pagination The page to load
+     * @param depth      Depth of relationships to load
+     * @param <T>        Returned type
+     * @return The page, with a cursor for the next page if it is full
+     */
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination, int depth) {
+
+        String entityLabel = entityLabelOrNull(type);
+        if (entityLabel == null) {
+            return new KeysetPage<>(Collections.emptyList(), null);
+        }
+        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        return loadPage(type, entityLabel, queryStatements, filters, sortOrder, pagination, depth);
+    }
+
+    /**
+     * Loads a page of objects of a given {@code type} with keyset pagination, along the default fetch plan of the type
+     * if it declares one and with depth 1 otherwise.
+     *
+     * @see #loadPage(Class, Filters, SortOrder, KeysetPagination, int)
+     */
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination) {
+
+        FetchPlan defaultFetchPlan = defaultFetchPlan(type);
+        if (defaultFetchPlan == null) {
+            return loadPage(type, filters, sortOrder, pagination, 1);
+        }
+        String entityLabel = entityLabelOrNull(type);
+        if (entityLabel == null) {
+            return new KeysetPage<>(Collections.emptyList(), null);
+        }
+        QueryStatements queryStatements = session.queryStatementsFor(type, defaultFetchPlan);
+        return loadPage(type, entityLabel, queryStatements, filters, sortOrder, pagination,
+            depthOf(type, defaultFetchPlan));
+    }
+
+    private <T> KeysetPage<T> loadPage(Class<T> type, String entityLabel, QueryStatements queryStatements,
+        Filters filters, SortOrder sortOrder, KeysetPagination pagination, int depth) {
+
+        List<FieldInfo> sortFields = sortFieldsOf(type, sortOrder);
+        if (!pagination.isFirstPage() && pagination.getKeys().size() != sortFields.size() + 1) {
+            throw new IllegalArgumentException("The cursor doesn't match the sort order, expected "
+                + (sortFields.size() + 1) + " keys but got " + pagination.getKeys());
+        }
+
+        PagingAndSortingQuery query = findByType(type, entityLabel, queryStatements, filters, sortOrder, depth);
+        query.setKeysetPagination(pagination);
+
+        List<T> content = new ArrayList<>(execute(type, query));
+        String nextCursor = null;
+        if (content.size() == pagination.getLimit()) {
+            T last = content.get(content.size() - 1);
+            List<Object> sortKeys = new ArrayList<>();
+            for (FieldInfo sortField : sortFields) {
+                Object value = sortField.readProperty(last);
+                if (value == null) {
+                    throw new IllegalStateException("Can't page past " + last + ", sort property "
+                        + sortField.getName() + " is null");
+                }
+                sortKeys.add(value);
+            }
+            nextCursor = KeysetPagination.cursorOf(sortKeys, session.context().nativeId(last));
+        }
+        return new KeysetPage<>(content, nextCursor);
+    }
+
+    /**
+     * The values of the sort properties go into the cursor, so they must be simple properties of the type itself.
+     */
+    private List<FieldInfo> sortFieldsOf(Class<?> type, SortOrder sortOrder) {
+
+        List<FieldInfo> sortFields = new ArrayList<>();
+        if (sortOrder == null) {
+            return sortFields;
+        }
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                FieldInfo fieldInfo = classInfo.propertyFieldByName(property);
+                if (fieldInfo == null || fieldInfo.isComposite()) {
+                    throw new IllegalArgumentException(
+                        "Keyset pagination requires a simple property of " + type.getName() + " to sort by, got "
+                            + property);
+                }
+                sortFields.add(fieldInfo);
+            }
+        }
+        return sortFields;
+    }
+
+    /**
+     * Streams all objects of a given {@code type}. The stream reads and maps one record at a time while it is
+     * consumed, see {@link org.neo4j.ogm.session.Session#stream(Class, Filters, SortOrder, int)}. The same rules
+     * regarding unknown labels as for {@link #loadAll(Class, Filters, SortOrder, Pagination, int)} apply.
+     *
+     * @param type      The type of objects to stream.
+     * @param filters   Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder Sort order to be passed on to the database
+     * @param depth     Depth of relationships to load, must not be negative
+     * @param <T>       Returned type
+     * @return A lazy stream of objects with the requested type
+     */
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+
+        PagingAndSortingQuery query = streamingQueryFor(type, filters, sortOrder, depth);
+        if (query == null) {
+            return Stream.empty();
+        }
+
+        return session.doInStreamingTransaction(() -> {
+            if (query.needsRowResult()) {
+                DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
+                    query.getStatement(), query.getParameters());
+                Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest);
+                return new GraphRowListModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator()).stream(type, response);
+            } else {
+                GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+                Response<GraphModel> response = session.requestHandler().execute(request);
+                return new GraphRowModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator()).stream(type, response);
+            }
+        }, Transaction.Type.READ_WRITE);
+    }
+
+    /**
+     * Creates the query used to stream all objects of a given {@code type}, see
+     * {@link #stream(Class, Filters, SortOrder, int)}.
+     *
+     * @param type      The type of objects to stream.
+     * @param filters   Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder Sort order to be passed on to the database
+     * @param depth     Depth of relationships to load, must not be negative
+     * @return The query or {@literal null} if no label can be determined for the given type
+     */
+    public PagingAndSortingQuery streamingQueryFor(Class<?> type, Filters filters, SortOrder sortOrder, int depth) {
+
+        if (depth < 0) {
+            throw new IllegalArgumentException("Streaming requires a bounded depth, depth = " + depth);
+        }
+
+        String entityLabel = entityLabelOrNull(type);
+        if (entityLabel == null) {
+            return null;
+        }
+        // The schema based load clauses return exactly one record per result entity, path based ones spread an entity
+        // over many records and would emit entities before they are fully hydrated.
+        QueryStatements queryStatements = session.queryStatementsFor(type, depth, LoadStrategy.SCHEMA_LOAD_STRATEGY);
+        return findByType(type, entityLabel, queryStatements, filters, sortOrder, depth);
+    }
+
+    private String entityLabelOrNull(Class<?> type) {
+
+        String entityLabel = session.entityType(type.getName());
+        if (entityLabel == null) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+        }
+        return entityLabel;
+    }
+
+    private PagingAndSortingQuery findByType(Class<?> type, String entityLabel, QueryStatements queryStatements,
+        Filters filters, SortOrder sortOrder, int depth) {
+
+        SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
+
+        PagingAndSortingQuery query;
+        if (filters == null || filters.isEmpty()) {
+            query = queryStatements.findByType(entityLabel, depth);
+        } else {
+            resolvePropertyAnnotations(type, filters);
+            query = queryStatements.findByType(entityLabel, filters, depth);
+        }
+
+        return query.setSortOrder(sortOrderWithResolvedProperties);
+    }
+
     public <T> Collection<T> loadAll(Class<T> type) {
-        return loadAll(type, new Filters(), new SortOrder(), null, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters(), new SortOrder(), null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, int depth) {
@@ -119,7 +347,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter) {
-        return loadAll(type, new Filters().add(filter), new SortOrder(), null, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters().add(filter), new SortOrder(), null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, int depth) {
@@ -127,7 +355,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder) {
-        return loadAll(type, new Filters().add(filter), sortOrder, null, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters().add(filter), sortOrder, null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, int depth) {
@@ -135,7 +363,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination) {
-        return loadAll(type, new Filters().add(filter), new SortOrder(), pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters().add(filter), new SortOrder(), pagination);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, Pagination pagination, int depth) {
@@ -143,7 +371,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination) {
-        return loadAll(type, new Filters().add(filter), sortOrder, pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters().add(filter), sortOrder, pagination);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filter filter, SortOrder sortOrder, Pagination pagination,
@@ -152,7 +380,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters) {
-        return loadAll(type, filters, new SortOrder(), null, 1);
+        return loadAllWithDefaultFetchPlan(type, filters, new SortOrder(), null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, int depth) {
@@ -160,7 +388,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder) {
-        return loadAll(type, filters, sortOrder, null, 1);
+        return loadAllWithDefaultFetchPlan(type, filters, sortOrder, null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
@@ -168,7 +396,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination) {
-        return loadAll(type, filters, new SortOrder(), pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, filters, new SortOrder(), pagination);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, Pagination pagination, int depth) {
@@ -176,11 +404,11 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination) {
-        return loadAll(type, filters, sortOrder, pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, filters, sortOrder, pagination);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder) {
-        return loadAll(type, new Filters(), sortOrder, null, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters(), sortOrder, null);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, int depth) {
@@ -188,7 +416,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging) {
-        return loadAll(type, new Filters(), new SortOrder(), paging, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters(), new SortOrder(), paging);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, Pagination paging, int depth) {
@@ -196,7 +424,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
     }
 
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination) {
-        return loadAll(type, new Filters(), sortOrder, pagination, 1);
+        return loadAllWithDefaultFetchPlan(type, new Filters(), sortOrder, pagination);
     }
 
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth) {
@@ -19,19 +19,18 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphRowModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
-import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
-import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
-import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,10 +48,50 @@ public class LoadOneDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id) {
-        return load(type, id, 1);
+        FetchPlan defaultFetchPlan = defaultFetchPlan(type);
+        return defaultFetchPlan == null ? load(type, id, 1) : load(type, id, defaultFetchPlan);
     }
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
+        return load(type, id, requestFor(type, id, depth));
+    }
+
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        checkId(type, id);
+        FetchPlan resolvedPlan = session.resolveFetchPlan(type, fetchPlan);
+        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, resolvedPlan);
+        return load(type, id, requestFor(type, id, depthOf(type, resolvedPlan), queryStatements));
+    }
+
+    private <T, ID extends Serializable> T load(Class<T> type, ID id, GraphModelRequest request) {
+
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+
+        return loadThroughSecondLevelCache(classInfo, request, response -> {
+            new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+                .map(type, response);
+            return lookup(type, id);
+        }, Objects::nonNull);
+    }
+
+    /**
+     * Creates the request loading the entity with the given id. The entity has to be looked up with
+     * {@link #lookup(Class, Object)} after the response has been mapped.
+     *
+     * @param type  The type of the entity to load
+     * @param id    The native or primary id of the entity
+     * @param depth Depth of relationships to load
+     * @param <T>   The type of the entity to load
+     * @param <ID>  The type of the id
+     * @return A request loading the entity
+     * @throws IllegalArgumentException if the type is not a managed entity or the id doesn't match its id type
+     */
+    public <T, ID extends Serializable> GraphModelRequest requestFor(Class<T> type, ID id, int depth) {
+        checkId(type, id);
+        return requestFor(type, id, depth, session.queryStatementsFor(type, depth));
+    }
+
+    private <T, ID extends Serializable> void checkId(Class<T> type, ID id) {
 
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo == null) {
@@ -68,8 +107,11 @@ public class LoadOneDelegate extends SessionDelegate {
             throw new IllegalArgumentException("Supplied id must be of type Long (native graph id) when supplied class "
                 + "does not have primary id" + type.getName());
         }
+    }
+
+    private <T, ID extends Serializable> GraphModelRequest requestFor(Class<T> type, ID id, int depth,
+        QueryStatements<ID> queryStatements) {
 
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
         String entityType = session.entityType(type.getName());
         if (entityType == null) {
             logger.warn("Unable to find database label for entity " + type.getName()
@@ -78,18 +120,19 @@ public class LoadOneDelegate extends SessionDelegate {
         }
         PagingAndSortingQuery qry = queryStatements.findOneByType(entityType, id, depth);
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
-
-        return session.doInTransaction(() -> {
-            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
-                    .map(type, response);
-                return lookup(type, id);
-            }
-        }, Transaction.Type.READ_ONLY);
+        return new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
     }
 
-    private <T, U> T lookup(Class<T> type, U id) {
+    /**
+     * Looks up an entity in the mapping context of the session by its native or primary id.
+     *
+     * @param type The type of the entity
+     * @param id   The native or primary id of the entity
+     * @param <T>  The type of the entity
+     * @param <U>  The type of the id
+     * @return The entity or {@literal null} if there's no such entity of the given type in the mapping context
+     */
+    public <T, U> T lookup(Class<T> type, U id) {
         Object ref;
         ClassInfo typeInfo = session.metaData().classInfo(type.getName());
 
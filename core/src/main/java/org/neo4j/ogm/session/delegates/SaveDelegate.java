@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
 import org.neo4j.ogm.context.WriteProtectionTarget;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.WriteProtectionStrategy;
 import org.neo4j.ogm.session.request.RequestExecutor;
@@ -83,14 +84,30 @@ public class SaveDelegate extends SessionDelegate {
                 eventsDelegate.preSave(item);
                 entityGraphMapper.map(item, depth);
             });
-            requestExecutor.executeSave(entityGraphMapper.compileContext());
+            executeSave(entityGraphMapper.compileContext());
             eventsDelegate.postSave();
         } else {
             objects.forEach(item -> entityGraphMapper.map(item, depth));
-            requestExecutor.executeSave(entityGraphMapper.compileContext());
+            executeSave(entityGraphMapper.compileContext());
         }
     }
 
+    private void executeSave(CompileContext context) {
+        try {
+            requestExecutor.executeSave(context);
+        } finally {
+            invalidateSecondLevelCache(context);
+        }
+    }
+
+    /**
+     * Invalidates the cached loads containing any node or relationship entity visited by the save. This includes
+     * unchanged entities, as their relationships might have changed.
+     */
+    private void invalidateSecondLevelCache(CompileContext context) {
+        session.invalidateSecondLevelCache(context.visitedNodeIds(), context.visitedRelationshipEntityIds());
+    }
+
     public void addWriteProtection(WriteProtectionTarget target, Predicate<Object> protection) {
         if (this.writeProtectionStrategy == null) {
             this.writeProtectionStrategy = new DefaultWriteProtectionStrategyImpl();
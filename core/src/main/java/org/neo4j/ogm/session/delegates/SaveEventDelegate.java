@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.context.LazyCollection;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -289,7 +290,7 @@ final class SaveEventDelegate extends SessionDelegate {
 
                 Object reference = reader.read(parent);
 
-                if (reference != null) {
+                if (reference != null && !LazyCollection.isUninitialised(reference)) {
                     if (reference.getClass().isArray()) {
                         addChildren(children, Collections.singletonList(reference));
                     } else if (Collection.class.isAssignableFrom(reference.getClass())) {
@@ -330,7 +331,7 @@ final class SaveEventDelegate extends SessionDelegate {
 
         Object reference = reader.read(parent);
 
-        if (reference != null) {
+        if (reference != null && !LazyCollection.isUninitialised(reference)) {
             if (reference.getClass().isArray()) {
                 mapCollection(mappedRelationships, parent, reader, Collections.singletonList(reference));
             } else if (Collection.class.isAssignableFrom(reference.getClass())) {
@@ -20,19 +20,28 @@ package org.neo4j.ogm.session.delegates;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.neo4j.ogm.annotation.EndNode;
+import org.neo4j.ogm.annotation.NamedFetchPlan;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.FilterWithRelationship;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.cache.SecondLevelCache;
+import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.RelationshipUtils;
 
 /**
@@ -46,6 +55,51 @@ abstract class SessionDelegate {
         this.session = session;
     }
 
+    /**
+     * Executes a request loading entities of the given class and maps its response. If the class is cacheable, the
+     * response is read from or put into the second-level cache. Responses are only put into the cache if the mapped
+     * result is complete, that is if it contains all of the requested entities.
+     */
+    <T> T loadThroughSecondLevelCache(ClassInfo classInfo, GraphModelRequest request,
+        Function<Response<GraphModel>, T> mapper, Predicate<T> complete) {
+
+        SecondLevelCache cache = session.secondLevelCache();
+        if (cache == null || !cache.isCacheable(classInfo)) {
+            return session.doInTransaction(() -> {
+                try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                    return mapper.apply(response);
+                }
+            }, Transaction.Type.READ_ONLY);
+        }
+
+        Response<GraphModel> cachedResponse = cache.get(classInfo, request);
+        if (cachedResponse != null) {
+            return mapper.apply(cachedResponse);
+        }
+        long generation = cache.generation();
+        return session.doInTransaction(() -> {
+            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                return cache.put(classInfo, request, response, generation, mapper, complete);
+            }
+        }, Transaction.Type.READ_ONLY);
+    }
+
+    /**
+     * @return the fetch plan named {@link NamedFetchPlan#DEFAULT} declared by the type, null if there is none
+     */
+    FetchPlan defaultFetchPlan(Class<?> type) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        return classInfo == null ? null : classInfo.getFetchPlan(NamedFetchPlan.DEFAULT);
+    }
+
+    /**
+     * @return the depth to pass to the query statements built for a resolved fetch plan
+     */
+    int depthOf(Class<?> type, FetchPlan fetchPlan) {
+        // relationship entities are one step away from their start and end nodes
+        return session.metaData().isRelationshipEntity(type.getName()) ? fetchPlan.getDepth() + 1 : fetchPlan.getDepth();
+    }
+
     SortOrder sortOrderWithResolvedProperties(Class entityType, SortOrder sortOrder) {
         return SortOrder.fromSortClauses(sortClausesWithResolvedProperties(entityType, sortOrder));
     }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+/**
+ * Receives the metrics of the operations run by the sessions of a
+ * {@link org.neo4j.ogm.session.SessionFactory SessionFactory}, for example to publish them to a metrics library.
+ * <p>
+ * Each public load, query, save and delete method of a session reports one {@link OperationMetrics} when it returns or
+ * throws. Streaming methods report when the returned stream is closed, so that the operation covers reading its
+ * results; streams that are never closed are not reported. Calls of those methods from within another operation are
+ * part of the outer operation. Asynchronous and reactive operations and lazy loading are not reported.
+ * <p>
+ * Implementations are called on the thread that ran the operation, or closed its stream, and are shared by all sessions
+ * of a session factory, so they must be thread-safe and should return quickly.
+ *
+ * @since 3.2.2
+ */
+@FunctionalInterface
+public interface OgmMetrics {
+
+    /**
+     * Records the metrics of a completed operation.
+     *
+     * @param metrics the metrics of the operation
+     */
+    void record(OperationMetrics metrics);
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+/**
+ * The metrics of one session operation.
+ * <p>
+ * The time of an operation is split into the time spent in the driver, that is, sending statements and receiving and
+ * parsing their results, and the time spent in the object graph mapper, such as compiling statements, mapping results
+ * onto entities and checking entities for changes.
+ *
+ * @since 3.2.2
+ */
+public final class OperationMetrics {
+
+    private final Operation operation;
+
+    private final long durationNanos;
+
+    private final long driverNanos;
+
+    private final long statementCount;
+
+    private final long resultCount;
+
+    private final long dirtyCheckCount;
+
+    private final long dirtyCheckHitCount;
+
+    private final int mappingContextSize;
+
+    private final boolean failed;
+
+    public OperationMetrics(Operation operation, long durationNanos, long driverNanos, long statementCount,
+        long resultCount, long dirtyCheckCount, long dirtyCheckHitCount, int mappingContextSize, boolean failed) {
+        this.operation = operation;
+        this.durationNanos = durationNanos;
+        this.driverNanos = driverNanos;
+        this.statementCount = statementCount;
+        this.resultCount = resultCount;
+        this.dirtyCheckCount = dirtyCheckCount;
+        this.dirtyCheckHitCount = dirtyCheckHitCount;
+        this.mappingContextSize = mappingContextSize;
+        this.failed = failed;
+    }
+
+    /**
+     * @return the type of the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the time the whole operation took, in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the time spent in the driver, in nanoseconds
+     */
+    public long getDriverNanos() {
+        return driverNanos;
+    }
+
+    /**
+     * @return the time spent outside the driver, mostly mapping, in nanoseconds
+     */
+    public long getMappingNanos() {
+        return Math.max(0L, durationNanos - driverNanos);
+    }
+
+    /**
+     * @return the number of statements sent to the database
+     */
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * @return the number of results, that is, rows or graph models, received from the database
+     */
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * @return the number of checks whether an entity has been modified
+     */
+    public long getDirtyCheckCount() {
+        return dirtyCheckCount;
+    }
+
+    /**
+     * @return the number of checks whether an entity has been modified that found the entity unchanged
+     */
+    public long getDirtyCheckHitCount() {
+        return dirtyCheckHitCount;
+    }
+
+    /**
+     * @return the number of entities in the mapping context of the session after the operation
+     */
+    public int getMappingContextSize() {
+        return mappingContextSize;
+    }
+
+    /**
+     * An operation fails when it throws an exception. OGM does not retry failed operations, so retries by the caller
+     * show up as failed operations followed by another operation of the same type.
+     *
+     * @return true if the operation threw an exception
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+            "operation=" + operation +
+            ", durationNanos=" + durationNanos +
+            ", driverNanos=" + driverNanos +
+            ", statementCount=" + statementCount +
+            ", resultCount=" + resultCount +
+            ", dirtyCheckCount=" + dirtyCheckCount +
+            ", dirtyCheckHitCount=" + dirtyCheckHitCount +
+            ", mappingContextSize=" + mappingContextSize +
+            ", failed=" + failed +
+            '}';
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import static java.util.Objects.*;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A cold publisher of at most one object. The action is started when the subscriber requests the object, every
+ * subscriber starts it again. Cancelling the subscription doesn't abort an action that has already been started.
+ *
+ * @param <T> The type of the published object
+ * @since 3.2.2
+ */
+final class CompletionStagePublisher<T> implements Publisher<T> {
+
+    private final Supplier<CompletionStage<T>> action;
+
+    CompletionStagePublisher(Supplier<CompletionStage<T>> action) {
+        this.action = action;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "Subscriber must not be null");
+        subscriber.onSubscribe(new Subscription() {
+
+            private final AtomicBoolean started = new AtomicBoolean();
+
+            private volatile boolean cancelled;
+
+            @Override
+            public void request(long n) {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Demand must be positive (rule 3.9), got " + n));
+                    return;
+                }
+
+                CompletionStage<T> stage;
+                try {
+                    stage = action.get();
+                } catch (Exception e) {
+                    subscriber.onError(e);
+                    return;
+                }
+                stage.whenComplete((value, error) -> {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (error != null) {
+                        subscriber.onError(error instanceof CompletionException && error.getCause() != null ?
+                            error.getCause() : error);
+                        return;
+                    }
+                    if (value != null) {
+                        subscriber.onNext(value);
+                    }
+                    subscriber.onComplete();
+                });
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.neo4j.ogm.context.GraphRowListModelMapper;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.RestModelMapper;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultRestModelRequest;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.delegates.LoadByTypeDelegate;
+import org.neo4j.ogm.session.delegates.LoadOneDelegate;
+import org.neo4j.ogm.session.reactive.ResponsePublisher.ModelMapper;
+import org.neo4j.ogm.transaction.Transaction;
+import org.reactivestreams.Publisher;
+
+/**
+ * The default {@link ReactiveSession}. All access to the mapping context of the underlying session, be it mapping a
+ * model or running a blocking save, happens on the executor confined to the underlying session, which runs one task
+ * at a time like for the asynchronous methods of {@link Session}.
+ *
+ * @since 3.2.2
+ */
+public class Neo4jReactiveSession implements ReactiveSession {
+
+    private final Neo4jSession session;
+
+    private final LoadOneDelegate loadOneDelegate;
+
+    private final LoadByTypeDelegate loadByTypeDelegate;
+
+    /**
+     * @param session  The session that is wrapped, its driver must support non-blocking requests
+     * @param executor Executes mappings and blocking operations, must not be a thread of the driver. Becomes the
+     *                 executor of the asynchronous methods of the wrapped session.
+     */
+    public Neo4jReactiveSession(Neo4jSession session, Executor executor) {
+        this.session = session;
+        session.setAsyncExecutor(executor);
+        this.loadOneDelegate = new LoadOneDelegate(session);
+        this.loadByTypeDelegate = new LoadByTypeDelegate(session);
+    }
+
+    @Override
+    public <T, ID extends Serializable> Publisher<T> load(Class<T> type, ID id) {
+        return load(type, id, 1);
+    }
+
+    @Override
+    public <T, ID extends Serializable> Publisher<T> load(Class<T> type, ID id, int depth) {
+
+        GraphModelRequest request = loadOneDelegate.requestFor(type, id, depth);
+
+        return new ResponsePublisher<>(
+            () -> session.asyncRequestHandler(Transaction.Type.READ_ONLY).execute(request),
+            () -> {
+                Function<GraphModel, List<T>> mapper = graphRowModelMapper().incrementalMapper(type);
+                return new ModelMapper<GraphModel, T>() {
+                    @Override
+                    public List<T> map(GraphModel model) {
+                        mapper.apply(model);
+                        return Collections.emptyList();
+                    }
+
+                    @Override
+                    public List<T> finish() {
+                        T entity = loadOneDelegate.lookup(type, id);
+                        return entity == null ? Collections.emptyList() : Collections.singletonList(entity);
+                    }
+                };
+            }, session.asyncExecutor(), session::withBookmark);
+    }
+
+    @Override
+    public <T> Publisher<T> loadAll(Class<T> type) {
+        return loadAll(type, 1);
+    }
+
+    @Override
+    public <T> Publisher<T> loadAll(Class<T> type, int depth) {
+        return loadAll(type, new Filters(), new SortOrder(), depth);
+    }
+
+    @Override
+    public <T> Publisher<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+
+        PagingAndSortingQuery query = loadByTypeDelegate.streamingQueryFor(type, filters, sortOrder, depth);
+        if (query == null) {
+            return new EmptyPublisher<>();
+        }
+
+        if (query.needsRowResult()) {
+            DefaultGraphRowListModelRequest request = new DefaultGraphRowListModelRequest(query.getStatement(),
+                query.getParameters());
+            return new ResponsePublisher<GraphRowListModel, T>(
+                () -> session.asyncRequestHandler(Transaction.Type.READ_ONLY).execute(request),
+                () -> new GraphRowListModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator()).incrementalMapper(type)::apply,
+                session.asyncExecutor(), session::withBookmark);
+        }
+        GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+        return new ResponsePublisher<GraphModel, T>(
+            () -> session.asyncRequestHandler(Transaction.Type.READ_ONLY).execute(request),
+            () -> graphRowModelMapper().incrementalMapper(type)::apply,
+            session.asyncExecutor(), session::withBookmark);
+    }
+
+    @Override
+    public <T> Publisher<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
+
+        if (type == null || session.metaData().classInfo(type.getName()) == null) {
+            throw new IllegalArgumentException(type + " is not a managed entity.");
+        }
+
+        GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+        return new ResponsePublisher<GraphModel, T>(
+            () -> session.asyncRequestHandler(Transaction.Type.READ_WRITE).execute(request),
+            () -> graphRowModelMapper().incrementalMapper(type)::apply,
+            session.asyncExecutor(), session::withBookmark);
+    }
+
+    @Override
+    public Publisher<Map<String, Object>> query(String cypher, Map<String, ?> parameters) {
+        return query(cypher, parameters, false);
+    }
+
+    @Override
+    public Publisher<Map<String, Object>> query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+
+        DefaultRestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
+        Transaction.Type type = readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        return new ResponsePublisher<RestModel, Map<String, Object>>(
+            () -> session.asyncRequestHandler(type).execute(request),
+            () -> {
+                RestModelMapper mapper = new RestModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator());
+                return model -> Collections.singletonList(mapper.mapRow(model));
+            }, session.asyncExecutor(), session::withBookmark);
+    }
+
+    @Override
+    public <T> Publisher<T> save(T object) {
+        return save(object, -1);
+    }
+
+    @Override
+    public <T> Publisher<T> save(T object, int depth) {
+        return new CompletionStagePublisher<>(() -> CompletableFuture.supplyAsync(() -> {
+            session.unmeasured(() -> session.save(object, depth));
+            return object;
+        }, session.asyncExecutor()));
+    }
+
+    @Override
+    public <T> Publisher<Void> delete(T object) {
+        return new CompletionStagePublisher<>(() -> CompletableFuture.supplyAsync(() -> {
+            session.unmeasured(() -> session.delete(object));
+            return null;
+        }, session.asyncExecutor()));
+    }
+
+    @Override
+    public Session getSession() {
+        return session;
+    }
+
+    private GraphRowModelMapper graphRowModelMapper() {
+        return new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.session.Session;
+import org.reactivestreams.Publisher;
+
+/**
+ * A non-blocking variant of the {@link Session}, publishing entities as
+ * <a href="http://www.reactive-streams.org">Reactive Streams</a>. It requires a driver that supports non-blocking
+ * requests, currently the Bolt driver.
+ * <h2>Loading and querying</h2>
+ * Load methods and queries don't block: Every subscription runs the statement in its own auto-commit transaction and
+ * the records are read and mapped one at a time as the subscriber signals demand. The driver stops reading from the
+ * network while its record buffer is full, so a slow subscriber throttles the server. Publishers are cold, nothing is
+ * executed before a subscriber requests data.
+ * <h2>Saving and deleting</h2>
+ * The save pipeline of the OGM is synchronous, so saves and deletes are executed by the underlying {@link Session} on
+ * the executor the session has been opened with.
+ * <h2>Session cache</h2>
+ * A reactive session wraps exactly one {@link Session}: Loaded entities are registered with its mapping context and the
+ * same rules for entities already present in the session apply. Reactive loads don't go through the second-level cache.
+ * Access to the mapping context is serialized, but like a {@link Session}, a reactive session should not be shared
+ * between unrelated units of work.
+ *
+ * @see org.neo4j.ogm.session.SessionFactory#openReactiveSession(java.util.concurrent.Executor)
+ * @since 3.2.2
+ */
+public interface ReactiveSession {
+
+    /**
+     * Load entity of type by id, with default depth = 1.
+     *
+     * @param type type of entity
+     * @param id   id of the entity to load
+     * @return a publisher of the entity, completing empty if there is no such entity
+     */
+    <T, ID extends Serializable> Publisher<T> load(Class<T> type, ID id);
+
+    /**
+     * Load entity of type by id.
+     *
+     * @param type  type of entity
+     * @param id    id of the entity to load
+     * @param depth depth
+     * @return a publisher of the entity, completing empty if there is no such entity
+     */
+    <T, ID extends Serializable> Publisher<T> load(Class<T> type, ID id, int depth);
+
+    /**
+     * Load all entities of type, with default depth = 1.
+     *
+     * @param type type of entities
+     * @return a publisher of entities
+     * @see #loadAll(Class, Filters, SortOrder, int)
+     */
+    <T> Publisher<T> loadAll(Class<T> type);
+
+    /**
+     * Load all entities of type.
+     *
+     * @param type  type of entities
+     * @param depth depth, must not be negative
+     * @return a publisher of entities
+     * @see #loadAll(Class, Filters, SortOrder, int)
+     */
+    <T> Publisher<T> loadAll(Class<T> type, int depth);
+
+    /**
+     * Load all entities of type, filtered by filters and sorted by sort order. Like
+     * {@link Session#stream(Class, Filters, SortOrder, int)}, this always uses
+     * {@link org.neo4j.ogm.session.LoadStrategy#SCHEMA_LOAD_STRATEGY}, so that every entity is published fully
+     * hydrated as soon as its record has been read.
+     *
+     * @param type      type of entities
+     * @param filters   filters, may be null or empty
+     * @param sortOrder sort order
+     * @param depth     depth, must not be negative
+     * @return a publisher of entities
+     */
+    <T> Publisher<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth);
+
+    /**
+     * Run a query returning entities of the given type.
+     *
+     * @param type       type of the returned entities, must be a managed entity
+     * @param cypher     query
+     * @param parameters query parameters
+     * @return a publisher of entities
+     */
+    <T> Publisher<T> query(Class<T> type, String cypher, Map<String, ?> parameters);
+
+    /**
+     * Run a query in a read write transaction, publishing its rows. Nodes and relationships in a row are replaced by
+     * their entities, if they can be mapped.
+     *
+     * @param cypher     query
+     * @param parameters query parameters
+     * @return a publisher of rows
+     */
+    Publisher<Map<String, Object>> query(String cypher, Map<String, ?> parameters);
+
+    /**
+     * Run a query, publishing its rows. Nodes and relationships in a row are replaced by their entities, if they can be
+     * mapped.
+     *
+     * @param cypher     query
+     * @param parameters query parameters
+     * @param readOnly   true if the query should run in a read only transaction
+     * @return a publisher of rows
+     */
+    Publisher<Map<String, Object>> query(String cypher, Map<String, ?> parameters, boolean readOnly);
+
+    /**
+     * Save entity with default depth -1.
+     *
+     * @param object object to save
+     * @return a publisher of the saved object
+     */
+    <T> Publisher<T> save(T object);
+
+    /**
+     * Save entity.
+     *
+     * @param object object to save
+     * @param depth  depth
+     * @return a publisher of the saved object
+     */
+    <T> Publisher<T> save(T object, int depth);
+
+    /**
+     * Delete entity.
+     *
+     * @param object object to delete
+     * @return a publisher completing when the object has been deleted
+     */
+    <T> Publisher<Void> delete(T object);
+
+    /**
+     * The blocking session backing this reactive session, for example to clear its mapping context. It must not be used
+     * while publishers of this session are active.
+     *
+     * @return the blocking session backing this reactive session
+     */
+    Session getSession();
+}
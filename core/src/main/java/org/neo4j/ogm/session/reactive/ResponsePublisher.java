@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import static java.util.Objects.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.response.AsyncResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cold publisher executing a request for every subscriber. The next model of the response is only requested when all
+ * entities mapped so far have been delivered and the subscriber still has outstanding demand, so that the driver stops
+ * fetching records from the server when the subscriber doesn't keep up.
+ * <p>
+ * Models are mapped on the given executor, which must be confined to the session owning the mapping context, never on
+ * a thread of the driver. Once the response is exhausted, its bookmark is handed to the given consumer.
+ *
+ * @param <M> The type of the models of the response
+ * @param <T> The type of the published objects
+ * @since 3.2.2
+ */
+final class ResponsePublisher<M, T> implements Publisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponsePublisher.class);
+
+    /**
+     * Maps the models of one response, one model at a time.
+     *
+     * @param <M> The type of the models of the response
+     * @param <T> The type of the published objects
+     */
+    interface ModelMapper<M, T> {
+
+        /**
+         * @param model The next model of the response
+         * @return The objects to publish for the given model, may be empty
+         */
+        Collection<T> map(M model);
+
+        /**
+         * @return The objects to publish after the last model has been mapped
+         */
+        default Collection<T> finish() {
+            return Collections.emptyList();
+        }
+    }
+
+    private final Supplier<CompletionStage<AsyncResponse<M>>> request;
+
+    private final Supplier<ModelMapper<M, T>> mapperSupplier;
+
+    private final Executor executor;
+
+    private final Consumer<String> bookmarkConsumer;
+
+    ResponsePublisher(Supplier<CompletionStage<AsyncResponse<M>>> request, Supplier<ModelMapper<M, T>> mapperSupplier,
+        Executor executor, Consumer<String> bookmarkConsumer) {
+        this.request = request;
+        this.mapperSupplier = mapperSupplier;
+        this.executor = executor;
+        this.bookmarkConsumer = bookmarkConsumer;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "Subscriber must not be null");
+        subscriber.onSubscribe(new ResponseSubscription(subscriber, mapperSupplier.get()));
+    }
+
+    private final class ResponseSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final ModelMapper<M, T> mapper;
+
+        private final Queue<T> mapped = new ConcurrentLinkedQueue<>();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile AsyncResponse<M> response;
+
+        private volatile boolean fetching;
+
+        private volatile boolean exhausted;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        /**
+         * Only accessed from within {@link #drain()}.
+         */
+        private boolean terminated;
+
+        ResponseSubscription(Subscriber<? super T> subscriber, ModelMapper<M, T> mapper) {
+            this.subscriber = subscriber;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Demand must be positive (rule 3.9), got " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Delivers mapped objects and terminal signals and requests more models when needed. Concurrent invocations
+         * are serialized: The invocation that gets in first keeps looping until no other invocation happened meanwhile.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    drainLoop();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+
+            long emitted = 0L;
+            long demand = requested.get();
+            while (emitted != demand && !cancelled && error == null) {
+                T next = mapped.poll();
+                if (next == null) {
+                    break;
+                }
+                try {
+                    subscriber.onNext(next);
+                } catch (Throwable e) {
+                    // Rule 2.13, the subscriber is considered to have cancelled the subscription
+                    LOGGER.warn("Subscriber {} failed in onNext, cancelling the subscription", subscriber, e);
+                    cancelled = true;
+                }
+                ++emitted;
+            }
+            if (emitted != 0L && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            if (cancelled) {
+                terminate();
+                return;
+            }
+
+            Throwable failure = error;
+            if (failure != null) {
+                terminate();
+                subscriber.onError(failure);
+                return;
+            }
+
+            if (mapped.isEmpty()) {
+                if (exhausted) {
+                    terminate();
+                    subscriber.onComplete();
+                } else if (requested.get() > 0L && !fetching) {
+                    fetching = true;
+                    fetchNext();
+                }
+            }
+        }
+
+        private void fetchNext() {
+
+            CompletionStage<M> next;
+            try {
+                AsyncResponse<M> current = response;
+                if (current == null) {
+                    next = request.get().thenCompose(opened -> {
+                        response = opened;
+                        if (cancelled) {
+                            opened.close();
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        return opened.next();
+                    });
+                } else {
+                    next = current.next();
+                }
+            } catch (Exception e) {
+                onNextModel(null, e);
+                return;
+            }
+            next.whenCompleteAsync(this::onNextModel, executor);
+        }
+
+        private void onNextModel(M model, Throwable failure) {
+
+            if (failure != null) {
+                error = failure instanceof CompletionException && failure.getCause() != null ?
+                    failure.getCause() : failure;
+            } else if (!cancelled) {
+                try {
+                    if (model == null) {
+                        mapped.addAll(mapper.finish());
+                        response.getBookmark().whenCompleteAsync(this::onBookmark, executor);
+                        return;
+                    }
+                    mapped.addAll(mapper.map(model));
+                } catch (Exception e) {
+                    error = e;
+                }
+            }
+            fetching = false;
+            drain();
+        }
+
+        private void onBookmark(Optional<String> bookmark, Throwable failure) {
+            // Without a bookmark, the last bookmark of the session stays as it is
+            if (bookmark != null) {
+                bookmark.ifPresent(bookmarkConsumer);
+            }
+            exhausted = true;
+            fetching = false;
+            drain();
+        }
+
+        private void terminate() {
+            terminated = true;
+            mapped.clear();
+            AsyncResponse<M> current = response;
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
+}
@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.TransientRelationship;
@@ -31,6 +33,8 @@ import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -72,64 +76,164 @@ public class RequestExecutor {
         List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
         List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
 
+        Configuration configuration = session.configuration();
+        int saveBatchSize = configuration == null ? 0 : configuration.getSaveBatchSize();
+        int commitInterval = configuration == null ? 0 : configuration.getSaveBatchCommitInterval();
+
+        if (commitInterval > 0 && session.getTransaction() == null) {
+            executeSaveInBulk(context, saveBatchSize, commitInterval);
+            return;
+        }
+
         boolean forceTx =
             compiler.updateNodesStatements().stream().anyMatch(st -> st.optimisticLockingConfig().isPresent())
                 || compiler.updateRelationshipStatements().stream()
                 .anyMatch(st -> st.optimisticLockingConfig().isPresent());
 
-        session.doInTransaction(() -> {
-
-            //If there are statements that depend on new nodes i.e. relationships created between new nodes,
-            //we must create the new nodes first, and then use their node IDs when creating relationships between them
-            if (compiler.hasStatementsDependentOnNewNodes()) {
-                // execute the statements to create new nodes. The ids will be returned
-                // and will be used in subsequent statements that refer to these new nodes.
-                executeStatements(context, entityReferenceMappings, relReferenceMappings,
-                    compiler.createNodesStatements());
-
-                List<Statement> statements = new ArrayList<>();
-                statements.addAll(compiler.createRelationshipsStatements());
-                statements.addAll(compiler.updateNodesStatements());
-                statements.addAll(compiler.updateRelationshipStatements());
-                statements.addAll(compiler.deleteRelationshipStatements());
-                statements.addAll(compiler.deleteRelationshipEntityStatements());
-
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
-            } else { // only update / delete statements
-                List<Statement> statements = compiler.getAllStatements();
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
-            }
-
-        }, forceTx, Transaction.Type.READ_WRITE);
+        session.doInTransaction(() -> executeSaveStatements(compiler,
+            statements -> executeStatements(context, entityReferenceMappings, relReferenceMappings,
+                chunked(statements, saveBatchSize), saveBatchSize > 0)), forceTx, Transaction.Type.READ_WRITE);
 
         //Update the mapping context now that the request is successful
         updateNodeEntities(context, entityReferenceMappings);
         updateRelationshipEntities(context, relReferenceMappings);
-        updateRelationships(context, relReferenceMappings);
+        updateRelationships(context, buildRegisteredTransientRelationshipIndex(context), relReferenceMappings);
+    }
+
+    /**
+     * Executes the save statements in several transactions, each containing at most {@code commitInterval}
+     * statements. The mapping context is updated after each commit, so that entities that have been persisted keep
+     * their ids and existing entities that have been updated are no longer dirty, even if a later transaction fails.
+     * Entities whose statements have been rolled back stay dirty and are saved again with the next save.
+     *
+     * @param context        the compile context
+     * @param saveBatchSize  maximum number of rows per statement
+     * @param commitInterval number of statements per transaction
+     */
+    private void executeSaveInBulk(CompileContext context, int saveBatchSize, int commitInterval) {
+
+        Map<Long, TransientRelationship> registeredTransientRelationshipIndex =
+            buildRegisteredTransientRelationshipIndex(context);
+        Map<Long, Object> existingNodeEntities = buildExistingNodeEntityIndex(context);
+
+        executeSaveStatements(context.getCompiler(), statements -> {
+            List<Statement> chunks = chunked(statements, saveBatchSize);
+            for (int from = 0; from < chunks.size(); from += commitInterval) {
+                List<Statement> chunksOfTransaction =
+                    chunks.subList(from, Math.min(from + commitInterval, chunks.size()));
+
+                List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
+                List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
+                session.doInTransaction(() -> executeStatements(context, entityReferenceMappings, relReferenceMappings,
+                    chunksOfTransaction, true), true, Transaction.Type.READ_WRITE);
+
+                initialiseNewNodeEntities(context, entityReferenceMappings);
+                updateExistingNodeEntities(existingNodeEntities, entityReferenceMappings);
+                updateRelationshipEntities(context, relReferenceMappings);
+                updateRelationships(context, registeredTransientRelationshipIndex, relReferenceMappings);
+            }
+        });
+
+        updateExistingNodeEntities(context);
+    }
+
+    private static void executeSaveStatements(Compiler compiler, Consumer<List<Statement>> executor) {
+
+        //If there are statements that depend on new nodes i.e. relationships created between new nodes,
+        //we must create the new nodes first, and then use their node IDs when creating relationships between them
+        if (compiler.hasStatementsDependentOnNewNodes()) {
+            // execute the statements to create new nodes. The ids will be returned
+            // and will be used in subsequent statements that refer to these new nodes.
+            executor.accept(compiler.createNodesStatements());
+
+            List<Statement> statements = new ArrayList<>();
+            statements.addAll(compiler.createRelationshipsStatements());
+            statements.addAll(compiler.updateNodesStatements());
+            statements.addAll(compiler.updateRelationshipStatements());
+            statements.addAll(compiler.deleteRelationshipStatements());
+            statements.addAll(compiler.deleteRelationshipEntityStatements());
+
+            executor.accept(statements);
+        } else { // only update / delete statements
+            executor.accept(compiler.getAllStatements());
+        }
+    }
+
+    /**
+     * Splits all statements unwinding more than {@code saveBatchSize} rows into several statements, each unwinding a
+     * consecutive chunk of the rows. Statements that require an optimistic locking check are kept in front.
+     *
+     * @param statements    the statements to split
+     * @param saveBatchSize maximum number of rows per statement, no statement is split when less than one
+     * @return the statements to execute
+     */
+    private static List<Statement> chunked(List<Statement> statements, int saveBatchSize) {
+
+        List<Statement> checkedStatements = new ArrayList<>();
+        List<Statement> uncheckedStatements = new ArrayList<>();
+        for (Statement statement : statements) {
+            List<Statement> target = statement.optimisticLockingConfig().isPresent() ?
+                checkedStatements : uncheckedStatements;
+            Object rows = statement.getParameters().get("rows");
+            if (saveBatchSize < 1 || !(rows instanceof List) || ((List<?>) rows).size() <= saveBatchSize) {
+                target.add(statement);
+                continue;
+            }
+
+            List<?> allRows = (List<?>) rows;
+            for (int from = 0; from < allRows.size(); from += saveBatchSize) {
+                List<?> chunk = new ArrayList<>(allRows.subList(from, Math.min(from + saveBatchSize, allRows.size())));
+                Map<String, Object> parameters = new HashMap<>(statement.getParameters());
+                parameters.put("rows", chunk);
+                OptimisticLockingConfig optimisticLockingConfig = statement.optimisticLockingConfig()
+                    .map(config -> new OptimisticLockingConfig(chunk.size(), config.getTypes(),
+                        config.getVersionProperty()))
+                    .orElse(null);
+                target.add(new RowDataStatement(statement.getStatement(), parameters, optimisticLockingConfig));
+            }
+        }
+
+        checkedStatements.addAll(uncheckedStatements);
+        return checkedStatements;
     }
 
+    /**
+     * Executes the given statements. Statements requiring an optimistic locking check are executed one by one, so that
+     * their results can be checked. All other statements are independent of each other and are executed as one
+     * request, unless {@code requestPerStatement} is set and the request handler doesn't pipeline statements.
+     */
     private void executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
-        List<ReferenceMapping> relReferenceMappings, List<Statement> statements) {
+        List<ReferenceMapping> relReferenceMappings, List<Statement> statements, boolean requestPerStatement) {
         if (statements.size() > 0) {
 
+            Request requestHandler = session.requestHandler();
+            boolean combineStatements = !requestPerStatement || requestHandler.isPipelining();
+
             List<Statement> noCheckStatements = new ArrayList<>();
             for (Statement statement : statements) {
                 if (statement.optimisticLockingConfig().isPresent()) {
                     DefaultRequest request = new DefaultRequest(statement);
-                    try (Response<RowModel> response = session.requestHandler().execute(request)) {
+                    try (Response<RowModel> response = requestHandler.execute(request)) {
                         List<RowModel> rowModels = response.toList();
                         session.optimisticLockingChecker().checkResultsCount(rowModels, statement);
                         registerEntityIds(context, rowModels, entityReferenceMappings, relReferenceMappings);
                     }
+                } else if (!combineStatements) {
+                    DefaultRequest request = new DefaultRequest(statement);
+                    try (Response<RowModel> response = requestHandler.execute(request)) {
+                        registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+                    }
                 } else {
                     noCheckStatements.add(statement);
                 }
             }
 
-            DefaultRequest defaultRequest = new DefaultRequest();
-            defaultRequest.setStatements(noCheckStatements);
-            try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
-                registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+            if (!noCheckStatements.isEmpty()) {
+                DefaultRequest defaultRequest = new DefaultRequest();
+                defaultRequest.setStatements(noCheckStatements);
+                try (Response<RowModel> response = requestHandler.execute(defaultRequest)) {
+                    registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+                }
             }
         }
     }
@@ -197,7 +301,17 @@ public class RequestExecutor {
      */
     private void updateNodeEntities(CompileContext context, List<ReferenceMapping> entityRefMappings) {
 
-        // Ensures the last saved version of existing nodes is current in the cache
+        updateExistingNodeEntities(context);
+        initialiseNewNodeEntities(context, entityRefMappings);
+    }
+
+    /**
+     * Ensures the last saved version of existing nodes is current in the cache.
+     *
+     * @param context the compile context
+     */
+    private void updateExistingNodeEntities(CompileContext context) {
+
         for (Object obj : context.registry()) {
             if (!(obj instanceof TransientRelationship)) {
                 ClassInfo classInfo = session.metaData().classInfo(obj);
@@ -210,8 +324,57 @@ public class RequestExecutor {
                 }
             }
         }
+    }
+
+    /**
+     * Ensures the last saved version of the existing nodes updated by a committed transaction is current in the cache.
+     *
+     * @param existingNodeEntities existing node entities of the compile context by their id
+     * @param entityRefMappings    mapping of entity references to the entity ids returned by the committed statements
+     */
+    private void updateExistingNodeEntities(Map<Long, Object> existingNodeEntities,
+        List<ReferenceMapping> entityRefMappings) {
+
+        for (ReferenceMapping referenceMapping : entityRefMappings) {
+            // Existing nodes are the ones whose 'ref' is their 'id'
+            Object entity = referenceMapping.ref.equals(referenceMapping.id) ?
+                existingNodeEntities.get(referenceMapping.id) : null;
+            if (entity != null) {
+                LOGGER.debug("updating existing node id: {}, {}", referenceMapping.id, entity);
+                registerEntity(session.context(), session.metaData().classInfo(entity), referenceMapping.id, entity);
+            }
+        }
+    }
+
+    /**
+     * Indexes the node entities of the {@link CompileContext} that already exist in the database by their id.
+     *
+     * @param context the compile context
+     * @return an index of existing node entities
+     */
+    private Map<Long, Object> buildExistingNodeEntityIndex(CompileContext context) {
+
+        Map<Long, Object> existingNodeEntities = new HashMap<>();
+        for (Object obj : context.registry()) {
+            if (!(obj instanceof TransientRelationship)
+                && !session.metaData().classInfo(obj).isRelationshipEntity()) {
+                Long id = session.context().nativeId(obj);
+                if (id >= 0) {
+                    existingNodeEntities.put(id, obj);
+                }
+            }
+        }
+        return existingNodeEntities;
+    }
+
+    /**
+     * Ensures newly created nodes are current in the cache and also assigns their new graph ids.
+     *
+     * @param context           the compile context
+     * @param entityRefMappings mapping of entity reference used in the compile context and the entity id from the database
+     */
+    private void initialiseNewNodeEntities(CompileContext context, List<ReferenceMapping> entityRefMappings) {
 
-        // Ensures newly created nodes are current in the cache and also assigns their new graph ids
         for (ReferenceMapping referenceMapping : entityRefMappings) {
             // All new objects represented by a reference mapping will have a 'ref' value assigned by us,
             // and a guaranteed-to-be-different 'id' assigned by the db which we collect from the response.
@@ -256,12 +419,13 @@ public class RequestExecutor {
     /**
      * Update the mapping context with new relationships created in a request.
      *
-     * @param context        the compile context
-     * @param relRefMappings mapping of relationship reference used in the compile context and the relationship id from the database
+     * @param context                              the compile context
+     * @param registeredTransientRelationshipIndex index of the transient relationships of the compile context
+     * @param relRefMappings                       mapping of relationship reference used in the compile context and the
+     *                                             relationship id from the database
      */
-    private void updateRelationships(CompileContext context, List<ReferenceMapping> relRefMappings) {
-        final Map<Long, TransientRelationship> registeredTransientRelationshipIndex = buildRegisteredTransientRelationshipIndex(
-            context);
+    private void updateRelationships(CompileContext context,
+        Map<Long, TransientRelationship> registeredTransientRelationshipIndex, List<ReferenceMapping> relRefMappings) {
         for (ReferenceMapping referenceMapping : relRefMappings) {
             if (registeredTransientRelationshipIndex.containsKey(referenceMapping.ref)) {
                 TransientRelationship transientRelationship = registeredTransientRelationshipIndex
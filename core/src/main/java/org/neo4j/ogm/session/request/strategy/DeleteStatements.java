@@ -19,6 +19,7 @@
 package org.neo4j.ogm.session.request.strategy;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -49,6 +50,16 @@ public interface DeleteStatements {
      */
     CypherQuery delete(Long id, Object object, ClassInfo classInfo);
 
+    /**
+     * Construct a query to delete all given objects of the same class with a single statement, check for each object's
+     * version
+     *
+     * @param objects   the objects to delete, keyed by their id
+     * @param classInfo the class info shared by all objects
+     * @return a {@link CypherQuery}
+     */
+    CypherQuery delete(Map<Long, Object> objects, ClassInfo classInfo);
+
     /**
      * construct a query to delete all objects
      *
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the load clauses built by {@link LoadClauseBuilder LoadClauseBuilders}. A load clause only depends on the
+ * builder, the start variable, the label and the depth, while all values of a query are passed as parameters. Building
+ * a schema based load clause walks the domain schema for each level of depth, so the clauses are built once per
+ * shape and reused by all queries of that shape. Reusing the clause also keeps the statement text of identical query
+ * shapes byte-identical.
+ * <p>
+ * One cache is shared by all sessions of a {@link org.neo4j.ogm.session.SessionFactory}, so the builders passed to
+ * {@link #cached(LoadClauseBuilder)} must build their clauses from the metadata of that factory only.
+ *
+ * @since 3.2.2
+ */
+public class QueryTemplateCache {
+
+    private final Map<TemplateKey, String> loadClauses = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate the builder to build load clauses that are not cached yet
+     * @return a builder returning the cached load clauses of the given builder
+     */
+    public LoadClauseBuilder cached(LoadClauseBuilder delegate) {
+        return (variable, label, depth) -> {
+            TemplateKey key = new TemplateKey(delegate.getClass(), variable, label, depth);
+            String loadClause = loadClauses.get(key);
+            if (loadClause == null) {
+                loadClause = delegate.build(variable, label, depth);
+                loadClauses.putIfAbsent(key, loadClause);
+            }
+            return loadClause;
+        };
+    }
+
+    /**
+     * @return the number of cached load clauses
+     */
+    public int size() {
+        return loadClauses.size();
+    }
+
+    /**
+     * Removes all cached load clauses.
+     */
+    public void clear() {
+        loadClauses.clear();
+    }
+
+    private static class TemplateKey {
+
+        private final Class<?> builderType;
+        private final String variable;
+        private final String label;
+        private final int depth;
+
+        TemplateKey(Class<?> builderType, String variable, String label, int depth) {
+            this.builderType = builderType;
+            this.variable = variable;
+            this.label = label;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return depth == that.depth && builderType == that.builderType && Objects.equals(variable, that.variable)
+                && Objects.equals(label, that.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(builderType, variable, label, depth);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static org.neo4j.ogm.annotation.Relationship.*;
 
 import java.util.Map;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Relationship;
 import org.neo4j.ogm.metadata.schema.Schema;
@@ -43,30 +44,76 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int depth) {
+        expand(sb, variable, node, depth, null);
+    }
+
+    /**
+     * Expands the relationships of a node, following only the relationships named by the given fetch plan.
+     *
+     * @param fetchPlan the plan to follow, null to follow all relationships that are not lazy up to the given depth
+     */
+    protected void expand(StringBuilder sb, String variable, Node node, int depth, FetchPlan fetchPlan) {
         if (depth > 0) {
-            if (node.relationships().size() > 0) {
+            if (hasExpandedRelationships(node, fetchPlan)) {
                 sb.append(",[ ");
 
             }
-            expand(sb, variable, node, 1, depth - 1);
-            if (node.relationships().size() > 0) {
+            expand(sb, variable, node, 1, depth - 1, fetchPlan);
+            if (hasExpandedRelationships(node, fetchPlan)) {
                 sb.append(" ]");
             }
         }
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int level, int depth) {
+        expand(sb, variable, node, level, depth, null);
+    }
+
+    private void expand(StringBuilder sb, String variable, Node node, int level, int depth, FetchPlan fetchPlan) {
         for (Map.Entry<String, Relationship> entry : node.relationships().entrySet()) {
+            if (!isExpanded(entry, fetchPlan)) {
+                continue;
+            }
             if (needsSeparator(sb)) {
                 sb.append(", ");
             }
 
-            listComprehension(sb, variable, entry.getValue(), node, level, depth);
+            FetchPlan next = fetchPlan == null ? null : fetchPlan.planFor(entry.getKey());
+            listComprehension(sb, variable, entry.getValue(), node, level, depth, next);
 
         }
 
     }
 
+    // lazy relationships are fetched on first access of the field
+    private static boolean isExpanded(Map.Entry<String, Relationship> entry, FetchPlan fetchPlan) {
+        return !entry.getValue().isLazy() && (fetchPlan == null || fetchPlan.includes(entry.getKey()));
+    }
+
+    private static boolean hasExpandedRelationships(Node node, FetchPlan fetchPlan) {
+        return node.relationships().entrySet().stream().anyMatch(entry -> isExpanded(entry, fetchPlan));
+    }
+
+    /**
+     * Checks that each field named by the plan is a relationship of the node it is followed from.
+     *
+     * @throws IllegalArgumentException if the plan names an unknown or lazy field
+     */
+    protected static void validate(Node node, FetchPlan fetchPlan) {
+        for (String field : fetchPlan.getFields()) {
+            Relationship relationship = node.relationships().get(field);
+            if (relationship == null) {
+                throw new IllegalArgumentException("Fetch plan " + fetchPlan + " names " + field
+                    + ", which is not a relationship field of " + node.label().orElse("the loaded entity"));
+            }
+            if (relationship.isLazy()) {
+                throw new IllegalArgumentException("Fetch plan " + fetchPlan + " names " + field
+                    + ", which is a lazy relationship field of " + node.label().orElse("the loaded entity"));
+            }
+            validate(relationship.other(node), fetchPlan.planFor(field));
+        }
+    }
+
     private boolean needsSeparator(StringBuilder sb) {
         for (int i = sb.length() - 1; i >= 0; i--) {
             char ch = sb.charAt(i);
@@ -78,7 +125,7 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     private void listComprehension(StringBuilder sb, String fromNodeVar, Relationship relationship, Node node,
-        int level, int depth) {
+        int level, int depth, FetchPlan fetchPlan) {
 
         String direction = relationship.direction(node);
         Node toNode = relationship.other(node);
@@ -115,9 +162,9 @@ public abstract class AbstractSchemaLoadClauseBuilder {
         sb.append(", ");
         sb.append(toNodeVar);
 
-        if (depth > 0 && !toNode.relationships().isEmpty()) {
+        if (depth > 0 && hasExpandedRelationships(toNode, fetchPlan)) {
             sb.append(", [ ");
-            expand(sb, toNodeVar, toNode, level + 1, depth - 1);
+            expand(sb, toNodeVar, toNode, level + 1, depth - 1, fetchPlan);
             sb.append(" ]");
         }
 
@@ -18,7 +18,11 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import static java.util.stream.Collectors.*;
+
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -64,6 +68,30 @@ public class NodeDeleteStatements implements DeleteStatements {
 
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objects, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String versionProperty = versionField.property();
+        List<Map<String, Object>> rows = objects.entrySet().stream()
+            .map(entry -> Utils.map("nodeId", entry.getKey(), versionProperty, versionField.read(entry.getValue())))
+            .collect(toList());
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(rows.size(),
+            classInfo.staticLabels().toArray(new String[] {}), versionProperty);
+
+        return new DefaultRowModelRequest("UNWIND {rows} AS row "
+            + "MATCH (n) "
+            + "  WHERE id(n) = row.nodeId AND n.`" + versionProperty + "` = row.`" + versionProperty + "` "
+            + "SET "
+            + " n.`" + versionProperty + "` = n.`" + versionProperty + "` + 1 "
+            + "WITH n, row "
+            + " WHERE n.`" + versionProperty + "` = row.`" + versionProperty + "` + 1 "
+            + "OPTIONAL MATCH (n)-[r0]-() "
+            + "DELETE r0, n "
+            + "RETURN DISTINCT row.nodeId AS id", // Use DISTINCT because node may have multiple relationships
+            Utils.map("rows", rows, "type", "node"),
+            optimisticLockingConfig);
+    }
+
     @Override
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n) WHERE ID(n) in { ids } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n",
@@ -18,7 +18,11 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import static java.util.stream.Collectors.*;
+
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -59,6 +63,28 @@ public class RelationshipDeleteStatements implements DeleteStatements {
             Utils.map("id", id, "version", version, "type", "rel"), optimisticLockingConfig);
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objects, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String versionProperty = versionField.property();
+        List<Map<String, Object>> rows = objects.entrySet().stream()
+            .map(entry -> Utils.map("relId", entry.getKey(), versionProperty, versionField.read(entry.getValue())))
+            .collect(toList());
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(rows.size(),
+            classInfo.staticLabels().toArray(new String[] {}), versionProperty);
+
+        return new DefaultRowModelRequest("UNWIND {rows} AS row "
+            + "MATCH (n)-[r0]->() "
+            + "  WHERE ID(r0) = row.relId AND r0.`" + versionProperty + "` = row.`" + versionProperty + "` "
+            + "SET "
+            + " r0.`" + versionProperty + "` = r0.`" + versionProperty + "` + 1 "
+            + "WITH r0, row "
+            + " WHERE r0.`" + versionProperty + "` = row.`" + versionProperty + "` + 1 "
+            + "DELETE r0 "
+            + "RETURN DISTINCT row.relId AS id",
+            Utils.map("rows", rows, "type", "rel"), optimisticLockingConfig);
+    }
+
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n)-[r0]->() WHERE ID(r0) IN { ids } DELETE r0",
             Utils.map("ids", ids));
@@ -18,23 +18,39 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 
 /**
- * Schema based load clause builder for nodes - starts from given node variable
+ * Schema based load clause builder for nodes - starts from given node variable. Expands either all relationships up to
+ * the given depth or the relationships named by a fetch plan.
  *
  * @author Frantisek Hartman
  */
 public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder implements LoadClauseBuilder {
 
+    private final FetchPlan fetchPlan;
+
     public SchemaNodeLoadClauseBuilder(Schema schema) {
+        this(schema, null);
+    }
+
+    /**
+     * @param schema    the schema of the domain
+     * @param fetchPlan the relationships to expand instead of all relationships up to the depth, may be null
+     * @since 3.2.2
+     */
+    public SchemaNodeLoadClauseBuilder(Schema schema, FetchPlan fetchPlan) {
         super(schema);
+        this.fetchPlan = fetchPlan;
     }
 
     public String build(String variable, String label, int depth) {
-        if (depth < 0) {
+        if (fetchPlan != null) {
+            depth = fetchPlan.getDepth();
+        } else if (depth < 0) {
             throw new IllegalArgumentException("Only queries with depth >= 0 can be built, depth=" + depth);
         }
 
@@ -48,7 +64,10 @@ public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder
         newLine(sb);
 
         Node node = schema.findNode(label);
-        expand(sb, variable, node, depth);
+        if (fetchPlan != null) {
+            validate(node, fetchPlan);
+        }
+        expand(sb, variable, node, depth, fetchPlan);
 
         return sb.toString();
     }
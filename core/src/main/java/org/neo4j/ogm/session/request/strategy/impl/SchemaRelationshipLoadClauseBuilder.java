@@ -18,6 +18,7 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Relationship;
 import org.neo4j.ogm.metadata.schema.Schema;
@@ -29,8 +30,21 @@ import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 public class SchemaRelationshipLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder implements LoadClauseBuilder {
 
 
+    private final FetchPlan fetchPlan;
+
     public SchemaRelationshipLoadClauseBuilder(Schema schema) {
+        this(schema, null);
+    }
+
+    /**
+     * @param schema    the schema of the domain
+     * @param fetchPlan the relationships to expand from the start and end node instead of all relationships up to the
+     *                  depth, may be null
+     * @since 3.2.2
+     */
+    public SchemaRelationshipLoadClauseBuilder(Schema schema, FetchPlan fetchPlan) {
         super(schema);
+        this.fetchPlan = fetchPlan;
     }
 
     @Override
@@ -58,12 +72,35 @@ public class SchemaRelationshipLoadClauseBuilder extends AbstractSchemaLoadClaus
         // one step is going from r to start and end node so pass depth - 1
         sb.append(",n");
         Node start = relationship.start();
-        expand(sb, "n", start, depth);
-        sb.append(",m");
         Node end = relationship.other(start);
-        expand(sb, "m", end, depth);
+        if (fetchPlan != null) {
+            // the plan applies to both the start and the end node, a field has to exist on at least one of them
+            for (String field : fetchPlan.getFields()) {
+                if (!start.relationships().containsKey(field) && !end.relationships().containsKey(field)) {
+                    throw new IllegalArgumentException("Fetch plan " + fetchPlan + " names " + field
+                        + ", which is neither a relationship field of the start nor of the end node of " + label);
+                }
+            }
+            FetchPlan startPlan = planFor(start, fetchPlan);
+            FetchPlan endPlan = planFor(end, fetchPlan);
+            expand(sb, "n", start, startPlan.getDepth(), startPlan);
+            sb.append(",m");
+            expand(sb, "m", end, endPlan.getDepth(), endPlan);
+        } else {
+            expand(sb, "n", start, depth);
+            sb.append(",m");
+            expand(sb, "m", end, depth);
+        }
 
         return sb.toString();
     }
 
+    private static FetchPlan planFor(Node node, FetchPlan fetchPlan) {
+        String[] paths = fetchPlan.getPaths().stream()
+            .filter(path -> node.relationships().containsKey(path.split("\\.")[0]))
+            .toArray(String[]::new);
+        FetchPlan plan = FetchPlan.of(paths);
+        validate(node, plan);
+        return plan;
+    }
 }
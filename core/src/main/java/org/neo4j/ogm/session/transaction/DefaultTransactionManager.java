@@ -96,6 +96,7 @@ public class DefaultTransactionManager implements TransactionManager {
                 ((Neo4jSession) session).context().reset(object);
             }
             newlyRegisteredObjects.clear();
+            transactionCompleted(false);
         });
     }
 
@@ -112,9 +113,16 @@ public class DefaultTransactionManager implements TransactionManager {
         checkIfCurrentAndRemove(transaction, tx -> {
             List<Object> newlyRegisteredObjects = tx.registeredNew();
             newlyRegisteredObjects.clear();
+            transactionCompleted(true);
         });
     }
 
+    private void transactionCompleted(boolean committed) {
+        if (session instanceof Neo4jSession) {
+            ((Neo4jSession) session).transactionCompleted(committed);
+        }
+    }
+
     private void checkIfCurrentAndRemove(Transaction transaction, Consumer<AbstractTransaction> action) {
         if (transaction != getCurrentTransaction()) {
             throw new TransactionManagerException("Transaction is not current for this thread");
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.lazy.Member;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+
+public class LazyRelationshipLoaderTest {
+
+    private MetaData metaData;
+    private MappingContext mappingContext;
+    private FieldInfo friends;
+    private List<Set<Long>> loadedBatches;
+    private LazyRelationshipLoader loader;
+
+    @Before
+    public void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.context.lazy");
+        mappingContext = new MappingContext(metaData);
+        friends = metaData.classInfo(Member.class.getName()).relationshipFieldByName("friends");
+        loadedBatches = new ArrayList<>();
+        loader = new LazyRelationshipLoader(mappingContext, (field, ids) -> {
+            loadedBatches.add(ids);
+            // stands in for the mapper writing the related entities of each owner
+            for (Long id : ids) {
+                Object owner = mappingContext.getNodeEntity(id);
+                field.write(owner, Collections.singleton(owner));
+            }
+        });
+        mappingContext.setLazyRelationshipLoader(loader);
+    }
+
+    @Test
+    public void shouldInitialiseAllPendingProxiesOfAFieldAtOnce() {
+
+        Member first = member(1L);
+        Member second = member(2L);
+        assertThat(loader.pendingCount()).isEqualTo(2);
+        assertThat(LazyCollection.isUninitialised(first.getFriends())).isTrue();
+
+        assertThat(first.getFriends()).containsExactly(first);
+
+        assertThat(loadedBatches).containsExactly(newSet(1L, 2L));
+        assertThat(loader.pendingCount()).isZero();
+        assertThat(LazyCollection.isUninitialised(second.getFriends())).isFalse();
+        assertThat(second.getFriends()).containsExactly(second);
+        assertThat(loadedBatches).hasSize(1);
+    }
+
+    @Test
+    public void shouldNotInitialiseProxiesOfEntitiesNoLongerInTheContext() {
+
+        Member member = member(1L);
+        Set<Member> proxy = member.getFriends();
+        mappingContext.clear();
+
+        assertThat(loader.pendingCount()).isZero();
+        assertThatExceptionOfType(MappingException.class).isThrownBy(proxy::size);
+        assertThat(loadedBatches).isEmpty();
+    }
+
+    @Test
+    public void shouldRestorePendingProxiesWhenLoadingFails() {
+
+        Member member = member(1L);
+        LazyRelationshipLoader failingLoader = new LazyRelationshipLoader(mappingContext, (field, ids) -> {
+            throw new IllegalStateException("no database");
+        });
+        friends.write(member, failingLoader.proxyFor(member, 1L, friends));
+
+        assertThatIllegalStateException().isThrownBy(() -> member.getFriends().isEmpty());
+        assertThat(failingLoader.pendingCount()).isEqualTo(1);
+        assertThat(LazyCollection.isUninitialised(member.getFriends())).isTrue();
+    }
+
+    @Test
+    public void shouldRejectLazySingleReferences() {
+
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(() -> new MetaData("org.neo4j.ogm.context.invalid"))
+            .withMessageContaining("@Lazy");
+    }
+
+    private Member member(Long id) {
+        Member member = new Member();
+        metaData.classInfo(member).identityField().write(member, id);
+        mappingContext.addNodeEntity(member, id);
+        friends.write(member, loader.proxyFor(member, id, friends));
+        return member;
+    }
+
+    private static Set<Long> newSet(Long... ids) {
+        Set<Long> set = new LinkedHashSet<>();
+        Collections.addAll(set, ids);
+        return set;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    public void shouldPutGetAndRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(1L, "b")).isEqualTo("a");
+        assertThat(map.putIfAbsent(1L, "c")).isEqualTo("b");
+        assertThat(map.putIfAbsent(-7L, "d")).isNull();
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isEqualTo("b");
+        assertThat(map.get(-7L)).isEqualTo("d");
+        assertThat(map.containsKey(2L)).isFalse();
+
+        assertThat(map.remove(1L)).isEqualTo("b");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.values()).containsExactly("d");
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(-7L)).isNull();
+    }
+
+    @Test
+    public void shouldRejectNullValues() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongObjectHashMap<>().put(1L, null));
+    }
+
+    @Test
+    public void shouldRemoveMatchingValues() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        map.removeIf(value -> value % 2 == 0);
+
+        assertThat(map.size()).isEqualTo(50);
+        Map<Long, Long> remaining = new HashMap<>();
+        map.forEach((value, key) -> remaining.put(key, value));
+        assertThat(remaining).hasSize(50).allSatisfy((key, value) -> assertThat(key % 2).isEqualTo(1L));
+    }
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        Random random = new Random(4711);
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            // A small key range forces collisions, removals in probe chains and growing beyond the initial capacity
+            long key = random.nextInt(5_000);
+            long value = random.nextLong();
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
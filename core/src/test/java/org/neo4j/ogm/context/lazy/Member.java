@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context.lazy;
+
+import java.util.Set;
+
+import org.neo4j.ogm.annotation.Lazy;
+import org.neo4j.ogm.annotation.NodeEntity;
+
+@NodeEntity
+public class Member {
+
+    private Long id;
+
+    @Lazy
+    private Set<Member> friends;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Set<Member> getFriends() {
+        return friends;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexTest {
+
+    private static final String SIMPLE = "org.neo4j.ogm.metadata.schema.simple";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader indexClassLoader;
+
+    private Path indexedRoot;
+
+    @Before
+    public void writeIndex() throws IOException {
+        indexedRoot = folder.newFolder("classes").toPath();
+        Path index = indexedRoot.resolve(DomainIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, asList(
+            "# written by the domain indexer",
+            SIMPLE + ".Person",
+            SIMPLE + ".Location",
+            "org.neo4j.ogm.metadata.schema.inheritance.Person"), StandardCharsets.UTF_8);
+        createPackage(indexedRoot, SIMPLE);
+        Files.createFile(indexedRoot.resolve(SIMPLE.replace('.', '/')).resolve("Location.class"));
+
+        indexClassLoader = new IsolatedResourcesClassLoader(indexedRoot);
+    }
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(DomainIndex.IGNORE_INDEX_PROPERTY);
+    }
+
+    @Test
+    public void shouldReadClassesOfCoveredPackages() {
+        assertThat(DomainIndex.classesIn(indexClassLoader, SIMPLE))
+            .hasValueSatisfying(classes -> assertThat(classes).containsExactly(SIMPLE + ".Person", SIMPLE + ".Location"));
+        assertThat(DomainIndex.classesIn(indexClassLoader, SIMPLE + ".Location"))
+            .hasValueSatisfying(classes -> assertThat(classes).containsExactly(SIMPLE + ".Location"));
+    }
+
+    @Test
+    public void shouldNotUseIndexIfAPackageIsNotCovered() {
+        assertThat(DomainIndex.classesIn(indexClassLoader, SIMPLE, "org.neo4j.ogm.metadata.schema.generics")).isEmpty();
+        assertThat(DomainIndex.classesIn(indexClassLoader)).isEmpty();
+        assertThat(DomainIndex.classesIn(getClass().getClassLoader(), SIMPLE)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotUseIndexIfAPackageIsSplitOverIndexedAndNotIndexedRoots() throws IOException {
+        Path notIndexed = folder.newFolder("not-indexed").toPath();
+        createPackage(notIndexed, SIMPLE);
+
+        ClassLoader splitClassLoader = new IsolatedResourcesClassLoader(indexedRoot, notIndexed);
+        assertThat(DomainIndex.classesIn(splitClassLoader, SIMPLE)).isEmpty();
+        assertThat(DomainIndex.classesIn(splitClassLoader, SIMPLE + ".Location")).isPresent();
+    }
+
+    @Test
+    public void shouldNotUseIndexIfIgnored() {
+        System.setProperty(DomainIndex.IGNORE_INDEX_PROPERTY, "true");
+        assertThat(DomainIndex.classesIn(indexClassLoader, SIMPLE)).isEmpty();
+    }
+
+    @Test
+    public void shouldCreateDomainFromIndex() {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(indexClassLoader);
+        try {
+            DomainInfo domainInfo = DomainInfo.create(SIMPLE);
+            assertThat(domainInfo.getClass(SIMPLE + ".Person")).isNotNull();
+            assertThat(domainInfo.getClass(SIMPLE + ".Location")).isNotNull();
+            assertThat(domainInfo.getClass(SIMPLE + ".Restaurant")).isNull();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        assertThat(DomainInfo.create(SIMPLE).getClass(SIMPLE + ".Restaurant")).isNotNull();
+    }
+
+    private static void createPackage(Path root, String packageName) throws IOException {
+        Files.createDirectories(root.resolve(packageName.replace('.', '/')));
+    }
+
+    /**
+     * Loads classes through the class loader of the test, but finds resources only in the given roots, as if those
+     * were the only roots containing the domain packages.
+     */
+    private static class IsolatedResourcesClassLoader extends URLClassLoader {
+
+        IsolatedResourcesClassLoader(Path... roots) throws IOException {
+            super(toUrls(roots), DomainIndexTest.class.getClassLoader());
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return findResources(name);
+        }
+
+        private static URL[] toUrls(Path... roots) throws IOException {
+            URL[] urls = new URL[roots.length];
+            for (int i = 0; i < roots.length; i++) {
+                urls[i] = roots[i].toUri().toURL();
+            }
+            return urls;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.metadata.inherited.Reading;
+
+public class FieldAccessorTest {
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(FieldAccessor.REFLECTIVE_ACCESS_PROPERTY);
+    }
+
+    @Test
+    public void shouldReadAndWriteThroughMethodHandles() throws Exception {
+        assertReadAndWrite();
+    }
+
+    @Test
+    public void shouldReadAndWriteThroughReflection() throws Exception {
+        System.setProperty(FieldAccessor.REFLECTIVE_ACCESS_PROPERTY, "true");
+        assertReadAndWrite();
+    }
+
+    @Test
+    public void shouldApplyWideningConversionsLikeReflection() throws Exception {
+        Sample sample = new Sample();
+        FieldAccessor.of(field("number")).write(sample, 42);
+        assertThat(sample.number).isEqualTo(42L);
+    }
+
+    @Test
+    public void shouldRejectIncompatibleValuesLikeReflection() throws Exception {
+        FieldAccessor accessor = FieldAccessor.of(field("number"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accessor.write(new Sample(), null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> accessor.write(new Sample(), "42"));
+    }
+
+    @Test
+    public void shouldConvertAndRejectValuesExactlyLikeReflection() throws Exception {
+        Object[] values = { (byte) 1, (short) 2, 'c', 4, 5L, 6.5f, 7.5d, true, "8", null };
+        for (String fieldName : new String[] { "flag", "character", "count", "number", "ratio", "name" }) {
+            assertThat(FieldAccessor.of(field(fieldName)).getClass().getSimpleName())
+                .isEqualTo("MethodHandleFieldAccessor");
+            for (Object value : values) {
+                String outcome = outcomeOfWrite(fieldName, value);
+                System.setProperty(FieldAccessor.REFLECTIVE_ACCESS_PROPERTY, "true");
+                try {
+                    assertThat(outcome).as("writing %s into %s", value, fieldName)
+                        .isEqualTo(outcomeOfWrite(fieldName, value));
+                } finally {
+                    System.clearProperty(FieldAccessor.REFLECTIVE_ACCESS_PROPERTY);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectInstancesOfOtherClassesLikeReflection() throws Exception {
+        FieldAccessor accessor = FieldAccessor.of(field("name"));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> accessor.read("other"));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> accessor.write("other", "Frodo"));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> accessor.read(null));
+    }
+
+    @Test
+    public void shouldBuildMetaDataForEntitiesInheritingInaccessibleFields() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.metadata.inherited");
+
+        Reading reading = new Reading();
+        FieldInfo sensor = metaData.classInfo(Reading.class).getFieldInfo("sensor");
+        sensor.write(reading, "thermometer");
+        assertThat(reading.getSensor()).isEqualTo("thermometer");
+    }
+
+    private static void assertReadAndWrite() throws Exception {
+        Sample sample = new Sample();
+
+        FieldAccessor name = FieldAccessor.of(field("name"));
+        name.write(sample, "Frodo");
+        assertThat(name.read(sample)).isEqualTo("Frodo");
+
+        FieldAccessor number = FieldAccessor.of(field("number"));
+        number.write(sample, 7L);
+        assertThat(number.read(sample)).isEqualTo(7L);
+
+        FieldAccessor constant = FieldAccessor.of(field("constant"));
+        constant.write(sample, "changed");
+        assertThat(constant.read(sample)).isEqualTo("changed");
+    }
+
+    private static String outcomeOfWrite(String fieldName, Object value) throws Exception {
+        Sample sample = new Sample();
+        FieldAccessor accessor = FieldAccessor.of(field(fieldName));
+        try {
+            accessor.write(sample, value);
+            return String.valueOf(accessor.read(sample));
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static Field field(String name) throws NoSuchFieldException {
+        return Sample.class.getDeclaredField(name);
+    }
+
+    static class Sample {
+
+        private String name;
+        private boolean flag;
+        private char character;
+        private int count;
+        private long number;
+        private double ratio;
+        private final String constant = new String("initial");
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.inherited;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.neo4j.ogm.annotation.NodeEntity;
+
+/**
+ * An entity inheriting a field of a generic JDK class, which cannot be made accessible on JDK 16 and later.
+ */
+@NodeEntity
+public class Reading extends AtomicReference<Double> {
+
+    private Long id;
+
+    private String sensor;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSensor() {
+        return sensor;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.session.metrics.Operation;
+import org.neo4j.ogm.session.metrics.OperationMetrics;
+import org.neo4j.ogm.session.request.RowDataStatement;
+
+public class MeasuringRequestTest {
+
+    private OperationRecorder recorder;
+
+    @Before
+    public void startOperation() {
+        MappingContext mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.context.lazy"));
+        recorder = new OperationRecorder(Operation.QUERY, mappingContext);
+    }
+
+    @Test
+    public void shouldCountStatementsAndResults() {
+
+        MeasuringRequest request = new MeasuringRequest(new FakeRequest(3), recorder);
+        Response<RowModel> response = request.execute(new DefaultRowModelRequest("RETURN 1", Collections.emptyMap()));
+        assertThat(response.toList()).hasSize(3);
+        response.close();
+
+        org.neo4j.ogm.session.request.DefaultRequest statements = new org.neo4j.ogm.session.request.DefaultRequest();
+        statements.setStatements(Arrays.asList(
+            new RowDataStatement("RETURN 1", Collections.emptyMap()),
+            new RowDataStatement("RETURN 2", Collections.emptyMap())));
+        request.execute(statements).close();
+
+        OperationMetrics metrics = recorder.finish(false);
+        assertThat(metrics.getOperation()).isEqualTo(Operation.QUERY);
+        assertThat(metrics.getStatementCount()).isEqualTo(3L);
+        assertThat(metrics.getResultCount()).isEqualTo(3L);
+        assertThat(metrics.getDriverNanos()).isGreaterThan(0L).isLessThanOrEqualTo(metrics.getDurationNanos());
+        assertThat(metrics.getMappingContextSize()).isZero();
+        assertThat(metrics.isFailed()).isFalse();
+    }
+
+    @Test
+    public void shouldMeasureFailedRequests() {
+
+        MeasuringRequest request = new MeasuringRequest(new FakeRequest(-1), recorder);
+        assertThatIllegalStateException()
+            .isThrownBy(() -> request.execute(new DefaultRowModelRequest("RETURN 1", Collections.emptyMap())));
+
+        OperationMetrics metrics = recorder.finish(true);
+        assertThat(metrics.getStatementCount()).isEqualTo(1L);
+        assertThat(metrics.getResultCount()).isZero();
+        assertThat(metrics.isFailed()).isTrue();
+    }
+
+    /**
+     * Answers row requests with the given number of rows, or fails if the number is negative.
+     */
+    private static class FakeRequest implements Request {
+
+        private final int rows;
+
+        FakeRequest(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Response<RowModel> execute(RowModelRequest query) {
+            return rows();
+        }
+
+        @Override
+        public Response<RowModel> execute(DefaultRequest query) {
+            return rows();
+        }
+
+        @Override
+        public Response<GraphModel> execute(GraphModelRequest query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response<RestModel> execute(RestModelRequest query) {
+            throw new UnsupportedOperationException();
+        }
+
+        private Response<RowModel> rows() {
+            if (rows < 0) {
+                throw new IllegalStateException("Request failed");
+            }
+            return new Response<RowModel>() {
+
+                private int remaining = rows;
+
+                @Override
+                public RowModel next() {
+                    if (remaining == 0) {
+                        return null;
+                    }
+                    remaining--;
+                    return new DefaultRowModel(new Object[] { remaining }, new String[] { "n" });
+                }
+
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public String[] columns() {
+                    return new String[] { "n" };
+                }
+            };
+        }
+    }
+}
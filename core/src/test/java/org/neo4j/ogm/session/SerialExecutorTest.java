@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SerialExecutorTest {
+
+    @Test
+    public void shouldRunTasksOneAtATimeInSubmissionOrder() throws InterruptedException {
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor executor = new SerialExecutor(pool);
+            AtomicInteger running = new AtomicInteger();
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            List<Integer> concurrency = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(100);
+
+            for (int i = 0; i < 100; ++i) {
+                int task = i;
+                executor.execute(() -> {
+                    concurrency.add(running.incrementAndGet());
+                    order.add(task);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            assertThat(done.await(10L, TimeUnit.SECONDS)).isTrue();
+            assertThat(concurrency).containsOnly(1);
+            assertThat(order).isSorted().hasSize(100);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void failingTasksShouldNotStopLaterTasks() throws InterruptedException {
+
+        SerialExecutor executor = new SerialExecutor(Runnable::run);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            throw new IllegalStateException("Expected");
+        });
+        executor.execute(done::countDown);
+
+        assertThat(done.await(1L, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class StatementShapeCounterTest {
+
+    @Test
+    public void shouldCountDistinctStatements() {
+        StatementShapeCounter counter = new StatementShapeCounter();
+        counter.record("MATCH (n) RETURN n");
+        counter.record("MATCH (n) RETURN n");
+        counter.record("MATCH (n) WHERE ID(n) = { id } RETURN n");
+        counter.record("");
+
+        assertThat(counter.getStatementCount()).isEqualTo(3);
+        assertThat(counter.getShapeCount()).isEqualTo(2);
+        assertThat(counter.isSaturated()).isFalse();
+
+        counter.reset();
+        assertThat(counter.getStatementCount()).isZero();
+        assertThat(counter.getShapeCount()).isZero();
+    }
+
+    @Test
+    public void shouldStopTrackingShapesWhenSaturated() {
+        StatementShapeCounter counter = new StatementShapeCounter(2);
+        counter.record("RETURN 1");
+        counter.record("RETURN 2");
+        counter.record("RETURN 1");
+        assertThat(counter.isSaturated()).isFalse();
+
+        counter.record("RETURN 3");
+        assertThat(counter.getShapeCount()).isEqualTo(2);
+        assertThat(counter.getStatementCount()).isEqualTo(4);
+        assertThat(counter.isSaturated()).isTrue();
+    }
+}
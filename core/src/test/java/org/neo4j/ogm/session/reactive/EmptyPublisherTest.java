@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class EmptyPublisherTest {
+
+    @Test
+    public void shouldCompleteWithoutPublishingAnything() {
+
+        List<String> signals = new ArrayList<>();
+        new EmptyPublisher<String>().subscribe(new Subscriber<String>() {
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                signals.add("onSubscribe");
+                s.request(1L);
+            }
+
+            @Override
+            public void onNext(String item) {
+                signals.add("onNext " + item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                signals.add("onError " + t);
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("onComplete");
+            }
+        });
+
+        assertThat(signals).containsExactly("onSubscribe", "onComplete");
+    }
+
+    @Test
+    public void shouldRejectNullSubscribers() {
+
+        assertThatThrownBy(() -> new EmptyPublisher<String>().subscribe(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.neo4j.ogm.response.AsyncResponse;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class ResponsePublisherTest {
+
+    @Test
+    public void shouldOnlyFetchModelsOnDemand() {
+
+        FakeResponse response = new FakeResponse("a", "b", "c");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisherOf(response).subscribe(subscriber);
+
+        assertThat(response.fetched.get()).isEqualTo(0);
+
+        subscriber.subscription.request(2L);
+        assertThat(subscriber.items).containsExactly("A", "B");
+        assertThat(response.fetched.get()).isEqualTo(2);
+
+        subscriber.subscription.request(5L);
+        assertThat(subscriber.items).containsExactly("A", "B", "C");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseResponseWhenCancelled() {
+
+        FakeResponse response = new FakeResponse("a", "b", "c");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisherOf(response).subscribe(subscriber);
+
+        subscriber.subscription.request(1L);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1L);
+
+        assertThat(subscriber.items).containsExactly("A");
+        assertThat(subscriber.completed).isFalse();
+        assertThat(response.closed).isTrue();
+    }
+
+    @Test
+    public void shouldPublishMappingErrors() {
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new ResponsePublisher<String, String>(
+            () -> CompletableFuture.completedFuture(new FakeResponse("a")),
+            () -> model -> {
+                throw new IllegalStateException("Cannot map " + model);
+            }, Runnable::run, bookmark -> { }).subscribe(subscriber);
+
+        subscriber.subscription.request(1L);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectNonPositiveDemand() {
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisherOf(new FakeResponse("a")).subscribe(subscriber);
+
+        subscriber.subscription.request(0L);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldHandOverBookmarkBeforeCompleting() {
+
+        List<String> bookmarks = new ArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new ResponsePublisher<String, String>(
+            () -> CompletableFuture.completedFuture(new FakeResponse("a")),
+            () -> model -> Collections.singletonList(model.toUpperCase()),
+            Runnable::run, bookmark -> bookmarks.add(bookmark + ", completed: " + subscriber.completed))
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(bookmarks).containsExactly("bookmark, completed: false");
+        assertThat(subscriber.items).containsExactly("A");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    private ResponsePublisher<String, String> publisherOf(FakeResponse response) {
+        return new ResponsePublisher<>(() -> CompletableFuture.completedFuture(response),
+            () -> model -> Collections.singletonList(model.toUpperCase()), Runnable::run, bookmark -> { });
+    }
+
+    private static class FakeResponse implements AsyncResponse<String> {
+
+        private final Iterator<String> models;
+
+        private final AtomicInteger fetched = new AtomicInteger();
+
+        private volatile boolean closed;
+
+        FakeResponse(String... models) {
+            this.models = Arrays.asList(models).iterator();
+        }
+
+        @Override
+        public CompletionStage<String> next() {
+            if (!models.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            fetched.incrementAndGet();
+            return CompletableFuture.completedFuture(models.next());
+        }
+
+        @Override
+        public CompletionStage<Void> close() {
+            closed = true;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Optional<String>> getBookmark() {
+            return CompletableFuture.completedFuture(Optional.of("bookmark"));
+        }
+    }
+
+    private static class RecordingSubscriber implements Subscriber<String> {
+
+        private final List<String> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
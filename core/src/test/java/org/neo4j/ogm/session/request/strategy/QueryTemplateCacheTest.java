@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.request.strategy.impl.PathNodeLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBuilder;
+
+public class QueryTemplateCacheTest {
+
+    @Test
+    public void shouldBuildEachLoadClauseOnce() {
+        QueryTemplateCache cache = new QueryTemplateCache();
+        AtomicInteger builds = new AtomicInteger();
+        LoadClauseBuilder countingBuilder = (variable, label, depth) -> {
+            builds.incrementAndGet();
+            return new PathNodeLoadClauseBuilder().build(variable, label, depth);
+        };
+
+        String first = cache.cached(countingBuilder).build("Person", 2);
+        String second = cache.cached(countingBuilder).build("Person", 2);
+        cache.cached(countingBuilder).build("Person", 1);
+        cache.cached(countingBuilder).build("Movie", 2);
+
+        assertThat(second).isSameAs(first).isEqualTo(" MATCH p=(n)-[*0..2]-(m) RETURN p");
+        assertThat(builds).hasValue(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotShareLoadClausesOfDifferentBuilders() {
+        QueryTemplateCache cache = new QueryTemplateCache();
+
+        String nodeClause = cache.cached(new PathNodeLoadClauseBuilder()).build("r0", "KNOWS", 1);
+        String relationshipClause = cache.cached(new PathRelationshipLoadClauseBuilder()).build("r0", "KNOWS", 1);
+
+        assertThat(nodeClause).isNotEqualTo(relationshipClause);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+}
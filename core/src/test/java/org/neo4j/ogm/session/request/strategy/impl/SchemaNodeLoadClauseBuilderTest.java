@@ -21,6 +21,7 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Test;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.metadata.DomainInfo;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
@@ -79,10 +80,44 @@ public class SchemaNodeLoadClauseBuilderTest {
         assertThat(query).isEqualTo(" RETURN n,[ [ (n)-[r_s1:`SIMILAR_TO`]->(r1:`Restaurant`) | [ r_s1, r1 ] ] ]");
     }
 
+    @Test
+    public void givenFetchPlan_thenExpandOnlyTheNamedRelationships() {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(FetchPlan.of("location.residents", "employer"));
+
+        String query = queryBuilder.build("n", "Person", 1);
+
+        assertThat(query).isEqualTo(" RETURN n,[ " +
+            "[ (n)-[r_e1:`EMPLOYED_BY`]->(o1:`Organisation`) | [ r_e1, o1 ] ], " +
+            "[ (n)-[r_l1:`LIVES_AT`]->(l1:`Location`) | [ r_l1, l1, " +
+            "[ [ (l1)<-[r_l2:`LIVES_AT`]-(p2:`Person`) | [ r_l2, p2 ] ] ] " +
+            "] ] " +
+            "]");
+    }
+
+    @Test
+    public void givenEmptyFetchPlan_thenCreateSimpleQuery() {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(FetchPlan.of());
+
+        assertThat(queryBuilder.build("n", "Person", 2)).isEqualTo(" RETURN n");
+    }
+
+    @Test
+    public void givenFetchPlanWithUnknownField_thenFail() {
+        SchemaNodeLoadClauseBuilder queryBuilder = createQueryBuilder(FetchPlan.of("location.owner"));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> queryBuilder.build("n", "Person", 1))
+            .withMessageContaining("owner");
+    }
+
     private SchemaNodeLoadClauseBuilder createQueryBuilder() {
+        return createQueryBuilder(null);
+    }
+
+    private SchemaNodeLoadClauseBuilder createQueryBuilder(FetchPlan fetchPlan) {
         DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.metadata.schema.simple");
         Schema schema = new DomainInfoSchemaBuilder(domainInfo).build();
-        return new SchemaNodeLoadClauseBuilder(schema);
+        return new SchemaNodeLoadClauseBuilder(schema, fetchPlan);
     }
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes the names of all classes, interfaces and enums compiled in a module into
+ * {@value #INDEX_LOCATION}. When the index is on the class path, a SessionFactory reads the domain classes of the
+ * configured packages from it instead of scanning the class path.
+ * <p>
+ * The processor doesn't look at annotations, because Neo4j-OGM maps classes without annotations as well. Add it to
+ * the annotation processor path of the modules containing domain classes only. Incremental compilers only pass the
+ * changed sources to the processor, so the classes of an existing index are kept as long as they still exist.
+ *
+ * @since 3.2.2
+ */
+@SupportedAnnotationTypes("*")
+public class DomainIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the index, relative to the class output. Must be kept in sync with
+     * {@code org.neo4j.ogm.metadata.DomainIndex}.
+     */
+    public static final String INDEX_LOCATION = "META-INF/neo4j-ogm/domain.index";
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                collect(element);
+            }
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        ElementKind kind = element.getKind();
+        if (kind != ElementKind.CLASS && kind != ElementKind.INTERFACE && kind != ElementKind.ENUM) {
+            return;
+        }
+        classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+        for (Element enclosed : element.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private void writeIndex() {
+        if (classNames.isEmpty()) {
+            return;
+        }
+        readExistingIndex();
+        try {
+            FileObject index = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Could not write the domain index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the classes of the index written by a previous compilation that still exist, so that the index isn't
+     * reduced to the classes compiled last.
+     */
+    private void readExistingIndex() {
+        FileObject existingIndex;
+        try {
+            existingIndex = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+        } catch (IOException e) {
+            // Some compilers don't allow reading from the class output
+            return;
+        }
+        try (Reader reader = new InputStreamReader(existingIndex.openInputStream(), StandardCharsets.UTF_8)) {
+            new BufferedReader(reader).lines()
+                .filter(className -> !className.isEmpty() && exists(className))
+                .forEach(classNames::add);
+        } catch (IOException e) {
+            // There is no index yet
+        }
+    }
+
+    private boolean exists(String binaryName) {
+        // The element utils look types up by their canonical name
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.index;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldIndexAllTypesButAnnotations() throws IOException {
+        Path sources = folder.newFolder("sources").toPath();
+        Path classes = folder.newFolder("classes").toPath();
+
+        Path domainPackage = Files.createDirectories(sources.resolve("org/example/domain"));
+        Files.write(domainPackage.resolve("Person.java"), asList(
+            "package org.example.domain;",
+            "public class Person {",
+            "    public enum Gender { FEMALE, MALE, OTHER }",
+            "    private Runnable task = new Runnable() { public void run() { } };",
+            "}"), StandardCharsets.UTF_8);
+        Files.write(domainPackage.resolve("Named.java"), asList(
+            "package org.example.domain;",
+            "public interface Named { }",
+            "@interface Marker { }"), StandardCharsets.UTF_8);
+
+        compile(classes, domainPackage.resolve("Person.java").toFile(), domainPackage.resolve("Named.java").toFile());
+
+        List<String> index = Files.readAllLines(classes.resolve(DomainIndexProcessor.INDEX_LOCATION),
+            StandardCharsets.UTF_8);
+        assertThat(index).containsExactly(
+            "org.example.domain.Named", "org.example.domain.Person", "org.example.domain.Person$Gender");
+    }
+
+    @Test
+    public void shouldKeepExistingClassesWhenCompilingIncrementally() throws IOException {
+        Path sources = folder.newFolder("sources").toPath();
+        Path classes = folder.newFolder("classes").toPath();
+
+        Path domainPackage = Files.createDirectories(sources.resolve("org/example/domain"));
+        Files.write(domainPackage.resolve("Person.java"), asList(
+            "package org.example.domain;",
+            "public class Person {",
+            "    public enum Gender { FEMALE, MALE, OTHER }",
+            "}"), StandardCharsets.UTF_8);
+        Files.write(domainPackage.resolve("Pet.java"), asList(
+            "package org.example.domain;",
+            "public class Pet { }"), StandardCharsets.UTF_8);
+        compile(classes, domainPackage.resolve("Person.java").toFile(), domainPackage.resolve("Pet.java").toFile());
+
+        Files.write(domainPackage.resolve("Person.java"), asList(
+            "package org.example.domain;",
+            "public class Person { }"), StandardCharsets.UTF_8);
+        compile(classes, domainPackage.resolve("Person.java").toFile());
+
+        List<String> index = Files.readAllLines(classes.resolve(DomainIndexProcessor.INDEX_LOCATION),
+            StandardCharsets.UTF_8);
+        assertThat(index).containsExactly("org.example.domain.Person", "org.example.domain.Pet");
+
+        Files.delete(classes.resolve("org/example/domain/Pet.class"));
+        compile(classes, domainPackage.resolve("Person.java").toFile());
+
+        index = Files.readAllLines(classes.resolve(DomainIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertThat(index).containsExactly("org.example.domain.Person");
+    }
+
+    private static void compile(Path classes, File... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sources);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                asList("-d", classes.toString(), "-classpath", classes.toString()), null, compilationUnits);
+            task.setProcessors(asList(new DomainIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metrics.dropwizard;
+
+import static com.codahale.metrics.MetricRegistry.*;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.metrics.Operation;
+import org.neo4j.ogm.session.metrics.OperationMetrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Publishes the metrics of the operations of Neo4j-OGM sessions to a Dropwizard {@link MetricRegistry}. Register it
+ * with {@link org.neo4j.ogm.session.SessionFactory#setMetrics(OgmMetrics)}.
+ * <p>
+ * For each {@link Operation}, for example {@code load_all}, the following metrics are registered below the prefix, which
+ * defaults to {@code org.neo4j.ogm}:
+ * <ul>
+ * <li>{@code <prefix>.load_all.duration}: a timer of the whole operation</li>
+ * <li>{@code <prefix>.load_all.driver}: a timer of the time spent in the driver</li>
+ * <li>{@code <prefix>.load_all.mapping}: a timer of the time spent outside the driver</li>
+ * <li>{@code <prefix>.load_all.statements}: a histogram of the statements sent per operation</li>
+ * <li>{@code <prefix>.load_all.results}: a histogram of the rows or graph models received per operation</li>
+ * <li>{@code <prefix>.load_all.mapping-context-size}: a histogram of the entities in the mapping context after
+ * each operation</li>
+ * <li>{@code <prefix>.load_all.dirty-checks} and {@code <prefix>.load_all.dirty-check-hits}: counters of the checks
+ * for modified entities, and of those that found the entity unchanged</li>
+ * <li>{@code <prefix>.load_all.failures}: a meter of the operations that threw an exception</li>
+ * </ul>
+ *
+ * @since 3.2.2
+ */
+public class DropwizardOgmMetrics implements OgmMetrics {
+
+    public static final String DEFAULT_PREFIX = "org.neo4j.ogm";
+
+    private final Map<Operation, OperationMeters> meters = new EnumMap<>(Operation.class);
+
+    public DropwizardOgmMetrics(MetricRegistry registry) {
+        this(registry, DEFAULT_PREFIX);
+    }
+
+    public DropwizardOgmMetrics(MetricRegistry registry, String prefix) {
+        for (Operation operation : Operation.values()) {
+            meters.put(operation, new OperationMeters(registry, name(prefix, operation.name().toLowerCase(Locale.ROOT))));
+        }
+    }
+
+    @Override
+    public void record(OperationMetrics metrics) {
+        meters.get(metrics.getOperation()).record(metrics);
+    }
+
+    private static class OperationMeters {
+
+        private final Timer duration;
+        private final Timer driver;
+        private final Timer mapping;
+        private final Histogram statements;
+        private final Histogram results;
+        private final Histogram mappingContextSize;
+        private final Counter dirtyChecks;
+        private final Counter dirtyCheckHits;
+        private final Meter failures;
+
+        OperationMeters(MetricRegistry registry, String prefix) {
+            this.duration = registry.timer(name(prefix, "duration"));
+            this.driver = registry.timer(name(prefix, "driver"));
+            this.mapping = registry.timer(name(prefix, "mapping"));
+            this.statements = registry.histogram(name(prefix, "statements"));
+            this.results = registry.histogram(name(prefix, "results"));
+            this.mappingContextSize = registry.histogram(name(prefix, "mapping-context-size"));
+            this.dirtyChecks = registry.counter(name(prefix, "dirty-checks"));
+            this.dirtyCheckHits = registry.counter(name(prefix, "dirty-check-hits"));
+            this.failures = registry.meter(name(prefix, "failures"));
+        }
+
+        void record(OperationMetrics metrics) {
+            duration.update(metrics.getDurationNanos(), TimeUnit.NANOSECONDS);
+            driver.update(metrics.getDriverNanos(), TimeUnit.NANOSECONDS);
+            mapping.update(metrics.getMappingNanos(), TimeUnit.NANOSECONDS);
+            statements.update(metrics.getStatementCount());
+            results.update(metrics.getResultCount());
+            mappingContextSize.update(metrics.getMappingContextSize());
+            dirtyChecks.inc(metrics.getDirtyCheckCount());
+            dirtyCheckHits.inc(metrics.getDirtyCheckHitCount());
+            if (metrics.isFailed()) {
+                failures.mark();
+            }
+        }
+    }
+}
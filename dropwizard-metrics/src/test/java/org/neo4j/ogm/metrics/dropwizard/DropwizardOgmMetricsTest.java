@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metrics.dropwizard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.metrics.Operation;
+import org.neo4j.ogm.session.metrics.OperationMetrics;
+
+import com.codahale.metrics.MetricRegistry;
+
+public class DropwizardOgmMetricsTest {
+
+    @Test
+    public void shouldPublishMetricsPerOperation() {
+
+        MetricRegistry registry = new MetricRegistry();
+        DropwizardOgmMetrics metrics = new DropwizardOgmMetrics(registry);
+
+        metrics.record(new OperationMetrics(Operation.SAVE, TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(3), 4, 2, 10, 7, 12, false));
+        metrics.record(new OperationMetrics(Operation.SAVE, 100, 100, 1, 0, 0, 0, 12, true));
+
+        assertThat(registry.timer("org.neo4j.ogm.save.duration").getCount()).isEqualTo(2L);
+        assertThat(registry.timer("org.neo4j.ogm.save.mapping").getSnapshot().getMax())
+            .isEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(registry.histogram("org.neo4j.ogm.save.statements").getSnapshot().getMax()).isEqualTo(4L);
+        assertThat(registry.histogram("org.neo4j.ogm.save.results").getSnapshot().getMax()).isEqualTo(2L);
+        assertThat(registry.histogram("org.neo4j.ogm.save.mapping-context-size").getSnapshot().getMin())
+            .isEqualTo(12L);
+        assertThat(registry.counter("org.neo4j.ogm.save.dirty-checks").getCount()).isEqualTo(10L);
+        assertThat(registry.counter("org.neo4j.ogm.save.dirty-check-hits").getCount()).isEqualTo(7L);
+        assertThat(registry.meter("org.neo4j.ogm.save.failures").getCount()).isEqualTo(1L);
+        assertThat(registry.timer("org.neo4j.ogm.load.duration").getCount()).isZero();
+    }
+
+    @Test
+    public void shouldUseThePrefix() {
+
+        MetricRegistry registry = new MetricRegistry();
+        new DropwizardOgmMetrics(registry, "app.ogm")
+            .record(new OperationMetrics(Operation.LOAD_ALL, 10, 5, 1, 3, 0, 0, 3, false));
+
+        assertThat(registry.getNames()).contains("app.ogm.load_all.duration").noneMatch(n -> n.startsWith("org."));
+    }
+}
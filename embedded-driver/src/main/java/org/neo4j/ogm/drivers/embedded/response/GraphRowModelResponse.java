@@ -44,11 +44,9 @@ public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
     public GraphRowListModel next() {
 
         if (result.hasNext()) {
+            // One record at a time, so that the result can be consumed without holding all rows in memory
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next()));
-            }
+            model.add(adapter.adapt(result.next()));
             return model;
         }
         return null;
@@ -19,10 +19,9 @@
 package org.neo4j.ogm.drivers.http.response;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
@@ -38,9 +37,13 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
+ * The response of the transactional http endpoint is read with a single, forward-only parser directly from the
+ * content of the http response. Rows are materialized one at a time when they are requested, so that large results
+ * are neither buffered as a whole nor parsed before the first row can be mapped. Errors are checked when the parser
+ * reaches them, at the latest when the response is closed.
+ * <br>
  * NOTE: Both columns and statistics only work on the <strong>FIRST</strong> entry of the results array. That has been
  * the case at least since OGM 3.0.
  * Queries that contain multiple statements with possible a distinct set of columns and statistic, won't work correctly.
@@ -56,8 +59,7 @@ public abstract class AbstractHttpResponse<T> implements AutoCloseable {
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
 
     private final Class<T> resultClass;
-    private final String[] columns;
-    private final QueryStatistics queryStatistics;
+    private final CloseableHttpResponse httpResponse;
 
     private final ResultNodeIterator results;
 
@@ -68,71 +70,30 @@ public abstract class AbstractHttpResponse<T> implements AutoCloseable {
     AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass, boolean flatMapData) {
 
         this.resultClass = resultClass;
+        this.httpResponse = httpResponse;
 
-        try (
-            CloseableHttpResponse httpResponseToClose = httpResponse;
-            InputStream inputStreamOfResponse = httpResponseToClose.getEntity().getContent();
-            TokenBuffer bufferedResponse = createTokenBuffer(inputStreamOfResponse);
-        ) {
-            // First find the errors node without parsing all the other token and throw an exception if necessary
-            JsonParser pointingOnErrors = findNextObject(bufferedResponse.asParserOnFirstToken(), "errors");
-            throwExceptionOnErrorEntry(pointingOnErrors);
-
-            // Find result node and check if it's an array.
-            JsonParser unbufferedResults = findNextObject(bufferedResponse.asParserOnFirstToken(), "results");
-            throwExceptionOnIncorrectResultEntry(unbufferedResults);
-
-            // Initialize columns and statistics eagerly to be at least clear that those are only the first one
-            TokenBuffer resultBuffer = createTokenBuffer(unbufferedResults);
-            this.columns = readColumns(resultBuffer);
-            this.queryStatistics = readQueryStatistics(resultBuffer);
-            this.results = new ResultNodeIterator(this.mapper, resultBuffer.asParserOnFirstToken(), flatMapData);
+        try {
+            JsonParser parser = JSON_FACTORY.createParser(httpResponse.getEntity().getContent());
+            this.results = new ResultNodeIterator(this.mapper, parser, flatMapData);
         } catch (IOException e) {
+            closeAfterFailure(e);
             throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(e);
+            throw e;
         }
     }
 
-    private TokenBuffer createTokenBuffer(InputStream inputStream) throws IOException {
-
-        // That parser is copied over as a whole to the buffer.
-        // We need to parse the whole result into buffer, there's no way around it anyway.
-        try (JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
-
-            // First start parsing
-            jsonParser.nextToken();
-            // Then copy the whole thing
-            return createTokenBuffer(jsonParser);
-        }
-    }
-
-    private TokenBuffer createTokenBuffer(JsonParser jsonParser) throws IOException {
-
-        TokenBuffer tokenBuffer = new TokenBuffer(mapper, true);
-        tokenBuffer.copyCurrentStructure(jsonParser);
-
-        return tokenBuffer;
-    }
-
-    private static JsonParser findNextObject(JsonParser parser, String nodeName) throws IOException {
-
-        JsonToken jsonToken;
-        while ((jsonToken = parser.nextToken()) != null) {
-            parser.skipChildren();
-            if (JsonToken.FIELD_NAME.equals(jsonToken) && parser.getCurrentName().equals(nodeName)) {
-                parser.nextToken();
-                return parser;
-            }
+    private void closeAfterFailure(Exception cause) {
+        try {
+            this.httpResponse.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
         }
-        return null;
     }
 
-    private void throwExceptionOnErrorEntry(JsonParser pointingToErrors) throws IOException {
+    private static void throwExceptionOnErrorEntry(JsonNode errorsNode) {
 
-        if (pointingToErrors == null) {
-            return;
-        }
-
-        JsonNode errorsNode = mapper.readTree(pointingToErrors);
         Optional<JsonNode> optionalErrorNode = StreamSupport.stream(errorsNode.spliterator(), false)
             .findFirst();
         if (optionalErrorNode.isPresent()) {
@@ -141,45 +102,10 @@ public abstract class AbstractHttpResponse<T> implements AutoCloseable {
         }
     }
 
-    private static void throwExceptionOnIncorrectResultEntry(JsonParser pointingToResults) throws IOException {
-
-        if (pointingToResults == null) {
-            throw new IOException("Response doesn't contain any results.");
-        }
-
-        if (!JsonToken.START_ARRAY.equals(pointingToResults.currentToken())) {
-            throw new IOException("Current result object is not an array!");
-        }
-    }
-
-    private String[] readColumns(TokenBuffer bufferedResults) throws IOException {
-
-        JsonParser parser = bufferedResults.asParserOnFirstToken();
-        parser.nextToken();
-        parser = findNextObject(parser, "columns");
-        if (parser == null) {
-            return new String[0];
-        } else {
-            return mapper.readValue(parser, String[].class);
-        }
-    }
-
-    private QueryStatistics readQueryStatistics(TokenBuffer bufferedResults) throws IOException {
-
-        JsonParser parser = bufferedResults.asParserOnFirstToken();
-        parser.nextToken();
-        parser = findNextObject(parser, "stats");
-        if (parser != null) {
-            return mapper.readValue(parser, QueryStatisticsModel.class);
-        }
-
-        return null;
-    }
-
     T nextDataRecord(String key) {
         try {
-            if (results.hasNext()) {
-                JsonNode dataNode = results.next();
+            JsonNode dataNode = results.next();
+            if (dataNode != null) {
                 T t = dataNode.has(key) ? mapper.treeToValue(dataNode.get(key), resultClass) : null;
                 return t;
             }
@@ -197,78 +123,212 @@ public abstract class AbstractHttpResponse<T> implements AutoCloseable {
      * @return the first set of columns from a JSON response
      */
     public String[] columns() {
-        return columns;
+        return results.columns;
     }
 
     /**
-     * Extract stats from the response if present
+     * Extract stats from the response if present. The statistics are sent after the rows of a result. If the rows
+     * have not been consumed yet, the remaining rows of the first result are read ahead and kept for later retrieval.
      *
      * @return queryStatistics or null if the response does not contain it
      */
     QueryStatistics statistics() {
-        return queryStatistics;
+        try {
+            return results.statistics();
+        } catch (IOException e) {
+            throw new ResultProcessingException("Error processing results", e);
+        }
     }
 
     @Override
     public void close() {
-        try {
+        try (CloseableHttpResponse httpResponseToClose = this.httpResponse) {
             this.results.close();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    static class ResultNodeIterator implements Iterator<JsonNode>, AutoCloseable {
+    /**
+     * Walks the JSON document returned by the transactional endpoint. The parser is positioned on the results array
+     * after construction. Depending on {@code flatMapData}, each call to {@link #next()} returns either the next entry
+     * of a result's data array or the next result as a whole.
+     */
+    static class ResultNodeIterator implements AutoCloseable {
 
         private final ObjectMapper objectMapper;
-        private final JsonParser results;
+        private final JsonParser parser;
         /**
          * A flag if the the data node of one result row should be flat mapped or not.
          */
         private final boolean flatMapData;
 
-        private Iterator<JsonNode> currentDataNodes;
+        /**
+         * Nodes that have already been read but not yet returned, for example while looking for statistics.
+         */
+        private final Deque<JsonNode> readAhead = new ArrayDeque<>();
+
+        private String[] columns = new String[0];
+        private QueryStatistics statistics;
 
-        ResultNodeIterator(ObjectMapper objectMapper, JsonParser results, boolean flatMapData) {
+        private boolean firstResultRead;
+        private boolean insideData;
+        private boolean exhausted;
+
+        ResultNodeIterator(ObjectMapper objectMapper, JsonParser parser, boolean flatMapData) throws IOException {
             this.objectMapper = objectMapper;
-            this.results = results;
+            this.parser = parser;
             this.flatMapData = flatMapData;
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Response is not a JSON object.");
+            }
+            if (!readResponseFields(true)) {
+                throw new IOException("Response doesn't contain any results.");
+            }
+
+            // Read the first node eagerly, so that the columns of the first result are available and errors of
+            // statements without results are thrown right away.
+            JsonNode firstNode = readNextNode(false);
+            if (firstNode != null) {
+                readAhead.add(firstNode);
+            }
         }
 
-        @Override
-        public boolean hasNext() {
-
-            boolean moreDataNodes = this.currentDataNodes != null && this.currentDataNodes.hasNext();
-            try {
-                // This loop is necessary results of multiple statements where
-                // some statements may have entries in the data node and others may not
-                while (!moreDataNodes && results.nextToken() != JsonToken.END_ARRAY) {
-                    JsonNode resultNode = objectMapper.readTree(results);
-                    if (!flatMapData) {
-                        currentDataNodes = Collections.singletonList(resultNode).iterator();
+        JsonNode next() throws IOException {
+            return readAhead.isEmpty() ? readNextNode(false) : readAhead.poll();
+        }
+
+        QueryStatistics statistics() throws IOException {
+            while (!firstResultRead && !exhausted) {
+                JsonNode node = readNextNode(false);
+                if (node != null) {
+                    readAhead.add(node);
+                }
+            }
+            return statistics;
+        }
+
+        /**
+         * Reads the next node. When {@code skip} is true, all nodes are skipped without materializing them until the
+         * end of the response is reached.
+         *
+         * @param skip flag, whether to skip all remaining nodes
+         * @return the next node or null, if there are no more nodes
+         * @throws IOException when the response cannot be read
+         */
+        private JsonNode readNextNode(boolean skip) throws IOException {
+
+            while (!exhausted) {
+                JsonToken token = parser.nextToken();
+                if (insideData) {
+                    if (token == JsonToken.END_ARRAY) {
+                        insideData = false;
+                        readResultFields();
+                    } else if (skip) {
+                        parser.skipChildren();
+                    } else {
+                        return objectMapper.readTree(parser);
+                    }
+                } else if (token == JsonToken.START_OBJECT) {
+                    if (flatMapData) {
+                        readResultFields();
+                    } else if (skip) {
+                        parser.skipChildren();
                     } else {
-                        JsonNode dataArrayNode = resultNode.get("data");
-                        if (dataArrayNode != null && dataArrayNode.isArray()) {
-                            currentDataNodes = dataArrayNode.iterator();
+                        JsonNode resultNode = objectMapper.readTree(parser);
+                        if (!firstResultRead) {
+                            readColumnsAndStatistics(resultNode);
                         }
+                        return resultNode;
                     }
-                    moreDataNodes = currentDataNodes.hasNext();
+                } else if (token == JsonToken.END_ARRAY) {
+                    // This is the end of the results array. Any errors are only reported afterwards.
+                    exhausted = true;
+                    readResponseFields(false);
+                } else {
+                    exhausted = true;
+                    throw new IOException("Unexpected token " + token + " in results array.");
                 }
-            } catch (IOException e) {
-                moreDataNodes = false;
             }
+            return null;
+        }
 
-            return moreDataNodes;
+        /**
+         * Reads the top level fields of the response, throwing the first error found.
+         *
+         * @param stopAtResults flag, whether to stop when the results array is found
+         * @return true, if the parser is positioned at the start of the results array
+         * @throws IOException when the response cannot be read
+         */
+        private boolean readResponseFields(boolean stopAtResults) throws IOException {
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("errors".equals(fieldName)) {
+                    throwExceptionOnErrorEntry(objectMapper.readTree(parser));
+                } else if (stopAtResults && "results".equals(fieldName)) {
+                    if (value != JsonToken.START_ARRAY) {
+                        throw new IOException("Current result object is not an array!");
+                    }
+                    return true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return false;
         }
 
-        @Override
-        public JsonNode next() {
-            return currentDataNodes.next();
+        /**
+         * Reads the fields of the current result up to the start of its data array or to the end of the result.
+         *
+         * @throws IOException when the response cannot be read
+         */
+        private void readResultFields() throws IOException {
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    insideData = true;
+                    return;
+                } else if (!firstResultRead && "columns".equals(fieldName)) {
+                    columns = objectMapper.readValue(parser, String[].class);
+                } else if (!firstResultRead && "stats".equals(fieldName)) {
+                    statistics = objectMapper.readValue(parser, QueryStatisticsModel.class);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            firstResultRead = true;
+        }
+
+        private void readColumnsAndStatistics(JsonNode resultNode) throws IOException {
+
+            JsonNode columnsNode = resultNode.get("columns");
+            if (columnsNode != null) {
+                columns = objectMapper.treeToValue(columnsNode, String[].class);
+            }
+            JsonNode statisticsNode = resultNode.get("stats");
+            if (statisticsNode != null) {
+                statistics = objectMapper.treeToValue(statisticsNode, QueryStatisticsModel.class);
+            }
+            firstResultRead = true;
         }
 
+        /**
+         * Skips all remaining rows, so that errors at the end of the response are not lost and the underlying
+         * connection can be reused, and closes the parser.
+         *
+         * @throws IOException when the response cannot be read
+         */
         @Override
         public void close() throws IOException {
-            this.results.close();
+            try (JsonParser parserToClose = this.parser) {
+                readAhead.clear();
+                readNextNode(true);
+            }
         }
     }
 }
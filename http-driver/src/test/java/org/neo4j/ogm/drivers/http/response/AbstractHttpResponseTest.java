@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.http.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.Test;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+
+import com.github.paweladamski.httpclientmock.HttpClientMock;
+
+/**
+ * Makes sure the streaming parser of the transactional endpoints response behaves like the former, fully buffered one.
+ */
+public class AbstractHttpResponseTest {
+
+    private static final String URL = "http://localhost/db/data/transaction/commit";
+
+    private static final String ROWS = ""
+        + "{\"results\":["
+        + "  {\"columns\":[\"a\",\"b\"],"
+        + "   \"data\":[{\"row\":[1,\"x\"],\"meta\":[null,null]},{\"row\":[2,\"y\"],\"meta\":[null,null]}],"
+        + "   \"stats\":{\"contains_updates\":true,\"nodes_created\":2}"
+        + "  },"
+        + "  {\"columns\":[\"c\"],\"data\":[{\"row\":[3]}]}"
+        + "],\"errors\":[]}";
+
+    @Test
+    public void shouldReadRowsOfAllResultsInOrder() throws IOException {
+
+        try (RowModelResponse response = new RowModelResponse(respondWith(ROWS))) {
+            assertThat(response.columns()).containsExactly("a", "b");
+
+            assertThat(response.next().getValues()).containsExactly(1L, "x");
+            assertThat(response.next().getValues()).containsExactly(2L, "y");
+            assertThat(response.next().getValues()).containsExactly(3L);
+            assertThat(response.next()).isNull();
+
+            assertThat(response.statistics().getNodesCreated()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void statisticsShouldNotSwallowRows() throws IOException {
+
+        try (RowModelResponse response = new RowModelResponse(respondWith(ROWS))) {
+            assertThat(response.statistics().containsUpdates()).isTrue();
+            assertThat(response.toList()).extracting(RowModel::getValues)
+                .containsExactly(new Object[] { 1L, "x" }, new Object[] { 2L, "y" }, new Object[] { 3L });
+        }
+    }
+
+    @Test
+    public void shouldThrowErrorsOfResponsesWithoutResultsRightAway() throws IOException {
+
+        String json = "{\"results\":[],\"errors\":[{\"code\":\"Neo.ClientError.Statement.SyntaxError\",\"message\":\"Invalid input\"}]}";
+        CloseableHttpResponse httpResponse = respondWith(json);
+
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(() -> new RowModelResponse(httpResponse))
+            .withMessageContaining("Invalid input");
+    }
+
+    @Test
+    public void shouldThrowErrorsAfterRowsLatestOnClose() throws IOException {
+
+        String json = "{\"results\":[{\"columns\":[\"a\"],\"data\":[{\"row\":[1]},{\"row\":[2]}]}],"
+            + "\"errors\":[{\"code\":\"Neo.DatabaseError.General.UnknownError\",\"message\":\"Boom\"}]}";
+
+        RowModelResponse response = new RowModelResponse(respondWith(json));
+        assertThat(response.next().getValues()).containsExactly(1L);
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(response::close)
+            .withMessageContaining("Boom");
+    }
+
+    @Test
+    public void shouldReadWholeResultsWhenNotFlatMapping() throws IOException {
+
+        String json = "{\"results\":["
+            + "{\"columns\":[\"n\"],\"data\":[{\"graph\":{\"nodes\":[],\"relationships\":[]}}]},"
+            + "{\"columns\":[\"n\"],\"data\":[]}"
+            + "],\"errors\":[]}";
+
+        try (GraphRowsModelResponse response = new GraphRowsModelResponse(respondWith(json))) {
+            assertThat(response.columns()).containsExactly("n");
+            assertThat(response.next().model()).hasSize(1);
+            assertThat(response.next().model()).isEmpty();
+            assertThat(response.next()).isNull();
+        }
+    }
+
+    private static CloseableHttpResponse respondWith(String json) throws IOException {
+
+        HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(URL).doReturn(json);
+        return httpClientMock.execute(new HttpPost(URL));
+    }
+}
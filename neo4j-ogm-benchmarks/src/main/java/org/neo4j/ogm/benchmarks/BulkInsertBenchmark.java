@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.driver.StubDriver;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes new persons through {@link Session#save(Object)} and through {@link Session#bulkInsert(Iterable)} of a
+ * session backed by the {@link StubDriver}. This measures building and sending the statements, not their execution.
+ * Run it with the GC profiler ({@code -prof gc}) to compare the memory allocated along.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BulkInsertBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int persons;
+
+    private SessionFactory sessionFactory;
+    private List<Person> entities;
+
+    @Setup
+    public void setUp() {
+
+        StubDriver driver = new StubDriver();
+        driver.configure(new Configuration.Builder().build());
+        sessionFactory = new SessionFactory(driver, SyntheticData.DOMAIN);
+    }
+
+    @Setup(Level.Invocation)
+    public void createPersons() {
+        entities = SyntheticData.newPersons(persons);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void save() {
+        sessionFactory.openSession().save(entities);
+    }
+
+    @Benchmark
+    public long bulkInsert() {
+        return sessionFactory.openSession().bulkInsert(entities);
+    }
+}
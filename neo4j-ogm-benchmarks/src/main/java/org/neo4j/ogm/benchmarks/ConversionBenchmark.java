@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Status;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.neo4j.ogm.typeconversion.ConvertibleTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts single values in both directions with the converters Neo4j-OGM registers for types without a native
+ * representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("unchecked")
+public class ConversionBenchmark {
+
+    private AttributeConverter<Date, String> dateConverter;
+    private AttributeConverter<LocalDate, String> localDateConverter;
+    private AttributeConverter<Instant, String> instantConverter;
+    private AttributeConverter<BigDecimal, String> bigDecimalConverter;
+    private AttributeConverter<Status, String> enumConverter;
+    private AttributeConverter<byte[], String> byteArrayConverter;
+    private AttributeConverter<Collection<Date>, String[]> dateCollectionConverter;
+
+    private Date date;
+    private String dateString;
+    private LocalDate localDate;
+    private String localDateString;
+    private Instant instant;
+    private String instantString;
+    private BigDecimal bigDecimal;
+    private String bigDecimalString;
+    private byte[] bytes;
+    private String bytesString;
+    private List<Date> dates;
+    private String[] dateStrings;
+
+    @Setup
+    public void setUp() {
+
+        dateConverter = (AttributeConverter<Date, String>) ConvertibleTypes.getDateConverter();
+        localDateConverter = (AttributeConverter<LocalDate, String>) ConvertibleTypes.getLocalDateConverter();
+        instantConverter = (AttributeConverter<Instant, String>) ConvertibleTypes.getInstantConverter();
+        bigDecimalConverter = (AttributeConverter<BigDecimal, String>) ConvertibleTypes.getBigDecimalConverter();
+        enumConverter = (AttributeConverter<Status, String>) ConvertibleTypes.getEnumConverter(Status.class);
+        byteArrayConverter = (AttributeConverter<byte[], String>) ConvertibleTypes.getByteArrayBase64Converter();
+        dateCollectionConverter = (AttributeConverter<Collection<Date>, String[]>) ConvertibleTypes
+            .getDateCollectionConverter(List.class.getName());
+
+        date = new Date(1_551_435_330_000L);
+        dateString = dateConverter.toGraphProperty(date);
+        localDate = LocalDate.of(2019, 3, 1);
+        localDateString = localDateConverter.toGraphProperty(localDate);
+        instant = date.toInstant();
+        instantString = instantConverter.toGraphProperty(instant);
+        bigDecimal = new BigDecimal("12345.6789");
+        bigDecimalString = bigDecimalConverter.toGraphProperty(bigDecimal);
+        bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        bytesString = byteArrayConverter.toGraphProperty(bytes);
+        dates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dates.add(new Date(date.getTime() + i * 86_400_000L));
+        }
+        dateStrings = dateCollectionConverter.toGraphProperty(dates);
+    }
+
+    @Benchmark
+    public String dateToGraph() {
+        return dateConverter.toGraphProperty(date);
+    }
+
+    @Benchmark
+    public Date dateToEntity() {
+        return dateConverter.toEntityAttribute(dateString);
+    }
+
+    @Benchmark
+    public String localDateToGraph() {
+        return localDateConverter.toGraphProperty(localDate);
+    }
+
+    @Benchmark
+    public LocalDate localDateToEntity() {
+        return localDateConverter.toEntityAttribute(localDateString);
+    }
+
+    @Benchmark
+    public String instantToGraph() {
+        return instantConverter.toGraphProperty(instant);
+    }
+
+    @Benchmark
+    public Instant instantToEntity() {
+        return instantConverter.toEntityAttribute(instantString);
+    }
+
+    @Benchmark
+    public String bigDecimalToGraph() {
+        return bigDecimalConverter.toGraphProperty(bigDecimal);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalToEntity() {
+        return bigDecimalConverter.toEntityAttribute(bigDecimalString);
+    }
+
+    @Benchmark
+    public String enumToGraph() {
+        return enumConverter.toGraphProperty(Status.SUSPENDED);
+    }
+
+    @Benchmark
+    public Status enumToEntity() {
+        return enumConverter.toEntityAttribute("SUSPENDED");
+    }
+
+    @Benchmark
+    public String byteArrayToGraph() {
+        return byteArrayConverter.toGraphProperty(bytes);
+    }
+
+    @Benchmark
+    public byte[] byteArrayToEntity() {
+        return byteArrayConverter.toEntityAttribute(bytesString);
+    }
+
+    @Benchmark
+    public String[] dateCollectionToGraph() {
+        return dateCollectionConverter.toGraphProperty(dates);
+    }
+
+    @Benchmark
+    public Collection<Date> dateCollectionToEntity() {
+        return dateCollectionConverter.toEntityAttribute(dateStrings);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.driver.ListResponse;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks loaded persons for changes against the snapshots the identity map of the mapping context took when they
+ * were loaded, with a hash per entity or a hash per property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DirtyCheckBenchmark {
+
+    @Param({ "10000" })
+    private int persons;
+
+    @Param({ "false", "true" })
+    private boolean trackPropertyChanges;
+
+    @Param({ "none", "half" })
+    private String modified;
+
+    private MappingContext mappingContext;
+    private List<Person> entities;
+
+    @Setup
+    public void setUp() {
+
+        MetaData metaData = new MetaData(SyntheticData.DOMAIN);
+        mappingContext = new MappingContext(metaData,
+            new Configuration.Builder().trackPropertyChanges(trackPropertyChanges).build());
+
+        entities = new ArrayList<>(persons);
+        new GraphRowModelMapper(metaData, mappingContext, new ReflectionEntityInstantiator(metaData))
+            .map(Person.class, new ListResponse<>(SyntheticData.personNodes(persons)))
+            .forEach(entities::add);
+
+        if ("half".equals(modified)) {
+            for (int i = 0; i < persons; i += 2) {
+                entities.get(i).setName("Renamed " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public int countDirty() {
+
+        int dirty = 0;
+        for (Person person : entities) {
+            if (mappingContext.isDirty(person)) {
+                dirty++;
+            }
+        }
+        return dirty;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.http.response.GraphModelResponse;
+import org.neo4j.ogm.drivers.http.response.RowModelResponse;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.model.RowModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Parses canned responses of the transactional http endpoint into graph and row models, the way the http driver
+ * reads them from the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HttpResponseParsingBenchmark {
+
+    @Param({ "100", "10000" })
+    private int rows;
+
+    private byte[] graphPayload;
+    private byte[] rowPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+        List<GraphModel> graphModels = SyntheticData.personRows(rows);
+
+        ObjectNode graphResponse = mapper.createObjectNode();
+        ObjectNode graphResult = graphResponse.putArray("results").addObject();
+        graphResult.putArray("columns").add("n");
+        ArrayNode graphData = graphResult.putArray("data");
+        for (GraphModel graphModel : graphModels) {
+            ObjectNode graph = graphData.addObject().putObject("graph");
+            ArrayNode nodes = graph.putArray("nodes");
+            for (Node node : graphModel.getNodes()) {
+                ObjectNode nodeJson = nodes.addObject();
+                nodeJson.put("id", String.valueOf(node.getId()));
+                ArrayNode labels = nodeJson.putArray("labels");
+                for (String label : node.getLabels()) {
+                    labels.add(label);
+                }
+                ObjectNode properties = nodeJson.putObject("properties");
+                for (Property<String, Object> property : node.getPropertyList()) {
+                    properties.set(property.getKey(), mapper.valueToTree(property.getValue()));
+                }
+            }
+            ArrayNode relationships = graph.putArray("relationships");
+            for (Edge edge : graphModel.getRelationships()) {
+                ObjectNode relationship = relationships.addObject();
+                relationship.put("id", String.valueOf(edge.getId()));
+                relationship.put("type", edge.getType());
+                relationship.put("startNode", String.valueOf(edge.getStartNode()));
+                relationship.put("endNode", String.valueOf(edge.getEndNode()));
+                relationship.putObject("properties");
+            }
+        }
+        graphResponse.putArray("errors");
+        graphPayload = mapper.writeValueAsBytes(graphResponse);
+
+        ObjectNode rowResponse = mapper.createObjectNode();
+        ObjectNode rowResult = rowResponse.putArray("results").addObject();
+        rowResult.putArray("columns").add("id").add("name").add("age").add("score");
+        ArrayNode rowData = rowResult.putArray("data");
+        for (int i = 0; i < rows; i++) {
+            rowData.addObject().putArray("row").add(i).add("Person " + i).add(i % 90).add(i * 0.5d);
+        }
+        rowResult.putObject("stats").put("contains_updates", false);
+        rowResponse.putArray("errors");
+        rowPayload = mapper.writeValueAsBytes(rowResponse);
+    }
+
+    @Benchmark
+    public void parseGraphModels(Blackhole blackhole) {
+
+        try (GraphModelResponse response = new GraphModelResponse(new CannedHttpResponse(graphPayload))) {
+            for (GraphModel model = response.next(); model != null; model = response.next()) {
+                blackhole.consume(model);
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseRowModels(Blackhole blackhole) {
+
+        try (RowModelResponse response = new RowModelResponse(new CannedHttpResponse(rowPayload))) {
+            for (RowModel model = response.next(); model != null; model = response.next()) {
+                blackhole.consume(model);
+            }
+        }
+    }
+
+    private static class CannedHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+        CannedHttpResponse(byte[] content) {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+            setEntity(new ByteArrayEntity(content, ContentType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.driver.ListResponse;
+import org.neo4j.ogm.benchmarks.driver.StubDriver;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hydrates persons, their friends and employers from synthetic graph models, once directly through the mapper and
+ * once through {@link Session#loadAll(Class, int)} of a session backed by the {@link StubDriver}.
+ * <p>
+ * Compares field access through method handles with plain reflection (system property
+ * {@value #REFLECTIVE_FIELD_ACCESS}) and sequential with parallel hydration
+ * ({@link Configuration.Builder#parallelHydrationThreshold(Integer)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HydrationBenchmark {
+
+    static final String REFLECTIVE_FIELD_ACCESS = "org.neo4j.ogm.reflectiveFieldAccess";
+
+    @Param({ "1000", "100000" })
+    private int persons;
+
+    @Param({ "methodHandles", "reflection" })
+    private String fieldAccess;
+
+    @Param({ "0", "1" })
+    private int parallelHydrationThreshold;
+
+    private List<GraphModel> rows;
+    private Configuration configuration;
+    private MetaData metaData;
+    private EntityInstantiator entityInstantiator;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+
+        // Field accessors are created along with the metadata
+        System.setProperty(REFLECTIVE_FIELD_ACCESS, Boolean.toString("reflection".equals(fieldAccess)));
+
+        rows = SyntheticData.personRows(persons);
+        configuration = new Configuration.Builder().parallelHydrationThreshold(parallelHydrationThreshold).build();
+        metaData = new MetaData(SyntheticData.DOMAIN);
+        entityInstantiator = new ReflectionEntityInstantiator(metaData);
+
+        StubDriver driver = new StubDriver();
+        driver.configure(configuration);
+        driver.respondWith(rows);
+        sessionFactory = new SessionFactory(driver, SyntheticData.DOMAIN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        System.clearProperty(REFLECTIVE_FIELD_ACCESS);
+    }
+
+    @Benchmark
+    public List<Person> mapGraphModels() {
+
+        MappingContext mappingContext = new MappingContext(metaData, configuration);
+        GraphRowModelMapper mapper = new GraphRowModelMapper(metaData, mappingContext, entityInstantiator);
+
+        List<Person> result = new ArrayList<>(persons);
+        mapper.map(Person.class, new ListResponse<>(rows)).forEach(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Person> loadAll() {
+        return sessionFactory.openSession().loadAll(Person.class, 1);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+
+/**
+ * Prints the heap a mapping context retains per registered node entity, measured as the heap used after a forced
+ * garbage collection. The entities are created upfront, so only the registers, the identity map and the snapshots are
+ * counted. A {@link HashMap} of boxed ids, as the registers have been before they were backed by primitive long maps,
+ * is measured for comparison.
+ * <p>
+ * This is not a JMH benchmark, as JMH measures time and allocations, but not retained size. Run it with a heap large
+ * enough to keep all entities and a single registered copy of them:
+ * {@code java -Xmx4g -cp neo4j-ogm-benchmarks/target/benchmarks.jar org.neo4j.ogm.benchmarks.MappingContextFootprint}
+ */
+public final class MappingContextFootprint {
+
+    private static final int DEFAULT_PERSONS = 1_000_000;
+
+    private static final int RUNS = 3;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    // Keeps the measured structure reachable while the heap is measured
+    private static Object retained;
+
+    private MappingContextFootprint() {
+    }
+
+    /**
+     * @param args the number of persons to register, one million by default
+     */
+    public static void main(String[] args) {
+
+        int persons = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSONS;
+        MetaData metaData = new MetaData(SyntheticData.DOMAIN);
+        List<Person> entities = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            Person person = new Person();
+            person.setId((long) i);
+            person.setName("Person " + i);
+            entities.add(person);
+        }
+
+        print("MappingContext", persons, bytesRetained(() -> {
+            MappingContext mappingContext = new MappingContext(metaData);
+            for (Person person : entities) {
+                mappingContext.addNodeEntity(person, person.getId());
+            }
+            return mappingContext;
+        }));
+        print("HashMap", persons, bytesRetained(() -> {
+            Map<Long, Object> register = new HashMap<>();
+            for (Person person : entities) {
+                register.put(person.getId(), person);
+            }
+            return register;
+        }));
+    }
+
+    /**
+     * @return the smallest number of bytes retained by the structure created by the given supplier over several runs
+     */
+    private static long bytesRetained(Supplier<Object> supplier) {
+
+        long bytes = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long before = usedHeapAfterGc();
+            retained = supplier.get();
+            long after = usedHeapAfterGc();
+            retained = null;
+            bytes = Math.min(bytes, after - before);
+        }
+        return bytes;
+    }
+
+    private static long usedHeapAfterGc() {
+        // A single call might not collect everything
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void print(String layout, int persons, long bytes) {
+        System.out.printf("%-15s %,15d bytes retained, %,7.1f bytes per entity%n", layout, bytes,
+            (double) bytes / persons);
+    }
+}
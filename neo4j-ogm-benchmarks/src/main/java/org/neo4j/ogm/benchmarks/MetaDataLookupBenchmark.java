@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Company;
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up class infos by class, by name and by the labels of a node from 64 threads sharing one metadata instance,
+ * as the sessions of a session factory do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MetaDataLookupBenchmark {
+
+    private static final String[] PERSON_LABELS = { "Person" };
+    private static final String[] UNMAPPED_LABELS = { "Person", "Unmapped" };
+
+    private MetaData metaData;
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        metaData = new MetaData(SyntheticData.DOMAIN);
+        person = new Person();
+    }
+
+    @Benchmark
+    public ClassInfo classInfoByClass() {
+        return metaData.classInfo(Company.class);
+    }
+
+    @Benchmark
+    public ClassInfo classInfoByObject() {
+        return metaData.classInfo(person);
+    }
+
+    @Benchmark
+    public ClassInfo classInfoByName() {
+        return metaData.classInfo(Person.class.getName());
+    }
+
+    @Benchmark
+    public ClassInfo resolveLabels() {
+        return metaData.resolve(PERSON_LABELS);
+    }
+
+    @Benchmark
+    public ClassInfo resolveLabelsWithUnmappedLabel() {
+        return metaData.resolve(UNMAPPED_LABELS);
+    }
+}
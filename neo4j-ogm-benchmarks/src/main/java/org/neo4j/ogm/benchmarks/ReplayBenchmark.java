@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.driver.StubDriver;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.drivers.replay.driver.RecordingDriver;
+import org.neo4j.ogm.drivers.replay.driver.ReplayDriver;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a workload of loading all persons, loading one of them and saving it after a change, once against the
+ * {@link StubDriver} and once against a {@link ReplayDriver} replaying a recording of the same workload. The
+ * difference is the overhead of matching requests to recorded responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReplayBenchmark {
+
+    @Param({ "1000" })
+    private int persons;
+
+    private SessionFactory stubSessionFactory;
+    private SessionFactory replaySessionFactory;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        Path recording = Files.createTempFile("neo4j-ogm-benchmark", ".recording");
+        try {
+            SessionFactory recordingSessionFactory = new SessionFactory(
+                new RecordingDriver(stubDriver(), recording), SyntheticData.DOMAIN);
+            workload(recordingSessionFactory);
+            recordingSessionFactory.close();
+
+            stubSessionFactory = new SessionFactory(stubDriver(), SyntheticData.DOMAIN);
+            replaySessionFactory = new SessionFactory(new ReplayDriver(recording), SyntheticData.DOMAIN);
+        } finally {
+            Files.delete(recording);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        stubSessionFactory.close();
+        replaySessionFactory.close();
+    }
+
+    @Benchmark
+    public Person stub() {
+        return workload(stubSessionFactory);
+    }
+
+    @Benchmark
+    public Person replay() {
+        return workload(replaySessionFactory);
+    }
+
+    private Driver stubDriver() {
+
+        StubDriver driver = new StubDriver();
+        driver.configure(new Configuration.Builder().build());
+        driver.respondWith(SyntheticData.personRows(persons));
+        return driver;
+    }
+
+    private static Person workload(SessionFactory sessionFactory) {
+
+        Session session = sessionFactory.openSession();
+        session.loadAll(Person.class, 1);
+        Person person = session.load(Person.class, 0L, 1);
+        person.setScore(person.getScore() + 1);
+        session.save(person, 0);
+        return person;
+    }
+}
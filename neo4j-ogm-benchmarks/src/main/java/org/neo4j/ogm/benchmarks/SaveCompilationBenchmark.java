@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Company;
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.driver.ListResponse;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps graphs of persons onto Cypher statements like a save does, without executing them. The shapes are
+ * <ul>
+ * <li>{@code flat}: persons that don't know each other, saved as a collection,</li>
+ * <li>{@code star}: one person knowing all others,</li>
+ * <li>{@code tree}: each person knowing four others,</li>
+ * </ul>
+ * all of them working at a company. The graphs are either new, loaded and unchanged, or loaded and modified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SaveCompilationBenchmark {
+
+    private static final int TREE_DEGREE = 4;
+
+    @Param({ "flat", "star", "tree" })
+    private String shape;
+
+    @Param({ "100", "10000" })
+    private int persons;
+
+    @Param({ "new", "unchanged", "modified" })
+    private String state;
+
+    private MetaData metaData;
+    private MappingContext mappingContext;
+    private List<Object> roots;
+
+    @Setup
+    public void setUp() {
+
+        metaData = new MetaData(SyntheticData.DOMAIN);
+        mappingContext = new MappingContext(metaData);
+
+        List<Person> graph = "new".equals(state) ? newGraph() : loadedGraph();
+        if ("modified".equals(state)) {
+            graph.forEach(person -> person.setScore(person.getScore() + 1));
+        }
+
+        roots = new ArrayList<>();
+        if ("flat".equals(shape)) {
+            roots.addAll(graph);
+        } else {
+            roots.add(graph.get(0));
+        }
+    }
+
+    @Benchmark
+    public List<Statement> compile() {
+
+        EntityGraphMapper mapper = new EntityGraphMapper(metaData, mappingContext);
+        roots.forEach(root -> mapper.map(root, -1));
+
+        Compiler compiler = mapper.compileContext().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        return compiler.getAllStatements();
+    }
+
+    /**
+     * @param person the index of a person
+     * @return the index of the first person known by the person, the following ones up to the degree of the shape
+     * are known as well
+     */
+    private int firstFriend(int person) {
+        switch (shape) {
+            case "star":
+                return person == 0 ? 1 : persons;
+            case "tree":
+                return TREE_DEGREE * person + 1;
+            default:
+                return persons;
+        }
+    }
+
+    private int lastFriend(int person) {
+        int degree = "star".equals(shape) ? persons : TREE_DEGREE;
+        return Math.min(persons, firstFriend(person) + degree) - 1;
+    }
+
+    private List<Person> newGraph() {
+
+        List<Person> graph = SyntheticData.newEmployedPersons(persons);
+        for (int i = 0; i < persons; i++) {
+            for (int friend = firstFriend(i); friend <= lastFriend(i); friend++) {
+                graph.get(i).getFriends().add(graph.get(friend));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Maps the graph through the mapper used by loads, so that entities and relationships are registered with the
+     * mapping context the same way.
+     */
+    private List<Person> loadedGraph() {
+
+        DefaultGraphModel model = new DefaultGraphModel();
+        long relationshipId = 0;
+        for (int i = 0; i < persons; i++) {
+            long company = persons + (long) i / SyntheticData.PERSONS_PER_COMPANY;
+            if (i % SyntheticData.PERSONS_PER_COMPANY == 0) {
+                model.addNode(SyntheticData.companyNode(company));
+            }
+            model.addNode(SyntheticData.personNode(i));
+            model.addRelationship(SyntheticData.relationship(relationshipId++, "WORKS_AT", i, company));
+            for (int friend = firstFriend(i); friend <= lastFriend(i); friend++) {
+                model.addRelationship(SyntheticData.relationship(relationshipId++, "KNOWS", i, friend));
+            }
+        }
+
+        List<GraphModel> response = new ArrayList<>();
+        response.add(model);
+        new GraphRowModelMapper(metaData, mappingContext, new ReflectionEntityInstantiator(metaData))
+            .map(Company.class, new ListResponse<>(response));
+
+        List<Person> graph = new ArrayList<>(persons);
+        for (long i = 0; i < persons; i++) {
+            graph.add((Person) mappingContext.getNodeEntity(i));
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.driver.StubDriver;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates session factories for the benchmark domain. Its classes are either read from the domain index the
+ * {@code neo4j-ogm-domain-indexer} wrote while compiling this module, or found by scanning the class path (system
+ * property {@value #IGNORE_DOMAIN_INDEX}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StartupBenchmark {
+
+    static final String IGNORE_DOMAIN_INDEX = "org.neo4j.ogm.ignoreDomainIndex";
+
+    @Param({ "index", "scan" })
+    private String domainClasses;
+
+    private StubDriver driver;
+
+    @Setup
+    public void setUp() {
+
+        System.setProperty(IGNORE_DOMAIN_INDEX, Boolean.toString("scan".equals(domainClasses)));
+        driver = new StubDriver();
+        driver.configure(new Configuration.Builder().build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(IGNORE_DOMAIN_INDEX);
+    }
+
+    @Benchmark
+    public MetaData createSessionFactory() {
+
+        SessionFactory sessionFactory = new SessionFactory(driver, SyntheticData.DOMAIN);
+        sessionFactory.close();
+        return sessionFactory.metaData();
+    }
+}
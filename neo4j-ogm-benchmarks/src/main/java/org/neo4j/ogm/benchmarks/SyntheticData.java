@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.benchmarks.domain.Company;
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.benchmarks.domain.Status;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * Creates the graphs and entities the benchmarks work on. All data is derived from the index of a person, so that
+ * every run of a benchmark sees the same data.
+ */
+public final class SyntheticData {
+
+    /**
+     * The domain package of all benchmarks.
+     */
+    public static final String DOMAIN = "org.neo4j.ogm.benchmarks.domain";
+
+    /**
+     * Number of persons working at the same company.
+     */
+    static final int PERSONS_PER_COMPANY = 100;
+
+    private static final Status[] STATUSES = Status.values();
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Creates the graph models a query loading persons with depth 1 returns: One model per person, containing the
+     * person, the person it knows and the company it works at, together with both relationships. Person {@code i} is
+     * represented by the node with id {@code i} and knows person {@code i + 1}. Companies have the ids following the
+     * ones of the persons.
+     *
+     * @param persons the number of persons
+     * @return one graph model per person
+     */
+    public static List<GraphModel> personRows(int persons) {
+
+        List<GraphModel> rows = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            int friend = (i + 1) % persons;
+            long company = persons + (long) i / PERSONS_PER_COMPANY;
+
+            DefaultGraphModel row = new DefaultGraphModel();
+            row.addNode(personNode(i));
+            if (friend != i) {
+                row.addNode(personNode(friend));
+            }
+            row.addNode(companyNode(company));
+            row.addRelationship(relationship(2L * i, "KNOWS", i, friend));
+            row.addRelationship(relationship(2L * i + 1, "WORKS_AT", i, company));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Creates graph models containing a single person node each, like a query loading persons with depth 0.
+     *
+     * @param persons the number of persons
+     * @return one graph model per person
+     */
+    public static List<GraphModel> personNodes(int persons) {
+
+        List<GraphModel> rows = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            DefaultGraphModel row = new DefaultGraphModel();
+            row.addNode(personNode(i));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * @param i the index of the person
+     * @return the properties of the person in their graph representation
+     */
+    public static Map<String, Object> personProperties(int i) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Person " + i);
+        properties.put("age", (long) (i % 90));
+        properties.put("score", i * 0.5d);
+        properties.put("birthday", LocalDate.ofEpochDay(i % 20_000).toString());
+        properties.put("joined", "2019-03-01T10:15:30.000Z");
+        properties.put("status", STATUSES[i % STATUSES.length].name());
+        properties.put("tags", Arrays.asList("tag" + i % 7, "tag" + i % 11));
+        return properties;
+    }
+
+    /**
+     * Creates a new, unsaved person.
+     *
+     * @param i the index of the person
+     * @return a person with the same properties as the node of {@link #personProperties(int)}
+     */
+    public static Person newPerson(int i) {
+
+        Person person = new Person();
+        person.setName("Person " + i);
+        person.setAge(i % 90);
+        person.setScore(i * 0.5d);
+        person.setBirthday(LocalDate.ofEpochDay(i % 20_000));
+        person.setJoined(new Date(1_551_435_330_000L));
+        person.setStatus(STATUSES[i % STATUSES.length]);
+        person.setTags(new String[] { "tag" + i % 7, "tag" + i % 11 });
+        return person;
+    }
+
+    /**
+     * Creates new, unsaved persons that aren't related to each other.
+     *
+     * @param persons the number of persons
+     * @return the persons
+     */
+    public static List<Person> newPersons(int persons) {
+
+        List<Person> result = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            result.add(newPerson(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates new, unsaved persons each working at one of a few companies.
+     *
+     * @param persons the number of persons
+     * @return the persons
+     */
+    public static List<Person> newEmployedPersons(int persons) {
+
+        List<Person> result = newPersons(persons);
+        Company company = null;
+        for (int i = 0; i < persons; i++) {
+            if (i % PERSONS_PER_COMPANY == 0) {
+                company = new Company("Company " + i / PERSONS_PER_COMPANY, 1900 + i % 120);
+            }
+            result.get(i).setEmployer(company);
+        }
+        return result;
+    }
+
+    static NodeModel personNode(long id) {
+
+        NodeModel node = new NodeModel(id);
+        node.setLabels(new String[] { "Person" });
+        node.setProperties(personProperties((int) id));
+        return node;
+    }
+
+    static NodeModel companyNode(long id) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Company " + id);
+        properties.put("founded", 1900L + id % 120);
+
+        NodeModel node = new NodeModel(id);
+        node.setLabels(new String[] { "Company" });
+        node.setProperties(properties);
+        return node;
+    }
+
+    static RelationshipModel relationship(long id, String type, long startNode, long endNode) {
+
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(startNode);
+        relationship.setEndNode(endNode);
+        return relationship;
+    }
+}
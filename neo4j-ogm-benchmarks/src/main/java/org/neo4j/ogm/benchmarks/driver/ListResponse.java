@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks.driver;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A response returning the elements of a list.
+ *
+ * @param <T> the type of the elements
+ */
+public class ListResponse<T> implements Response<T> {
+
+    private final Iterator<T> iterator;
+
+    public ListResponse(List<T> models) {
+        this.iterator = models.iterator();
+    }
+
+    @Override
+    public T next() {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return new String[0];
+    }
+}
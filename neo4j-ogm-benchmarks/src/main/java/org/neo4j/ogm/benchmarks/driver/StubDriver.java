@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.benchmarks.driver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * A driver that doesn't connect to anything. Graph requests are answered with the graph models passed to
+ * {@link #respondWith(List)}, all other requests with empty responses. Transactions only track their state.
+ * <p>
+ * Benchmarks using sessions of this driver measure the time spent in Neo4j-OGM only. Note that entities saved through
+ * the driver are not assigned ids, as no ids are returned.
+ */
+public class StubDriver extends AbstractConfigurableDriver {
+
+    private volatile List<GraphModel> graphModels = Collections.emptyList();
+
+    private final AtomicLong statementCount = new AtomicLong();
+
+    /**
+     * @param newGraphModels the graph models returned for each graph request from now on
+     */
+    public void respondWith(List<GraphModel> newGraphModels) {
+        this.graphModels = newGraphModels;
+    }
+
+    /**
+     * @return the number of statements executed through this driver so far
+     */
+    public long getStatementCount() {
+        return statementCount.get();
+    }
+
+    @Override
+    public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+        return transactionManager -> (type, bookmarks) -> new StubTransaction(transactionManager, type);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public Request request(Transaction transaction) {
+
+        return new Request() {
+
+            @Override
+            public Response<GraphModel> execute(GraphModelRequest query) {
+                statementCount.incrementAndGet();
+                return new ListResponse<>(graphModels);
+            }
+
+            @Override
+            public Response<RowModel> execute(RowModelRequest query) {
+                statementCount.incrementAndGet();
+                return new ListResponse<>(Collections.emptyList());
+            }
+
+            @Override
+            public Response<RowModel> execute(DefaultRequest query) {
+                statementCount.addAndGet(query.getStatements().size());
+                return new ListResponse<>(Collections.emptyList());
+            }
+
+            @Override
+            public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                statementCount.incrementAndGet();
+                return new ListResponse<>(Collections.emptyList());
+            }
+
+            @Override
+            public Response<RestModel> execute(RestModelRequest query) {
+                statementCount.incrementAndGet();
+                return new ListResponse<>(Collections.emptyList());
+            }
+        };
+    }
+
+    @Override
+    protected String getTypeSystemName() {
+        throw new UnsupportedOperationException("The stub driver doesn't support a native type system.");
+    }
+
+    private static class StubTransaction extends AbstractTransaction {
+
+        StubTransaction(TransactionManager transactionManager, Transaction.Type type) {
+            super(transactionManager);
+            this.type = type;
+        }
+    }
+}
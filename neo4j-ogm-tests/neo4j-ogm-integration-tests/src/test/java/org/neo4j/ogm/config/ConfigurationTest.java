@@ -45,6 +45,15 @@ public class ConfigurationTest {
         builder.trustStrategy("TRUST_SIGNED_CERTIFICATES");
         builder.trustCertFile("/tmp/cert");
         builder.connectionLivenessCheckTimeout(1000);
+        builder.saveBatchSize(500);
+        builder.saveBatchCommitInterval(10);
+        builder.trackPropertyChanges(true);
+        builder.mappingContextPolicy("lru");
+        builder.mappingContextMaxEntities(1000);
+        builder.secondLevelCache(true);
+        builder.secondLevelCacheTimeToLive(60);
+        builder.secondLevelCacheMaxEntries(200);
+        builder.parallelHydrationThreshold(500);
 
         Configuration configuration = builder.build();
 
@@ -59,6 +68,15 @@ public class ConfigurationTest {
         assertThat(configuration.getTrustStrategy()).isEqualTo("TRUST_SIGNED_CERTIFICATES");
         assertThat(configuration.getTrustCertFile()).isEqualTo("/tmp/cert");
         assertThat(configuration.getConnectionLivenessCheckTimeout().intValue()).isEqualTo(1000);
+        assertThat(configuration.getSaveBatchSize()).isEqualTo(500);
+        assertThat(configuration.getSaveBatchCommitInterval()).isEqualTo(10);
+        assertThat(configuration.getTrackPropertyChanges()).isTrue();
+        assertThat(configuration.getMappingContextPolicy()).isEqualTo(MappingContextPolicy.LRU);
+        assertThat(configuration.getMappingContextMaxEntities()).isEqualTo(1000);
+        assertThat(configuration.getSecondLevelCache()).isTrue();
+        assertThat(configuration.getSecondLevelCacheTimeToLive()).isEqualTo(60);
+        assertThat(configuration.getSecondLevelCacheMaxEntries()).isEqualTo(200);
+        assertThat(configuration.getParallelHydrationThreshold()).isEqualTo(500);
     }
 
     @Test
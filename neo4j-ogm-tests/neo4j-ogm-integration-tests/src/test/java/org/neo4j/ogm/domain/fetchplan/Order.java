@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.domain.fetchplan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.ogm.annotation.NamedFetchPlan;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Relationship;
+
+@NodeEntity("Order")
+@NamedFetchPlan("lines.product")
+@NamedFetchPlan(name = "withCustomer", value = "customer")
+public class Order {
+
+    private Long id;
+
+    private String number;
+
+    @Relationship(type = "PLACED", direction = Relationship.INCOMING)
+    private Customer customer;
+
+    @Relationship("CONTAINS")
+    private List<Line> lines = new ArrayList<>();
+
+    public Order() {
+    }
+
+    public Order(String number, Customer customer) {
+        this.number = number;
+        this.customer = customer;
+        customer.getOrders().add(this);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public Order add(int quantity, Product product) {
+        lines.add(new Line(quantity, product));
+        return this;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.request;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.neo4j.ogm.transaction.Transaction.Type.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.StatementResult;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.drivers.bolt.driver.BoltEntityAdapter;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowDataStatement;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+public class BoltRequestTest {
+
+    private Transaction nativeTx;
+
+    private BoltRequest request;
+
+    @Before
+    public void createRequest() {
+        nativeTx = mock(Transaction.class);
+        Session nativeSession = mock(Session.class);
+        when(nativeSession.beginTransaction()).thenReturn(nativeTx);
+
+        BoltTransaction transaction = new BoltTransaction(mock(TransactionManager.class), nativeSession, READ_WRITE);
+        request = new BoltRequest(transaction, ParameterConversion.DefaultParameterConversion.INSTANCE,
+            mock(BoltEntityAdapter.class), cypher -> cypher);
+    }
+
+    @Test
+    public void shouldSendAllStatementsBeforeReadingResults() {
+        StatementResult first = emptyResult();
+        StatementResult second = emptyResult();
+        when(nativeTx.run(eq("CREATE (n)"), anyMap())).thenReturn(first);
+        when(nativeTx.run(eq("MATCH (n) RETURN n"), anyMap())).thenReturn(second);
+
+        DefaultRequest defaultRequest = new DefaultRequest();
+        defaultRequest.setStatements(asList(
+            new RowDataStatement("CREATE (n)", emptyMap()),
+            new RowDataStatement("MATCH (n) RETURN n", emptyMap())));
+        request.execute(defaultRequest).close();
+
+        InOrder inOrder = inOrder(nativeTx, first, second);
+        inOrder.verify(nativeTx).run(eq("CREATE (n)"), anyMap());
+        inOrder.verify(nativeTx).run(eq("MATCH (n) RETURN n"), anyMap());
+        inOrder.verify(first).keys();
+        inOrder.verify(first, atLeastOnce()).consume();
+        inOrder.verify(second, atLeastOnce()).consume();
+        assertThat(request.isPipelining()).isTrue();
+    }
+
+    @Test
+    public void shouldTranslateFailuresOfPipelinedStatements() {
+        StatementResult failed = mock(StatementResult.class);
+        when(failed.keys()).thenThrow(new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input"));
+        when(nativeTx.run(anyString(), anyMap())).thenReturn(failed);
+
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(() -> request.execute(new DefaultRequest(new RowDataStatement("CREAT (n)", emptyMap()))))
+            .satisfies(e -> assertThat(e.getCode()).isEqualTo("Neo.ClientError.Statement.SyntaxError"));
+    }
+
+    private static StatementResult emptyResult() {
+        StatementResult result = mock(StatementResult.class);
+        when(result.keys()).thenReturn(emptyList());
+        return result;
+    }
+}
@@ -20,8 +20,17 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.domain.forum.Member;
+import org.neo4j.ogm.domain.forum.Topic;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
 
 /**
@@ -155,4 +164,58 @@ public class MetaDataTest {
         assertThat(metaData.resolve("Silver", "Pewter", "Tin").name())
             .isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
+
+    @Test
+    public void testClassInfoByClassMatchesClassInfoByName() {
+        assertThat(metaData.classInfo(Member.class)).isSameAs(metaData.classInfo(Member.class.getName()));
+        assertThat(metaData.classInfo(new Topic())).isSameAs(metaData.classInfo("Topic"));
+        assertThat(metaData.classInfo(String.class)).isNull();
+        assertThat(metaData.classInfo((String) null)).isNull();
+    }
+
+    @Test
+    public void testResolutionIsNotAffectedByReusedTaxa() {
+        String[] taxa = { "Login", "User" };
+        ClassInfo member = metaData.resolve(taxa);
+
+        taxa[0] = "Topic";
+        taxa[1] = "Knight";
+        assertThat(metaData.resolve("Login", "User")).isSameAs(member);
+        assertThat(metaData.resolve(taxa).name()).isEqualTo("org.neo4j.ogm.domain.forum.Topic");
+    }
+
+    @Test
+    public void testConcurrentLookupsAgree() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<CompletableFuture<List<ClassInfo>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                lookups.add(CompletableFuture.supplyAsync(() -> {
+                    List<ClassInfo> found = new ArrayList<>();
+                    for (int j = 0; j < 1000; j++) {
+                        found.add(metaData.classInfo("User"));
+                        found.add(metaData.classInfo(Topic.class));
+                        found.add(metaData.resolve("Silver", "Pewter", "Tin"));
+                        found.add(metaData.resolve("Knight"));
+                    }
+                    return found;
+                }, executor));
+            }
+
+            ClassInfo user = metaData.classInfo("User");
+            ClassInfo topic = metaData.classInfo(Topic.class);
+            ClassInfo silver = metaData.resolve("Silver", "Pewter", "Tin");
+            for (CompletableFuture<List<ClassInfo>> lookup : lookups) {
+                List<ClassInfo> found = lookup.get(1, TimeUnit.MINUTES);
+                for (int j = 0; j < found.size(); j += 4) {
+                    assertThat(found.get(j)).isSameAs(user);
+                    assertThat(found.get(j + 1)).isSameAs(topic);
+                    assertThat(found.get(j + 2)).isSameAs(silver);
+                    assertThat(found.get(j + 3)).isNull();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.immutable.Pilot;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class MethodHandleEntityInstantiatorTest extends MultiDriverTestClass {
+
+    private MethodHandleEntityInstantiator instantiator;
+
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void setUp() {
+        MetaData metadata = new MetaData("org.neo4j.ogm.domain.social", "org.neo4j.ogm.domain.immutable");
+        instantiator = new MethodHandleEntityInstantiator(metadata);
+    }
+
+    @After
+    public void closeSessionFactory() {
+        if (sessionFactory != null) {
+            sessionFactory.openSession().purgeDatabase();
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    public void shouldUseDefaultConstructor() {
+        Individual first = instantiator.createInstance(Individual.class, new HashMap<>());
+        Individual second = instantiator.createInstance(Individual.class, new HashMap<>());
+        assertThat(first).isNotNull().isNotSameAs(second);
+    }
+
+    @Test
+    public void shouldUseConstructorWithParametersMatchingTheFields() {
+        Map<String, Object> propertyValues = new HashMap<>();
+        propertyValues.put("fullName", "Poe Dameron");
+        propertyValues.put("age", 32L);
+
+        Pilot pilot = instantiator.createInstance(Pilot.class, propertyValues);
+
+        assertThat(pilot.getName()).isEqualTo("Poe Dameron");
+        assertThat(pilot.getAge()).isEqualTo(32);
+        assertThat(pilot.getAliases()).isNull();
+    }
+
+    @Test
+    public void shouldPassDefaultsForMissingProperties() {
+        Pilot pilot = instantiator.createInstance(Pilot.class, new HashMap<>());
+
+        assertThat(pilot.getName()).isNull();
+        assertThat(pilot.getAge()).isZero();
+    }
+
+    @Test
+    public void shouldFailForClassesWithoutUsableConstructor() {
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(() -> instantiator.createInstance(Integer.class, new HashMap<>()));
+    }
+
+    @Test
+    public void shouldLoadEntitiesWithoutDefaultConstructor() {
+        sessionFactory = new SessionFactory(getBaseConfiguration().build(), "org.neo4j.ogm.domain.immutable");
+        sessionFactory.setEntityInstantiator(new MethodHandleEntityInstantiator(sessionFactory.metaData()));
+
+        Session session = sessionFactory.openSession();
+        session.save(new Pilot("Wedge Antilles", 45, Arrays.asList("Red Two", "Red Leader")));
+        session.clear();
+
+        Pilot pilot = session.loadAll(Pilot.class).iterator().next();
+        assertThat(pilot.getId()).isNotNull();
+        assertThat(pilot.getName()).isEqualTo("Wedge Antilles");
+        assertThat(pilot.getAge()).isEqualTo(45);
+        assertThat(pilot.getAliases()).containsExactly("Red Two", "Red Leader");
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.examples.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.drink.Beverage;
+import org.neo4j.ogm.domain.restaurant.Branch;
+import org.neo4j.ogm.domain.restaurant.Franchise;
+import org.neo4j.ogm.domain.restaurant.Location;
+import org.neo4j.ogm.domain.restaurant.Restaurant;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class BulkInsertTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.restaurant", "org.neo4j.ogm.domain.drink");
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    @After
+    public void tearDown() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldInsertPropertiesAndLabelsInBatches() {
+
+        Restaurant restaurant = new Restaurant("San Francisco International Airport (SFO)",
+            new Location(37.61649, -122.38681), 94128);
+        restaurant.setLaunchDate(new Date(1000));
+        restaurant.setSpecialities(Arrays.asList("burger", "pizza"));
+        restaurant.labels.add("Delicious");
+        List<Restaurant> restaurants = new ArrayList<>();
+        restaurants.add(restaurant);
+        IntStream.range(0, 6).forEach(i -> restaurants.add(new Restaurant("Restaurant " + i, i)));
+
+        assertThat(session.bulkInsert(restaurants, 3, false)).isEqualTo(7);
+
+        assertThat(restaurants).allSatisfy(r -> assertThat(r.getId()).isNull());
+        assertThat(session.countEntitiesOfType(Restaurant.class)).isEqualTo(7);
+        assertThat(session.queryForObject(Long.class, "MATCH (n:Restaurant:Delicious) RETURN count(n)", Utils.map()))
+            .isEqualTo(1L);
+
+        Restaurant loaded = session
+            .queryForObject(Restaurant.class, "MATCH (n:Delicious) RETURN n", Collections.emptyMap());
+        assertThat(loaded).isNotSameAs(restaurant);
+        assertThat(loaded.getName()).isEqualTo(restaurant.getName());
+        assertThat(loaded.getZip()).isEqualTo(94128);
+        assertThat(loaded.getLocation().getLatitude()).isEqualTo(37.61649);
+        assertThat(loaded.getLaunchDate()).isEqualTo(new Date(1000));
+        assertThat(loaded.getSpecialities()).containsExactly("burger", "pizza");
+        assertThat(loaded.labels).containsExactly("Delicious");
+    }
+
+    @Test
+    public void shouldWriteBackIdsWhenAsked() {
+
+        List<Restaurant> restaurants = IntStream.range(0, 5).mapToObj(i -> new Restaurant("Restaurant " + i, i))
+            .collect(Collectors.toList());
+
+        session.bulkInsert(restaurants, 2, true);
+
+        Session other = sessionFactory.openSession();
+        assertThat(restaurants).allSatisfy(restaurant -> {
+            assertThat(restaurant.getId()).isNotNull();
+            assertThat(other.load(Restaurant.class, restaurant.getId()).getName()).isEqualTo(restaurant.getName());
+        });
+    }
+
+    @Test
+    public void shouldNotRegisterEntitiesInTheSession() {
+
+        Restaurant restaurant = new Restaurant("Zuni", 8.5);
+        session.bulkInsert(Collections.singletonList(restaurant), 10, true);
+
+        Restaurant loaded = session.load(Restaurant.class, restaurant.getId());
+        assertThat(loaded).isNotSameAs(restaurant);
+        assertThat(session.load(Restaurant.class, restaurant.getId())).isSameAs(loaded);
+    }
+
+    @Test
+    public void shouldGenerateAndMergeOnPrimaryIds() {
+
+        Beverage beverage = new Beverage("Assam");
+        session.bulkInsert(Collections.singletonList(beverage));
+        assertThat(beverage.getUuid()).isNotNull();
+
+        Beverage renamed = new Beverage("Assam Tea");
+        renamed.setUuid(beverage.getUuid());
+        session.bulkInsert(Arrays.asList(renamed, new Beverage("Darjeeling")));
+
+        assertThat(session.loadAll(Beverage.class)).extracting(Beverage::getName)
+            .containsExactlyInAnyOrder("Assam Tea", "Darjeeling");
+    }
+
+    @Test
+    public void shouldJoinAnOpenTransaction() {
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.bulkInsert(Arrays.asList(new Restaurant("Nopa", 8.5), new Restaurant("Kuma", 9)), 1, false);
+            assertThat(session.countEntitiesOfType(Restaurant.class)).isEqualTo(2);
+            tx.rollback();
+        }
+
+        assertThat(session.countEntitiesOfType(Restaurant.class)).isZero();
+    }
+
+    @Test
+    public void shouldRejectSavedEntitiesAndRelationshipEntities() {
+
+        Restaurant saved = new Restaurant("Kuma", 9);
+        session.save(saved);
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> session.bulkInsert(Collections.singletonList(saved)))
+            .withMessageContaining("already been saved");
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> session.bulkInsert(Collections.singletonList(
+                new Branch(new Location(0.0, 0.0), new Franchise(), new Restaurant()))))
+            .withMessageContaining("node entities");
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> session.bulkInsert(Collections.singletonList("not an entity")));
+    }
+}
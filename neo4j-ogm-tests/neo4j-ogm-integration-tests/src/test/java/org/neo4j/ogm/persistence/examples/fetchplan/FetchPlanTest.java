@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.examples.fetchplan;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.fetchplan.Customer;
+import org.neo4j.ogm.domain.fetchplan.Line;
+import org.neo4j.ogm.domain.fetchplan.Order;
+import org.neo4j.ogm.domain.fetchplan.Product;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class FetchPlanTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+
+    private Order order;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.fetchplan");
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        Customer customer = new Customer("Jane");
+        Product tea = new Product("Tea");
+        Product cake = new Product("Cake");
+        order = new Order("1", customer).add(2, tea).add(1, cake);
+        new Order("2", customer).add(1, tea);
+        session.save(customer);
+
+        session = sessionFactory.openSession();
+    }
+
+    @After
+    public void tearDown() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadAlongTheDefaultPlanWhenNoDepthIsGiven() {
+
+        Order loaded = session.load(Order.class, order.getId());
+
+        assertThat(loaded.getCustomer()).isNull();
+        assertThat(loaded.getLines()).extracting(Line::getProduct).extracting(Product::getName)
+            .containsExactlyInAnyOrder("Tea", "Cake");
+    }
+
+    @Test
+    public void shouldPreferAnExplicitDepthOverTheDefaultPlan() {
+
+        Order loaded = session.load(Order.class, order.getId(), 1);
+
+        assertThat(loaded.getCustomer().getName()).isEqualTo("Jane");
+        assertThat(loaded.getLines()).hasSize(2).allSatisfy(line -> assertThat(line.getProduct()).isNull());
+    }
+
+    @Test
+    public void shouldLoadAlongAGivenPlan() {
+
+        Order loaded = session.load(Order.class, order.getId(), FetchPlan.of("customer.orders"));
+
+        assertThat(loaded.getLines()).isEmpty();
+        assertThat(loaded.getCustomer().getOrders()).extracting(Order::getNumber).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    public void shouldLoadAlongANamedPlan() {
+
+        Order loaded = session.load(Order.class, order.getId(), FetchPlan.named("withCustomer"));
+
+        assertThat(loaded.getLines()).isEmpty();
+        assertThat(loaded.getCustomer().getName()).isEqualTo("Jane");
+        assertThat(loaded.getCustomer().getOrders()).containsExactly(loaded);
+    }
+
+    @Test
+    public void shouldLoadAllAlongAPlan() {
+
+        Collection<Order> byType = session.loadAll(Order.class, FetchPlan.of("customer"));
+        assertThat(byType).hasSize(2).allSatisfy(loaded -> {
+            assertThat(loaded.getCustomer().getName()).isEqualTo("Jane");
+            assertThat(loaded.getLines()).isEmpty();
+        });
+
+        session.clear();
+        Collection<Order> byIds = session.loadAll(Order.class, singletonList(order.getId()), FetchPlan.of("lines"));
+        assertThat(byIds).hasSize(1);
+        assertThat(byIds.iterator().next().getLines()).hasSize(2)
+            .allSatisfy(line -> assertThat(line.getProduct()).isNull());
+
+        session.clear();
+        Filters filters = new Filters(new Filter("number", ComparisonOperator.EQUALS, "2"));
+        Collection<Order> filtered = session.loadAll(Order.class, filters, new SortOrder(), null,
+            FetchPlan.named("default"));
+        assertThat(filtered).hasSize(1);
+        assertThat(filtered.iterator().next().getLines()).extracting(Line::getProduct).extracting(Product::getName)
+            .containsExactly("Tea");
+    }
+
+    @Test
+    public void shouldRejectUnknownPlansAndFields() {
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> session.load(Order.class, order.getId(), FetchPlan.named("unknown")))
+            .withMessageContaining("unknown");
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> session.load(Order.class, order.getId(), FetchPlan.of("lines.customer")))
+            .withMessageContaining("customer");
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.examples.lazy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.context.LazyCollection;
+import org.neo4j.ogm.domain.lazy.Author;
+import org.neo4j.ogm.domain.lazy.Book;
+import org.neo4j.ogm.domain.lazy.Publisher;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.StatementShapeCounter;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class LazyLoadingTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.lazy");
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        Publisher publisher = new Publisher("Penguin");
+        Author orwell = new Author("George Orwell");
+        orwell.setPublisher(publisher);
+        orwell.wrote("1984");
+        orwell.wrote("Animal Farm");
+        Author huxley = new Author("Aldous Huxley");
+        huxley.setPublisher(publisher);
+        huxley.wrote("Brave New World");
+        session.save(orwell);
+        session.save(huxley);
+
+        session = sessionFactory.openSession();
+    }
+
+    @After
+    public void tearDown() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadLazyRelationshipsOfAllPendingEntitiesOnFirstAccess() {
+
+        Collection<Author> authors = session.loadAll(Author.class);
+        assertThat(authors).hasSize(2);
+        assertThat(authors).allSatisfy(author -> {
+            assertThat(author.getPublisher().getName()).isEqualTo("Penguin");
+            assertThat(LazyCollection.isUninitialised(author.getBooks())).isTrue();
+        });
+
+        StatementShapeCounter counter = sessionFactory.getStatementShapeCounter();
+        long statementsBefore = counter.getStatementCount();
+
+        List<String> titles = new ArrayList<>();
+        for (Author author : authors) {
+            author.getBooks().forEach(book -> {
+                assertThat(book.getAuthor()).isSameAs(author);
+                titles.add(book.getTitle());
+            });
+        }
+
+        assertThat(titles).containsExactlyInAnyOrder("1984", "Animal Farm", "Brave New World");
+        assertThat(counter.getStatementCount() - statementsBefore).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotFetchLazyRelationshipsWithSchemaLoadStrategy() {
+
+        session.setLoadStrategy(LoadStrategy.SCHEMA_LOAD_STRATEGY);
+
+        Author author = session.loadAll(Author.class, 2).stream()
+            .filter(candidate -> candidate.getName().equals("George Orwell"))
+            .findFirst().get();
+
+        assertThat(author.getPublisher().getName()).isEqualTo("Penguin");
+        assertThat(LazyCollection.isUninitialised(author.getBooks())).isTrue();
+        assertThat(author.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("1984", "Animal Farm");
+    }
+
+    @Test
+    public void shouldKeepRelationshipsThatHaveNotBeenLoadedOnSave() {
+
+        Author author = session.loadAll(Author.class).stream()
+            .filter(candidate -> candidate.getName().equals("George Orwell"))
+            .findFirst().get();
+        author.setName("Eric Arthur Blair");
+        session.save(author);
+
+        assertThat(LazyCollection.isUninitialised(author.getBooks())).isTrue();
+
+        session = sessionFactory.openSession();
+        Author reloaded = session.load(Author.class, author.getId());
+        assertThat(reloaded.getName()).isEqualTo("Eric Arthur Blair");
+        assertThat(reloaded.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("1984", "Animal Farm");
+    }
+
+    @Test
+    public void shouldDeleteRelationshipsRemovedAfterLoading() {
+
+        Author author = session.loadAll(Author.class).stream()
+            .filter(candidate -> candidate.getName().equals("George Orwell"))
+            .findFirst().get();
+        author.getBooks().removeIf(book -> book.getTitle().equals("1984"));
+        author.wrote("Homage to Catalonia");
+        session.save(author);
+
+        session = sessionFactory.openSession();
+        Author reloaded = session.load(Author.class, author.getId());
+        assertThat(reloaded.getBooks()).extracting(Book::getTitle)
+            .containsExactlyInAnyOrder("Animal Farm", "Homage to Catalonia");
+    }
+
+    @Test
+    public void shouldNotLoadLazyRelationshipsOfEntitiesNoLongerInTheSession() {
+
+        Author author = session.loadAll(Author.class).iterator().next();
+        List<Book> books = author.getBooks();
+        session.clear();
+
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(books::size)
+            .withMessageContaining("no longer part of the session");
+    }
+}
@@ -20,6 +20,7 @@ package org.neo4j.ogm.persistence.examples.locking;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
@@ -143,6 +144,34 @@ public class NodeOptimisticLockingTest extends MultiDriverTestClass {
             .isInstanceOf(OptimisticLockingException.class);
     }
 
+    @Test
+    public void givenNodesWhenDeleteThenAllNodesAreDeleted() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        session.save(Arrays.asList(frantisek, michael));
+
+        session.delete(Arrays.asList(frantisek, michael));
+
+        Collection<User> users = session.loadAll(User.class);
+        assertThat(users).isEmpty();
+    }
+
+    @Test
+    public void givenNodesWithOneWrongVersionWhenDeleteThenNoNodeIsDeleted() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        session.save(Arrays.asList(frantisek, michael));
+
+        michael.setVersion(1L);
+
+        assertThatThrownBy(() -> session.delete(Arrays.asList(frantisek, michael)))
+            .isInstanceOf(OptimisticLockingException.class)
+            .hasMessageContaining("id='" + michael.getId() + "'");
+
+        session.clear();
+        assertThat(session.loadAll(User.class)).hasSize(2);
+    }
+
     @Test
     public void shouldWorkWithInheritedVersionField() {
         PowerUser frantisek = new PowerUser("Frantisek");
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.examples.restaurant;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.restaurant.Restaurant;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class RestaurantKeysetPaginationTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.restaurant");
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        // duplicate scores, so that the native id has to break ties
+        String[] names = { "Kuma", "Chez Panisse", "Zuni", "Delfina", "Nopa", "Tartine", "Flour + Water", "State Bird" };
+        double[] scores = { 9.0, 8.5, 8.5, 8.0, 8.5, 7.0, 8.0, 9.0 };
+        for (int i = 0; i < names.length; i++) {
+            session.save(new Restaurant(names[i], scores[i]));
+        }
+        session.save(new Restaurant("Zuni", 8.5));
+    }
+
+    @After
+    public void tearDown() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldPageThroughAllEntitiesInOrder() {
+
+        SortOrder sortOrder = new SortOrder().desc("score");
+        List<Long> expected = session.loadAll(Restaurant.class, sortOrder, 0).stream()
+            .map(Restaurant::getId).collect(Collectors.toList());
+
+        List<Long> paged = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        KeysetPagination pagination = KeysetPagination.first(4);
+        while (pagination != null) {
+            // the cursor carries all state needed, each page can be loaded by another session
+            KeysetPage<Restaurant> page = sessionFactory.openSession()
+                .loadPage(Restaurant.class, new Filters(), sortOrder, pagination, 0);
+            page.getContent().forEach(restaurant -> paged.add(restaurant.getId()));
+            pageSizes.add(page.getContent().size());
+            pagination = page.next(4);
+        }
+
+        assertThat(pageSizes).containsExactly(4, 4, 1);
+        assertThat(paged).containsExactlyInAnyOrderElementsOf(expected).doesNotHaveDuplicates();
+        List<Double> scores = paged.stream().map(id -> session.load(Restaurant.class, id).getScore())
+            .collect(Collectors.toList());
+        assertThat(scores).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    public void shouldOrderByMultipleProperties() {
+
+        SortOrder sortOrder = new SortOrder().desc("score").asc("name");
+
+        KeysetPage<Restaurant> first = session
+            .loadPage(Restaurant.class, new Filters(), sortOrder, KeysetPagination.first(3));
+        assertThat(first.getContent()).extracting(Restaurant::getName)
+            .containsExactly("Kuma", "State Bird", "Chez Panisse");
+
+        KeysetPage<Restaurant> second = session
+            .loadPage(Restaurant.class, new Filters(), sortOrder, first.next(3));
+        assertThat(second.getContent()).extracting(Restaurant::getName).containsExactly("Nopa", "Zuni", "Zuni");
+        assertThat(second.getContent().get(1).getId()).isLessThan(second.getContent().get(2).getId());
+
+        KeysetPage<Restaurant> third = session
+            .loadPage(Restaurant.class, new Filters(), sortOrder, second.next(3));
+        assertThat(third.getContent()).extracting(Restaurant::getName)
+            .containsExactly("Delfina", "Flour + Water", "Tartine");
+
+        KeysetPage<Restaurant> last = session
+            .loadPage(Restaurant.class, new Filters(), sortOrder, third.next(3));
+        assertThat(last.getContent()).isEmpty();
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldComposeWithFilters() {
+
+        Filters filters = new Filters(new Filter("score", ComparisonOperator.GREATER_THAN_EQUAL, 8.5));
+        SortOrder sortOrder = new SortOrder().asc("name");
+
+        KeysetPage<Restaurant> first = session.loadPage(Restaurant.class, filters, sortOrder, KeysetPagination.first(4));
+        assertThat(first.getContent()).extracting(Restaurant::getName)
+            .containsExactly("Chez Panisse", "Kuma", "Nopa", "State Bird");
+
+        KeysetPage<Restaurant> second = session.loadPage(Restaurant.class, filters, sortOrder, first.next(4));
+        assertThat(second.getContent()).extracting(Restaurant::getName).containsExactly("Zuni", "Zuni");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldRejectCursorsOfAnotherSortOrder() {
+
+        KeysetPage<Restaurant> first = session
+            .loadPage(Restaurant.class, new Filters(), new SortOrder("name"), KeysetPagination.first(2));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> session
+            .loadPage(Restaurant.class, new Filters(), new SortOrder("score", "name"), first.next(2)));
+    }
+
+    @Test
+    public void shouldRejectSortingByNonProperties() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> session
+            .loadPage(Restaurant.class, new Filters(), new SortOrder("location"), KeysetPagination.first(2)));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class AsyncSessionTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private static ExecutorService executor;
+
+    private Session session;
+
+    private List<Long> artistIds;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        assumeTrue(driver instanceof BoltDriver);
+        executor = Executors.newFixedThreadPool(4);
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        sessionFactory.setAsyncExecutor(executor);
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Before
+    public void init() {
+
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        artistIds = new ArrayList<>();
+        for (String name : new String[] { "The Beatles", "Queen", "Pink Floyd" }) {
+            Artist artist = new Artist(name);
+            for (int i = 1; i <= 3; ++i) {
+                Album album = new Album(name + " " + i);
+                album.setArtist(artist);
+                artist.getAlbums().add(album);
+            }
+            session.save(artist);
+            artistIds.add(artist.getId());
+        }
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void loadAsyncShouldLoadEntity() {
+
+        Artist artist = join(session.loadAsync(Artist.class, artistIds.get(1)));
+
+        assertThat(artist.getName()).isEqualTo("Queen");
+        assertThat(artist.getAlbums()).hasSize(3);
+    }
+
+    @Test
+    public void loadAsyncShouldCompleteWithNullForUnknownIds() {
+
+        assertThat(join(session.loadAsync(Artist.class, Long.MAX_VALUE))).isNull();
+    }
+
+    @Test
+    public void independentLoadsShouldShareTheMappingContext() {
+
+        List<CompletableFuture<Artist>> loads = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            loads.add(session.loadAsync(Artist.class, artistIds.get(i % 3), 2).toCompletableFuture());
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < 10; ++i) {
+            Artist artist = loads.get(i).join();
+            assertThat(artist).isSameAs(session.load(Artist.class, artistIds.get(i % 3), 0));
+            assertThat(artist.getAlbums()).hasSize(3);
+        }
+    }
+
+    @Test
+    public void saveAsyncShouldSaveEntity() {
+
+        Artist artist = new Artist("Led Zeppelin");
+        join(session.saveAsync(artist));
+
+        assertThat(artist.getId()).isNotNull();
+        session.clear();
+        assertThat(session.load(Artist.class, artist.getId()).getName()).isEqualTo("Led Zeppelin");
+    }
+
+    @Test
+    public void queryAsyncShouldMapEntities() {
+
+        Iterable<Artist> artists = join(session.queryAsync(Artist.class,
+            "MATCH (n:`l'artiste`) RETURN n ORDER BY n.name DESC", Collections.emptyMap()));
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("The Beatles", "Queen", "Pink Floyd");
+    }
+
+    @Test
+    public void queryAsyncShouldMapScalars() {
+
+        Iterable<String> names = join(session.queryAsync(String.class,
+            "MATCH (n:`l'artiste`) RETURN n.name ORDER BY n.name", Collections.emptyMap()));
+
+        assertThat(names).containsExactly("Pink Floyd", "Queen", "The Beatles");
+    }
+
+    @Test
+    public void queryAsyncShouldReturnRowsAndStatistics() {
+
+        Result result = join(session.queryAsync(
+            "MATCH (n:`l'artiste`) WHERE n.name = $name SET n.founded = 1970 RETURN n",
+            Collections.singletonMap("name", "Queen"), false));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.iterator().next().get("n")).isInstanceOf(Artist.class);
+        assertThat(result.queryStatistics().getPropertiesSet()).isEqualTo(1);
+    }
+
+    @Test
+    public void queryAsyncShouldCompleteExceptionallyForInvalidQueries() {
+
+        assertThatThrownBy(() -> join(session.queryAsync("MATCH (n) RETURN m", Collections.emptyMap(), true)))
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(CypherException.class);
+    }
+
+    @Test
+    public void asyncWritesShouldUpdateTheLastBookmark() {
+
+        String bookmark = session.getLastBookmark();
+        join(session.saveAsync(new Artist("Led Zeppelin")));
+
+        assertThat(session.getLastBookmark()).isNotNull().isNotEqualTo(bookmark);
+
+        bookmark = session.getLastBookmark();
+        join(session.queryAsync("CREATE (n:`l'artiste` {name: 'Deep Purple'})", Collections.emptyMap(), false));
+
+        assertThat(session.getLastBookmark()).isNotNull().isNotEqualTo(bookmark);
+    }
+
+    @Test
+    public void asyncOperationsShouldRequireAnExecutor() {
+
+        SessionFactory factoryWithoutExecutor = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+
+        assertThatThrownBy(() -> factoryWithoutExecutor.openSession().loadAsync(Artist.class, artistIds.get(0)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("setAsyncExecutor");
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
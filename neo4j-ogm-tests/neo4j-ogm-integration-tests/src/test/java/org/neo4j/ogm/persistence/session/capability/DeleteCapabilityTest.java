@@ -28,6 +28,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
@@ -104,6 +105,29 @@ public class DeleteCapabilityTest extends MultiDriverTestClass {
         assertEntityCount(0);
     }
 
+    @Test
+    public void canDeleteCollectionOfNodeAndRelationshipEntities() {
+        Album album1 = new Album("Album 1");
+        Album album2 = new Album("Album 2");
+        Studio studio = new Studio("Abbey Road Studios");
+        Recording recording = new Recording(album1, studio, 1969);
+        album1.setRecording(recording);
+        session.save(recording);
+        session.save(album2);
+        assertEntityCount(2);
+
+        List<Object> objects = new ArrayList<>();
+        objects.add(album1);
+        objects.add(recording);
+        objects.add(album2);
+        objects.add(studio);
+
+        session.delete(objects);
+        assertEntityCount(0);
+        assertThat(session.countEntitiesOfType(Studio.class)).isEqualTo(0L);
+        assertThat(session.countEntitiesOfType(Recording.class)).isEqualTo(0L);
+    }
+
     private void assertEntityCount(int count) {
         session.clear(); // Ensure that no data is cached...
         long entityCount = session.countEntitiesOfType(Album.class);
@@ -44,6 +44,7 @@ import org.neo4j.ogm.domain.music.Studio;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.StatementShapeCounter;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
 
 /**
@@ -742,4 +743,26 @@ public class LoadCapabilityTest extends MultiDriverTestClass {
             .extracting(User::getFirstName)
             .containsExactly("Anna", "Bob", "Charlie");
     }
+
+    @Test
+    public void pagesShouldShareOneStatementShape() {
+        for (int i = 0; i < 5; i++) {
+            Artist artist = new Artist("Artist " + i);
+            session.save(artist);
+        }
+        session.clear();
+
+        StatementShapeCounter counter = sessionFactory.getStatementShapeCounter();
+        counter.reset();
+
+        List<String> names = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            session.loadAll(Artist.class, new SortOrder().add("name"), new Pagination(page, 2))
+                .forEach(artist -> names.add(artist.getName()));
+        }
+
+        assertThat(names).containsExactly("Artist 0", "Artist 1", "Artist 2", "Artist 3", "Artist 4", "The Beatles");
+        assertThat(counter.getStatementCount()).isEqualTo(3);
+        assertThat(counter.getShapeCount()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.filesystem.FileSystemEntity;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.reactive.ReactiveSession;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class ReactiveSessionTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private ExecutorService executor;
+
+    private ReactiveSession reactiveSession;
+
+    private Long queenId;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        assumeTrue(driver instanceof BoltDriver);
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music", "org.neo4j.ogm.domain.filesystem");
+    }
+
+    @Before
+    public void init() {
+
+        Session session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        for (String name : new String[] { "The Beatles", "Queen", "Pink Floyd" }) {
+            Artist artist = new Artist(name);
+            for (int i = 1; i <= 3; ++i) {
+                Album album = new Album(name + " " + i);
+                album.setArtist(artist);
+                artist.getAlbums().add(album);
+            }
+            session.save(artist);
+            if ("Queen".equals(name)) {
+                queenId = artist.getId();
+            }
+        }
+
+        executor = Executors.newFixedThreadPool(2);
+        reactiveSession = sessionFactory.openReactiveSession(executor);
+    }
+
+    @After
+    public void clearDatabase() {
+        sessionFactory.openSession().purgeDatabase();
+        executor.shutdown();
+    }
+
+    @Test
+    public void loadAllShouldPublishFullyHydratedEntities() {
+
+        List<Artist> artists = collect(
+            reactiveSession.loadAll(Artist.class, new Filters(), new SortOrder().add("name"), 1));
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("Pink Floyd", "Queen", "The Beatles");
+        assertThat(artists).allSatisfy(artist -> assertThat(artist.getAlbums()).hasSize(3));
+    }
+
+    @Test
+    public void loadAllShouldApplyFilters() {
+
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.STARTING_WITH, "Q"));
+        assertThat(collect(reactiveSession.loadAll(Artist.class, filters, new SortOrder(), 1)))
+            .extracting(Artist::getName).containsExactly("Queen");
+    }
+
+    @Test
+    public void loadAllShouldCompleteEmptyForUnknownTypes() {
+
+        // Abstract and not annotated, so there is no label to load
+        assertThat(collect(reactiveSession.loadAll(FileSystemEntity.class))).isEmpty();
+    }
+
+    @Test
+    public void loadShouldPublishOneEntity() {
+
+        List<Artist> artists = collect(reactiveSession.load(Artist.class, queenId));
+
+        assertThat(artists).hasSize(1);
+        assertThat(artists.get(0).getName()).isEqualTo("Queen");
+        assertThat(artists.get(0).getAlbums()).hasSize(3);
+    }
+
+    @Test
+    public void loadShouldCompleteEmptyForUnknownIds() {
+
+        assertThat(collect(reactiveSession.load(Artist.class, Long.MAX_VALUE))).isEmpty();
+    }
+
+    @Test
+    public void shouldOnlyPublishRequestedEntities() throws InterruptedException {
+
+        TestSubscriber<Album> subscriber = new TestSubscriber<>(1L);
+        reactiveSession.loadAll(Album.class, 0).subscribe(subscriber);
+
+        subscriber.awaitItems(1);
+        Thread.sleep(200L);
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.done.getCount()).isEqualTo(1L);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.done.await(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.items).hasSize(9);
+    }
+
+    @Test
+    public void cancelledSubscriptionsShouldNotPublishAnything() throws InterruptedException {
+
+        TestSubscriber<Album> subscriber = new TestSubscriber<>(1L);
+        reactiveSession.loadAll(Album.class, 0).subscribe(subscriber);
+
+        subscriber.awaitItems(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Thread.sleep(200L);
+
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.done.getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void queryShouldMapEntities() {
+
+        List<Artist> artists = collect(reactiveSession.query(Artist.class,
+            "MATCH (n:`l'artiste`) RETURN n ORDER BY n.name DESC", Collections.emptyMap()));
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("The Beatles", "Queen", "Pink Floyd");
+    }
+
+    @Test
+    public void queryShouldPublishRows() {
+
+        List<Map<String, Object>> rows = collect(reactiveSession.query(
+            "MATCH (n:`l'artiste`) WHERE n.name = $name RETURN n, n.name AS name",
+            Collections.singletonMap("name", "Queen"), true));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("n")).isInstanceOf(Artist.class);
+        assertThat(rows.get(0).get("name")).isEqualTo("Queen");
+    }
+
+    @Test
+    public void invalidQueriesShouldBePublishedAsErrors() throws InterruptedException {
+
+        TestSubscriber<Map<String, Object>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        reactiveSession.query("MATCH (n) RETURN m", Collections.emptyMap()).subscribe(subscriber);
+
+        assertThat(subscriber.done.await(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.error).isInstanceOf(CypherException.class);
+    }
+
+    @Test
+    public void shouldSaveAndDeleteEntities() {
+
+        Artist artist = new Artist("Led Zeppelin");
+        assertThat(collect(reactiveSession.save(artist))).containsExactly(artist);
+        assertThat(artist.getId()).isNotNull();
+
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.EQUALS, "Led Zeppelin"));
+        assertThat(collect(reactiveSession.loadAll(Artist.class, filters, new SortOrder(), 0)))
+            .containsExactly(artist);
+
+        assertThat(collect(reactiveSession.delete(artist))).isEmpty();
+        assertThat(sessionFactory.openSession().countEntitiesOfType(Artist.class)).isEqualTo(3L);
+    }
+
+    private static <T> List<T> collect(Publisher<T> publisher) {
+
+        TestSubscriber<T> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        try {
+            assertThat(subscriber.done.await(10L, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        assertThat(subscriber.error).isNull();
+        return subscriber.items;
+    }
+
+    private static class TestSubscriber<T> implements Subscriber<T> {
+
+        private final long initialDemand;
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private volatile Subscription subscription;
+
+        private volatile Throwable error;
+
+        TestSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            s.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        void awaitItems(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10_000L;
+            while (items.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(items).hasSize(count);
+        }
+    }
+}
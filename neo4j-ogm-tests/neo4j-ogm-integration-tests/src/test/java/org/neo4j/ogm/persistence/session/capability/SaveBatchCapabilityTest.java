@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.locking.User;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.exception.OptimisticLockingException;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Saves with statements split into chunks of {@code save.batch.size} rows and, optionally, committed every
+ * {@code save.batch.commit.interval} statements.
+ */
+public class SaveBatchCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+
+    @After
+    public void closeSessionFactory() {
+        if (sessionFactory != null) {
+            sessionFactory.openSession().purgeDatabase();
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    public void shouldSaveEntitiesAndRelationshipsInChunks() {
+
+        Session session = openSession(2, 0);
+        List<Artist> artists = newArtistsWithAlbum(5);
+
+        session.save(artists);
+
+        assertThat(artists).allSatisfy(artist -> {
+            assertThat(artist.getId()).isNotNull();
+            assertThat(artist.getAlbums()).allSatisfy(album -> assertThat(album.getId()).isNotNull());
+        });
+
+        session.clear();
+        assertThat(session.loadAll(Artist.class)).hasSize(5)
+            .allSatisfy(artist -> assertThat(artist.getAlbums()).hasSize(1));
+    }
+
+    @Test
+    public void shouldCheckVersionsOfEachChunk() {
+
+        Session session = openSession(2, 0);
+        List<User> users = IntStream.range(0, 5).mapToObj(i -> new User("User " + i)).collect(toList());
+        session.save(users);
+
+        users.forEach(user -> user.setName(user.getName() + " updated"));
+        session.save(users);
+
+        assertThat(users).extracting(User::getVersion).containsOnly(1L);
+        session.clear();
+        assertThat(session.loadAll(User.class)).extracting(User::getVersion).containsOnly(1L);
+    }
+
+    @Test
+    public void shouldCommitEveryIntervalAndKeepMappingContextInSync() {
+
+        Session session = openSession(2, 1);
+        List<Artist> artists = newArtistsWithAlbum(5);
+
+        session.save(artists);
+        assertThat(session.getTransaction()).isNull();
+
+        // Saving again must not create duplicates, so all entities must have been registered
+        session.save(artists);
+
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(5);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldKeepOnlyCommittedUpdatesWhenALaterTransactionFails() {
+
+        Session session = openSession(2, 1);
+        List<User> users = IntStream.range(0, 5).mapToObj(i -> new User("User " + i)).collect(toList());
+        session.save(users);
+
+        users.forEach(user -> user.setName(user.getName() + " updated"));
+        // Fails the version check of the last chunk
+        sessionFactory.openSession().query("MATCH (u:User {name: 'User 4'}) SET u.version = 42", emptyMap());
+        assertThatThrownBy(() -> session.save(users)).isInstanceOf(OptimisticLockingException.class);
+
+        MappingContext context = ((Neo4jSession) session).context();
+        Session otherSession = sessionFactory.openSession();
+        List<User> committedUsers = users.stream()
+            .filter(user -> otherSession.load(User.class, user.getId()).getName().endsWith(" updated"))
+            .collect(toList());
+        assertThat(committedUsers.size()).isBetween(1, users.size() - 1);
+        assertThat(users).allSatisfy(user -> assertThat(context.isDirty(user)).isEqualTo(!committedUsers.contains(user)));
+    }
+
+    @Test
+    public void shouldNotCommitInBetweenInsideOngoingTransaction() {
+
+        Session session = openSession(2, 1);
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(newArtistsWithAlbum(5));
+            tx.rollback();
+        }
+
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(0);
+    }
+
+    private Session openSession(int saveBatchSize, int saveBatchCommitInterval) {
+
+        sessionFactory = new SessionFactory(getBaseConfiguration()
+            .saveBatchSize(saveBatchSize)
+            .saveBatchCommitInterval(saveBatchCommitInterval)
+            .build(), "org.neo4j.ogm.domain.music", "org.neo4j.ogm.domain.locking");
+        Session session = sessionFactory.openSession();
+        session.purgeDatabase();
+        return session;
+    }
+
+    private static List<Artist> newArtistsWithAlbum(int numberOfArtists) {
+
+        return IntStream.range(0, numberOfArtists).mapToObj(i -> {
+            Artist artist = new Artist("Artist " + i);
+            Album album = new Album("Album " + i);
+            album.setArtist(artist);
+            artist.addAlbum(album);
+            return artist;
+        }).collect(toList());
+    }
+}
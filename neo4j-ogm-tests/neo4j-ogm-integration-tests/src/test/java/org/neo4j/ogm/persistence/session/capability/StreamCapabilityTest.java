@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.capability;
+
+import static java.util.stream.Collectors.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class StreamCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+
+    @Before
+    public void init() {
+
+        session = new SessionFactory(driver, "org.neo4j.ogm.domain.music").openSession();
+        session.purgeDatabase();
+
+        for (String name : new String[] { "The Beatles", "Queen", "Pink Floyd" }) {
+            Artist artist = new Artist(name);
+            for (int i = 1; i <= 3; ++i) {
+                Album album = new Album(name + " " + i);
+                album.setArtist(artist);
+                artist.getAlbums().add(album);
+            }
+            session.save(artist);
+        }
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void streamShouldReturnEachEntityOnceAndFullyHydrated() {
+
+        try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), new SortOrder().add("name"), 1)) {
+            List<Artist> result = artists.collect(toList());
+
+            assertThat(result).extracting(Artist::getName).containsExactly("Pink Floyd", "Queen", "The Beatles");
+            assertThat(result).allSatisfy(artist -> assertThat(artist.getAlbums()).hasSize(3));
+        }
+    }
+
+    @Test
+    public void streamShouldApplyFilters() {
+
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.STARTING_WITH, "Q"));
+        try (Stream<Artist> artists = session.stream(Artist.class, filters)) {
+            assertThat(artists.map(Artist::getName)).containsExactly("Queen");
+        }
+    }
+
+    @Test
+    public void streamShouldNotReturnRelatedEntitiesOfSameType() {
+
+        try (Stream<Album> albums = session.stream(Album.class, new Filters(), 2)) {
+            assertThat(albums.count()).isEqualTo(9L);
+        }
+    }
+
+    @Test
+    public void streamShouldBeLazy() {
+
+        try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), 0)) {
+            assertThat(artists.findFirst()).isPresent();
+        }
+        // The transaction opened for the stream must not leak after closing the stream
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test
+    public void streamShouldParticipateInOngoingTransaction() {
+
+        try (Transaction tx = session.beginTransaction()) {
+            try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), 0)) {
+                assertThat(artists.count()).isEqualTo(3L);
+            }
+            assertThat(tx.status()).isEqualTo(Transaction.Status.OPEN);
+            tx.commit();
+        }
+    }
+
+    @Test
+    public void queryStreamShouldMapEntities() {
+
+        try (Stream<Artist> artists = session.queryStream(Artist.class,
+            "MATCH (n:`l'artiste`) RETURN n ORDER BY n.name DESC", Collections.emptyMap())) {
+            assertThat(artists.map(Artist::getName)).containsExactly("The Beatles", "Queen", "Pink Floyd");
+        }
+    }
+
+    @Test
+    public void queryStreamShouldMapScalars() {
+
+        try (Stream<String> names = session.queryStream(String.class,
+            "MATCH (n:`l'artiste`) RETURN n.name ORDER BY n.name", Collections.emptyMap())) {
+            assertThat(names).containsExactly("Pink Floyd", "Queen", "The Beatles");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.lifecycle;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+/**
+ * Uses bounded mapping contexts, which evict entities by count or once they are no longer referenced.
+ */
+public class MappingContextPolicyTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Neo4jSession session;
+
+    @After
+    public void closeSessionFactory() {
+        if (session != null) {
+            session.purgeDatabase();
+        }
+        sessionFactory.close();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntities() {
+
+        openSession(getBaseConfiguration().mappingContextPolicy("lru").mappingContextMaxEntities(2).build());
+        for (int i = 0; i < 5; i++) {
+            session.save(newIndividual("Individual " + i));
+        }
+        session.clear();
+
+        MappingContext context = session.context();
+        long evictionCount = context.getEvictionCount();
+        Collection<Individual> individuals = session.loadAll(Individual.class, 0);
+        assertThat(individuals).hasSize(5);
+        assertThat(context.getEvictionCount() - evictionCount).isEqualTo(3);
+        assertThat(individuals.stream().filter(i -> context.getNodeEntity(i.getId()) != null)).hasSize(2);
+
+        Individual evicted = individuals.stream()
+            .filter(i -> context.getNodeEntity(i.getId()) == null)
+            .findFirst().get();
+        long missCount = context.getMissCount();
+        Individual reloaded = session.load(Individual.class, evicted.getId());
+        assertThat(reloaded).isNotSameAs(evicted);
+        assertThat(reloaded.getName()).isEqualTo(evicted.getName());
+        assertThat(context.getMissCount()).isGreaterThan(missCount);
+        assertThat(context.getHitCount()).isGreaterThan(0);
+    }
+
+    @Test
+    public void shouldEvictEntitiesThatAreNoLongerReferenced() {
+
+        openSession(getBaseConfiguration().mappingContextPolicy("weak").build());
+        Individual individual = newIndividual("Bilbo");
+        session.save(individual);
+        Long id = individual.getId();
+
+        WeakReference<Individual> reference = new WeakReference<>(individual);
+        individual = null;
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assumeCollected(reference);
+
+        assertThat(session.context().getNodeEntity(id)).isNull();
+        assertThat(session.context().getEvictionCount()).isEqualTo(1);
+        assertThat(session.load(Individual.class, id).getName()).isEqualTo("Bilbo");
+    }
+
+    @Test
+    public void shouldPurgeRelationshipsOfManyCollectedEntities() {
+
+        openSession(getBaseConfiguration().mappingContextPolicy("weak").build());
+        // Enough pairs of friends to purge the relationships of evicted nodes several times in a row
+        List<Individual> individuals = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            Individual individual = newIndividual("Individual " + i);
+            Individual friend = newIndividual("Friend " + i);
+            individual.setFriends(Collections.singletonList(friend));
+            individuals.add(individual);
+            individuals.add(friend);
+        }
+        session.save(individuals, 1);
+        assertThat(session.context().getRelationships()).hasSize(1500);
+        Long id = individuals.get(0).getId();
+
+        List<WeakReference<Individual>> references = new ArrayList<>();
+        individuals.forEach(individual -> references.add(new WeakReference<>(individual)));
+        individuals = null;
+        for (int i = 0; i < 20 && references.stream().anyMatch(reference -> reference.get() != null); i++) {
+            System.gc();
+        }
+        references.forEach(MappingContextPolicyTest::assumeCollected);
+
+        // Counts all collected entities, whether the garbage collector has enqueued their references yet or not
+        assertThat(session.context().getEvictionCount()).isEqualTo(3000);
+        assertThat(session.context().getNodeEntity(id)).isNull();
+        assertThat(session.context().getRelationships()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotCountLookupsMadeByTheContextItself() {
+
+        openSession(getBaseConfiguration().build());
+        Individual bilbo = newIndividual("Bilbo");
+        Individual frodo = newIndividual("Frodo");
+        bilbo.setFriends(Collections.singletonList(frodo));
+        session.save(bilbo);
+
+        MappingContext context = session.context();
+        long hitCount = context.getHitCount();
+        long missCount = context.getMissCount();
+        assertThat(context.neighbours(frodo)).containsExactly(bilbo);
+        assertThat(context.detachNodeEntity(bilbo.getId())).isTrue();
+        assertThat(context.getHitCount()).isEqualTo(hitCount);
+        assertThat(context.getMissCount()).isEqualTo(missCount);
+
+        assertThat(context.getNodeEntity(bilbo.getId())).isNull();
+        assertThat(context.getMissCount()).isEqualTo(missCount + 1);
+    }
+
+    @Test
+    public void shouldSaveEvictedEntitiesWithoutDuplicatingRelationships() {
+
+        openSession(getBaseConfiguration().mappingContextPolicy("lru").mappingContextMaxEntities(1).build());
+        Individual bilbo = newIndividual("Bilbo");
+        Individual frodo = newIndividual("Frodo");
+        bilbo.setFriends(Collections.singletonList(frodo));
+        session.save(bilbo);
+        assertThat(session.context().getEvictionCount()).isGreaterThan(0);
+
+        bilbo.setAge(112);
+        frodo.setAge(33);
+        session.save(bilbo);
+
+        assertThat(session.query("MATCH (n:Individual {name: 'Bilbo'})-[r]->(m:Individual {name: 'Frodo'}) "
+                + "RETURN count(r) AS value, n.age AS bilbo, m.age AS frodo", Utils.map())
+            .queryResults().iterator().next())
+            .containsEntry("value", 1L)
+            .containsEntry("bilbo", 112L)
+            .containsEntry("frodo", 33L);
+    }
+
+    private void openSession(Configuration configuration) {
+
+        sessionFactory = new SessionFactory(configuration, "org.neo4j.ogm.domain.social");
+        session = (Neo4jSession) sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    private static void assumeCollected(WeakReference<?> reference) {
+        assumeTrue("Entity has not been garbage collected", reference.get() == null);
+    }
+
+    private static Individual newIndividual(String name) {
+
+        Individual individual = new Individual();
+        individual.setName(name);
+        individual.setAge(111);
+        individual.setFriends(new ArrayList<>());
+        return individual;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.lifecycle;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+/**
+ * Hydrates entities in parallel and compares the results with those of sequential mapping.
+ */
+public class ParallelHydrationTest extends MultiDriverTestClass {
+
+    private static final int NUMBER_OF_INDIVIDUALS = 500;
+
+    private SessionFactory sequentialSessionFactory;
+    private SessionFactory parallelSessionFactory;
+
+    @Before
+    public void createIndividuals() {
+
+        sequentialSessionFactory = new SessionFactory(getBaseConfiguration().build(), "org.neo4j.ogm.domain.social");
+        parallelSessionFactory = new SessionFactory(getBaseConfiguration().parallelHydrationThreshold(1).build(),
+            "org.neo4j.ogm.domain.social");
+
+        Session session = sequentialSessionFactory.openSession();
+        session.purgeDatabase();
+
+        List<Individual> individuals = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_INDIVIDUALS; i++) {
+            Individual individual = new Individual();
+            individual.setName(String.format("Individual %03d", i));
+            individual.setAge(i % 17);
+            individual.setPrimitiveIntArray(new int[] { i, i + 1 });
+            individual.setFriends(new ArrayList<>());
+            individuals.add(individual);
+        }
+        for (int i = 0; i < NUMBER_OF_INDIVIDUALS; i++) {
+            individuals.get(i).getFriends().add(individuals.get((i + 1) % NUMBER_OF_INDIVIDUALS));
+            individuals.get(i).getFriends().add(individuals.get((i * 7) % NUMBER_OF_INDIVIDUALS));
+        }
+        session.save(individuals);
+    }
+
+    @After
+    public void closeSessionFactories() {
+        sequentialSessionFactory.openSession().purgeDatabase();
+        sequentialSessionFactory.close();
+        parallelSessionFactory.close();
+    }
+
+    @Test
+    public void shouldReadTheThresholdFromTheConfiguration() {
+
+        Configuration configuration = getBaseConfiguration().parallelHydrationThreshold(1).build();
+        assertThat(configuration.getParallelHydrationThreshold()).isEqualTo(1);
+        assertThat(getBaseConfiguration().build().getParallelHydrationThreshold()).isZero();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> getBaseConfiguration().parallelHydrationThreshold(-1).build());
+    }
+
+    @Test
+    public void shouldReturnEntitiesInTheSameOrderAsSequentialMapping() {
+
+        Function<Session, Collection<Individual>> loadAll = session -> session
+            .loadAll(Individual.class, new SortOrder().add(SortOrder.Direction.DESC, "age").add("name"), 1);
+
+        Collection<Individual> sequential = loadAll.apply(sequentialSessionFactory.openSession());
+        Collection<Individual> parallel = loadAll.apply(parallelSessionFactory.openSession());
+
+        assertThat(parallel).hasSize(NUMBER_OF_INDIVIDUALS);
+        assertThat(describe(parallel)).containsExactlyElementsOf(describe(sequential));
+    }
+
+    @Test
+    public void shouldReturnEntitiesOfCustomQueriesInTheSameOrderAsSequentialMapping() {
+
+        String cypher = "MATCH (n:Individual)-[r:FRIENDS]->(m) RETURN n, r, m ORDER BY n.age, n.name DESC";
+
+        Iterable<Individual> sequential = sequentialSessionFactory.openSession()
+            .query(Individual.class, cypher, Utils.map());
+        Iterable<Individual> parallel = parallelSessionFactory.openSession()
+            .query(Individual.class, cypher, Utils.map());
+
+        assertThat(describe(parallel)).containsExactlyElementsOf(describe(sequential));
+    }
+
+    @Test
+    public void shouldRegisterEachEntityOnlyOnce() {
+
+        Session session = parallelSessionFactory.openSession();
+        Collection<Individual> individuals = session.loadAll(Individual.class, 1);
+        assertThat(individuals).hasSize(NUMBER_OF_INDIVIDUALS);
+
+        for (Individual individual : individuals) {
+            assertThat(session.load(Individual.class, individual.getId(), 0)).isSameAs(individual);
+            for (Individual friend : individual.getFriends()) {
+                assertThat(individuals).containsOnlyOnce(friend);
+            }
+        }
+    }
+
+    /**
+     * Describes each individual with its properties and the names of its friends in the order in which they have been
+     * wired.
+     */
+    private static List<String> describe(Iterable<Individual> individuals) {
+
+        List<String> descriptions = new ArrayList<>();
+        for (Individual individual : individuals) {
+            descriptions.add(individual.getId() + " " + individual.getName() + " " + individual.getAge() + " "
+                + individual.getPrimitiveIntArray()[1] + " " + individual.getFriends().stream()
+                .map(Individual::getName).collect(Collectors.toList()));
+        }
+        return descriptions;
+    }
+}
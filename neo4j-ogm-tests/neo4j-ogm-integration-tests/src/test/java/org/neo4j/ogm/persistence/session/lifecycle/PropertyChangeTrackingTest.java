@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.lifecycle;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+/**
+ * Saves with {@code track.property.changes} turned on, which only sends the changed properties of existing entities.
+ */
+public class PropertyChangeTrackingTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Neo4jSession session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(getBaseConfiguration().trackPropertyChanges(true).build(),
+            "org.neo4j.ogm.domain.social");
+        session = (Neo4jSession) sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    @After
+    public void closeSessionFactory() {
+        session.purgeDatabase();
+        sessionFactory.close();
+    }
+
+    @Test
+    public void shouldOnlySaveChangedProperties() {
+
+        Individual individual = newIndividual();
+        session.save(individual);
+
+        // perform an out-of-session update on another property
+        session.query("MATCH (n:Individual) SET n.age = 112", Utils.map());
+
+        individual.setName("Frodo");
+        session.save(individual);
+
+        assertThat(property("n.name")).isEqualTo("Frodo");
+        assertThat(((Number) property("n.age")).intValue()).isEqualTo(112);
+    }
+
+    @Test
+    public void shouldNotSaveUnchangedEntities() {
+
+        Individual individual = newIndividual();
+        session.save(individual);
+
+        session.query("MATCH (n:Individual) SET n.name = 'Frodo'", Utils.map());
+
+        assertThat(session.context().isDirty(individual)).isFalse();
+        session.save(individual);
+
+        assertThat(property("n.name")).isEqualTo("Frodo");
+    }
+
+    @Test
+    public void shouldDetectChangesInsidePrimitiveArrays() {
+
+        Individual individual = newIndividual();
+        individual.setPrimitiveIntArray(new int[] { 1, 2, 3 });
+        session.save(individual);
+        session.clear();
+
+        individual = session.load(Individual.class, individual.getId());
+        assertThat(session.context().isDirty(individual)).isFalse();
+
+        individual.getPrimitiveIntArray()[1] = 42;
+        assertThat(session.context().isDirty(individual)).isTrue();
+        session.save(individual);
+
+        assertThat(((Number) property("n.primitiveIntArray[1]")).intValue()).isEqualTo(42);
+    }
+
+    private static Individual newIndividual() {
+
+        Individual individual = new Individual();
+        individual.setName("Bilbo");
+        individual.setAge(111);
+        return individual;
+    }
+
+    private Object property(String expression) {
+
+        return session.query("MATCH (n:Individual) RETURN " + expression + " AS value", Utils.map())
+            .queryResults().iterator().next().get("value");
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.lifecycle;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.session.metrics.Operation;
+import org.neo4j.ogm.session.metrics.OperationMetrics;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+/**
+ * Checks the metrics reported for the operations of a session.
+ */
+public class SessionMetricsTest extends MultiDriverTestClass {
+
+    private static final int NUMBER_OF_INDIVIDUALS = 10;
+
+    private final List<OperationMetrics> recorded = Collections.synchronizedList(new ArrayList<>());
+
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void createSessionFactory() {
+        sessionFactory = new SessionFactory(getBaseConfiguration().build(), "org.neo4j.ogm.domain.social");
+        sessionFactory.openSession().purgeDatabase();
+        sessionFactory.setMetrics(recorded::add);
+    }
+
+    @After
+    public void purgeDatabase() {
+        sessionFactory.setMetrics(null);
+        sessionFactory.openSession().purgeDatabase();
+        sessionFactory.close();
+    }
+
+    @Test
+    public void shouldRecordOneOperationPerSessionCall() {
+
+        Session session = sessionFactory.openSession();
+        session.save(individuals());
+        session.query("MATCH (n:Individual) RETURN count(n)", Utils.map());
+
+        assertThat(recorded).extracting(OperationMetrics::getOperation)
+            .containsExactly(Operation.SAVE, Operation.QUERY);
+        OperationMetrics save = recorded.get(0);
+        assertThat(save.isFailed()).isFalse();
+        assertThat(save.getStatementCount()).isGreaterThan(0);
+        assertThat(save.getDurationNanos()).isGreaterThanOrEqualTo(save.getDriverNanos());
+        assertThat(save.getDriverNanos() + save.getMappingNanos()).isEqualTo(save.getDurationNanos());
+        assertThat(save.getMappingContextSize()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+        assertThat(recorded.get(1).getStatementCount()).isEqualTo(1L);
+        assertThat(recorded.get(1).getResultCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldRecordResultsAndMappingContextSizeOfLoads() {
+
+        sessionFactory.openSession().save(individuals());
+        recorded.clear();
+
+        Session session = sessionFactory.openSession();
+        Collection<Individual> individuals = session.loadAll(Individual.class, 0);
+        session.load(Individual.class, individuals.iterator().next().getId(), 0);
+
+        assertThat(recorded).extracting(OperationMetrics::getOperation)
+            .containsExactly(Operation.LOAD_ALL, Operation.LOAD);
+        assertThat(recorded.get(0).getStatementCount()).isEqualTo(1L);
+        assertThat(recorded.get(0).getResultCount()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+        assertThat(recorded.get(0).getMappingContextSize()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+        assertThat(recorded.get(1).getResultCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldRecordStreamsWhenTheyAreClosed() {
+
+        sessionFactory.openSession().save(individuals());
+        recorded.clear();
+
+        Session session = sessionFactory.openSession();
+        try (Stream<Individual> individuals = session.stream(Individual.class, new Filters(), 0)) {
+            assertThat(individuals.count()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+            assertThat(recorded).isEmpty();
+        }
+        try (Stream<Individual> individuals = session.queryStream(Individual.class,
+            "MATCH (n:Individual) RETURN n", Utils.map())) {
+            assertThat(individuals.count()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+            assertThat(recorded).hasSize(1);
+        }
+
+        assertThat(recorded).extracting(OperationMetrics::getOperation)
+            .containsExactly(Operation.LOAD_ALL, Operation.QUERY);
+        assertThat(recorded).extracting(OperationMetrics::getResultCount)
+            .containsExactly((long) NUMBER_OF_INDIVIDUALS, (long) NUMBER_OF_INDIVIDUALS);
+        assertThat(recorded.get(0).getMappingContextSize()).isEqualTo(NUMBER_OF_INDIVIDUALS);
+    }
+
+    @Test
+    public void shouldRecordDirtyChecks() {
+
+        sessionFactory.openSession().save(individuals());
+
+        Session session = sessionFactory.openSession();
+        Collection<Individual> individuals = session.loadAll(Individual.class, 0);
+        recorded.clear();
+
+        session.save(individuals, 0);
+        individuals.iterator().next().setAge(99);
+        session.save(individuals, 0);
+
+        assertThat(recorded).hasSize(2);
+        OperationMetrics unchanged = recorded.get(0);
+        assertThat(unchanged.getDirtyCheckCount()).isGreaterThanOrEqualTo(NUMBER_OF_INDIVIDUALS);
+        assertThat(unchanged.getDirtyCheckHitCount()).isEqualTo(unchanged.getDirtyCheckCount());
+        OperationMetrics changed = recorded.get(1);
+        assertThat(changed.getDirtyCheckHitCount()).isLessThan(changed.getDirtyCheckCount());
+        assertThat(changed.getStatementCount()).isGreaterThan(0L);
+    }
+
+    @Test
+    public void shouldRecordFailedOperations() {
+
+        Session session = sessionFactory.openSession();
+        assertThatExceptionOfType(RuntimeException.class)
+            .isThrownBy(() -> session.query("THIS IS NOT CYPHER", Utils.map()));
+
+        assertThat(recorded).hasSize(1);
+        assertThat(recorded.get(0).getOperation()).isEqualTo(Operation.QUERY);
+        assertThat(recorded.get(0).isFailed()).isTrue();
+    }
+
+    @Test
+    public void shouldNotRecordAsynchronousSavesNorMissOperationsRunningMeanwhile() throws Exception {
+
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        sessionFactory.register(new EventListenerAdapter() {
+            @Override
+            public void onPreSave(Event event) {
+                saving.countDown();
+                try {
+                    proceed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        sessionFactory.setAsyncExecutor(executor);
+        try {
+            Session session = sessionFactory.openSession();
+            CompletionStage<Void> save = session.saveAsync(individuals().get(0));
+            assertThat(saving.await(10, TimeUnit.SECONDS)).isTrue();
+
+            session.query("RETURN 1", Utils.map());
+            proceed.countDown();
+            save.toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(recorded).extracting(OperationMetrics::getOperation).containsExactly(Operation.QUERY);
+        assertThat(recorded.get(0).getStatementCount()).isEqualTo(1L);
+    }
+
+    private static List<Individual> individuals() {
+        List<Individual> individuals = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_INDIVIDUALS; i++) {
+            Individual individual = new Individual();
+            individual.setName("Individual " + i);
+            individual.setAge(i);
+            individuals.add(individual);
+        }
+        return individuals;
+    }
+}
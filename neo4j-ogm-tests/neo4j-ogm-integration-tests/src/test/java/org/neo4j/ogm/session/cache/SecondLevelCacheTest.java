@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cache.City;
+import org.neo4j.ogm.domain.cache.Country;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Loads reference data through the second-level cache shared by the sessions of a session factory.
+ */
+public class SecondLevelCacheTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private SecondLevelCache cache;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(getBaseConfiguration().secondLevelCache(true).build(),
+            "org.neo4j.ogm.domain.cache");
+        cache = sessionFactory.getSecondLevelCache();
+        sessionFactory.openSession().purgeDatabase();
+
+        Country germany = new Country("DE", "Germany");
+        germany.getCities().add(new City("Berlin"));
+        sessionFactory.openSession().save(germany);
+        sessionFactory.openSession().save(new Country("SE", "Sweden"));
+    }
+
+    @After
+    public void closeSessionFactory() {
+        sessionFactory.openSession().purgeDatabase();
+        sessionFactory.close();
+    }
+
+    @Test
+    public void shouldShareLoadedEntitiesAcrossSessions() {
+
+        Country loaded = sessionFactory.openSession().load(Country.class, "DE");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        // not seen by the cache
+        sessionFactory.openSession().query("MATCH (c:Country) SET c.name = 'Deutschland'", Utils.map());
+
+        Country cached = sessionFactory.openSession().load(Country.class, "DE");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cached).isNotSameAs(loaded);
+        assertThat(cached.getName()).isEqualTo("Germany");
+        assertThat(cached.getCities()).extracting(City::getName).containsExactly("Berlin");
+    }
+
+    @Test
+    public void shouldNotCacheClassesWithoutAnnotation() {
+
+        Long id = sessionFactory.openSession().load(Country.class, "DE").getCities().get(0).getId();
+        long missCount = cache.getMissCount();
+
+        sessionFactory.openSession().load(City.class, id);
+        sessionFactory.openSession().load(City.class, id);
+        assertThat(cache.getMissCount()).isEqualTo(missCount);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void shouldLoadMultipleEntitiesFromCache() {
+
+        sessionFactory.openSession().loadAll(Country.class, Arrays.asList("DE", "SE"));
+        Collection<Country> countries = sessionFactory.openSession().loadAll(Country.class, Arrays.asList("DE", "SE"));
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(countries).extracting(Country::getName).containsExactly("Germany", "Sweden");
+    }
+
+    @Test
+    public void shouldNotCacheMissingEntities() {
+
+        assertThat(sessionFactory.openSession().load(Country.class, "NO")).isNull();
+        sessionFactory.openSession().save(new Country("NO", "Norway"));
+
+        assertThat(sessionFactory.openSession().load(Country.class, "NO").getName()).isEqualTo("Norway");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void shouldNotCachePartlyMissingEntities() {
+
+        assertThat(sessionFactory.openSession().loadAll(Country.class, Arrays.asList("DE", "NO"))).hasSize(1);
+        sessionFactory.openSession().save(new Country("NO", "Norway"));
+
+        Collection<Country> countries = sessionFactory.openSession().loadAll(Country.class, Arrays.asList("DE", "NO"));
+        assertThat(countries).extracting(Country::getName).containsExactly("Germany", "Norway");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateSavedEntities() {
+
+        Session session = sessionFactory.openSession();
+        Country country = session.load(Country.class, "DE");
+        country.setName("Deutschland");
+        session.save(country);
+
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+        assertThat(sessionFactory.openSession().load(Country.class, "DE").getName()).isEqualTo("Deutschland");
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Sweden");
+    }
+
+    @Test
+    public void shouldInvalidateEntitiesRelatedToSavedEntities() {
+
+        Session session = sessionFactory.openSession();
+        City city = session.load(Country.class, "DE").getCities().get(0);
+
+        Session otherSession = sessionFactory.openSession();
+        City sameCity = otherSession.load(City.class, city.getId());
+        sameCity.setName("Bonn");
+        otherSession.save(sameCity);
+
+        assertThat(sessionFactory.openSession().load(Country.class, "DE").getCities())
+            .extracting(City::getName).containsExactly("Bonn");
+    }
+
+    @Test
+    public void shouldInvalidateDeletedEntities() {
+
+        Session session = sessionFactory.openSession();
+        session.delete(session.load(Country.class, "DE").getCities().get(0));
+
+        assertThat(sessionFactory.openSession().load(Country.class, "DE").getCities()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotCacheUncommittedChanges() {
+
+        Session session = sessionFactory.openSession();
+        try (Transaction transaction = session.beginTransaction()) {
+            Country country = session.load(Country.class, "DE");
+            country.setName("Deutschland");
+            session.save(country);
+
+            assertThat(sessionFactory.openSession().load(Country.class, "DE").getName()).isEqualTo("Germany");
+            session.clear();
+            assertThat(session.load(Country.class, "DE").getName()).isEqualTo("Deutschland");
+            transaction.rollback();
+        }
+
+        assertThat(sessionFactory.openSession().load(Country.class, "DE").getName()).isEqualTo("Germany");
+    }
+
+    @Test
+    public void shouldInvalidateChangesOnCommit() {
+
+        Session session = sessionFactory.openSession();
+        try (Transaction transaction = session.beginTransaction()) {
+            Country country = session.load(Country.class, "DE");
+            country.setName("Deutschland");
+            session.save(country);
+
+            // caches the committed state again
+            assertThat(sessionFactory.openSession().load(Country.class, "DE").getName()).isEqualTo("Germany");
+            transaction.commit();
+        }
+
+        assertThat(sessionFactory.openSession().load(Country.class, "DE").getName()).isEqualTo("Deutschland");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
+
+public class NodeEntityQueryKeysetPagingTest {
+
+    private final NodeQueryStatements<Long> queryStatements = new NodeQueryStatements<>();
+    private final KeysetPagination secondPage = KeysetPagination
+        .after(KeysetPagination.cursorOf(asList("Rex", 3), 42L), 2);
+    private Filters filters = new Filters().add(new Filter("name", ComparisonOperator.EQUALS, "velociraptor"));
+
+    @Test
+    public void testFindFirstPageByType() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1)
+            .setKeysetPagination(KeysetPagination.first(2));
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).containsOnly(entry("limit", 2));
+    }
+
+    @Test
+    public void testFindPageByType() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().asc("name").desc("age"))
+            .setKeysetPagination(secondPage);
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE (n.name > { keyset_0 }) "
+            + "OR (n.name = { keyset_0 } AND n.age < { keyset_1 }) "
+            + "OR (n.name = { keyset_0 } AND n.age = { keyset_1 } AND ID(n) > { keyset_2 }) "
+            + "WITH * ORDER BY n.name,n.age DESC,ID(n) LIMIT { limit } RETURN n");
+        assertThat(query.getParameters())
+            .containsEntry("keyset_0", "Rex")
+            .containsEntry("keyset_1", 3L)
+            .containsEntry("keyset_2", 42L)
+            .containsEntry("limit", 2)
+            .doesNotContainKey("skip");
+    }
+
+    @Test
+    public void testFindPageByProperty() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 1)
+            .setKeysetPagination(KeysetPagination.after(KeysetPagination.cursorOf(emptyList(), 42L), 2));
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n "
+            + "WHERE (ID(n) > { keyset_0 }) WITH * ORDER BY ID(n) LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).containsEntry("name_0", "velociraptor").containsEntry("keyset_0", 42L);
+    }
+
+    @Test
+    public void shouldRejectMalformedCursors() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetPagination.after("not a cursor", 2));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> KeysetPagination.after(KeysetPagination.cursorOf(emptyList(), null), 2));
+    }
+}
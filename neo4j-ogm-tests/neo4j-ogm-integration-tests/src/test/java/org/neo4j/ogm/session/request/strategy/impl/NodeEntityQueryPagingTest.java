@@ -42,39 +42,39 @@ public class NodeEntityQueryPagingTest {
     @Test
     public void testFindByType() {
         assertThat(queryStatements.findByType("Raptor", 1).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByTypeZeroDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
     public void testFindByTypeInfiniteDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", -1).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByProperty() {
         assertThat(queryStatements.findByType("Raptor", filters, 2).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByPropertyZeroDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
     public void testFindByPropertyInfiniteDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, -1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
@@ -82,14 +82,14 @@ public class NodeEntityQueryPagingTest {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), 1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindAllByTypeZeroDepth() throws Exception {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
@@ -97,7 +97,7 @@ public class NodeEntityQueryPagingTest {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), -1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
@@ -106,7 +106,21 @@ public class NodeEntityQueryPagingTest {
         pagination.setOffset(3);
         PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1).setPagination(pagination);
         assertThat(query.getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 3 LIMIT 5 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).containsEntry("skip", 3).containsEntry("limit", 5);
     }
 
+    @Test
+    public void shouldPassSkipAndLimitAsParameters() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 1).setPagination(paging);
+        assertThat(query.getParameters())
+            .containsEntry("name_0", "velociraptor")
+            .containsEntry("skip", 4)
+            .containsEntry("limit", 2);
+
+        PagingAndSortingQuery nextPage = queryStatements.findByType("Raptor", filters, 1)
+            .setPagination(new Pagination(3, 2));
+        assertThat(nextPage.getStatement()).isEqualTo(query.getStatement());
+        assertThat(nextPage.getParameters()).containsEntry("skip", 6);
+    }
 }
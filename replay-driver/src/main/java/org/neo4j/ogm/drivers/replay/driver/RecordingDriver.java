@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.driver;
+
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.driver.ExceptionTranslator;
+import org.neo4j.ogm.driver.TypeSystem;
+import org.neo4j.ogm.drivers.replay.recording.RecordingWriter;
+import org.neo4j.ogm.drivers.replay.request.RecordingRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * A driver recording all requests executed through another driver, together with their complete responses, so that
+ * they can be replayed by the {@link ReplayDriver} without a database:
+ * <pre>
+ * BoltDriver boltDriver = new BoltDriver();
+ * boltDriver.configure(configuration);
+ * SessionFactory sessionFactory = new SessionFactory(new RecordingDriver(boltDriver, recording), packages);
+ * // run the workload
+ * sessionFactory.close();
+ * </pre>
+ * The recording is complete once the driver has been closed. Responses are read completely before they are returned,
+ * so recording adds to the time of each request. Non-blocking requests are not supported.
+ *
+ * @since 3.2.2
+ */
+public class RecordingDriver implements Driver {
+
+    private final Driver delegate;
+    private final RecordingWriter writer;
+
+    /**
+     * @param delegate  The configured driver executing the requests
+     * @param recording The file of the recording, an existing file is replaced
+     */
+    public RecordingDriver(Driver delegate, Path recording) {
+        this.delegate = delegate;
+        this.writer = new RecordingWriter(recording);
+    }
+
+    @Override
+    public void configure(Configuration config) {
+        delegate.configure(config);
+    }
+
+    @Override
+    public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+        return delegate.getTransactionFactorySupplier();
+    }
+
+    @Override
+    public void close() {
+
+        try {
+            delegate.close();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Override
+    public Request request(Transaction transaction) {
+        return new RecordingRequest(delegate.request(transaction), writer);
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public Function<String, String> getCypherModification() {
+        return delegate.getCypherModification();
+    }
+
+    @Override
+    public boolean requiresTransaction() {
+        return delegate.requiresTransaction();
+    }
+
+    @Override
+    public TypeSystem getTypeSystem() {
+        return delegate.getTypeSystem();
+    }
+
+    @Override
+    public ExceptionTranslator getExceptionTranslator() {
+        return delegate.getExceptionTranslator();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz) {
+        return delegate.unwrap(clazz);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.driver;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.drivers.replay.recording.Exchange;
+import org.neo4j.ogm.drivers.replay.recording.RecordedExchanges;
+import org.neo4j.ogm.drivers.replay.recording.RecordingReader;
+import org.neo4j.ogm.drivers.replay.request.ReplayRequest;
+import org.neo4j.ogm.drivers.replay.transaction.ReplayTransaction;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * A driver answering requests with the responses recorded by the {@link RecordingDriver}, without any I/O. Sessions
+ * using it spend their time in Neo4j-OGM only, which makes it suitable for profiling and benchmarking the mapping
+ * with realistic data.
+ * <p>
+ * Requests are matched to recorded ones by their statements, see
+ * {@link RecordedExchanges#next(Exchange.Kind, List, List)}. Statements that have not been recorded fail with an
+ * {@link IllegalStateException}. Nothing is written, new entities saved during replays are assigned the ids returned
+ * by the recorded responses.
+ *
+ * @since 3.2.2
+ */
+public class ReplayDriver extends AbstractConfigurableDriver {
+
+    private final RecordedExchanges exchanges;
+
+    /**
+     * @param recording The file of a recording written by the {@link RecordingDriver}
+     */
+    public ReplayDriver(Path recording) {
+        this(RecordingReader.read(recording));
+    }
+
+    /**
+     * @param exchanges The exchanges to replay, in the order they have been recorded
+     */
+    public ReplayDriver(List<Exchange> exchanges) {
+        this.exchanges = new RecordedExchanges(exchanges);
+        configure(new Configuration.Builder().build());
+    }
+
+    @Override
+    public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+        return transactionManager -> (type, bookmarks) -> new ReplayTransaction(transactionManager, type);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public Request request(Transaction transaction) {
+        return new ReplayRequest(exchanges);
+    }
+
+    @Override
+    protected String getTypeSystemName() {
+        throw new UnsupportedOperationException("The replay driver doesn't support a native type system.");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.neo4j.ogm.model.QueryStatistics;
+
+/**
+ * One recorded request and the complete response to it.
+ *
+ * @since 3.2.2
+ */
+public final class Exchange {
+
+    /**
+     * The kinds of requests, one for each execute method of {@link org.neo4j.ogm.request.Request}.
+     */
+    public enum Kind {
+        GRAPH, ROW, DEFAULT, GRAPH_ROW_LIST, REST
+    }
+
+    private final Kind kind;
+    private final List<String> statements;
+    private final List<Map<String, Object>> parameters;
+    private final String[] columns;
+    private final QueryStatistics statistics;
+    private final List<Object> models;
+
+    /**
+     * @param kind       The kind of the request
+     * @param statements The Cypher statements of the request, one for all kinds but {@link Kind#DEFAULT}
+     * @param parameters The parameters of each statement after parameter conversion
+     * @param columns    The columns of the response
+     * @param statistics The statistics of the response, may be null
+     * @param models     The models returned by the response
+     */
+    public Exchange(Kind kind, List<String> statements, List<Map<String, Object>> parameters, String[] columns,
+        QueryStatistics statistics, List<Object> models) {
+
+        this.kind = kind;
+        this.statements = Collections.unmodifiableList(statements);
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.columns = columns;
+        this.statistics = statistics;
+        this.models = Collections.unmodifiableList(models);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public List<Map<String, Object>> getParameters() {
+        return parameters;
+    }
+
+    public String[] getColumns() {
+        return columns;
+    }
+
+    public Optional<QueryStatistics> getStatistics() {
+        return Optional.ofNullable(statistics);
+    }
+
+    public List<Object> getModels() {
+        return models;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the recorded exchange answering a request. Exchanges are matched by the kind and the statements of the
+ * request. Of all exchanges with the same statements, the next one in recording order with the same parameters is
+ * chosen, or the next one in recording order if none has the same parameters. This keeps replays deterministic
+ * when parameters like the ids of new entities differ from the recording. Exchanges are replayed over and over again
+ * once all of them have been used.
+ *
+ * @since 3.2.2
+ */
+public final class RecordedExchanges {
+
+    private final Map<List<Object>, Candidates> candidatesByRequest = new HashMap<>();
+
+    /**
+     * @param exchanges The exchanges in the order they have been recorded
+     */
+    public RecordedExchanges(List<Exchange> exchanges) {
+
+        for (Exchange exchange : exchanges) {
+            candidatesByRequest
+                .computeIfAbsent(key(exchange.getKind(), exchange.getStatements()), key -> new Candidates())
+                .add(exchange);
+        }
+    }
+
+    /**
+     * @param kind       The kind of the request
+     * @param statements The Cypher statements of the request
+     * @param parameters The parameters of each statement after parameter conversion
+     * @return The exchange answering the request
+     * @throws IllegalStateException if no exchange has been recorded for the statements
+     */
+    public synchronized Exchange next(Exchange.Kind kind, List<String> statements,
+        List<Map<String, Object>> parameters) {
+
+        Candidates candidates = candidatesByRequest.get(key(kind, statements));
+        if (candidates == null) {
+            throw new IllegalStateException("No response has been recorded for " + kind + " request " + statements);
+        }
+        return candidates.next(parameters);
+    }
+
+    private static List<Object> key(Exchange.Kind kind, List<String> statements) {
+        return Arrays.asList(kind, statements);
+    }
+
+    private static class Candidates {
+
+        private final List<Exchange> exchanges = new ArrayList<>();
+
+        /**
+         * Positions of the exchanges in {@link #exchanges}, by their parameters.
+         */
+        private final Map<List<Map<String, Object>>, List<Integer>> positionsByParameters = new HashMap<>();
+
+        private int next;
+
+        void add(Exchange exchange) {
+
+            positionsByParameters.computeIfAbsent(exchange.getParameters(), parameters -> new ArrayList<>())
+                .add(exchanges.size());
+            exchanges.add(exchange);
+        }
+
+        Exchange next(List<Map<String, Object>> parameters) {
+
+            int position = next;
+            if (!exchanges.get(position).getParameters().equals(parameters)) {
+                List<Integer> positions = positionsByParameters.getOrDefault(parameters, Collections.emptyList());
+                if (!positions.isEmpty()) {
+                    // The exchange at next has other parameters, so next is never found
+                    int following = -Collections.binarySearch(positions, next) - 1;
+                    position = positions.get(following < positions.size() ? following : 0);
+                }
+            }
+            next = (position + 1) % exchanges.size();
+            return exchanges.get(position);
+        }
+    }
+}
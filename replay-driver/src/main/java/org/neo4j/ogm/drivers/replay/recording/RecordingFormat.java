@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.ogm.support.ClassUtils;
+
+/**
+ * Constants of the binary format of recordings. A recording is a GZIP compressed stream of
+ * <ul>
+ * <li>the magic number and the version of the format,</li>
+ * <li>the exchanges, each starting with the ordinal of its kind plus one,</li>
+ * <li>{@link #END_OF_RECORDING}.</li>
+ * </ul>
+ * Each value is written as a tag followed by its content. Names like labels, property keys, relationship types and
+ * columns are written once and referred to by their index afterwards.
+ *
+ * @since 3.2.2
+ */
+final class RecordingFormat {
+
+    static final int MAGIC = 0x4f474d52;
+    static final int VERSION = 1;
+
+    static final byte END_OF_RECORDING = 0;
+
+    static final int NEW_NAME = -1;
+    static final int NULL_NAMES = -1;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INT = 3;
+    static final byte LONG = 4;
+    static final byte DOUBLE = 5;
+    static final byte FLOAT = 6;
+    static final byte SHORT = 7;
+    static final byte BYTE = 8;
+    static final byte CHAR = 9;
+    static final byte STRING = 10;
+    static final byte BYTES = 11;
+    static final byte LIST = 12;
+    static final byte ARRAY = 13;
+    static final byte MAP = 14;
+    static final byte NODE = 15;
+    static final byte RELATIONSHIP = 16;
+    static final byte TEMPORAL = 17;
+
+    /**
+     * Parsers of the temporal types, keyed by class name. Temporal values are written as their ISO-8601 representation.
+     */
+    static final Map<String, Function<String, Object>> TEMPORAL_PARSERS = new HashMap<>();
+
+    static {
+        TEMPORAL_PARSERS.put(LocalDate.class.getName(), LocalDate::parse);
+        TEMPORAL_PARSERS.put(LocalTime.class.getName(), LocalTime::parse);
+        TEMPORAL_PARSERS.put(LocalDateTime.class.getName(), LocalDateTime::parse);
+        TEMPORAL_PARSERS.put(OffsetTime.class.getName(), OffsetTime::parse);
+        TEMPORAL_PARSERS.put(OffsetDateTime.class.getName(), OffsetDateTime::parse);
+        TEMPORAL_PARSERS.put(ZonedDateTime.class.getName(), ZonedDateTime::parse);
+        TEMPORAL_PARSERS.put(Instant.class.getName(), Instant::parse);
+        TEMPORAL_PARSERS.put(Duration.class.getName(), Duration::parse);
+        TEMPORAL_PARSERS.put(Period.class.getName(), Period::parse);
+    }
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[] { boolean.class, byte.class, char.class, short.class, int.class, long.class,
+            float.class, double.class }) {
+            PRIMITIVE_TYPES.put(type.getName(), type);
+        }
+    }
+
+    /**
+     * @param name The name of the component type of an array
+     * @return The component type
+     * @throws ClassNotFoundException if the component type is not a primitive and cannot be loaded
+     */
+    static Class<?> componentType(String name) throws ClassNotFoundException {
+
+        Class<?> type = PRIMITIVE_TYPES.get(name);
+        return type != null ? type : Class.forName(name, false, ClassUtils.getDefaultClassLoader());
+    }
+
+    private RecordingFormat() {
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import static org.neo4j.ogm.drivers.replay.recording.RecordingFormat.*;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
+import org.neo4j.ogm.response.model.DefaultRestModel;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.QueryStatisticsModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * Reads the exchanges of a recording written by {@link RecordingWriter}.
+ *
+ * @since 3.2.2
+ */
+public final class RecordingReader {
+
+    private final DataInputStream in;
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Reads a complete recording into memory.
+     *
+     * @param file The file of the recording
+     * @return The exchanges in the order they have been recorded
+     */
+    public static List<Exchange> read(Path file) {
+
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            return new RecordingReader(in).readExchanges(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recording " + file, e);
+        }
+    }
+
+    private RecordingReader(DataInputStream in) {
+        this.in = in;
+    }
+
+    private List<Exchange> readExchanges(Path file) throws IOException {
+
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a recording");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version " + version + " of recording " + file);
+        }
+
+        Exchange.Kind[] kinds = Exchange.Kind.values();
+        List<Exchange> exchanges = new ArrayList<>();
+        for (byte kind = in.readByte(); kind != END_OF_RECORDING; kind = in.readByte()) {
+            exchanges.add(readExchange(kinds[kind - 1]));
+        }
+        return exchanges;
+    }
+
+    private Exchange readExchange(Exchange.Kind kind) throws IOException {
+
+        int statementCount = in.readInt();
+        List<String> statements = new ArrayList<>(statementCount);
+        List<Map<String, Object>> parameters = new ArrayList<>(statementCount);
+        for (int i = 0; i < statementCount; i++) {
+            statements.add(readText());
+            parameters.add((Map<String, Object>) readValue());
+        }
+        String[] columns = readNames();
+        QueryStatistics statistics = readStatistics();
+
+        int modelCount = in.readInt();
+        List<Object> models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            readModel(kind, models);
+        }
+        return new Exchange(kind, statements, parameters, columns, statistics, models);
+    }
+
+    private void readModel(Exchange.Kind kind, List<Object> models) throws IOException {
+
+        switch (kind) {
+            case GRAPH:
+                models.add(readGraph());
+                break;
+            case ROW:
+            case DEFAULT:
+                String[] variables = readNames();
+                models.add(new DefaultRowModel(readValues(), variables));
+                break;
+            case GRAPH_ROW_LIST:
+                DefaultGraphRowListModel graphRowListModel = new DefaultGraphRowListModel();
+                int rowCount = in.readInt();
+                for (int i = 0; i < rowCount; i++) {
+                    DefaultGraphModel graph = readGraph();
+                    graphRowListModel.add(new DefaultGraphRowModel(graph, readValues()));
+                }
+                models.add(graphRowListModel);
+                break;
+            case REST:
+                DefaultRestModel.basedOn((Map<String, Object>) readValue()).ifPresent(models::add);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported kind of request " + kind);
+        }
+    }
+
+    private DefaultGraphModel readGraph() throws IOException {
+
+        DefaultGraphModel graph = new DefaultGraphModel();
+        int nodeCount = in.readInt();
+        for (int i = 0; i < nodeCount; i++) {
+            graph.addNode(readNode());
+        }
+        int relationshipCount = in.readInt();
+        for (int i = 0; i < relationshipCount; i++) {
+            graph.addRelationship(readRelationship());
+        }
+        return graph;
+    }
+
+    private NodeModel readNode() throws IOException {
+
+        NodeModel node = new NodeModel(in.readLong());
+        node.setLabels(readNames());
+        node.setProperties(readProperties());
+        return node;
+    }
+
+    private RelationshipModel readRelationship() throws IOException {
+
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(in.readLong());
+        relationship.setType(readName());
+        relationship.setStartNode(in.readLong());
+        relationship.setEndNode(in.readLong());
+        relationship.setProperties(readProperties());
+        return relationship;
+    }
+
+    private Map<String, Object> readProperties() throws IOException {
+
+        int size = in.readInt();
+        Map<String, Object> properties = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            String key = readName();
+            properties.put(key, readValue());
+        }
+        return properties;
+    }
+
+    private QueryStatistics readStatistics() throws IOException {
+
+        if (!in.readBoolean()) {
+            return null;
+        }
+        QueryStatisticsModel statistics = new QueryStatisticsModel();
+        statistics.setContains_updates(in.readBoolean());
+        statistics.setNodes_created(in.readInt());
+        statistics.setNodes_deleted(in.readInt());
+        statistics.setProperties_set(in.readInt());
+        statistics.setRelationships_created(in.readInt());
+        statistics.setRelationships_deleted(in.readInt());
+        statistics.setLabels_added(in.readInt());
+        statistics.setLabels_removed(in.readInt());
+        statistics.setIndexes_added(in.readInt());
+        statistics.setIndexes_removed(in.readInt());
+        statistics.setConstraints_added(in.readInt());
+        statistics.setConstraints_removed(in.readInt());
+        return statistics;
+    }
+
+    private Object[] readValues() throws IOException {
+
+        Object[] values = new Object[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readValue();
+        }
+        return values;
+    }
+
+    private Object readValue() throws IOException {
+
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return false;
+            case TRUE:
+                return true;
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHAR:
+                return in.readChar();
+            case STRING:
+                return readText();
+            case BYTES:
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return bytes;
+            case LIST:
+                int size = in.readInt();
+                List<Object> elements = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    elements.add(readValue());
+                }
+                return elements;
+            case ARRAY:
+                return readArray();
+            case MAP:
+                return readProperties();
+            case NODE:
+                return readNode();
+            case RELATIONSHIP:
+                return readRelationship();
+            case TEMPORAL:
+                String type = readName();
+                return TEMPORAL_PARSERS.get(type).apply(readText());
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+
+    private Object readArray() throws IOException {
+
+        String componentType = readName();
+        Object array;
+        try {
+            array = Array.newInstance(componentType(componentType), in.readInt());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown component type " + componentType, e);
+        }
+        for (int i = 0; i < Array.getLength(array); i++) {
+            Array.set(array, i, readValue());
+        }
+        return array;
+    }
+
+    private String[] readNames() throws IOException {
+
+        int length = in.readInt();
+        if (length == NULL_NAMES) {
+            return null;
+        }
+        String[] values = new String[length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readName();
+        }
+        return values;
+    }
+
+    private String readName() throws IOException {
+
+        int index = in.readInt();
+        if (index != NEW_NAME) {
+            return names.get(index);
+        }
+        String name = readText();
+        names.add(name);
+        return name;
+    }
+
+    private String readText() throws IOException {
+
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
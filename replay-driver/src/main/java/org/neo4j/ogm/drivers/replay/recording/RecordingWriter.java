@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import static org.neo4j.ogm.drivers.replay.recording.RecordingFormat.*;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+
+/**
+ * Writes exchanges to a recording file as they happen. The recording is complete once the writer is closed.
+ * <p>
+ * Values are restricted to what the drivers return without native types: {@code null}, booleans, numbers, characters,
+ * strings, byte arrays, lists, arrays, maps with string keys, nodes and relationships. The temporal types of {@code java.time} are
+ * supported as well.
+ *
+ * @since 3.2.2
+ */
+public class RecordingWriter implements Closeable {
+
+    private final DataOutputStream file;
+
+    /**
+     * Buffers the exchange being written, so that the recording stays intact if it contains an unsupported value.
+     */
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private final Map<String, Integer> names = new HashMap<>();
+
+    /**
+     * Creates a new recording, replacing an existing file.
+     *
+     * @param file The file of the recording
+     */
+    public RecordingWriter(Path file) {
+
+        try {
+            this.file = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))));
+            this.file.writeInt(MAGIC);
+            this.file.writeInt(VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create recording " + file, e);
+        }
+    }
+
+    /**
+     * Appends an exchange to the recording.
+     *
+     * @param exchange The exchange to record
+     * @throws IllegalArgumentException if the exchange contains a value of an unsupported type, the exchange is not
+     *                                  recorded then
+     */
+    public synchronized void write(Exchange exchange) {
+
+        buffer.reset();
+        int knownNames = names.size();
+        try {
+            out.writeByte(exchange.getKind().ordinal() + 1);
+
+            out.writeInt(exchange.getStatements().size());
+            for (int i = 0; i < exchange.getStatements().size(); i++) {
+                writeText(exchange.getStatements().get(i));
+                writeValue(exchange.getParameters().get(i));
+            }
+            writeNames(exchange.getColumns());
+            writeStatistics(exchange.getStatistics().orElse(null));
+
+            out.writeInt(exchange.getModels().size());
+            for (Object model : exchange.getModels()) {
+                writeModel(exchange.getKind(), model);
+            }
+            out.flush();
+            buffer.writeTo(file);
+        } catch (IllegalArgumentException e) {
+            names.values().removeIf(index -> index >= knownNames);
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to recording", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+
+        try {
+            file.writeByte(END_OF_RECORDING);
+            file.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close recording", e);
+        }
+    }
+
+    private void writeModel(Exchange.Kind kind, Object model) throws IOException {
+
+        switch (kind) {
+            case GRAPH:
+                writeGraph((GraphModel) model);
+                break;
+            case ROW:
+            case DEFAULT:
+                RowModel rowModel = (RowModel) model;
+                writeNames(rowModel.variables());
+                writeValues(rowModel.getValues());
+                break;
+            case GRAPH_ROW_LIST:
+                List<GraphRowModel> graphRowModels = ((GraphRowListModel) model).model();
+                out.writeInt(graphRowModels.size());
+                for (GraphRowModel graphRowModel : graphRowModels) {
+                    writeGraph(graphRowModel.getGraph());
+                    writeValues(graphRowModel.getRow());
+                }
+                break;
+            case REST:
+                writeValue(((RestModel) model).getRow());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported kind of request " + kind);
+        }
+    }
+
+    private void writeGraph(GraphModel graph) throws IOException {
+
+        out.writeInt(graph.getNodes().size());
+        for (Node node : graph.getNodes()) {
+            writeNode(node);
+        }
+        out.writeInt(graph.getRelationships().size());
+        for (Edge relationship : graph.getRelationships()) {
+            writeRelationship(relationship);
+        }
+    }
+
+    private void writeNode(Node node) throws IOException {
+
+        out.writeLong(node.getId());
+        writeNames(node.getLabels());
+        writeProperties(node.getPropertyList());
+    }
+
+    private void writeRelationship(Edge relationship) throws IOException {
+
+        out.writeLong(relationship.getId());
+        writeName(relationship.getType());
+        out.writeLong(relationship.getStartNode());
+        out.writeLong(relationship.getEndNode());
+        writeProperties(relationship.getPropertyList());
+    }
+
+    private void writeProperties(List<Property<String, Object>> properties) throws IOException {
+
+        out.writeInt(properties.size());
+        for (Property<String, Object> property : properties) {
+            writeName(property.getKey());
+            writeValue(property.getValue());
+        }
+    }
+
+    private void writeStatistics(QueryStatistics statistics) throws IOException {
+
+        out.writeBoolean(statistics != null);
+        if (statistics == null) {
+            return;
+        }
+        out.writeBoolean(statistics.containsUpdates());
+        out.writeInt(statistics.getNodesCreated());
+        out.writeInt(statistics.getNodesDeleted());
+        out.writeInt(statistics.getPropertiesSet());
+        out.writeInt(statistics.getRelationshipsCreated());
+        out.writeInt(statistics.getRelationshipsDeleted());
+        out.writeInt(statistics.getLabelsAdded());
+        out.writeInt(statistics.getLabelsRemoved());
+        out.writeInt(statistics.getIndexesAdded());
+        out.writeInt(statistics.getIndexesRemoved());
+        out.writeInt(statistics.getConstraintsAdded());
+        out.writeInt(statistics.getConstraintsRemoved());
+    }
+
+    private void writeValues(Object[] values) throws IOException {
+
+        out.writeInt(values.length);
+        for (Object value : values) {
+            writeValue(value);
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeText((String) value);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Collection) {
+            Collection<?> elements = (Collection<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(elements.size());
+            for (Object element : elements) {
+                writeValue(element);
+            }
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            out.writeByte(ARRAY);
+            writeName(value.getClass().getComponentType().getName());
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(Array.get(value, i));
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> entries = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(entries.size());
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new IllegalArgumentException("Cannot record maps with keys of type " + entry.getKey().getClass().getName());
+                }
+                writeName((String) entry.getKey());
+                writeValue(entry.getValue());
+            }
+        } else if (value instanceof Node) {
+            out.writeByte(NODE);
+            writeNode((Node) value);
+        } else if (value instanceof Edge) {
+            out.writeByte(RELATIONSHIP);
+            writeRelationship((Edge) value);
+        } else if (TEMPORAL_PARSERS.containsKey(value.getClass().getName())) {
+            out.writeByte(TEMPORAL);
+            writeName(value.getClass().getName());
+            writeText(value.toString());
+        } else {
+            throw new IllegalArgumentException("Cannot record values of type " + value.getClass().getName());
+        }
+    }
+
+    private void writeNames(String[] values) throws IOException {
+
+        if (values == null) {
+            out.writeInt(NULL_NAMES);
+            return;
+        }
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeName(value);
+        }
+    }
+
+    private void writeName(String name) throws IOException {
+
+        Integer index = names.get(name);
+        if (index != null) {
+            out.writeInt(index);
+        } else {
+            out.writeInt(NEW_NAME);
+            writeText(name);
+            names.put(name, names.size());
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.ogm.drivers.replay.recording.Exchange;
+import org.neo4j.ogm.drivers.replay.recording.RecordingWriter;
+import org.neo4j.ogm.drivers.replay.response.ReplayResponse;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes requests through the request handler of another driver and records them together with their complete
+ * responses. Requests whose statements or responses contain values that cannot be recorded are executed as usual,
+ * but left out of the recording.
+ *
+ * @since 3.2.2
+ */
+public class RecordingRequest implements Request {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordingRequest.class);
+
+    private final Request delegate;
+    private final RecordingWriter writer;
+
+    public RecordingRequest(Request delegate, RecordingWriter writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return record(Exchange.Kind.GRAPH, Collections.singletonList(query), delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return record(Exchange.Kind.ROW, Collections.singletonList(query), delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return record(Exchange.Kind.DEFAULT, query.getStatements(), delegate.execute(query));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return record(Exchange.Kind.GRAPH_ROW_LIST, Collections.singletonList(query), delegate.execute(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return record(Exchange.Kind.REST, Collections.singletonList(query), delegate.execute(query));
+    }
+
+    @Override
+    public boolean isPipelining() {
+        return delegate.isPipelining();
+    }
+
+    private <T> Response<T> record(Exchange.Kind kind, List<? extends Statement> statements, Response<T> response) {
+
+        List<Object> models = new ArrayList<>();
+        Exchange exchange;
+        try (Response<T> recordedResponse = response) {
+            for (T model = recordedResponse.next(); model != null; model = recordedResponse.next()) {
+                models.add(model);
+            }
+            exchange = new Exchange(kind, ReplayRequest.cypherOf(statements), ReplayRequest.parametersOf(statements),
+                recordedResponse.columns(), recordedResponse.getStatistics().orElse(null), models);
+        }
+        try {
+            writer.write(exchange);
+        } catch (IllegalArgumentException e) {
+            // The request has been executed already, so only the recording misses it
+            LOGGER.warn("Could not record the response to {}, leaving it out of the recording",
+                exchange.getStatements(), e);
+        }
+        return new ReplayResponse<>(exchange);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.request;
+
+import static java.util.stream.Collectors.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.driver.ParameterConversion.DefaultParameterConversion;
+import org.neo4j.ogm.drivers.replay.recording.Exchange;
+import org.neo4j.ogm.drivers.replay.recording.RecordedExchanges;
+import org.neo4j.ogm.drivers.replay.response.ReplayResponse;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Answers requests with the responses of recorded exchanges.
+ *
+ * @since 3.2.2
+ */
+public class ReplayRequest implements Request {
+
+    private final RecordedExchanges exchanges;
+
+    public ReplayRequest(RecordedExchanges exchanges) {
+        this.exchanges = exchanges;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return replay(Exchange.Kind.GRAPH, Collections.singletonList(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return replay(Exchange.Kind.ROW, Collections.singletonList(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return replay(Exchange.Kind.DEFAULT, query.getStatements());
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return replay(Exchange.Kind.GRAPH_ROW_LIST, Collections.singletonList(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return replay(Exchange.Kind.REST, Collections.singletonList(query));
+    }
+
+    private <T> Response<T> replay(Exchange.Kind kind, List<? extends Statement> statements) {
+        return new ReplayResponse<>(exchanges.next(kind, cypherOf(statements), parametersOf(statements)));
+    }
+
+    static List<String> cypherOf(List<? extends Statement> statements) {
+        return statements.stream().map(Statement::getStatement).collect(toList());
+    }
+
+    /**
+     * Parameters are compared after the default conversion, so that they consist of maps, lists and simple values only,
+     * the same way they have been recorded.
+     */
+    static List<Map<String, Object>> parametersOf(List<? extends Statement> statements) {
+        return statements.stream()
+            .map(statement -> DefaultParameterConversion.INSTANCE.convertParameters(statement.getParameters()))
+            .collect(toList());
+    }
+}
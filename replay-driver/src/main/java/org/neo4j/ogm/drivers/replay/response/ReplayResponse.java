@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.response;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import org.neo4j.ogm.drivers.replay.recording.Exchange;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Returns the models of a recorded exchange. The models are shared by all responses of the same exchange.
+ *
+ * @param <T> The type of the models
+ * @since 3.2.2
+ */
+public class ReplayResponse<T> implements Response<T> {
+
+    private final Exchange exchange;
+    private final Iterator<Object> models;
+
+    public ReplayResponse(Exchange exchange) {
+        this.exchange = exchange;
+        this.models = exchange.getModels().iterator();
+    }
+
+    @Override
+    public T next() {
+        return models.hasNext() ? (T) models.next() : null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return exchange.getColumns();
+    }
+
+    @Override
+    public Optional<QueryStatistics> getStatistics() {
+        return exchange.getStatistics();
+    }
+}
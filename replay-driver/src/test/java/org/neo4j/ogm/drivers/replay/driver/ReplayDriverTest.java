@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.ogm.drivers.replay.recording.Exchange;
+import org.neo4j.ogm.drivers.replay.recording.RecordingReader;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+public class ReplayDriverTest {
+
+    private static final String STATEMENT = "MATCH (n) WHERE id(n) = $id RETURN n.name AS name";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplayRecordedResponses() throws IOException {
+
+        Path recording = temporaryFolder.newFile().toPath();
+        try (RecordingDriver driver = new RecordingDriver(new ReplayDriver(Arrays.asList(
+            exchange(1, "Alice"), exchange(2, "Bob"))), recording)) {
+            assertThat(names(driver.request(null).execute(query(1)))).containsExactly("Alice");
+            assertThat(names(driver.request(null).execute(query(2)))).containsExactly("Bob");
+        }
+
+        assertThat(RecordingReader.read(recording)).hasSize(2);
+
+        ReplayDriver replayDriver = new ReplayDriver(recording);
+        assertThat(names(replayDriver.request(null).execute(query(2)))).containsExactly("Bob");
+        assertThat(names(replayDriver.request(null).execute(query(1)))).containsExactly("Alice");
+    }
+
+    @Test
+    public void shouldReturnResponsesThatCannotBeRecorded() throws IOException {
+
+        Path recording = temporaryFolder.newFile().toPath();
+        Object value = new Object();
+        try (RecordingDriver driver = new RecordingDriver(new ReplayDriver(Arrays.asList(
+            exchange(1, value), exchange(2, "Bob"))), recording)) {
+            assertThat(names(driver.request(null).execute(query(1)))).containsExactly(value);
+            assertThat(names(driver.request(null).execute(query(2)))).containsExactly("Bob");
+        }
+
+        assertThat(RecordingReader.read(recording)).hasSize(1);
+    }
+
+    @Test
+    public void shouldReplayInRecordingOrderIfParametersDiffer() {
+
+        ReplayDriver driver = new ReplayDriver(Arrays.asList(exchange(1, "Alice"), exchange(2, "Bob")));
+
+        assertThat(names(driver.request(null).execute(query(3)))).containsExactly("Alice");
+        assertThat(names(driver.request(null).execute(query(3)))).containsExactly("Bob");
+        assertThat(names(driver.request(null).execute(query(3)))).containsExactly("Alice");
+    }
+
+    @Test
+    public void shouldPreferTheNextExchangeWithTheSameParameters() {
+
+        ReplayDriver driver = new ReplayDriver(Arrays.asList(
+            exchange(1, "Alice"), exchange(2, "Bob"), exchange(1, "Alice again")));
+
+        assertThat(names(driver.request(null).execute(query(2)))).containsExactly("Bob");
+        assertThat(names(driver.request(null).execute(query(1)))).containsExactly("Alice again");
+        assertThat(names(driver.request(null).execute(query(1)))).containsExactly("Alice");
+    }
+
+    @Test
+    public void shouldFailOnStatementsThatHaveNotBeenRecorded() {
+
+        ReplayDriver driver = new ReplayDriver(Collections.singletonList(exchange(1, "Alice")));
+
+        assertThatIllegalStateException()
+            .isThrownBy(() -> driver.request(null).execute(new TestRequest("MATCH (n) RETURN n", 1)))
+            .withMessageContaining("MATCH (n) RETURN n");
+    }
+
+    private static Exchange exchange(long id, Object name) {
+        return new Exchange(Exchange.Kind.ROW, Collections.singletonList(STATEMENT),
+            Collections.singletonList(Collections.<String, Object>singletonMap("id", id)), new String[] { "name" }, null,
+            Collections.singletonList(new DefaultRowModel(new Object[] { name }, new String[] { "name" })));
+    }
+
+    private static RowModelRequest query(long id) {
+        return new TestRequest(STATEMENT, id);
+    }
+
+    private static List<Object> names(Response<RowModel> response) {
+        return Arrays.asList(response.next().getValues());
+    }
+
+    private static class TestRequest implements RowModelRequest {
+
+        private final String statement;
+        private final Map<String, Object> parameters;
+
+        TestRequest(String statement, long id) {
+            this.statement = statement;
+            this.parameters = Collections.singletonMap("id", id);
+        }
+
+        @Override
+        public String getStatement() {
+            return statement;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String[] getResultDataContents() {
+            return new String[] { "row" };
+        }
+
+        @Override
+        public boolean isIncludeStats() {
+            return false;
+        }
+
+        @Override
+        public Optional<OptimisticLockingConfig> optimisticLockingConfig() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.replay.recording;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
+import org.neo4j.ogm.response.model.DefaultRestModel;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.QueryStatisticsModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+public class RecordingTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadGraphModelsAsWritten() throws IOException {
+
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.addNode(node(1L, "Person", "name", "Alice"));
+        graph.addNode(node(2L, "Person", "name", "Bob"));
+        graph.addRelationship(relationship(3L, "KNOWS", 1L, 2L));
+
+        Exchange exchange = read(write(exchange(Exchange.Kind.GRAPH, "MATCH (n) RETURN n", graph))).get(0);
+
+        assertThat(exchange.getKind()).isEqualTo(Exchange.Kind.GRAPH);
+        assertThat(exchange.getStatements()).containsExactly("MATCH (n) RETURN n");
+        GraphModel model = (GraphModel) exchange.getModels().get(0);
+        assertThat(model.getNodes()).extracting(Node::getId).containsExactly(1L, 2L);
+        assertThat(model.getNodes()).flatExtracting(Node::getPropertyList).extracting("value")
+            .containsExactly("Alice", "Bob");
+        assertThat(model.getNodes().iterator().next().getLabels()).containsExactly("Person");
+        assertThat(model.getRelationships()).hasSize(1).first().satisfies(relationship -> {
+            assertThat(relationship.getId()).isEqualTo(3L);
+            assertThat(relationship.getType()).isEqualTo("KNOWS");
+            assertThat(relationship.getStartNode()).isEqualTo(1L);
+            assertThat(relationship.getEndNode()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    public void shouldReadValuesAsWritten() throws IOException {
+
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("list", Arrays.asList(1, 2L, "three"));
+        Object[] values = {
+            null, true, 42, 42L, 4.2d, 4.2f, (short) 4, (byte) 2, 'c', "text", new byte[] { 1, 2 },
+            new long[] { 1L, 2L }, new String[] { "a", "b" }, nested, LocalDate.of(2019, 6, 1),
+            ZonedDateTime.parse("2019-06-01T12:00:00+02:00[Europe/Berlin]"), Duration.ofHours(3)
+        };
+
+        RowModel row = (RowModel) read(write(exchange(Exchange.Kind.ROW, "RETURN $values",
+            new DefaultRowModel(values, new String[] { "values" })))).get(0).getModels().get(0);
+
+        assertThat(row.variables()).containsExactly("values");
+        assertThat(row.getValues()).containsExactly(values);
+        assertThat(row.getValues()[4]).isInstanceOf(Double.class);
+        assertThat(row.getValues()[3]).isInstanceOf(Long.class);
+    }
+
+    @Test
+    public void shouldReadParametersColumnsAndStatisticsAsWritten() throws IOException {
+
+        QueryStatisticsModel statistics = new QueryStatisticsModel();
+        statistics.setContains_updates(true);
+        statistics.setNodes_created(2);
+        statistics.setRelationships_created(1);
+        Map<String, Object> parameters = Collections.singletonMap("ids", Arrays.asList(1, 2));
+
+        Exchange exchange = read(write(new Exchange(Exchange.Kind.DEFAULT, Arrays.asList("CREATE (a)", "CREATE (b)"),
+            Arrays.asList(parameters, Collections.emptyMap()), new String[] { "a", "b" }, statistics,
+            Collections.emptyList()))).get(0);
+
+        assertThat(exchange.getStatements()).containsExactly("CREATE (a)", "CREATE (b)");
+        assertThat(exchange.getParameters()).containsExactly(parameters, Collections.emptyMap());
+        assertThat(exchange.getColumns()).containsExactly("a", "b");
+        assertThat(exchange.getStatistics()).hasValueSatisfying(recorded -> {
+            assertThat(recorded.containsUpdates()).isTrue();
+            assertThat(recorded.getNodesCreated()).isEqualTo(2);
+            assertThat(recorded.getRelationshipsCreated()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void shouldReadGraphRowListAndRestModelsAsWritten() throws IOException {
+
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.addNode(node(1L, "Person", "name", "Alice"));
+        DefaultGraphRowListModel graphRows = new DefaultGraphRowListModel();
+        graphRows.add(new DefaultGraphRowModel(graph, new Object[] { 1L }));
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("n", node(1L, "Person", "name", "Alice"));
+        row.put("r", Collections.singletonList(relationship(3L, "KNOWS", 1L, 2L)));
+        row.put("count", 1L);
+
+        List<Exchange> exchanges = read(write(
+            exchange(Exchange.Kind.GRAPH_ROW_LIST, "MATCH (n) RETURN n, id(n)", graphRows),
+            exchange(Exchange.Kind.REST, "MATCH (n)-[r]->() RETURN n, collect(r) AS r, count(r)",
+                DefaultRestModel.basedOn(row).get())));
+
+        GraphRowListModel graphRowList = (GraphRowListModel) exchanges.get(0).getModels().get(0);
+        assertThat(graphRowList.model()).hasSize(1);
+        assertThat(graphRowList.model().get(0).getGraph().getNodes()).extracting(Node::getId).containsExactly(1L);
+        assertThat(graphRowList.model().get(0).getRow()).containsExactly(1L);
+
+        RestModel restModel = (RestModel) exchanges.get(1).getModels().get(0);
+        assertThat(restModel.getRow()).containsOnlyKeys("n", "r", "count");
+        assertThat(restModel.getRow().get("n")).isInstanceOf(NodeModel.class);
+        assertThat((List<?>) restModel.getRow().get("r")).hasSize(1).first().isInstanceOf(RelationshipModel.class);
+        assertThat(restModel.getRow().get("count")).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldSkipExchangesWithUnsupportedValues() throws IOException {
+
+        Path file = temporaryFolder.newFile().toPath();
+        try (RecordingWriter writer = new RecordingWriter(file)) {
+            writer.write(exchange(Exchange.Kind.ROW, "RETURN 1", row("first", 1)));
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> writer.write(exchange(Exchange.Kind.ROW, "RETURN $object",
+                    row("unsupported", new Object()))))
+                .withMessage("Cannot record values of type java.lang.Object");
+            writer.write(exchange(Exchange.Kind.ROW, "RETURN 2", row("second", 2)));
+        }
+
+        List<Exchange> exchanges = read(file);
+        assertThat(exchanges).extracting(Exchange::getStatements)
+            .containsExactly(Collections.singletonList("RETURN 1"), Collections.singletonList("RETURN 2"));
+        assertThat(((RowModel) exchanges.get(1).getModels().get(0)).variables()).containsExactly("second");
+    }
+
+    @Test
+    public void shouldRejectOtherFiles() throws IOException {
+
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> RecordingReader.read(file));
+    }
+
+    private Path write(Exchange... exchanges) throws IOException {
+
+        Path file = temporaryFolder.newFile().toPath();
+        try (RecordingWriter writer = new RecordingWriter(file)) {
+            for (Exchange exchange : exchanges) {
+                writer.write(exchange);
+            }
+        }
+        return file;
+    }
+
+    private static List<Exchange> read(Path file) {
+        return RecordingReader.read(file);
+    }
+
+    private static Exchange exchange(Exchange.Kind kind, String statement, Object model) {
+
+        List<Object> models = new ArrayList<>();
+        models.add(model);
+        return new Exchange(kind, Collections.singletonList(statement),
+            Collections.singletonList(Collections.emptyMap()), new String[0], null, models);
+    }
+
+    private static RowModel row(String variable, Object value) {
+        return new DefaultRowModel(new Object[] { value }, new String[] { variable });
+    }
+
+    private static NodeModel node(Long id, String label, String key, Object value) {
+
+        NodeModel node = new NodeModel(id);
+        node.setLabels(new String[] { label });
+        node.setProperties(Collections.singletonMap(key, value));
+        return node;
+    }
+
+    private static RelationshipModel relationship(Long id, String type, Long start, Long end) {
+
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(start);
+        relationship.setEndNode(end);
+        relationship.setProperties(Collections.emptyMap());
+        return relationship;
+    }
+}